@@ -0,0 +1,22 @@
+package com.github.romanqed.jiter.array;
+
+/**
+ * Represents an operation that accepts a range of an array and returns no result.
+ * <p>
+ * The range is only valid for the duration of the call, and the array must not be modified.
+ *
+ * @param <T> the type of array elements
+ */
+@FunctionalInterface
+public interface ArrayChunkConsumer<T> {
+
+    /**
+     * Performs this operation on the elements of {@code array} from {@code from} (inclusive)
+     * to {@code to} (exclusive).
+     *
+     * @param array the array holding the elements
+     * @param from  the index of the first element (inclusive)
+     * @param to    the index after the last element (exclusive)
+     */
+    void accept(T[] array, int from, int to);
+}
@@ -1,6 +1,7 @@
 package com.github.romanqed.jiter.array;
 
 import java.util.Iterator;
+import java.util.Objects;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.function.Consumer;
@@ -44,4 +45,24 @@ public final class ArrayIterable<T> implements Iterable<T> {
     public Spliterator<T> spliterator() {
         return Spliterators.spliterator(array, start, end, Spliterator.IMMUTABLE);
     }
+
+    /**
+     * Passes the elements to {@code action} as consecutive ranges of the backing array,
+     * each holding at most {@code chunkSize} elements.
+     *
+     * @param chunkSize the maximum number of elements per range, must be positive
+     * @param action    the action to perform on each range
+     * @throws IllegalArgumentException if {@code chunkSize} is less than 1
+     * @throws NullPointerException     if {@code action} is null
+     */
+    public void forEachChunk(int chunkSize, ArrayChunkConsumer<T> action) {
+        Util.checkChunkSize(chunkSize);
+        Objects.requireNonNull(action);
+        var from = start;
+        while (from < end) {
+            var to = end - from > chunkSize ? from + chunkSize : end;
+            action.accept(array, from, to);
+            from = to;
+        }
+    }
 }
@@ -1,5 +1,7 @@
 package com.github.romanqed.jiter.array;
 
+import java.util.BitSet;
+import java.util.Comparator;
 import java.util.Objects;
 
 /**
@@ -56,4 +58,275 @@ public final class ArrayIterables {
         Objects.requireNonNull(array);
         return new ArrayIterable<>(array, 0, array.length);
     }
+
+    /**
+     * Creates an {@link Iterable} over every {@code step}-th element of the specified subrange of an array.
+     * <p>
+     * A positive step starts at {@code start}; a negative step walks the range backwards starting at {@code end - 1}.
+     *
+     * @param array the source array (must not be {@code null})
+     * @param start the starting index (inclusive)
+     * @param end   the ending index (exclusive)
+     * @param step  the distance between consecutive elements, must not be zero
+     * @param <E>   the type of elements in the array
+     * @return an {@link Iterable} over the selected elements
+     * @throws NullPointerException      if {@code array} is {@code null}
+     * @throws IndexOutOfBoundsException if bounds are invalid
+     * @throws IllegalArgumentException  if {@code step} is zero
+     */
+    public static <E> Iterable<E> of(E[] array, int start, int end, int step) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(array.length, start, end);
+        Util.checkStep(step);
+        return new StridedArrayIterable<>(array, Util.strideOffset(start, end, step), step, Util.strideCount(start, end, step));
+    }
+
+    /**
+     * Creates an {@link Iterable} over the specified subrange of an array in descending index order.
+     *
+     * @param array the source array (must not be {@code null})
+     * @param start the lowest index (inclusive)
+     * @param end   the index after the first returned element (exclusive)
+     * @param <E>   the type of elements in the array
+     * @return an {@link Iterable} from {@code end - 1} down to {@code start}
+     * @throws NullPointerException      if {@code array} is {@code null}
+     * @throws IndexOutOfBoundsException if bounds are invalid
+     */
+    public static <E> Iterable<E> reversed(E[] array, int start, int end) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(array.length, start, end);
+        return new StridedArrayIterable<>(array, end - 1, -1, end - start);
+    }
+
+    /**
+     * Creates an {@link Iterable} over an array from its last element down to {@code start}.
+     *
+     * @param array the source array (must not be {@code null})
+     * @param start the lowest index (inclusive)
+     * @param <E>   the type of elements in the array
+     * @return an {@link Iterable} from the last element down to {@code start}
+     * @throws NullPointerException      if {@code array} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code start} is out of bounds
+     */
+    public static <E> Iterable<E> reversed(E[] array, int start) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(start, array.length);
+        return new StridedArrayIterable<>(array, array.length - 1, -1, array.length - start);
+    }
+
+    /**
+     * Creates an {@link Iterable} over the entire array in descending index order.
+     *
+     * @param array the source array (must not be {@code null})
+     * @param <E>   the type of elements in the array
+     * @return an {@link Iterable} from the last element down to the first
+     * @throws NullPointerException if {@code array} is {@code null}
+     */
+    public static <E> Iterable<E> reversed(E[] array) {
+        Objects.requireNonNull(array);
+        return new StridedArrayIterable<>(array, array.length - 1, -1, array.length);
+    }
+
+    /**
+     * Creates an {@link Iterable} over several slices traversed one after another as a single sequence.
+     * <p>
+     * Slice {@code k} is {@code arrays[k][starts[k]:ends[k]]}. The spliterator splits by cumulative element count,
+     * so the halves stay balanced even when the slices are of very different sizes.
+     *
+     * @param arrays the source arrays, must not be null or contain null
+     * @param starts the start index (inclusive) of every slice
+     * @param ends   the end index (exclusive) of every slice
+     * @param <E>    the type of elements in the arrays
+     * @return an iterable iterating over the concatenation of the slices
+     * @throws NullPointerException           if arrays, starts, ends or any array is null
+     * @throws IllegalArgumentException       if arrays, starts and ends differ in length
+     * @throws ArrayIndexOutOfBoundsException if a slice is out of bounds of its array or invalid
+     */
+    public static <E> Iterable<E> concat(E[][] arrays, int[] starts, int[] ends) {
+        Objects.requireNonNull(arrays);
+        Util.checkSegments(arrays.length, starts, ends);
+        for (var i = 0; i < arrays.length; ++i) {
+            Objects.requireNonNull(arrays[i]);
+            Util.checkBounds(arrays[i].length, starts[i], ends[i]);
+        }
+        var copy = starts.clone();
+        return new ConcatArrayIterable<>(arrays.clone(), copy, Util.prefixSums(copy, ends));
+    }
+
+    /**
+     * Creates an {@link Iterable} over the given whole arrays traversed one after another as a single sequence,
+     * for example the rows of a jagged array.
+     *
+     * @param arrays the source arrays, must not be null or contain null
+     * @param <E>    the type of elements in the arrays
+     * @return an iterable iterating over the concatenation of the arrays
+     * @throws NullPointerException if arrays or any array is null
+     */
+    public static <E> Iterable<E> concat(E[][] arrays) {
+        Objects.requireNonNull(arrays);
+        var starts = new int[arrays.length];
+        var ends = new int[arrays.length];
+        for (var i = 0; i < arrays.length; ++i) {
+            ends[i] = Objects.requireNonNull(arrays[i]).length;
+        }
+        return new ConcatArrayIterable<>(arrays.clone(), starts, Util.prefixSums(starts, ends));
+    }
+
+    /**
+     * Creates an {@link Iterable} over the elements of a sorted array that lie in {@code [from, to)} of the given order.
+     * <p>
+     * The lower bound is found by binary search and the upper bound by exponential search from the lower bound,
+     * so the lookup takes {@code O(log n)} comparisons and the result is a slice of the array, not a copy.
+     * The array must be sorted by {@code comparator}, otherwise the result is unspecified.
+     *
+     * @param sorted     the source array sorted by {@code comparator} (must not be {@code null})
+     * @param from       the lowest element to include
+     * @param to         the element to stop at, exclusive
+     * @param comparator the order of the array (must not be {@code null})
+     * @param <E>        the type of elements in the array
+     * @return an {@link Iterable} over the elements {@code from <= e < to}
+     * @throws NullPointerException     if {@code sorted} or {@code comparator} is {@code null}
+     * @throws IllegalArgumentException if {@code from} is greater than {@code to}
+     */
+    public static <E> Iterable<E> range(E[] sorted, E from, E to, Comparator<? super E> comparator) {
+        Objects.requireNonNull(sorted);
+        Objects.requireNonNull(comparator);
+        Util.checkRange(from, to, comparator);
+        var start = Util.lowerBound(sorted, 0, sorted.length, from, comparator);
+        var end = Util.gallop(sorted, start, sorted.length, to, comparator);
+        return new ArrayIterable<>(sorted, start, end);
+    }
+
+    /**
+     * Creates an {@link Iterable} over the elements of an array sorted in natural order that lie in {@code [from, to)}.
+     *
+     * @param sorted the source array sorted in natural order (must not be {@code null})
+     * @param from   the lowest element to include
+     * @param to     the element to stop at, exclusive
+     * @param <E>    the type of elements in the array
+     * @return an {@link Iterable} over the elements {@code from <= e < to}
+     * @throws NullPointerException     if {@code sorted}, {@code from} or {@code to} is {@code null}
+     * @throws IllegalArgumentException if {@code from} is greater than {@code to}
+     * @see #range(Object[], Object, Object, Comparator)
+     */
+    public static <E extends Comparable<? super E>> Iterable<E> range(E[] sorted, E from, E to) {
+        Objects.requireNonNull(sorted);
+        Objects.requireNonNull(from);
+        Objects.requireNonNull(to);
+        Comparator<E> order = Comparator.naturalOrder();
+        Util.checkRange(from, to, order);
+        var start = Util.lowerBound(sorted, 0, sorted.length, from, order);
+        var end = Util.gallop(sorted, start, sorted.length, to, order);
+        return new ArrayIterable<>(sorted, start, end);
+    }
+
+    /**
+     * Creates an {@link Iterable} over the elements of the specified subrange of an array whose bits are set in {@code mask}.
+     * <p>
+     * Bit {@code i} of the mask, stored as bit {@code i & 63} of word {@code i >>> 6}, selects {@code array[i]};
+     * words past the end of the mask count as zero. Neither array is copied, so later changes to the mask are visible.
+     *
+     * @param array the source array, must not be null
+     * @param mask  the selection bitmap indexed by array index, must not be null
+     * @param start the starting index (inclusive)
+     * @param end   the ending index (exclusive)
+     * @param <E>   the type of elements in the array
+     * @return an iterable iterating over the selected elements
+     * @throws NullPointerException      if array or mask is null
+     * @throws IndexOutOfBoundsException if bounds are invalid
+     */
+    public static <E> Iterable<E> select(E[] array, long[] mask, int start, int end) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(mask);
+        Util.checkBounds(array.length, start, end);
+        return new SelectedArrayIterable<>(array, mask, start, end);
+    }
+
+    /**
+     * Creates an {@link Iterable} over the elements of an array whose bits are set in {@code mask}.
+     *
+     * @param array the source array, must not be null
+     * @param mask  the selection bitmap indexed by array index, must not be null
+     * @param <E>   the type of elements in the array
+     * @return an iterable iterating over the selected elements
+     * @throws NullPointerException if array or mask is null
+     */
+    public static <E> Iterable<E> select(E[] array, long[] mask) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(mask);
+        return new SelectedArrayIterable<>(array, mask, 0, array.length);
+    }
+
+    /**
+     * Creates an {@link Iterable} over the elements of the specified subrange of an array whose bits are set in {@code bits}.
+     * <p>
+     * The bit set is captured with {@link BitSet#toLongArray()}, so later changes to it are not visible.
+     *
+     * @param array the source array, must not be null
+     * @param bits  the selected indices, must not be null
+     * @param start the starting index (inclusive)
+     * @param end   the ending index (exclusive)
+     * @param <E>   the type of elements in the array
+     * @return an iterable iterating over the selected elements
+     * @throws NullPointerException      if array or bits is null
+     * @throws IndexOutOfBoundsException if bounds are invalid
+     */
+    public static <E> Iterable<E> select(E[] array, BitSet bits, int start, int end) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(array.length, start, end);
+        return new SelectedArrayIterable<>(array, bits.toLongArray(), start, end);
+    }
+
+    /**
+     * Creates an {@link Iterable} over the elements of an array whose indices are set in {@code bits}.
+     * <p>
+     * The bit set is captured with {@link BitSet#toLongArray()}, so later changes to it are not visible.
+     *
+     * @param array the source array, must not be null
+     * @param bits  the selected indices, must not be null
+     * @param <E>   the type of elements in the array
+     * @return an iterable iterating over the selected elements
+     * @throws NullPointerException if array or bits is null
+     */
+    public static <E> Iterable<E> select(E[] array, BitSet bits) {
+        Objects.requireNonNull(array);
+        return new SelectedArrayIterable<>(array, bits.toLongArray(), 0, array.length);
+    }
+
+    /**
+     * Creates a {@link GatherArrayIterable} over {@code values[indices[i]]} for {@code i} from {@code start} (inclusive) to {@code end} (exclusive).
+     * <p>
+     * Neither array is copied. Indices are not validated up front; an index out of range of {@code values}
+     * fails with {@link ArrayIndexOutOfBoundsException} when it is reached.
+     *
+     * @param values  the array to read elements from, must not be null
+     * @param indices the positions of the elements in {@code values}, must not be null
+     * @param start   the starting position in {@code indices} (inclusive)
+     * @param end     the ending position in {@code indices} (exclusive)
+     * @param <E>     the type of elements in the array
+     * @return an iterable iterating over the gathered elements
+     * @throws NullPointerException      if values or indices is null
+     * @throws IndexOutOfBoundsException if bounds are invalid
+     */
+    public static <E> GatherArrayIterable<E> gather(E[] values, int[] indices, int start, int end) {
+        Objects.requireNonNull(values);
+        Objects.requireNonNull(indices);
+        Util.checkBounds(indices.length, start, end);
+        return new GatherArrayIterable<>(values, indices, start, end);
+    }
+
+    /**
+     * Creates a {@link GatherArrayIterable} over {@code values[indices[i]]} for every position {@code i} of {@code indices}.
+     *
+     * @param values  the array to read elements from, must not be null
+     * @param indices the positions of the elements in {@code values}, must not be null
+     * @param <E>     the type of elements in the array
+     * @return an iterable iterating over the gathered elements
+     * @throws NullPointerException if values or indices is null
+     */
+    public static <E> GatherArrayIterable<E> gather(E[] values, int[] indices) {
+        Objects.requireNonNull(values);
+        Objects.requireNonNull(indices);
+        return new GatherArrayIterable<>(values, indices, 0, indices.length);
+    }
 }
@@ -2,16 +2,21 @@ package com.github.romanqed.jiter.array;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.function.Consumer;
 
 /**
- * An immutable {@link Iterator} over a portion of an array.
+ * An {@link Iterator} over a portion of an array.
+ * <p>
+ * Does not support removal. A single instance can be re-pointed at another range with
+ * {@link #reset(Object[], int, int)}. Not thread-safe.
  *
  * @param <T> the type of elements returned by this iterator
  */
 public final class ArrayIterator<T> implements Iterator<T> {
-    private final T[] array;
-    private final int end;
+    private static final Object[] EMPTY = new Object[0];
+    private T[] array;
+    private int end;
     private int index;
 
     /**
@@ -27,6 +32,34 @@ public final class ArrayIterator<T> implements Iterator<T> {
         this.index = index;
     }
 
+    /**
+     * Constructs an exhausted iterator, meant to be pointed at an array later with {@link #reset(Object[], int, int)}.
+     */
+    @SuppressWarnings("unchecked")
+    public ArrayIterator() {
+        this.array = (T[]) EMPTY;
+    }
+
+    /**
+     * Re-points this iterator at {@code array[start:end]}, so a single instance can serve any number of traversals
+     * without allocating.
+     *
+     * @param array the array to iterate over
+     * @param start the start index (inclusive)
+     * @param end   the end index (exclusive)
+     * @return this iterator
+     * @throws NullPointerException           if {@code array} is null
+     * @throws ArrayIndexOutOfBoundsException if start or end are out of bounds or invalid
+     */
+    public ArrayIterator<T> reset(T[] array, int start, int end) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(array.length, start, end);
+        this.array = array;
+        this.end = end;
+        this.index = start;
+        return this;
+    }
+
     @Override
     public boolean hasNext() {
         return index < end;
@@ -42,7 +75,7 @@ public final class ArrayIterator<T> implements Iterator<T> {
 
     @Override
     public void remove() {
-        throw new UnsupportedOperationException("Immutable iterator");
+        throw new UnsupportedOperationException("Removal is not supported");
     }
 
     @Override
@@ -51,4 +84,25 @@ public final class ArrayIterator<T> implements Iterator<T> {
             action.accept(array[index++]);
         }
     }
+
+    /**
+     * Copies up to {@code max} remaining elements into {@code destination} starting at {@code offset}
+     * and advances past them.
+     *
+     * @param destination the array to copy into
+     * @param offset      the index of the first element to write
+     * @param max         the maximum number of elements to copy
+     * @return the number of elements copied, {@code 0} if the iterator is exhausted
+     * @throws NullPointerException           if {@code destination} is null
+     * @throws ArrayIndexOutOfBoundsException if {@code offset} or {@code max} is negative,
+     *                                        or {@code offset + max} exceeds the destination length
+     */
+    public int nextBatch(T[] destination, int offset, int max) {
+        Objects.requireNonNull(destination);
+        Util.checkBounds(destination.length, offset, offset + max);
+        var count = Math.min(end - index, max);
+        System.arraycopy(array, index, destination, offset, count);
+        index += count;
+        return count;
+    }
 }
@@ -9,6 +9,8 @@ import java.util.Objects;
  * All returned iterators are immutable and do not support element removal or modification.
  */
 public final class ArrayIterators {
+    private static final ThreadLocal<ArrayIterator<Object>> LOCAL = ThreadLocal.withInitial(ArrayIterator::new);
+
     private ArrayIterators() {
     }
 
@@ -57,4 +59,124 @@ public final class ArrayIterators {
         Objects.requireNonNull(array);
         return new ArrayIterator<>(array, array.length, 0);
     }
+
+    /**
+     * Creates an {@link Iterator} over every {@code step}-th element of the specified subrange of an array.
+     * <p>
+     * A positive step starts at {@code start}; a negative step walks the range backwards starting at {@code end - 1}.
+     *
+     * @param array the source array (must not be {@code null})
+     * @param start the starting index (inclusive)
+     * @param end   the ending index (exclusive)
+     * @param step  the distance between consecutive elements, must not be zero
+     * @param <E>   the type of elements in the array
+     * @return an {@link Iterator} over the selected elements
+     * @throws NullPointerException      if {@code array} is {@code null}
+     * @throws IndexOutOfBoundsException if bounds are invalid
+     * @throws IllegalArgumentException  if {@code step} is zero
+     */
+    public static <E> Iterator<E> of(E[] array, int start, int end, int step) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(array.length, start, end);
+        Util.checkStep(step);
+        return new StridedArrayIterator<>(array, Util.strideOffset(start, end, step), step, Util.strideCount(start, end, step), 0);
+    }
+
+    /**
+     * Creates an {@link Iterator} over the specified subrange of an array in descending index order.
+     *
+     * @param array the source array (must not be {@code null})
+     * @param start the lowest index (inclusive)
+     * @param end   the index after the first returned element (exclusive)
+     * @param <E>   the type of elements in the array
+     * @return an {@link Iterator} from {@code end - 1} down to {@code start}
+     * @throws NullPointerException      if {@code array} is {@code null}
+     * @throws IndexOutOfBoundsException if bounds are invalid
+     */
+    public static <E> Iterator<E> reversed(E[] array, int start, int end) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(array.length, start, end);
+        return new StridedArrayIterator<>(array, end - 1, -1, end - start, 0);
+    }
+
+    /**
+     * Creates an {@link Iterator} over an array from its last element down to {@code start}.
+     *
+     * @param array the source array (must not be {@code null})
+     * @param start the lowest index (inclusive)
+     * @param <E>   the type of elements in the array
+     * @return an {@link Iterator} from the last element down to {@code start}
+     * @throws NullPointerException      if {@code array} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code start} is out of bounds
+     */
+    public static <E> Iterator<E> reversed(E[] array, int start) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(start, array.length);
+        return new StridedArrayIterator<>(array, array.length - 1, -1, array.length - start, 0);
+    }
+
+    /**
+     * Creates an {@link Iterator} over the entire array in descending index order.
+     *
+     * @param array the source array (must not be {@code null})
+     * @param <E>   the type of elements in the array
+     * @return an {@link Iterator} from the last element down to the first
+     * @throws NullPointerException if {@code array} is {@code null}
+     */
+    public static <E> Iterator<E> reversed(E[] array) {
+        Objects.requireNonNull(array);
+        return new StridedArrayIterator<>(array, array.length - 1, -1, array.length, 0);
+    }
+
+    /**
+     * Returns the calling thread's reusable {@link ArrayIterator} re-pointed at the specified subrange of an array.
+     * <p>
+     * The calling thread owns a single iterator, and every {@code local} call made on that thread re-points that
+     * same instance, so the result is single-use and not reentrant: finish or abandon it before the next call, as a
+     * nested {@code local} call on the same thread redirects the enclosing traversal. Abandoning it early is safe,
+     * the next call simply re-points it. Until then the thread keeps a reference to the last array.
+     * It must not be handed to another thread.
+     *
+     * @param array the source array (must not be {@code null})
+     * @param start the starting index (inclusive)
+     * @param end   the ending index (exclusive)
+     * @param <E>   the type of elements in the array
+     * @return the thread's {@link ArrayIterator} over the specified range
+     * @throws NullPointerException      if {@code array} is {@code null}
+     * @throws IndexOutOfBoundsException if bounds are invalid
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> ArrayIterator<E> local(E[] array, int start, int end) {
+        return (ArrayIterator<E>) LOCAL.get().reset(array, start, end);
+    }
+
+    /**
+     * Returns the calling thread's reusable {@link ArrayIterator} re-pointed at an array from {@code start} to its end.
+     *
+     * @param array the source array (must not be {@code null})
+     * @param start the starting index (inclusive)
+     * @param <E>   the type of elements in the array
+     * @return the thread's {@link ArrayIterator} over the specified range
+     * @throws NullPointerException      if {@code array} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code start} is out of bounds
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> ArrayIterator<E> local(E[] array, int start) {
+        Objects.requireNonNull(array);
+        return (ArrayIterator<E>) LOCAL.get().reset(array, start, array.length);
+    }
+
+    /**
+     * Returns the calling thread's reusable {@link ArrayIterator} re-pointed at the entire array.
+     *
+     * @param array the source array (must not be {@code null})
+     * @param <E>   the type of elements in the array
+     * @return the thread's {@link ArrayIterator} over the entire array
+     * @throws NullPointerException if {@code array} is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> ArrayIterator<E> local(E[] array) {
+        Objects.requireNonNull(array);
+        return (ArrayIterator<E>) LOCAL.get().reset(array, 0, array.length);
+    }
 }
@@ -0,0 +1,54 @@
+package com.github.romanqed.jiter.array;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * An {@link Iterable} over several array slices traversed one after another as a single sequence.
+ * <p>
+ * Segment {@code k} covers {@code arrays[k][starts[k]:starts[k] + prefix[k + 1] - prefix[k]]}, where {@code prefix}
+ * holds the cumulative element counts of the segments. The spliterator splits by element count rather than by
+ * segment, so skewed segment sizes still produce balanced parallel work.
+ *
+ * @param <T> the element type
+ */
+public final class ConcatArrayIterable<T> implements Iterable<T> {
+    private final T[][] arrays;
+    private final int[] starts;
+    private final long[] prefix;
+
+    /**
+     * Constructs a new iterable over the given segments.
+     *
+     * @param arrays the segment arrays
+     * @param starts the start index (inclusive) of every segment in its array
+     * @param prefix the cumulative element counts, {@code prefix[0] == 0} and {@code prefix[arrays.length]} is the total
+     */
+    public ConcatArrayIterable(T[][] arrays, int[] starts, long[] prefix) {
+        this.arrays = arrays;
+        this.starts = starts;
+        this.prefix = prefix;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new ConcatArrayIterator<>(arrays, starts, prefix, prefix[arrays.length], 0);
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        for (var k = 0; k < arrays.length; ++k) {
+            var array = arrays[k];
+            var end = starts[k] + (int) (prefix[k + 1] - prefix[k]);
+            for (var i = starts[k]; i < end; ++i) {
+                action.accept(array[i]);
+            }
+        }
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new ConcatArraySpliterator<>(arrays, starts, prefix, prefix[arrays.length], 0);
+    }
+}
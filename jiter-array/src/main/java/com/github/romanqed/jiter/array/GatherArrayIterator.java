@@ -0,0 +1,62 @@
+package com.github.romanqed.jiter.array;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * An iterator over the elements of an array picked through a range of an {@code int[]} index array.
+ * <p>
+ * See {@link GatherArrayIterable} for details. Immutable and non-thread-safe.
+ *
+ * @param <T> the element type
+ */
+public final class GatherArrayIterator<T> implements Iterator<T> {
+    private final T[] values;
+    private final int[] indices;
+    private final int end;
+    private int index;
+
+    /**
+     * Constructs a new iterator over {@code values[indices[i]]} for {@code i} from {@code index} (inclusive)
+     * to {@code end} (exclusive).
+     *
+     * @param values  the array to read elements from
+     * @param indices the positions of the elements in {@code values}
+     * @param end     the ending position in {@code indices} (exclusive)
+     * @param index   the starting position in {@code indices} (inclusive)
+     */
+    public GatherArrayIterator(T[] values, int[] indices, int end, int index) {
+        this.values = values;
+        this.indices = indices;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < end;
+    }
+
+    @Override
+    public T next() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return values[indices[index++]];
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Immutable iterator");
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        var i = index;
+        index = end;
+        for (; i < end; ++i) {
+            action.accept(values[indices[i]]);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.romanqed.jiter.array;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A spliterator over the elements of an array picked through a range of an {@code int[]} index array.
+ * <p>
+ * Splits in constant time by halving the remaining range of positions in the index array.
+ *
+ * @param <T> the element type
+ */
+public final class GatherArraySpliterator<T> implements Spliterator<T> {
+    private final T[] values;
+    private final int[] indices;
+    private final int end;
+    private int index;
+
+    /**
+     * Constructs a new spliterator over {@code values[indices[i]]} for {@code i} from {@code index} (inclusive)
+     * to {@code end} (exclusive).
+     *
+     * @param values  the array to read elements from
+     * @param indices the positions of the elements in {@code values}
+     * @param end     the ending position in {@code indices} (exclusive)
+     * @param index   the starting position in {@code indices} (inclusive)
+     */
+    public GatherArraySpliterator(T[] values, int[] indices, int end, int index) {
+        this.values = values;
+        this.indices = indices;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (index >= end) {
+            return false;
+        }
+        action.accept(values[indices[index++]]);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        var i = index;
+        index = end;
+        for (; i < end; ++i) {
+            action.accept(values[indices[i]]);
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        var low = index;
+        var mid = (low + end) >>> 1;
+        if (low >= mid) {
+            return null;
+        }
+        index = mid;
+        return new GatherArraySpliterator<>(values, indices, mid, low);
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE;
+    }
+}
@@ -0,0 +1,93 @@
+package com.github.romanqed.jiter.array;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A spliterator over the elements of a range of an array whose bits are set in a selection bitmap.
+ * <p>
+ * Splits in constant time at a bitmap word boundary near the middle of the remaining range, so no word
+ * is shared between the halves. The number of selected elements is not known without counting bits,
+ * so the spliterator reports the remaining range length as its estimate and is not {@link Spliterator#SIZED}.
+ *
+ * @param <T> the element type
+ */
+public final class SelectedArraySpliterator<T> implements Spliterator<T> {
+    private final T[] array;
+    private final long[] mask;
+    private final int end;
+    private int index;
+
+    /**
+     * Constructs a new spliterator over the selected elements from {@code index} (inclusive) to {@code end} (exclusive).
+     *
+     * @param array the source array
+     * @param mask  the selection bitmap, indexed by array index
+     * @param end   the end index (exclusive)
+     * @param index the starting index (inclusive)
+     */
+    public SelectedArraySpliterator(T[] array, long[] mask, int end, int index) {
+        this.array = array;
+        this.mask = mask;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        var next = Util.nextSetBit(mask, index, end);
+        if (next >= end) {
+            index = end;
+            return false;
+        }
+        index = next + 1;
+        action.accept(array[next]);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        var from = index;
+        index = end;
+        if (from >= end) {
+            return;
+        }
+        var first = from >>> 6;
+        var last = (end - 1) >>> 6;
+        var limit = Math.min(mask.length - 1, last);
+        for (var w = first; w <= limit; ++w) {
+            var word = mask[w];
+            if (w == first) {
+                word &= -1L << from;
+            }
+            if (w == last) {
+                word &= -1L >>> -end;
+            }
+            while (word != 0) {
+                action.accept(array[(w << 6) + Long.numberOfTrailingZeros(word)]);
+                word &= word - 1;
+            }
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        var low = index;
+        var mid = ((low + end) >>> 1) & -64;
+        if (mid <= low) {
+            return null;
+        }
+        index = mid;
+        return new SelectedArraySpliterator<>(array, mask, mid, low);
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.IMMUTABLE;
+    }
+}
@@ -0,0 +1,53 @@
+package com.github.romanqed.jiter.array;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * An {@link Iterable} view over every {@code step}-th element of a portion of an array.
+ * <p>
+ * A negative step walks the elements backwards. Nothing is copied.
+ *
+ * @param <T> the type of elements returned by this iterable
+ */
+public final class StridedArrayIterable<T> implements Iterable<T> {
+    private final T[] array;
+    private final int offset;
+    private final int step;
+    private final int count;
+
+    /**
+     * Constructs an iterable over {@code count} elements, starting at {@code offset} and advancing by {@code step}.
+     *
+     * @param array  the source array
+     * @param offset the index of the first element
+     * @param step   the distance between consecutive elements, negative to walk backwards
+     * @param count  the number of elements
+     */
+    public StridedArrayIterable(T[] array, int offset, int step, int count) {
+        this.array = array;
+        this.offset = offset;
+        this.step = step;
+        this.count = count;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new StridedArrayIterator<>(array, offset, step, count, 0);
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        var position = offset;
+        for (var i = 0; i < count; ++i) {
+            action.accept(array[position]);
+            position += step;
+        }
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new StridedArraySpliterator<>(array, offset, step, count, 0);
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.romanqed.jiter.array;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * An immutable {@link Iterator} over every {@code step}-th element of a portion of an array.
+ *
+ * @param <T> the type of elements returned by this iterator
+ */
+public final class StridedArrayIterator<T> implements Iterator<T> {
+    private final T[] array;
+    private final int offset;
+    private final int step;
+    private final int end;
+    private int index;
+
+    /**
+     * Constructs a new iterator over the elements {@code index} (inclusive) to {@code end} (exclusive)
+     * of the sequence {@code offset, offset + step, offset + 2 * step, ...}.
+     *
+     * @param array  the source array
+     * @param offset the index of the first element of the sequence
+     * @param step   the distance between consecutive elements, negative to walk backwards
+     * @param end    the sequence position to stop at (exclusive)
+     * @param index  the sequence position to start from (inclusive)
+     */
+    public StridedArrayIterator(T[] array, int offset, int step, int end, int index) {
+        this.array = array;
+        this.offset = offset;
+        this.step = step;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < end;
+    }
+
+    @Override
+    public T next() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return array[offset + index++ * step];
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Immutable iterator");
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        var i = index;
+        index = end;
+        for (var position = offset + i * step; i < end; ++i) {
+            action.accept(array[position]);
+            position += step;
+        }
+    }
+}
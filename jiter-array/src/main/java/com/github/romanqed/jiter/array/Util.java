@@ -1,5 +1,8 @@
 package com.github.romanqed.jiter.array;
 
+import java.util.Comparator;
+import java.util.Objects;
+
 final class Util {
     private Util() {
     }
@@ -24,4 +27,128 @@ final class Util {
             throw new ArrayIndexOutOfBoundsException("start(" + start + ") > end(" + end + ")");
         }
     }
+
+    static void checkStep(int step) {
+        if (step == 0) {
+            throw new IllegalArgumentException("step == 0");
+        }
+    }
+
+    static int strideOffset(int start, int end, int step) {
+        return step > 0 ? start : end - 1;
+    }
+
+    static int strideCount(int start, int end, int step) {
+        return start == end ? 0 : (int) ((end - start - 1) / Math.abs((long) step) + 1);
+    }
+
+    static void checkSegments(int segments, int[] starts, int[] ends) {
+        Objects.requireNonNull(starts);
+        Objects.requireNonNull(ends);
+        if (starts.length != segments || ends.length != segments) {
+            throw new IllegalArgumentException(
+                    "segments(" + segments + "), starts(" + starts.length + ") and ends(" + ends.length + ") differ"
+            );
+        }
+    }
+
+    static long[] prefixSums(int[] starts, int[] ends) {
+        var ret = new long[starts.length + 1];
+        for (var i = 0; i < starts.length; ++i) {
+            ret[i + 1] = ret[i] + ends[i] - starts[i];
+        }
+        return ret;
+    }
+
+    static int segmentOf(long[] prefix, long index) {
+        var low = 0;
+        var high = prefix.length - 2;
+        while (low < high) {
+            var mid = (low + high + 1) >>> 1;
+            if (prefix[mid] <= index) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    static <T> int lowerBound(T[] array, int start, int end, T key, Comparator<? super T> comparator) {
+        var low = start;
+        var high = end;
+        while (low < high) {
+            var mid = (low + high) >>> 1;
+            if (comparator.compare(array[mid], key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    static <T> int gallop(T[] array, int start, int end, T key, Comparator<? super T> comparator) {
+        var low = start;
+        var high = start;
+        var step = 1;
+        while (high < end && comparator.compare(array[high], key) < 0) {
+            low = high + 1;
+            high = end - high > step ? high + step : end;
+            step = step < 1 << 30 ? step << 1 : step;
+        }
+        return lowerBound(array, low, high, key, comparator);
+    }
+
+    static <T> void checkRange(T from, T to, Comparator<? super T> comparator) {
+        if (comparator.compare(from, to) > 0) {
+            throw new IllegalArgumentException("from(" + from + ") > to(" + to + ")");
+        }
+    }
+
+    static int nextSetBit(long[] mask, int from, int end) {
+        if (from >= end) {
+            return end;
+        }
+        var w = from >>> 6;
+        if (w >= mask.length) {
+            return end;
+        }
+        var word = mask[w] & (-1L << from);
+        while (word == 0) {
+            if (++w >= mask.length || w << 6 >= end) {
+                return end;
+            }
+            word = mask[w];
+        }
+        var ret = (w << 6) + Long.numberOfTrailingZeros(word);
+        return ret < end ? ret : end;
+    }
+
+    static long selectedCount(long[] mask, int start, int end) {
+        if (start >= end) {
+            return 0;
+        }
+        var first = start >>> 6;
+        var last = (end - 1) >>> 6;
+        var limit = Math.min(mask.length - 1, last);
+        var ret = 0L;
+        for (var w = first; w <= limit; ++w) {
+            var word = mask[w];
+            if (w == first) {
+                word &= -1L << start;
+            }
+            if (w == last) {
+                word &= -1L >>> -end;
+            }
+            ret += Long.bitCount(word);
+        }
+        return ret;
+    }
+
+    static void checkChunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize(" + chunkSize + ") < 1");
+        }
+    }
 }
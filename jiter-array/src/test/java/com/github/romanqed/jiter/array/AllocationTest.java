@@ -0,0 +1,181 @@
+package com.github.romanqed.jiter.array;
+
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Fails when a traversal that is meant to be allocation-free allocates on the calling thread.
+ * Every body is measured several times after its setup, the smallest result is compared
+ * against an empty body to cancel out the cost of the measurement itself.
+ */
+public final class AllocationTest {
+    private static final ThreadMXBean THREADS = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final int ATTEMPTS = 10;
+    private static final int ROUNDS = 100;
+    private static final int LENGTH = 1024;
+    private static final String[] STRINGS = new String[LENGTH];
+
+    static {
+        for (var i = 0; i < LENGTH; ++i) {
+            STRINGS[i] = "s" + i;
+        }
+    }
+
+    private static void assertNoAllocation(String name, Supplier<Runnable> setup) {
+        enableAllocationCounting();
+        var thread = Thread.currentThread().getId();
+        Runnable empty = () -> {
+        };
+        var baseline = Long.MAX_VALUE;
+        var allocated = Long.MAX_VALUE;
+        for (var i = 0; i < ATTEMPTS; ++i) {
+            var body = setup.get();
+            var before = THREADS.getThreadAllocatedBytes(thread);
+            empty.run();
+            var middle = THREADS.getThreadAllocatedBytes(thread);
+            body.run();
+            var after = THREADS.getThreadAllocatedBytes(thread);
+            baseline = Math.min(baseline, middle - before);
+            allocated = Math.min(allocated, after - middle);
+        }
+        assertEquals(0L, Math.max(0, allocated - baseline), name + " allocated bytes");
+    }
+
+    private static void enableAllocationCounting() {
+        assertTrue(THREADS.isThreadAllocatedMemorySupported(), "thread allocation counting is not supported");
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    public void testForEach() {
+        var sink = new Sink();
+        var slice = (ArrayIterable<String>) ArrayIterables.of(STRINGS, 1, LENGTH - 1);
+        var strided = ArrayIterables.of(STRINGS, 0, LENGTH, 3);
+        var reversed = ArrayIterables.reversed(STRINGS);
+        assertNoAllocation("ArrayIterable.forEach", () -> () -> {
+            for (var i = 0; i < ROUNDS; ++i) {
+                slice.forEach(sink);
+            }
+        });
+        assertNoAllocation("StridedArrayIterable.forEach", () -> () -> {
+            for (var i = 0; i < ROUNDS; ++i) {
+                strided.forEach(sink);
+                reversed.forEach(sink);
+            }
+        });
+        assertNoAllocation("ArrayIterable.forEachChunk", () -> () -> {
+            for (var i = 0; i < ROUNDS; ++i) {
+                slice.forEachChunk(100, sink);
+            }
+        });
+        assertTrue(sink.count != 0);
+    }
+
+    @Test
+    public void testIterators() {
+        var sink = new Sink();
+        assertNoAllocation("ArrayIterator.next", () -> {
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            Iterator<String>[] iterators = new Iterator[ROUNDS];
+            for (var i = 0; i < ROUNDS; ++i) {
+                iterators[i] = ArrayIterators.of(STRINGS);
+            }
+            return () -> {
+                for (var iterator : iterators) {
+                    while (iterator.hasNext()) {
+                        sink.accept(iterator.next());
+                    }
+                }
+            };
+        });
+        assertNoAllocation("StridedArrayIterator.forEachRemaining", () -> {
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            Iterator<String>[] iterators = new Iterator[ROUNDS];
+            for (var i = 0; i < ROUNDS; ++i) {
+                iterators[i] = ArrayIterators.reversed(STRINGS, 1);
+            }
+            return () -> {
+                for (var iterator : iterators) {
+                    iterator.forEachRemaining(sink);
+                }
+            };
+        });
+        var reusable = new ArrayIterator<String>();
+        assertNoAllocation("ArrayIterator.reset", () -> () -> {
+            for (var i = 0; i < ROUNDS; ++i) {
+                reusable.reset(STRINGS, i, LENGTH);
+                while (reusable.hasNext()) {
+                    sink.accept(reusable.next());
+                }
+            }
+        });
+        assertNoAllocation("ArrayIterators.local", () -> () -> {
+            for (var i = 0; i < ROUNDS; ++i) {
+                ArrayIterators.local(STRINGS, i).forEachRemaining(sink);
+            }
+        });
+        assertNoAllocation("ArrayIterators.local after an early break", () -> () -> {
+            for (var i = 0; i < ROUNDS; ++i) {
+                var iterator = ArrayIterators.local(STRINGS, i);
+                for (var j = 0; j < 3 && iterator.hasNext(); ++j) {
+                    sink.accept(iterator.next());
+                }
+            }
+        });
+        assertTrue(sink.count != 0);
+    }
+
+    @Test
+    public void testSpliterators() {
+        var sink = new Sink();
+        assertNoAllocation("ArrayIterable.spliterator", () -> {
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            Spliterator<String>[] spliterators = new Spliterator[ROUNDS];
+            for (var i = 0; i < ROUNDS; ++i) {
+                spliterators[i] = ArrayIterables.of(STRINGS).spliterator();
+            }
+            return () -> {
+                for (var spliterator : spliterators) {
+                    spliterator.forEachRemaining(sink);
+                }
+            };
+        });
+        assertNoAllocation("StridedArraySpliterator.tryAdvance", () -> {
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            Spliterator<String>[] spliterators = new Spliterator[ROUNDS];
+            for (var i = 0; i < ROUNDS; ++i) {
+                spliterators[i] = ArrayIterables.of(STRINGS, 0, LENGTH, 2).spliterator();
+            }
+            return () -> {
+                for (var spliterator : spliterators) {
+                    while (spliterator.tryAdvance(sink)) {
+                        // drain one element at a time
+                    }
+                }
+            };
+        });
+        assertTrue(sink.count != 0);
+    }
+
+    private static final class Sink implements Consumer<String>, ArrayChunkConsumer<String> {
+        private long count;
+
+        @Override
+        public void accept(String value) {
+            count += value.length();
+        }
+
+        @Override
+        public void accept(String[] array, int from, int to) {
+            count += to - from;
+        }
+    }
+}
@@ -3,7 +3,13 @@ package com.github.romanqed.jiter.array;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -76,4 +82,182 @@ public final class ArrayIterableTest {
         assertTrue(spliterator.hasCharacteristics(java.util.Spliterator.IMMUTABLE));
         assertEquals(3, spliterator.estimateSize());
     }
+
+    @Test
+    public void testForEachChunk() {
+        var arr = new Integer[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+        var iterable = new ArrayIterable<>(arr, 1, 9);
+        var ranges = new ArrayList<String>();
+        var values = new ArrayList<Integer>();
+        iterable.forEachChunk(3, (array, from, to) -> {
+            assertSame(arr, array);
+            ranges.add(from + ".." + to);
+            for (var i = from; i < to; ++i) {
+                values.add(array[i]);
+            }
+        });
+        assertEquals(List.of("1..4", "4..7", "7..9"), ranges);
+        assertEquals(List.of(1, 2, 3, 4, 5, 6, 7, 8), values);
+        ranges.clear();
+        iterable.forEachChunk(Integer.MAX_VALUE, (array, from, to) -> ranges.add(from + ".." + to));
+        assertEquals(List.of("1..9"), ranges);
+        new ArrayIterable<>(arr, 5, 5).forEachChunk(1, (array, from, to) -> fail());
+        assertThrows(IllegalArgumentException.class, () -> iterable.forEachChunk(0, (array, from, to) -> fail()));
+        assertThrows(NullPointerException.class, () -> iterable.forEachChunk(1, null));
+    }
+
+    @Test
+    public void testStridedAndReversed() {
+        var arr = new Integer[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+        var every3 = new ArrayList<Integer>();
+        ArrayIterables.of(arr, 1, 9, 3).forEach(every3::add);
+        assertEquals(List.of(1, 4, 7), every3);
+        var back = new ArrayList<Integer>();
+        for (var value : ArrayIterables.of(arr, 1, 9, -3)) {
+            back.add(value);
+        }
+        assertEquals(List.of(8, 5, 2), back);
+        var reversed = new ArrayList<Integer>();
+        ArrayIterables.reversed(arr, 7).forEach(reversed::add);
+        assertEquals(List.of(9, 8, 7), reversed);
+        assertEquals(List.of(9, 8, 7, 6, 5, 4, 3, 2, 1, 0),
+                StreamSupport.stream(ArrayIterables.reversed(arr).spliterator(), false).collect(Collectors.toList()));
+        assertFalse(ArrayIterables.reversed(arr, 4, 4).iterator().hasNext());
+
+        var spliterator = ArrayIterables.of(arr, 0, 10, 2).spliterator();
+        assertEquals(5, spliterator.estimateSize());
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED | Spliterator.IMMUTABLE));
+        var prefix = spliterator.trySplit();
+        assertEquals(2, prefix.estimateSize());
+        assertEquals(3, spliterator.estimateSize());
+        var parts = new ArrayList<Integer>();
+        prefix.forEachRemaining(parts::add);
+        spliterator.forEachRemaining(parts::add);
+        assertEquals(List.of(0, 2, 4, 6, 8), parts);
+        assertEquals(List.of(9, 7, 5, 3, 1), StreamSupport.stream(ArrayIterables.of(arr, 0, 10, -2).spliterator(), true)
+                .collect(Collectors.toList()));
+
+        assertThrows(IllegalArgumentException.class, () -> ArrayIterables.of(arr, 0, 1, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> ArrayIterables.of(arr, 0, 11, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> ArrayIterables.reversed(arr, 11));
+        assertThrows(NullPointerException.class, () -> ArrayIterables.reversed((Integer[]) null));
+    }
+
+    @Test
+    public void testConcat() {
+        var a = new String[]{"a", "b", "c"};
+        var b = new String[0];
+        var c = new String[]{"x", "y", "z", "w"};
+        var iterable = ArrayIterables.concat(new String[][]{a, b, c}, new int[]{1, 0, 0}, new int[]{3, 0, 2});
+        var values = new ArrayList<String>();
+        iterable.forEach(values::add);
+        assertEquals(List.of("b", "c", "x", "y"), values);
+        var it = iterable.iterator();
+        assertEquals("b", it.next());
+        assertEquals("c", it.next());
+        assertEquals("x", it.next());
+        var rest = new ArrayList<String>();
+        it.forEachRemaining(rest::add);
+        assertEquals(List.of("y"), rest);
+        assertThrows(NoSuchElementException.class, it::next);
+        assertThrows(UnsupportedOperationException.class, it::remove);
+        var spliterator = iterable.spliterator();
+        assertEquals(4, spliterator.estimateSize());
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+        var prefix = spliterator.trySplit();
+        assertEquals(2, prefix.estimateSize());
+        assertEquals(2, spliterator.estimateSize());
+        var split = new ArrayList<String>();
+        prefix.forEachRemaining(split::add);
+        while (spliterator.tryAdvance(split::add)) {
+            assertTrue(split.size() <= 4);
+        }
+        assertEquals(values, split);
+        var whole = ArrayIterables.concat(new String[][]{a, b, c});
+        assertEquals(7, StreamSupport.stream(whole.spliterator(), true).count());
+        assertFalse(ArrayIterables.concat(new String[0][]).iterator().hasNext());
+        assertThrows(IllegalArgumentException.class,
+                () -> ArrayIterables.concat(new String[][]{a}, new int[]{0, 0}, new int[]{1}));
+        assertThrows(ArrayIndexOutOfBoundsException.class,
+                () -> ArrayIterables.concat(new String[][]{a}, new int[]{0}, new int[]{4}));
+        assertThrows(NullPointerException.class, () -> ArrayIterables.concat(new String[][]{a, null}));
+    }
+
+    @Test
+    public void testSortedRanges() {
+        var words = new String[]{"apple", "banana", "cherry", "cherry", "date", "fig"};
+        var values = new ArrayList<String>();
+        ArrayIterables.range(words, "b", "d").forEach(values::add);
+        assertEquals(List.of("banana", "cherry", "cherry"), values);
+        assertFalse(ArrayIterables.range(words, "g", "z").iterator().hasNext());
+        assertEquals(6, StreamSupport.stream(ArrayIterables.range(words, "", "z").spliterator(), false).count());
+        var reversed = new String[]{"fig", "date", "cherry", "banana"};
+        var byLength = new ArrayList<String>();
+        ArrayIterables.range(reversed, "date", "banana", Comparator.reverseOrder()).forEach(byLength::add);
+        assertEquals(List.of("date", "cherry"), byLength);
+        assertThrows(IllegalArgumentException.class, () -> ArrayIterables.range(words, "z", "a"));
+        assertThrows(NullPointerException.class, () -> ArrayIterables.range(words, "a", "b", null));
+    }
+
+    @Test
+    public void testSelection() {
+        var words = new String[130];
+        for (var i = 0; i < words.length; ++i) {
+            words[i] = "w" + i;
+        }
+        var bits = new BitSet();
+        bits.set(3);
+        bits.set(63, 66);
+        bits.set(129);
+        var values = new ArrayList<String>();
+        ArrayIterables.select(words, bits).forEach(values::add);
+        assertEquals(List.of("w3", "w63", "w64", "w65", "w129"), values);
+        var iterated = new ArrayList<String>();
+        for (var word : ArrayIterables.select(words, bits, 4, 129)) {
+            iterated.add(word);
+        }
+        assertEquals(List.of("w63", "w64", "w65"), iterated);
+        var spliterator = ArrayIterables.select(words, bits.toLongArray()).spliterator();
+        var prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        var split = new ArrayList<String>();
+        prefix.forEachRemaining(split::add);
+        assertEquals(List.of("w3", "w63"), split);
+        assertTrue(spliterator.tryAdvance(split::add));
+        spliterator.forEachRemaining(split::add);
+        assertEquals(values, split);
+        assertFalse(spliterator.tryAdvance(split::add));
+        assertEquals(5, StreamSupport.stream(ArrayIterables.select(words, bits).spliterator(), true).count());
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> ArrayIterables.select(words, bits, 2, 1));
+        assertThrows(NullPointerException.class, () -> ArrayIterables.select(words, (BitSet) null));
+    }
+
+    @Test
+    public void testGather() {
+        var names = new String[]{"d", "a", "c", "b"};
+        var sorted = new int[]{1, 3, 2, 0};
+        var gathered = ArrayIterables.gather(names, sorted);
+        var values = new ArrayList<String>();
+        gathered.forEach(values::add);
+        assertEquals(List.of("a", "b", "c", "d"), values);
+        var iterated = new ArrayList<String>();
+        for (var name : ArrayIterables.gather(names, sorted, 1, 3)) {
+            iterated.add(name);
+        }
+        assertEquals(List.of("b", "c"), iterated);
+        var spliterator = gathered.spliterator();
+        var prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        var split = new ArrayList<String>();
+        prefix.forEachRemaining(split::add);
+        assertTrue(spliterator.tryAdvance(split::add));
+        spliterator.forEachRemaining(split::add);
+        assertEquals(values, split);
+        var destination = new String[5];
+        gathered.gatherInto(destination, 1);
+        assertArrayEquals(new String[]{null, "a", "b", "c", "d"}, destination);
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> gathered.gatherInto(new String[3]));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> ArrayIterables.gather(names, sorted, 3, 2));
+        assertThrows(NullPointerException.class, () -> ArrayIterables.gather(null, sorted));
+    }
 }
@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -99,4 +100,78 @@ public final class ArrayIteratorTest {
         assertFalse(it.hasNext());
         assertThrows(NoSuchElementException.class, it::next);
     }
+
+    @Test
+    public void testNextBatch() {
+        var arr = new String[]{"a", "b", "c", "d", "e", "f"};
+        var it = new ArrayIterator<>(arr, 5, 1);
+        var dst = new String[4];
+        assertEquals(3, it.nextBatch(dst, 1, 3));
+        assertArrayEquals(new String[]{null, "b", "c", "d"}, dst);
+        assertEquals("e", it.next());
+        assertEquals(0, it.nextBatch(dst, 0, 4));
+        assertFalse(it.hasNext());
+        var rest = new ArrayIterator<>(arr, 6, 4);
+        assertEquals(2, rest.nextBatch(dst, 0, 4));
+        assertEquals("e", dst[0]);
+        assertEquals("f", dst[1]);
+        assertThrows(NullPointerException.class, () -> rest.nextBatch(null, 0, 1));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> rest.nextBatch(dst, 2, 3));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> rest.nextBatch(dst, 0, -1));
+    }
+
+    @Test
+    public void testStridedAndReversedIterators() {
+        var arr = new String[]{"a", "b", "c", "d", "e"};
+        var it = ArrayIterators.of(arr, 0, 5, Integer.MAX_VALUE);
+        assertEquals("a", it.next());
+        assertFalse(it.hasNext());
+        assertThrows(NoSuchElementException.class, it::next);
+        var back = ArrayIterators.of(arr, 0, 5, Integer.MIN_VALUE);
+        assertEquals("e", back.next());
+        assertFalse(back.hasNext());
+        var reversed = ArrayIterators.reversed(arr, 1, 4);
+        assertEquals("d", reversed.next());
+        var rest = new ArrayList<String>();
+        reversed.forEachRemaining(rest::add);
+        assertEquals(List.of("c", "b"), rest);
+        assertThrows(UnsupportedOperationException.class, reversed::remove);
+        assertEquals("e", ArrayIterators.reversed(arr).next());
+        assertEquals("b", ArrayIterators.of(arr, 1, 5, 2).next());
+        assertThrows(IllegalArgumentException.class, () -> ArrayIterators.of(arr, 0, 1, 0));
+    }
+
+    @Test
+    public void testResetAndLocalIterators() throws InterruptedException {
+        var it = new ArrayIterator<String>();
+        assertFalse(it.hasNext());
+        assertEquals(0, it.nextBatch(new String[1], 0, 1));
+        var arr = new String[]{"a", "b", "c"};
+        assertSame(it, it.reset(arr, 1, 3));
+        assertEquals("b", it.next());
+        assertEquals("c", it.next());
+        assertFalse(it.hasNext());
+        it.reset(new String[]{"x"}, 0, 1);
+        assertEquals("x", it.next());
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> it.reset(arr, 2, 1));
+        assertThrows(NullPointerException.class, () -> it.reset(null, 0, 0));
+        var local = ArrayIterators.local(arr);
+        assertSame(local, ArrayIterators.local(arr, 2));
+        assertEquals("c", local.next());
+        assertFalse(local.hasNext());
+        // abandoned after an early break, the next call re-points the same instance
+        assertEquals("a", ArrayIterators.local(arr).next());
+        assertSame(local, ArrayIterators.local(arr, 1, 3));
+        assertEquals("b", local.next());
+        assertThrows(UnsupportedOperationException.class, local::remove);
+        Iterator<Integer> ints = ArrayIterators.local(new Integer[]{1, 2}, 0, 1);
+        assertEquals(1, ints.next());
+        assertFalse(ints.hasNext());
+        var other = new AtomicReference<ArrayIterator<String>>();
+        var thread = new Thread(() -> other.set(ArrayIterators.local(arr)));
+        thread.start();
+        thread.join();
+        assertNotSame(local, other.get());
+        assertThrows(IndexOutOfBoundsException.class, () -> ArrayIterators.local(arr, 4));
+    }
 }
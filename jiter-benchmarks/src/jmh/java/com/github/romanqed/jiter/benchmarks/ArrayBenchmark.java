@@ -0,0 +1,94 @@
+package com.github.romanqed.jiter.benchmarks;
+
+import com.github.romanqed.jiter.array.ArrayIterables;
+import com.github.romanqed.jiter.array.ArrayIterators;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.StreamSupport;
+
+/**
+ * Compares {@code jiter-array} iteration over an {@code Integer[]} slice with a plain indexed loop,
+ * {@link Arrays#stream(Object[], int, int)} and {@link List#iterator()}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ArrayBenchmark {
+    @Param({"16", "1024", "65536"})
+    private int size;
+
+    private Integer[] array;
+    private int start;
+    private int end;
+    private List<Integer> list;
+    private Iterable<Integer> iterable;
+
+    @Setup
+    public void setup() {
+        array = new Integer[size * 2];
+        for (var i = 0; i < array.length; ++i) {
+            array[i] = i;
+        }
+        start = size / 2;
+        end = start + size;
+        list = List.of(Arrays.copyOfRange(array, start, end));
+        iterable = ArrayIterables.of(array, start, end);
+    }
+
+    @Benchmark
+    public void forLoop(Blackhole bh) {
+        for (var i = start; i < end; ++i) {
+            bh.consume(array[i]);
+        }
+    }
+
+    @Benchmark
+    public void arraysStream(Blackhole bh) {
+        Arrays.stream(array, start, end).forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void listIterator(Blackhole bh) {
+        var it = list.iterator();
+        while (it.hasNext()) {
+            bh.consume(it.next());
+        }
+    }
+
+    @Benchmark
+    public void forEach(Blackhole bh) {
+        iterable.forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void iterableLoop(Blackhole bh) {
+        for (var e : iterable) {
+            bh.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void iteratorLoop(Blackhole bh) {
+        var it = ArrayIterators.of(array, start, end);
+        while (it.hasNext()) {
+            bh.consume(it.next());
+        }
+    }
+
+    @Benchmark
+    public void forEachRemaining(Blackhole bh) {
+        ArrayIterators.of(array, start, end).forEachRemaining(bh::consume);
+    }
+
+    @Benchmark
+    public void spliteratorStream(Blackhole bh) {
+        StreamSupport.stream(iterable.spliterator(), false).forEach(bh::consume);
+    }
+}
@@ -0,0 +1,120 @@
+package com.github.romanqed.jiter.benchmarks;
+
+import com.github.romanqed.jiter.index.ArrayIndexable;
+import com.github.romanqed.jiter.index.IndexIterables;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.StreamSupport;
+
+/**
+ * Compares {@code jiter-index} iteration with a plain indexed loop, {@link Arrays#stream(Object[], int, int)}
+ * and {@link List#iterator()}.
+ * <p>
+ * Every {@link IndexIterables} factory yields boxed elements, so the baselines iterate over
+ * pre-boxed values of the same slice.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class IndexBenchmark {
+    @Param({"16", "1024", "65536"})
+    private int size;
+
+    @Param({"indexable", "int", "long", "double"})
+    private String source;
+
+    private Object[] values;
+    private int start;
+    private int end;
+    private List<Object> list;
+    private Iterable<?> iterable;
+
+    @Setup
+    public void setup() {
+        var length = size * 2;
+        start = size / 2;
+        end = start + size;
+        switch (source) {
+            case "indexable":
+                var objects = new Object[length];
+                Arrays.setAll(objects, i -> i);
+                values = Arrays.copyOfRange(objects, start, end);
+                iterable = IndexIterables.of(new ArrayIndexable<>(values), size);
+                start = 0;
+                end = size;
+                break;
+            case "int":
+                var ints = new int[length];
+                Arrays.setAll(ints, i -> i);
+                values = Arrays.stream(ints).boxed().toArray();
+                iterable = IndexIterables.of(ints, start, end);
+                break;
+            case "long":
+                var longs = new long[length];
+                Arrays.setAll(longs, i -> i);
+                values = Arrays.stream(longs).boxed().toArray();
+                iterable = IndexIterables.of(longs, start, end);
+                break;
+            case "double":
+                var doubles = new double[length];
+                Arrays.setAll(doubles, i -> i);
+                values = Arrays.stream(doubles).boxed().toArray();
+                iterable = IndexIterables.of(doubles, start, end);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown source: " + source);
+        }
+        list = List.of(Arrays.copyOfRange(values, start, end));
+    }
+
+    @Benchmark
+    public void forLoop(Blackhole bh) {
+        for (var i = start; i < end; ++i) {
+            bh.consume(values[i]);
+        }
+    }
+
+    @Benchmark
+    public void arraysStream(Blackhole bh) {
+        Arrays.stream(values, start, end).forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void listIterator(Blackhole bh) {
+        var it = list.iterator();
+        while (it.hasNext()) {
+            bh.consume(it.next());
+        }
+    }
+
+    @Benchmark
+    public void forEach(Blackhole bh) {
+        iterable.forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void iteratorLoop(Blackhole bh) {
+        Iterator<?> it = iterable.iterator();
+        while (it.hasNext()) {
+            bh.consume(it.next());
+        }
+    }
+
+    @Benchmark
+    public void forEachRemaining(Blackhole bh) {
+        iterable.iterator().forEachRemaining(bh::consume);
+    }
+
+    @Benchmark
+    public void spliteratorStream(Blackhole bh) {
+        StreamSupport.stream(iterable.spliterator(), false).forEach(bh::consume);
+    }
+}
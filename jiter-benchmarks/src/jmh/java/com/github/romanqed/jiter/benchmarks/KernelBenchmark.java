@@ -0,0 +1,139 @@
+package com.github.romanqed.jiter.benchmarks;
+
+import com.github.romanqed.jiter.primitive.DoubleArrayIterable;
+import com.github.romanqed.jiter.primitive.IntArrayIterable;
+import com.github.romanqed.jiter.primitive.LongArrayIterable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the bulk operations of the {@code jiter-primitive} array slices for every element type and slice size.
+ * <p>
+ * The suite is run twice by {@link ScalarKernelBenchmark} and {@link VectorKernelBenchmark}, which differ only in
+ * whether {@code jdk.incubator.vector} is resolved in the forked JVM. Run on Java 17+ and compare the two results
+ * to get the speedup of the vectorized kernels over the scalar ones.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public abstract class KernelBenchmark {
+    @Param({"16", "1024", "65536"})
+    private int size;
+
+    private int[] ints;
+    private int[] intTarget;
+    private IntArrayIterable intIterable;
+    private long[] longs;
+    private long[] longTarget;
+    private LongArrayIterable longIterable;
+    private double[] doubles;
+    private double[] doubleTarget;
+    private DoubleArrayIterable doubleIterable;
+
+    @Setup
+    public void setup() {
+        var start = size / 2;
+        ints = new int[size * 2];
+        for (var i = 0; i < ints.length; ++i) {
+            ints[i] = i % 1000 - 500;
+        }
+        intTarget = new int[size];
+        intIterable = new IntArrayIterable(ints, start, start + size);
+        longs = new long[size * 2];
+        for (var i = 0; i < longs.length; ++i) {
+            longs[i] = i % 1000 - 500;
+        }
+        longTarget = new long[size];
+        longIterable = new LongArrayIterable(longs, start, start + size);
+        doubles = new double[size * 2];
+        for (var i = 0; i < doubles.length; ++i) {
+            doubles[i] = (i % 1000 - 500) * 0.25;
+        }
+        doubleTarget = new double[size];
+        doubleIterable = new DoubleArrayIterable(doubles, start, start + size);
+    }
+
+    @Benchmark
+    public long intSum() {
+        return intIterable.sum();
+    }
+
+    @Benchmark
+    public OptionalInt intMax() {
+        return intIterable.max();
+    }
+
+    @Benchmark
+    public long intDot() {
+        return intIterable.dot(ints, 0);
+    }
+
+    @Benchmark
+    public long intCountInRange() {
+        return intIterable.countInRange(-100, 100);
+    }
+
+    @Benchmark
+    public int[] intMultiplyAddInto() {
+        intIterable.multiplyAddInto(intTarget, 0, 3, 1);
+        return intTarget;
+    }
+
+    @Benchmark
+    public long longSum() {
+        return longIterable.sum();
+    }
+
+    @Benchmark
+    public OptionalLong longMax() {
+        return longIterable.max();
+    }
+
+    @Benchmark
+    public long longDot() {
+        return longIterable.dot(longs, 0);
+    }
+
+    @Benchmark
+    public long longCountInRange() {
+        return longIterable.countInRange(-100, 100);
+    }
+
+    @Benchmark
+    public long[] longMultiplyAddInto() {
+        longIterable.multiplyAddInto(longTarget, 0, 3, 1);
+        return longTarget;
+    }
+
+    @Benchmark
+    public double doubleSum() {
+        return doubleIterable.sum();
+    }
+
+    @Benchmark
+    public OptionalDouble doubleMax() {
+        return doubleIterable.max();
+    }
+
+    @Benchmark
+    public double doubleDot() {
+        return doubleIterable.dot(doubles, 0);
+    }
+
+    @Benchmark
+    public long doubleCountInRange() {
+        return doubleIterable.countInRange(-25.0, 25.0);
+    }
+
+    @Benchmark
+    public double[] doubleMultiplyAddInto() {
+        doubleIterable.multiplyAddInto(doubleTarget, 0, 0.5, 1.0);
+        return doubleTarget;
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.romanqed.jiter.benchmarks;
+
+import com.github.romanqed.jiter.primitive.CompressedIntSequence;
+import com.github.romanqed.jiter.primitive.IntIterable;
+import com.github.romanqed.jiter.primitive.PackedIntSequence;
+import com.github.romanqed.jiter.primitive.PrimitiveIterables;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+/**
+ * Compares scanning a bit-packed and a delta-varint compressed column with scanning the plain {@code int[]}
+ * it was built from, for several bit widths. Large sizes exceed the caches, where the packed scan should
+ * approach the plain one as it reads proportionally less memory.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PackedBenchmark {
+    @Param({"4096", "4194304"})
+    private int size;
+
+    @Param({"3", "12", "20"})
+    private int bits;
+
+    private IntIterable plain;
+    private PackedIntSequence packed;
+    private CompressedIntSequence compressed;
+    private Sum sum;
+
+    @Setup
+    public void setup() {
+        var random = new Random(25);
+        var array = new int[size];
+        for (var i = 0; i < size; ++i) {
+            array[i] = random.nextInt(1 << bits);
+        }
+        plain = PrimitiveIterables.of(array);
+        packed = PrimitiveIterables.pack(array);
+        var sorted = array.clone();
+        for (var i = 1; i < size; ++i) {
+            sorted[i] = sorted[i - 1] + (array[i] >>> Math.max(0, bits - 4));
+        }
+        compressed = PrimitiveIterables.compress(sorted);
+        sum = new Sum();
+    }
+
+    @Benchmark
+    public long plainForEach() {
+        sum.value = 0;
+        plain.forEach(sum);
+        return sum.value;
+    }
+
+    @Benchmark
+    public long packedForEach() {
+        sum.value = 0;
+        packed.forEach(sum);
+        return sum.value;
+    }
+
+    @Benchmark
+    public long compressedForEach() {
+        sum.value = 0;
+        compressed.forEach(sum);
+        return sum.value;
+    }
+
+    private static final class Sum implements IntConsumer {
+        private long value;
+
+        @Override
+        public void accept(int value) {
+            this.value += value;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.github.romanqed.jiter.benchmarks;
+
+import com.github.romanqed.jiter.primitive.IntIterable;
+import com.github.romanqed.jiter.primitive.PrimitiveIterables;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a fused {@code map -> filter -> sum} pipeline on a {@code jiter-primitive} slice with
+ * {@link java.util.stream.IntStream} and a hand-written loop on short slices, where per-call setup dominates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PipelineBenchmark {
+    @Param({"16", "256", "1024"})
+    private int size;
+
+    private int[] array;
+    private int start;
+    private int end;
+    private IntIterable iterable;
+
+    @Setup
+    public void setup() {
+        array = new int[size * 2];
+        for (var i = 0; i < array.length; ++i) {
+            array[i] = i;
+        }
+        start = size / 2;
+        end = start + size;
+        iterable = PrimitiveIterables.of(array, start, end);
+    }
+
+    @Benchmark
+    public long forLoop() {
+        var ret = 0L;
+        for (var i = start; i < end; ++i) {
+            var value = array[i] * 3;
+            if ((value & 1) == 0) {
+                ret += value;
+            }
+        }
+        return ret;
+    }
+
+    @Benchmark
+    public long arraysStream() {
+        return Arrays.stream(array, start, end).map(v -> v * 3).filter(v -> (v & 1) == 0).asLongStream().sum();
+    }
+
+    @Benchmark
+    public long pipeline() {
+        return iterable.map(v -> v * 3).filter(v -> (v & 1) == 0).sum();
+    }
+
+    @Benchmark
+    public long pipelineLimit() {
+        return iterable.skip(size / 4).limit(size / 2).map(v -> v * 3).sum();
+    }
+
+    @Benchmark
+    public long arraysStreamLimit() {
+        return Arrays.stream(array, start, end).skip(size / 4).limit(size / 2).map(v -> v * 3).asLongStream().sum();
+    }
+}
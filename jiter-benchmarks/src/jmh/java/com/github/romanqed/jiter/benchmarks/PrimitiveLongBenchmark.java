@@ -0,0 +1,89 @@
+package com.github.romanqed.jiter.benchmarks;
+
+import com.github.romanqed.jiter.primitive.LongIterable;
+import com.github.romanqed.jiter.primitive.PrimitiveIterables;
+import com.github.romanqed.jiter.primitive.PrimitiveIterators;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+import java.util.stream.StreamSupport;
+
+/**
+ * Compares {@code jiter-primitive} iteration over a {@code long[]} slice with a plain indexed loop,
+ * {@link Arrays#stream(long[], int, int)} and {@link List#iterator()} over boxed values.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PrimitiveLongBenchmark {
+    @Param({"16", "1024", "65536"})
+    private int size;
+
+    private long[] array;
+    private int start;
+    private int end;
+    private List<Long> list;
+    private LongIterable iterable;
+
+    @Setup
+    public void setup() {
+        array = new long[size * 2];
+        for (var i = 0; i < array.length; ++i) {
+            array[i] = i;
+        }
+        start = size / 2;
+        end = start + size;
+        list = List.of(Arrays.stream(array, start, end).boxed().toArray(Long[]::new));
+        iterable = PrimitiveIterables.of(array, start, end);
+    }
+
+    @Benchmark
+    public void forLoop(Blackhole bh) {
+        for (var i = start; i < end; ++i) {
+            bh.consume(array[i]);
+        }
+    }
+
+    @Benchmark
+    public void arraysStream(Blackhole bh) {
+        Arrays.stream(array, start, end).forEach(bh::consume);
+    }
+
+    @Benchmark
+    public void listIterator(Blackhole bh) {
+        var it = list.iterator();
+        while (it.hasNext()) {
+            bh.consume(it.next().longValue());
+        }
+    }
+
+    @Benchmark
+    public void forEach(Blackhole bh) {
+        iterable.forEach((LongConsumer) bh::consume);
+    }
+
+    @Benchmark
+    public void iteratorLoop(Blackhole bh) {
+        var it = PrimitiveIterators.of(array, start, end);
+        while (it.hasNext()) {
+            bh.consume(it.nextLong());
+        }
+    }
+
+    @Benchmark
+    public void forEachRemaining(Blackhole bh) {
+        PrimitiveIterators.of(array, start, end).forEachRemaining((LongConsumer) bh::consume);
+    }
+
+    @Benchmark
+    public void spliteratorStream(Blackhole bh) {
+        StreamSupport.longStream(iterable.spliterator(), false).forEach(bh::consume);
+    }
+}
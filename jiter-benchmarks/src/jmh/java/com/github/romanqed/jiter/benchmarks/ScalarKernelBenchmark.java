@@ -0,0 +1,10 @@
+package com.github.romanqed.jiter.benchmarks;
+
+import org.openjdk.jmh.annotations.Fork;
+
+/**
+ * Runs {@link KernelBenchmark} without {@code jdk.incubator.vector}, so the scalar kernels are used.
+ */
+@Fork(1)
+public class ScalarKernelBenchmark extends KernelBenchmark {
+}
@@ -0,0 +1,10 @@
+package com.github.romanqed.jiter.benchmarks;
+
+import org.openjdk.jmh.annotations.Fork;
+
+/**
+ * Runs {@link KernelBenchmark} with {@code jdk.incubator.vector} resolved, so the vectorized kernels are used on Java 17+.
+ */
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class VectorKernelBenchmark extends KernelBenchmark {
+}
@@ -0,0 +1,65 @@
+package com.github.romanqed.jiter.index;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A {@link LongIndexable} over an {@link AtomicLongArray} shared between threads, accessed in a chosen {@link MemoryOrder}.
+ * <p>
+ * Reads use the given mode and writes its counterpart, so {@link MemoryOrder#ACQUIRE} pairs acquire reads
+ * with release writes.
+ */
+public final class AtomicLongArrayIndexable implements LongIndexable {
+    private final AtomicLongArray array;
+    private final MemoryOrder order;
+
+    /**
+     * Constructs a new indexable view over the given array.
+     *
+     * @param array the backing array
+     * @param order the memory order of element accesses
+     */
+    public AtomicLongArrayIndexable(AtomicLongArray array, MemoryOrder order) {
+        this.array = array;
+        this.order = order;
+    }
+
+    /**
+     * Returns the memory order of element accesses.
+     *
+     * @return the memory order
+     */
+    public MemoryOrder order() {
+        return order;
+    }
+
+    @Override
+    public long getLong(int index) {
+        switch (order) {
+            case PLAIN:
+                return array.getPlain(index);
+            case OPAQUE:
+                return array.getOpaque(index);
+            case ACQUIRE:
+                return array.getAcquire(index);
+            default:
+                return array.get(index);
+        }
+    }
+
+    @Override
+    public void setLong(int index, long val) {
+        switch (order) {
+            case PLAIN:
+                array.setPlain(index, val);
+                break;
+            case OPAQUE:
+                array.setOpaque(index, val);
+                break;
+            case ACQUIRE:
+                array.setRelease(index, val);
+                break;
+            default:
+                array.set(index, val);
+        }
+    }
+}
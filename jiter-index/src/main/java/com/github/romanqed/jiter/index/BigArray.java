@@ -0,0 +1,55 @@
+package com.github.romanqed.jiter.index;
+
+/**
+ * A segmented reference array addressed by {@code long} indices, able to hold more than
+ * {@link Integer#MAX_VALUE} elements.
+ * <p>
+ * Elements are stored in pages of {@code 2^20} elements, which are allocated lazily on first write.
+ * Elements of pages that have never been written read as {@code null}. Not thread-safe.
+ *
+ * @param <T> the element type
+ */
+public final class BigArray<T> implements BigIndexable<T> {
+    private final Object[][] pages;
+    private final long length;
+
+    /**
+     * Constructs a new big array of the specified length without allocating any page.
+     *
+     * @param length the number of elements
+     * @throws NegativeArraySizeException if {@code length} is negative
+     */
+    public BigArray(long length) {
+        this.pages = new Object[Util.pages(length)][];
+        this.length = length;
+    }
+
+    /**
+     * Returns the number of elements in this array.
+     *
+     * @return the length of this array
+     */
+    public long length() {
+        return length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(long index) {
+        Util.checkIndex(index, length);
+        var page = pages[(int) (index >>> Util.PAGE_SHIFT)];
+        return page == null ? null : (T) page[(int) index & Util.PAGE_MASK];
+    }
+
+    @Override
+    public void set(long index, T val) {
+        Util.checkIndex(index, length);
+        var number = (int) (index >>> Util.PAGE_SHIFT);
+        var page = pages[number];
+        if (page == null) {
+            page = new Object[Util.pageLength(length, number)];
+            pages[number] = page;
+        }
+        page[(int) index & Util.PAGE_MASK] = val;
+    }
+}
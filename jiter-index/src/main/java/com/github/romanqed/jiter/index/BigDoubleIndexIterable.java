@@ -0,0 +1,61 @@
+package com.github.romanqed.jiter.index;
+
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+/**
+ * A lightweight {@link Iterable} over a long-indexed range of a {@link BigDoubleIndexable} source,
+ * exposing {@link PrimitiveIterator.OfDouble} and {@link Spliterator.OfDouble} to avoid boxing.
+ */
+public final class BigDoubleIndexIterable implements PrimitiveIndexIterable<Double, DoubleConsumer, Spliterator.OfDouble> {
+    private final BigDoubleIndexable indexable;
+    private final long start;
+    private final long end;
+
+    /**
+     * Constructs an iterable over the specified {@link BigDoubleIndexable} from {@code start} (inclusive) to {@code end} (exclusive).
+     *
+     * @param indexable the indexable to iterate over
+     * @param start     the starting index (inclusive)
+     * @param end       the ending index (exclusive)
+     */
+    public BigDoubleIndexIterable(BigDoubleIndexable indexable, long start, long end) {
+        this.indexable = indexable;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public PrimitiveIterator.OfDouble iterator() {
+        return new BigDoubleIndexIterator(indexable, end, start);
+    }
+
+    @Override
+    public void forEach(Consumer<? super Double> action) {
+        if (indexable instanceof BigDoubleArray) {
+            ((BigDoubleArray) indexable).forEachBoxed(start, end, action);
+            return;
+        }
+        for (var i = start; i < end; ++i) {
+            action.accept(indexable.getDouble(i));
+        }
+    }
+
+    @Override
+    public void forEach(DoubleConsumer action) {
+        if (indexable instanceof BigDoubleArray) {
+            ((BigDoubleArray) indexable).forEachDouble(start, end, action);
+            return;
+        }
+        for (var i = start; i < end; ++i) {
+            action.accept(indexable.getDouble(i));
+        }
+    }
+
+    @Override
+    public Spliterator.OfDouble spliterator() {
+        return new BigDoubleIndexSpliterator(indexable, end, start);
+    }
+}
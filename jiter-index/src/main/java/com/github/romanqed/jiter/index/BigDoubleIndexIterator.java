@@ -0,0 +1,80 @@
+package com.github.romanqed.jiter.index;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+/**
+ * An immutable {@link PrimitiveIterator.OfDouble} implementation over a long-indexed {@link BigDoubleIndexable} range.
+ */
+public final class BigDoubleIndexIterator implements PrimitiveIterator.OfDouble {
+    private final BigDoubleIndexable indexable;
+    private final long end;
+    private long index;
+
+    /**
+     * Creates a new iterator over the given {@link BigDoubleIndexable} from {@code index} (inclusive) to {@code end} (exclusive).
+     *
+     * @param indexable the underlying indexable source
+     * @param end       the end index (exclusive)
+     * @param index     the start index (inclusive)
+     */
+    public BigDoubleIndexIterator(BigDoubleIndexable indexable, long end, long index) {
+        this.indexable = indexable;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < end;
+    }
+
+    @Override
+    public double nextDouble() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return indexable.getDouble(index++);
+    }
+
+    @Override
+    public Double next() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return indexable.getDouble(index++);
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Immutable iterator");
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+        if (indexable instanceof BigDoubleArray) {
+            var from = index;
+            index = end;
+            ((BigDoubleArray) indexable).forEachDouble(from, end, action);
+            return;
+        }
+        while (index < end) {
+            action.accept(indexable.getDouble(index++));
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Double> action) {
+        if (indexable instanceof BigDoubleArray) {
+            var from = index;
+            index = end;
+            ((BigDoubleArray) indexable).forEachBoxed(from, end, action);
+            return;
+        }
+        while (index < end) {
+            action.accept(indexable.getDouble(index++));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.romanqed.jiter.index;
+
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+
+/**
+ * A {@link Spliterator.OfDouble} over a long-indexed {@link BigDoubleIndexable} range.
+ * <p>
+ * Splits in constant time by halving the remaining {@code [index, end)} range and reads elements
+ * directly through {@link BigDoubleIndexable#getDouble(long)} without boxing.
+ */
+public final class BigDoubleIndexSpliterator implements Spliterator.OfDouble {
+    private final BigDoubleIndexable indexable;
+    private final long end;
+    private long index;
+
+    /**
+     * Creates a new spliterator over the given {@link BigDoubleIndexable} from {@code index} (inclusive) to {@code end} (exclusive).
+     *
+     * @param indexable the underlying indexable source
+     * @param end       the end index (exclusive)
+     * @param index     the start index (inclusive)
+     */
+    public BigDoubleIndexSpliterator(BigDoubleIndexable indexable, long end, long index) {
+        this.indexable = indexable;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean tryAdvance(DoubleConsumer action) {
+        if (index >= end) {
+            return false;
+        }
+        action.accept(indexable.getDouble(index++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+        var i = index;
+        index = end;
+        if (indexable instanceof BigDoubleArray) {
+            ((BigDoubleArray) indexable).forEachDouble(i, end, action);
+            return;
+        }
+        for (; i < end; ++i) {
+            action.accept(indexable.getDouble(i));
+        }
+    }
+
+    @Override
+    public Spliterator.OfDouble trySplit() {
+        var low = index;
+        var mid = (low + end) >>> 1;
+        if (low >= mid) {
+            return null;
+        }
+        index = mid;
+        return new BigDoubleIndexSpliterator(indexable, mid, low);
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+}
@@ -0,0 +1,37 @@
+package com.github.romanqed.jiter.index;
+
+/**
+ * A primitive specialization of {@link BigIndexable} for {@code double} values.
+ * <p>
+ * The boxed {@link #get(long)} and {@link #set(long, Double)} methods delegate to their primitive counterparts.
+ */
+public interface BigDoubleIndexable extends BigIndexable<Double> {
+
+    /**
+     * Returns the {@code double} element at the specified index.
+     *
+     * @param index the element index
+     * @return the element at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    double getDouble(long index);
+
+    /**
+     * Replaces the element at the specified index with the specified {@code double} value.
+     *
+     * @param index the index of the element to replace
+     * @param val   the value to store at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    void setDouble(long index, double val);
+
+    @Override
+    default Double get(long index) {
+        return getDouble(index);
+    }
+
+    @Override
+    default void set(long index, Double val) {
+        setDouble(index, val);
+    }
+}
@@ -0,0 +1,46 @@
+package com.github.romanqed.jiter.index;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A lightweight {@link Iterable} over a long-indexed range of a {@link BigIndexable} source.
+ *
+ * @param <T> the element type
+ */
+public final class BigIndexIterable<T> implements Iterable<T> {
+    private final BigIndexable<T> indexable;
+    private final long start;
+    private final long end;
+
+    /**
+     * Constructs an iterable over the specified {@link BigIndexable} from {@code start} (inclusive) to {@code end} (exclusive).
+     *
+     * @param indexable the indexable to iterate over
+     * @param start     the starting index (inclusive)
+     * @param end       the ending index (exclusive)
+     */
+    public BigIndexIterable(BigIndexable<T> indexable, long start, long end) {
+        this.indexable = indexable;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new BigIndexIterator<>(indexable, end, start);
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        for (var i = start; i < end; ++i) {
+            action.accept(indexable.get(i));
+        }
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new BigIndexSpliterator<>(indexable, end, start);
+    }
+}
@@ -0,0 +1,54 @@
+package com.github.romanqed.jiter.index;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * An immutable {@link Iterator} implementation over a long-indexed {@link BigIndexable} range.
+ *
+ * @param <T> the element type
+ */
+public final class BigIndexIterator<T> implements Iterator<T> {
+    private final BigIndexable<T> indexable;
+    private final long end;
+    private long index;
+
+    /**
+     * Creates a new iterator over the given {@link BigIndexable} from {@code index} (inclusive) to {@code end} (exclusive).
+     *
+     * @param indexable the underlying indexable source
+     * @param end       the end index (exclusive)
+     * @param index     the start index (inclusive)
+     */
+    public BigIndexIterator(BigIndexable<T> indexable, long end, long index) {
+        this.indexable = indexable;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < end;
+    }
+
+    @Override
+    public T next() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return indexable.get(index++);
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Immutable iterator");
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        while (index < end) {
+            action.accept(indexable.get(index++));
+        }
+    }
+}
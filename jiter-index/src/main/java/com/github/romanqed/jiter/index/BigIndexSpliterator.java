@@ -0,0 +1,70 @@
+package com.github.romanqed.jiter.index;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} over a long-indexed {@link BigIndexable} range.
+ * <p>
+ * Splits in constant time by halving the remaining {@code [index, end)} range and reads elements
+ * directly through {@link BigIndexable#get(long)}, so parallel streams over a {@link BigIndexable} need no buffering.
+ *
+ * @param <T> the element type
+ */
+public final class BigIndexSpliterator<T> implements Spliterator<T> {
+    private final BigIndexable<T> indexable;
+    private final long end;
+    private long index;
+
+    /**
+     * Creates a new spliterator over the given {@link BigIndexable} from {@code index} (inclusive) to {@code end} (exclusive).
+     *
+     * @param indexable the underlying indexable source
+     * @param end       the end index (exclusive)
+     * @param index     the start index (inclusive)
+     */
+    public BigIndexSpliterator(BigIndexable<T> indexable, long end, long index) {
+        this.indexable = indexable;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (index >= end) {
+            return false;
+        }
+        action.accept(indexable.get(index++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        var i = index;
+        index = end;
+        for (; i < end; ++i) {
+            action.accept(indexable.get(i));
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        var low = index;
+        var mid = (low + end) >>> 1;
+        if (low >= mid) {
+            return null;
+        }
+        index = mid;
+        return new BigIndexSpliterator<>(indexable, mid, low);
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+}
@@ -0,0 +1,28 @@
+package com.github.romanqed.jiter.index;
+
+/**
+ * Represents a generic indexed data structure addressed by {@code long} indices, supporting
+ * random access and mutation beyond the {@code int} range of {@link Indexable}.
+ *
+ * @param <T> the type of elements stored in this structure
+ */
+public interface BigIndexable<T> {
+
+    /**
+     * Returns the element at the specified index.
+     *
+     * @param index the element index
+     * @return the element at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    T get(long index);
+
+    /**
+     * Replaces the element at the specified index with the specified value.
+     *
+     * @param index the index of the element to replace
+     * @param val   the element to store at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    void set(long index, T val);
+}
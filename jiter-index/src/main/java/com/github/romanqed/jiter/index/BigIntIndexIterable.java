@@ -0,0 +1,61 @@
+package com.github.romanqed.jiter.index;
+
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * A lightweight {@link Iterable} over a long-indexed range of a {@link BigIntIndexable} source,
+ * exposing {@link PrimitiveIterator.OfInt} and {@link Spliterator.OfInt} to avoid boxing.
+ */
+public final class BigIntIndexIterable implements PrimitiveIndexIterable<Integer, IntConsumer, Spliterator.OfInt> {
+    private final BigIntIndexable indexable;
+    private final long start;
+    private final long end;
+
+    /**
+     * Constructs an iterable over the specified {@link BigIntIndexable} from {@code start} (inclusive) to {@code end} (exclusive).
+     *
+     * @param indexable the indexable to iterate over
+     * @param start     the starting index (inclusive)
+     * @param end       the ending index (exclusive)
+     */
+    public BigIntIndexIterable(BigIntIndexable indexable, long start, long end) {
+        this.indexable = indexable;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new BigIntIndexIterator(indexable, end, start);
+    }
+
+    @Override
+    public void forEach(Consumer<? super Integer> action) {
+        if (indexable instanceof BigIntArray) {
+            ((BigIntArray) indexable).forEachBoxed(start, end, action);
+            return;
+        }
+        for (var i = start; i < end; ++i) {
+            action.accept(indexable.getInt(i));
+        }
+    }
+
+    @Override
+    public void forEach(IntConsumer action) {
+        if (indexable instanceof BigIntArray) {
+            ((BigIntArray) indexable).forEachInt(start, end, action);
+            return;
+        }
+        for (var i = start; i < end; ++i) {
+            action.accept(indexable.getInt(i));
+        }
+    }
+
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new BigIntIndexSpliterator(indexable, end, start);
+    }
+}
@@ -0,0 +1,80 @@
+package com.github.romanqed.jiter.index;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * An immutable {@link PrimitiveIterator.OfInt} implementation over a long-indexed {@link BigIntIndexable} range.
+ */
+public final class BigIntIndexIterator implements PrimitiveIterator.OfInt {
+    private final BigIntIndexable indexable;
+    private final long end;
+    private long index;
+
+    /**
+     * Creates a new iterator over the given {@link BigIntIndexable} from {@code index} (inclusive) to {@code end} (exclusive).
+     *
+     * @param indexable the underlying indexable source
+     * @param end       the end index (exclusive)
+     * @param index     the start index (inclusive)
+     */
+    public BigIntIndexIterator(BigIntIndexable indexable, long end, long index) {
+        this.indexable = indexable;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < end;
+    }
+
+    @Override
+    public int nextInt() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return indexable.getInt(index++);
+    }
+
+    @Override
+    public Integer next() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return indexable.getInt(index++);
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Immutable iterator");
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        if (indexable instanceof BigIntArray) {
+            var from = index;
+            index = end;
+            ((BigIntArray) indexable).forEachInt(from, end, action);
+            return;
+        }
+        while (index < end) {
+            action.accept(indexable.getInt(index++));
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Integer> action) {
+        if (indexable instanceof BigIntArray) {
+            var from = index;
+            index = end;
+            ((BigIntArray) indexable).forEachBoxed(from, end, action);
+            return;
+        }
+        while (index < end) {
+            action.accept(indexable.getInt(index++));
+        }
+    }
+}
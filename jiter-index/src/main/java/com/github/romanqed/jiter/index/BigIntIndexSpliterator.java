@@ -0,0 +1,72 @@
+package com.github.romanqed.jiter.index;
+
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+/**
+ * A {@link Spliterator.OfInt} over a long-indexed {@link BigIntIndexable} range.
+ * <p>
+ * Splits in constant time by halving the remaining {@code [index, end)} range and reads elements
+ * directly through {@link BigIntIndexable#getInt(long)} without boxing.
+ */
+public final class BigIntIndexSpliterator implements Spliterator.OfInt {
+    private final BigIntIndexable indexable;
+    private final long end;
+    private long index;
+
+    /**
+     * Creates a new spliterator over the given {@link BigIntIndexable} from {@code index} (inclusive) to {@code end} (exclusive).
+     *
+     * @param indexable the underlying indexable source
+     * @param end       the end index (exclusive)
+     * @param index     the start index (inclusive)
+     */
+    public BigIntIndexSpliterator(BigIntIndexable indexable, long end, long index) {
+        this.indexable = indexable;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+        if (index >= end) {
+            return false;
+        }
+        action.accept(indexable.getInt(index++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        var i = index;
+        index = end;
+        if (indexable instanceof BigIntArray) {
+            ((BigIntArray) indexable).forEachInt(i, end, action);
+            return;
+        }
+        for (; i < end; ++i) {
+            action.accept(indexable.getInt(i));
+        }
+    }
+
+    @Override
+    public Spliterator.OfInt trySplit() {
+        var low = index;
+        var mid = (low + end) >>> 1;
+        if (low >= mid) {
+            return null;
+        }
+        index = mid;
+        return new BigIntIndexSpliterator(indexable, mid, low);
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+}
@@ -0,0 +1,37 @@
+package com.github.romanqed.jiter.index;
+
+/**
+ * A primitive specialization of {@link BigIndexable} for {@code int} values.
+ * <p>
+ * The boxed {@link #get(long)} and {@link #set(long, Integer)} methods delegate to their primitive counterparts.
+ */
+public interface BigIntIndexable extends BigIndexable<Integer> {
+
+    /**
+     * Returns the {@code int} element at the specified index.
+     *
+     * @param index the element index
+     * @return the element at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    int getInt(long index);
+
+    /**
+     * Replaces the element at the specified index with the specified {@code int} value.
+     *
+     * @param index the index of the element to replace
+     * @param val   the value to store at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    void setInt(long index, int val);
+
+    @Override
+    default Integer get(long index) {
+        return getInt(index);
+    }
+
+    @Override
+    default void set(long index, Integer val) {
+        setInt(index, val);
+    }
+}
@@ -0,0 +1,88 @@
+package com.github.romanqed.jiter.index;
+
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * A segmented {@code long} array addressed by {@code long} indices, able to hold more than
+ * {@link Integer#MAX_VALUE} elements.
+ * <p>
+ * Elements are stored in pages of {@code 2^20} elements, which are allocated lazily on first write.
+ * Elements of pages that have never been written read as {@code 0}.
+ * Index iterables, iterators and spliterators over a big array traverse it page by page. Not thread-safe.
+ */
+public final class BigLongArray implements BigLongIndexable {
+    private final long[][] pages;
+    private final long length;
+
+    /**
+     * Constructs a new big array of the specified length without allocating any page.
+     *
+     * @param length the number of elements
+     * @throws NegativeArraySizeException if {@code length} is negative
+     */
+    public BigLongArray(long length) {
+        this.pages = new long[Util.pages(length)][];
+        this.length = length;
+    }
+
+    /**
+     * Returns the number of elements in this array.
+     *
+     * @return the length of this array
+     */
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public long getLong(long index) {
+        Util.checkIndex(index, length);
+        var page = pages[(int) (index >>> Util.PAGE_SHIFT)];
+        return page == null ? 0 : page[(int) index & Util.PAGE_MASK];
+    }
+
+    @Override
+    public void setLong(long index, long val) {
+        Util.checkIndex(index, length);
+        var number = (int) (index >>> Util.PAGE_SHIFT);
+        var page = pages[number];
+        if (page == null) {
+            page = new long[Util.pageLength(length, number)];
+            pages[number] = page;
+        }
+        page[(int) index & Util.PAGE_MASK] = val;
+    }
+
+    void forEachLong(long start, long end, LongConsumer action) {
+        var index = start;
+        while (index < end) {
+            var page = pages[(int) (index >>> Util.PAGE_SHIFT)];
+            var from = (int) index & Util.PAGE_MASK;
+            var to = (int) Math.min(Util.PAGE_MASK + 1L, from + (end - index));
+            index += to - from;
+            if (page == null) {
+                for (var i = from; i < to; ++i) {
+                    action.accept(0L);
+                }
+            } else {
+                for (var i = from; i < to; ++i) {
+                    action.accept(page[i]);
+                }
+            }
+        }
+    }
+
+    void forEachBoxed(long start, long end, Consumer<? super Long> action) {
+        var index = start;
+        while (index < end) {
+            var page = pages[(int) (index >>> Util.PAGE_SHIFT)];
+            var from = (int) index & Util.PAGE_MASK;
+            var to = (int) Math.min(Util.PAGE_MASK + 1L, from + (end - index));
+            index += to - from;
+            for (var i = from; i < to; ++i) {
+                action.accept(page == null ? 0L : page[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.github.romanqed.jiter.index;
+
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * A lightweight {@link Iterable} over a long-indexed range of a {@link BigLongIndexable} source,
+ * exposing {@link PrimitiveIterator.OfLong} and {@link Spliterator.OfLong} to avoid boxing.
+ */
+public final class BigLongIndexIterable implements PrimitiveIndexIterable<Long, LongConsumer, Spliterator.OfLong> {
+    private final BigLongIndexable indexable;
+    private final long start;
+    private final long end;
+
+    /**
+     * Constructs an iterable over the specified {@link BigLongIndexable} from {@code start} (inclusive) to {@code end} (exclusive).
+     *
+     * @param indexable the indexable to iterate over
+     * @param start     the starting index (inclusive)
+     * @param end       the ending index (exclusive)
+     */
+    public BigLongIndexIterable(BigLongIndexable indexable, long start, long end) {
+        this.indexable = indexable;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new BigLongIndexIterator(indexable, end, start);
+    }
+
+    @Override
+    public void forEach(Consumer<? super Long> action) {
+        if (indexable instanceof BigLongArray) {
+            ((BigLongArray) indexable).forEachBoxed(start, end, action);
+            return;
+        }
+        for (var i = start; i < end; ++i) {
+            action.accept(indexable.getLong(i));
+        }
+    }
+
+    @Override
+    public void forEach(LongConsumer action) {
+        if (indexable instanceof BigLongArray) {
+            ((BigLongArray) indexable).forEachLong(start, end, action);
+            return;
+        }
+        for (var i = start; i < end; ++i) {
+            action.accept(indexable.getLong(i));
+        }
+    }
+
+    @Override
+    public Spliterator.OfLong spliterator() {
+        return new BigLongIndexSpliterator(indexable, end, start);
+    }
+}
@@ -0,0 +1,80 @@
+package com.github.romanqed.jiter.index;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * An immutable {@link PrimitiveIterator.OfLong} implementation over a long-indexed {@link BigLongIndexable} range.
+ */
+public final class BigLongIndexIterator implements PrimitiveIterator.OfLong {
+    private final BigLongIndexable indexable;
+    private final long end;
+    private long index;
+
+    /**
+     * Creates a new iterator over the given {@link BigLongIndexable} from {@code index} (inclusive) to {@code end} (exclusive).
+     *
+     * @param indexable the underlying indexable source
+     * @param end       the end index (exclusive)
+     * @param index     the start index (inclusive)
+     */
+    public BigLongIndexIterator(BigLongIndexable indexable, long end, long index) {
+        this.indexable = indexable;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < end;
+    }
+
+    @Override
+    public long nextLong() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return indexable.getLong(index++);
+    }
+
+    @Override
+    public Long next() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return indexable.getLong(index++);
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Immutable iterator");
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        if (indexable instanceof BigLongArray) {
+            var from = index;
+            index = end;
+            ((BigLongArray) indexable).forEachLong(from, end, action);
+            return;
+        }
+        while (index < end) {
+            action.accept(indexable.getLong(index++));
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Long> action) {
+        if (indexable instanceof BigLongArray) {
+            var from = index;
+            index = end;
+            ((BigLongArray) indexable).forEachBoxed(from, end, action);
+            return;
+        }
+        while (index < end) {
+            action.accept(indexable.getLong(index++));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.romanqed.jiter.index;
+
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+/**
+ * A {@link Spliterator.OfLong} over a long-indexed {@link BigLongIndexable} range.
+ * <p>
+ * Splits in constant time by halving the remaining {@code [index, end)} range and reads elements
+ * directly through {@link BigLongIndexable#getLong(long)} without boxing.
+ */
+public final class BigLongIndexSpliterator implements Spliterator.OfLong {
+    private final BigLongIndexable indexable;
+    private final long end;
+    private long index;
+
+    /**
+     * Creates a new spliterator over the given {@link BigLongIndexable} from {@code index} (inclusive) to {@code end} (exclusive).
+     *
+     * @param indexable the underlying indexable source
+     * @param end       the end index (exclusive)
+     * @param index     the start index (inclusive)
+     */
+    public BigLongIndexSpliterator(BigLongIndexable indexable, long end, long index) {
+        this.indexable = indexable;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+        if (index >= end) {
+            return false;
+        }
+        action.accept(indexable.getLong(index++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        var i = index;
+        index = end;
+        if (indexable instanceof BigLongArray) {
+            ((BigLongArray) indexable).forEachLong(i, end, action);
+            return;
+        }
+        for (; i < end; ++i) {
+            action.accept(indexable.getLong(i));
+        }
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit() {
+        var low = index;
+        var mid = (low + end) >>> 1;
+        if (low >= mid) {
+            return null;
+        }
+        index = mid;
+        return new BigLongIndexSpliterator(indexable, mid, low);
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+}
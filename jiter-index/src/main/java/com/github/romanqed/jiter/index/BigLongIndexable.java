@@ -0,0 +1,37 @@
+package com.github.romanqed.jiter.index;
+
+/**
+ * A primitive specialization of {@link BigIndexable} for {@code long} values.
+ * <p>
+ * The boxed {@link #get(long)} and {@link #set(long, Long)} methods delegate to their primitive counterparts.
+ */
+public interface BigLongIndexable extends BigIndexable<Long> {
+
+    /**
+     * Returns the {@code long} element at the specified index.
+     *
+     * @param index the element index
+     * @return the element at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    long getLong(long index);
+
+    /**
+     * Replaces the element at the specified index with the specified {@code long} value.
+     *
+     * @param index the index of the element to replace
+     * @param val   the value to store at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    void setLong(long index, long val);
+
+    @Override
+    default Long get(long index) {
+        return getLong(index);
+    }
+
+    @Override
+    default void set(long index, Long val) {
+        setLong(index, val);
+    }
+}
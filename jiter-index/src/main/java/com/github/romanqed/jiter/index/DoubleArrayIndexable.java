@@ -1,9 +1,9 @@
 package com.github.romanqed.jiter.index;
 
 /**
- * A boxed {@link Indexable} wrapper over a {@code double[]} array.
+ * A {@link DoubleIndexable} wrapper over a {@code double[]} array.
  */
-public final class DoubleArrayIndexable implements Indexable<Double> {
+public final class DoubleArrayIndexable implements DoubleIndexable {
     private final double[] array;
 
     /**
@@ -16,12 +16,12 @@ public final class DoubleArrayIndexable implements Indexable<Double> {
     }
 
     @Override
-    public Double get(int index) {
+    public double getDouble(int index) {
         return array[index];
     }
 
     @Override
-    public void set(int index, Double val) {
+    public void setDouble(int index, double val) {
         array[index] = val;
     }
 }
@@ -0,0 +1,17 @@
+package com.github.romanqed.jiter.index;
+
+/**
+ * Represents an operation that accepts a cell of a {@link DoubleGrid}: its row, its column and its {@code double} value.
+ */
+@FunctionalInterface
+public interface DoubleCellConsumer {
+
+    /**
+     * Performs this operation on the given cell.
+     *
+     * @param row    the row of the cell
+     * @param column the column of the cell
+     * @param value  the value of the cell
+     */
+    void accept(int row, int column, double value);
+}
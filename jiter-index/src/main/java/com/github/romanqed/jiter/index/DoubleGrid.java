@@ -0,0 +1,223 @@
+package com.github.romanqed.jiter.index;
+
+import java.util.Objects;
+
+/**
+ * A row-major two-dimensional view over a flat {@code double[]} array.
+ * <p>
+ * The cell {@code (row, column)} is stored at {@code offset + row * stride + column}, so a grid can describe
+ * a whole matrix as well as any rectangle of it without copying. As an {@link DoubleIndexable} the grid exposes
+ * its cells in row-major order under flat indices {@code 0 .. rows() * columns() - 1}.
+ * <p>
+ * Besides row-major traversal the grid offers column-major and tiled traversal. Tiled traversal visits the cells
+ * tile by tile, which keeps column-wise and blocked access patterns within a few cache lines.
+ */
+public final class DoubleGrid implements DoubleIndexable {
+    private final double[] array;
+    private final int offset;
+    private final int rows;
+    private final int columns;
+    private final int stride;
+
+    /**
+     * Constructs a grid of {@code rows x columns} cells over the given array.
+     *
+     * @param array   the backing array
+     * @param offset  the index of the cell {@code (0, 0)}
+     * @param rows    the number of rows
+     * @param columns the number of columns
+     * @param stride  the distance between the starts of two consecutive rows
+     */
+    public DoubleGrid(double[] array, int offset, int rows, int columns, int stride) {
+        this.array = array;
+        this.offset = offset;
+        this.rows = rows;
+        this.columns = columns;
+        this.stride = stride;
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return the number of rows
+     */
+    public int rows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of columns.
+     *
+     * @return the number of columns
+     */
+    public int columns() {
+        return columns;
+    }
+
+    /**
+     * Returns the number of cells.
+     *
+     * @return {@code rows() * columns()}
+     */
+    public int length() {
+        return rows * columns;
+    }
+
+    /**
+     * Returns the value of the given cell.
+     *
+     * @param row    the row of the cell
+     * @param column the column of the cell
+     * @return the value of the cell
+     * @throws IndexOutOfBoundsException if the cell is outside the grid
+     */
+    public double getDouble(int row, int column) {
+        Objects.checkIndex(row, rows);
+        Objects.checkIndex(column, columns);
+        return array[offset + row * stride + column];
+    }
+
+    /**
+     * Sets the value of the given cell.
+     *
+     * @param row    the row of the cell
+     * @param column the column of the cell
+     * @param value  the new value
+     * @throws IndexOutOfBoundsException if the cell is outside the grid
+     */
+    public void setDouble(int row, int column, double value) {
+        Objects.checkIndex(row, rows);
+        Objects.checkIndex(column, columns);
+        array[offset + row * stride + column] = value;
+    }
+
+    @Override
+    public double getDouble(int index) {
+        Objects.checkIndex(index, rows * columns);
+        return array[offset + index / columns * stride + index % columns];
+    }
+
+    @Override
+    public void setDouble(int index, double val) {
+        Objects.checkIndex(index, rows * columns);
+        array[offset + index / columns * stride + index % columns] = val;
+    }
+
+    /**
+     * Returns a view of the rectangle of {@code rows x columns} cells whose top-left cell is {@code (row, column)}.
+     * The view shares the backing array with this grid.
+     *
+     * @param row     the top row of the rectangle
+     * @param column  the left column of the rectangle
+     * @param rows    the number of rows of the rectangle
+     * @param columns the number of columns of the rectangle
+     * @return a {@link DoubleGrid} over the rectangle
+     * @throws ArrayIndexOutOfBoundsException if the rectangle does not fit into this grid
+     */
+    public DoubleGrid region(int row, int column, int rows, int columns) {
+        Util.checkBounds(this.rows, row, row + rows);
+        Util.checkBounds(this.columns, column, column + columns);
+        return new DoubleGrid(array, offset + row * stride + column, rows, columns, stride);
+    }
+
+    /**
+     * Returns a one-row view of the given row.
+     *
+     * @param row the row
+     * @return a {@link DoubleGrid} of a single row
+     * @throws ArrayIndexOutOfBoundsException if the row is outside the grid
+     */
+    public DoubleGrid row(int row) {
+        return region(row, 0, 1, columns);
+    }
+
+    /**
+     * Returns a one-column view of the given column.
+     *
+     * @param column the column
+     * @return a {@link DoubleGrid} of a single column
+     * @throws ArrayIndexOutOfBoundsException if the column is outside the grid
+     */
+    public DoubleGrid column(int column) {
+        return region(0, column, rows, 1);
+    }
+
+    /**
+     * Passes every cell to {@code action} in row-major order.
+     *
+     * @param action the action to perform on each cell
+     */
+    public void forEachRowMajor(DoubleCellConsumer action) {
+        for (var row = 0; row < rows; ++row) {
+            var base = offset + row * stride;
+            for (var column = 0; column < columns; ++column) {
+                action.accept(row, column, array[base + column]);
+            }
+        }
+    }
+
+    /**
+     * Passes every cell to {@code action} in column-major order.
+     *
+     * @param action the action to perform on each cell
+     */
+    public void forEachColumnMajor(DoubleCellConsumer action) {
+        for (var column = 0; column < columns; ++column) {
+            var position = offset + column;
+            for (var row = 0; row < rows; ++row) {
+                action.accept(row, column, array[position]);
+                position += stride;
+            }
+        }
+    }
+
+    /**
+     * Passes every cell to {@code action} tile by tile. Tiles of {@code tileRows x tileColumns} cells are visited
+     * in row-major order, and so are the cells of every tile; tiles on the bottom and right edges may be smaller.
+     *
+     * @param tileRows    the number of rows of a tile, must be positive
+     * @param tileColumns the number of columns of a tile, must be positive
+     * @param action      the action to perform on each cell
+     * @throws IllegalArgumentException if a tile dimension is less than 1
+     */
+    public void forEachTile(int tileRows, int tileColumns, DoubleCellConsumer action) {
+        Util.checkTile(tileRows, tileColumns);
+        for (var top = 0; top < rows; top += Math.min(tileRows, rows - top)) {
+            var bottom = top + Math.min(tileRows, rows - top);
+            for (var left = 0; left < columns; left += Math.min(tileColumns, columns - left)) {
+                var right = left + Math.min(tileColumns, columns - left);
+                for (var row = top; row < bottom; ++row) {
+                    var base = offset + row * stride;
+                    for (var column = left; column < right; ++column) {
+                        action.accept(row, column, array[base + column]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a spliterator over the values of the grid in the tile order of
+     * {@link #forEachTile(int, int, DoubleCellConsumer)}. It splits between tiles in constant time,
+     * so every parallel task works on whole tiles.
+     *
+     * @param tileRows    the number of rows of a tile, must be positive
+     * @param tileColumns the number of columns of a tile, must be positive
+     * @return a {@link DoubleTileSpliterator} over the grid
+     * @throws IllegalArgumentException if a tile dimension is less than 1
+     */
+    public DoubleTileSpliterator tileSpliterator(int tileRows, int tileColumns) {
+        Util.checkTile(tileRows, tileColumns);
+        var across = columns == 0 ? 0 : (columns - 1) / tileColumns + 1;
+        var down = rows == 0 ? 0 : (rows - 1) / tileRows + 1;
+        return new DoubleTileSpliterator(this, array, tileRows, tileColumns, (long) across * down, 0, 0);
+    }
+
+    int offset() {
+        return offset;
+    }
+
+    int stride() {
+        return stride;
+    }
+}
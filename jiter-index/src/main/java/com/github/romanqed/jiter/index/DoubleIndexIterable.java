@@ -0,0 +1,53 @@
+package com.github.romanqed.jiter.index;
+
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+/**
+ * A lightweight {@link Iterable} over a range of a {@link DoubleIndexable} source,
+ * exposing {@link PrimitiveIterator.OfDouble} and {@link Spliterator.OfDouble} to avoid boxing.
+ */
+public final class DoubleIndexIterable implements PrimitiveIndexIterable<Double, DoubleConsumer, Spliterator.OfDouble> {
+    private final DoubleIndexable indexable;
+    private final int start;
+    private final int end;
+
+    /**
+     * Constructs an iterable over the specified {@link DoubleIndexable} from {@code start} (inclusive) to {@code end} (exclusive).
+     *
+     * @param indexable the indexable to iterate over
+     * @param start     the starting index (inclusive)
+     * @param end       the ending index (exclusive)
+     */
+    public DoubleIndexIterable(DoubleIndexable indexable, int start, int end) {
+        this.indexable = indexable;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public PrimitiveIterator.OfDouble iterator() {
+        return new DoubleIndexIterator(indexable, end, start);
+    }
+
+    @Override
+    public void forEach(Consumer<? super Double> action) {
+        for (var i = start; i < end; ++i) {
+            action.accept(indexable.getDouble(i));
+        }
+    }
+
+    @Override
+    public void forEach(DoubleConsumer action) {
+        for (var i = start; i < end; ++i) {
+            action.accept(indexable.getDouble(i));
+        }
+    }
+
+    @Override
+    public Spliterator.OfDouble spliterator() {
+        return new DoubleIndexSpliterator(indexable, end, start);
+    }
+}
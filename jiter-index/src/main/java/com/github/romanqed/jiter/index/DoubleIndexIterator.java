@@ -0,0 +1,68 @@
+package com.github.romanqed.jiter.index;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+/**
+ * An immutable {@link PrimitiveIterator.OfDouble} implementation over a {@link DoubleIndexable} range.
+ */
+public final class DoubleIndexIterator implements PrimitiveIterator.OfDouble {
+    private final DoubleIndexable indexable;
+    private final int end;
+    private int index;
+
+    /**
+     * Creates a new iterator over the given {@link DoubleIndexable} from {@code index} (inclusive) to {@code end} (exclusive).
+     *
+     * @param indexable the underlying indexable source
+     * @param end       the end index (exclusive)
+     * @param index     the start index (inclusive)
+     */
+    public DoubleIndexIterator(DoubleIndexable indexable, int end, int index) {
+        this.indexable = indexable;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < end;
+    }
+
+    @Override
+    public double nextDouble() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return indexable.getDouble(index++);
+    }
+
+    @Override
+    public Double next() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return indexable.getDouble(index++);
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Immutable iterator");
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+        while (index < end) {
+            action.accept(indexable.getDouble(index++));
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Double> action) {
+        while (index < end) {
+            action.accept(indexable.getDouble(index++));
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.github.romanqed.jiter.index;
+
+/**
+ * A primitive specialization of {@link Indexable} for {@code double} values.
+ * <p>
+ * The boxed {@link #get(int)} and {@link #set(int, Double)} methods delegate to their primitive counterparts.
+ */
+public interface DoubleIndexable extends Indexable<Double> {
+
+    /**
+     * Returns the {@code double} element at the specified index.
+     *
+     * @param index the element index
+     * @return the element at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    double getDouble(int index);
+
+    /**
+     * Replaces the element at the specified index with the specified {@code double} value.
+     *
+     * @param index the index of the element to replace
+     * @param val   the value to store at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    void setDouble(int index, double val);
+
+    @Override
+    default Double get(int index) {
+        return getDouble(index);
+    }
+
+    @Override
+    default void set(int index, Double val) {
+        setDouble(index, val);
+    }
+}
@@ -0,0 +1,54 @@
+package com.github.romanqed.jiter.index;
+
+import java.util.Objects;
+
+/**
+ * A {@link DoubleIndexable} view over a window of a circular {@code double[]} buffer.
+ * <p>
+ * Index {@code i} of the view maps to {@code array[(head + i) % array.length]}, so a window that wraps around
+ * the end of the array is addressed as one contiguous range and can be traversed, for example with
+ * {@link IndexIterables}, without copying it out.
+ */
+public final class DoubleRingIndexable implements DoubleIndexable {
+    private final double[] array;
+    private final int head;
+    private final int length;
+
+    /**
+     * Constructs a view of {@code length} elements of the circular array starting at {@code head}.
+     *
+     * @param array  the backing circular array
+     * @param head   the index in {@code array} of the first element of the view
+     * @param length the number of elements, at most {@code array.length}
+     */
+    public DoubleRingIndexable(double[] array, int head, int length) {
+        this.array = array;
+        this.head = head;
+        this.length = length;
+    }
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return the number of elements
+     */
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public double getDouble(int index) {
+        Objects.checkIndex(index, length);
+        return array[physical(index)];
+    }
+
+    @Override
+    public void setDouble(int index, double val) {
+        Objects.checkIndex(index, length);
+        array[physical(index)] = val;
+    }
+
+    private int physical(int index) {
+        return index < array.length - head ? head + index : index - (array.length - head);
+    }
+}
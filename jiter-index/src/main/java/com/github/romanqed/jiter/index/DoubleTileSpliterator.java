@@ -0,0 +1,176 @@
+package com.github.romanqed.jiter.index;
+
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+
+/**
+ * A {@link Spliterator.OfDouble} over the cells of a {@link DoubleGrid}, visited tile by tile.
+ * <p>
+ * The spliterator covers a range of tiles in row-major tile order. It splits in constant time by halving
+ * that range, so parallel tasks always receive whole tiles. Single steps keep the bounds of the current tile,
+ * so only entering a tile costs a division. Besides plain values it can hand out
+ * {@code (row, column, value)} cells to a {@link DoubleCellConsumer}.
+ */
+public final class DoubleTileSpliterator implements Spliterator.OfDouble {
+    private final DoubleGrid grid;
+    private final double[] array;
+    private final int tileRows;
+    private final int tileColumns;
+    private final int across;
+    private final long end;
+    private long tile;
+    private int cell;
+    private int row;
+    private int column;
+    private int left;
+    private int right;
+    private int bottom;
+    private int base;
+
+    DoubleTileSpliterator(DoubleGrid grid, double[] array, int tileRows, int tileColumns, long end, long tile, int cell) {
+        this.grid = grid;
+        this.array = array;
+        this.tileRows = tileRows;
+        this.tileColumns = tileColumns;
+        var columns = grid.columns();
+        this.across = columns == 0 ? 0 : (columns - 1) / tileColumns + 1;
+        this.end = end;
+        this.tile = tile;
+        this.cell = cell;
+    }
+
+    private void locate() {
+        var top = (int) (tile / across) * tileRows;
+        left = (int) (tile % across) * tileColumns;
+        right = left + Math.min(tileColumns, grid.columns() - left);
+        bottom = top + Math.min(tileRows, grid.rows() - top);
+        var width = right - left;
+        row = top + cell / width;
+        column = left + cell % width;
+        base = grid.offset() + row * grid.stride();
+    }
+
+    private void advance() {
+        ++cell;
+        if (++column < right) {
+            return;
+        }
+        column = left;
+        base += grid.stride();
+        if (++row == bottom) {
+            ++tile;
+            cell = 0;
+            bottom = 0;
+        }
+    }
+
+    /**
+     * If a cell remains, passes it to {@code action} and returns {@code true}.
+     *
+     * @param action the action to perform on the next cell
+     * @return {@code false} if no cells remained
+     */
+    public boolean tryAdvance(DoubleCellConsumer action) {
+        if (tile >= end) {
+            return false;
+        }
+        if (bottom == 0) {
+            locate();
+        }
+        var row = this.row;
+        var column = this.column;
+        var value = array[base + column];
+        advance();
+        action.accept(row, column, value);
+        return true;
+    }
+
+    /**
+     * Passes every remaining cell to {@code action}.
+     *
+     * @param action the action to perform on each cell
+     */
+    public void forEachRemaining(DoubleCellConsumer action) {
+        var offset = grid.offset();
+        var stride = grid.stride();
+        var rows = grid.rows();
+        var columns = grid.columns();
+        var first = cell;
+        var current = tile;
+        tile = end;
+        cell = 0;
+        bottom = 0;
+        for (; current < end; ++current) {
+            var top = (int) (current / across) * tileRows;
+            var left = (int) (current % across) * tileColumns;
+            var bottom = top + Math.min(tileRows, rows - top);
+            var right = left + Math.min(tileColumns, columns - left);
+            var width = right - left;
+            var row = top + first / width;
+            var column = left + first % width;
+            first = 0;
+            for (; row < bottom; ++row) {
+                var base = offset + row * stride;
+                for (; column < right; ++column) {
+                    action.accept(row, column, array[base + column]);
+                }
+                column = left;
+            }
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(DoubleConsumer action) {
+        if (tile >= end) {
+            return false;
+        }
+        if (bottom == 0) {
+            locate();
+        }
+        var value = array[base + column];
+        advance();
+        action.accept(value);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+        forEachRemaining((DoubleCellConsumer) (row, column, value) -> action.accept(value));
+    }
+
+    @Override
+    public DoubleTileSpliterator trySplit() {
+        var low = tile;
+        var mid = (low + end) >>> 1;
+        if (low >= mid) {
+            return null;
+        }
+        var ret = new DoubleTileSpliterator(grid, array, tileRows, tileColumns, mid, low, cell);
+        tile = mid;
+        cell = 0;
+        bottom = 0;
+        return ret;
+    }
+
+    @Override
+    public long estimateSize() {
+        return cellsBefore(end) - cellsBefore(tile) - cell;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+
+    private long cellsBefore(long tile) {
+        if (across == 0) {
+            return 0;
+        }
+        var rows = grid.rows();
+        var columns = grid.columns();
+        var top = Math.min(tile / across * tileRows, rows);
+        var height = Math.min(tileRows, rows - top);
+        var width = Math.min(tile % across * tileColumns, columns);
+        return top * columns + height * width;
+    }
+}
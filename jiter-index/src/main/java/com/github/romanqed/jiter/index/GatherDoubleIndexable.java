@@ -0,0 +1,69 @@
+package com.github.romanqed.jiter.index;
+
+import java.util.Objects;
+
+/**
+ * A {@link DoubleIndexable} view that reads and writes another {@link DoubleIndexable} through a range of an {@code int[]} index array.
+ * <p>
+ * Index {@code i} of the view maps to {@code values.getDouble(indices[offset + i])}, so a permutation or the row positions
+ * produced by a sort or a join can be traversed, for example with {@link IndexIterables}, without materializing
+ * the gathered values. Writes go through to the underlying indexable, which turns the view into a scatter target.
+ */
+public final class GatherDoubleIndexable implements DoubleIndexable {
+    private final DoubleIndexable values;
+    private final int[] indices;
+    private final int offset;
+    private final int length;
+
+    /**
+     * Constructs a view over {@code values} through {@code length} positions of {@code indices} starting at {@code offset}.
+     *
+     * @param values  the indexable to read elements from
+     * @param indices the positions of the elements in {@code values}
+     * @param offset  the position in {@code indices} of the first element
+     * @param length  the number of elements
+     */
+    public GatherDoubleIndexable(DoubleIndexable values, int[] indices, int offset, int length) {
+        this.values = values;
+        this.indices = indices;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return the number of elements
+     */
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public double getDouble(int index) {
+        Objects.checkIndex(index, length);
+        return values.getDouble(indices[offset + index]);
+    }
+
+    @Override
+    public void setDouble(int index, double val) {
+        Objects.checkIndex(index, length);
+        values.setDouble(indices[offset + index], val);
+    }
+
+    /**
+     * Writes the gathered elements into {@code destination}, starting at {@code start}.
+     *
+     * @param destination the array to write into
+     * @param start       the index of the first element to write
+     * @throws NullPointerException           if {@code destination} is null
+     * @throws ArrayIndexOutOfBoundsException if {@code destination} holds fewer than {@code start + length()} elements
+     */
+    public void gatherInto(double[] destination, int start) {
+        Objects.requireNonNull(destination);
+        Util.checkBounds(destination.length, start, start + length);
+        for (var i = offset; i < offset + length; ++i) {
+            destination[start++] = values.getDouble(indices[i]);
+        }
+    }
+}
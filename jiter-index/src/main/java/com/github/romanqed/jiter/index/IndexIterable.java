@@ -2,7 +2,6 @@ package com.github.romanqed.jiter.index;
 
 import java.util.Iterator;
 import java.util.Spliterator;
-import java.util.Spliterators;
 import java.util.function.Consumer;
 
 /**
@@ -42,10 +41,6 @@ public final class IndexIterable<T> implements Iterable<T> {
 
     @Override
     public Spliterator<T> spliterator() {
-        return Spliterators.spliterator(
-                new IndexIterator<>(indexable, end, start),
-                end - start,
-                Spliterator.IMMUTABLE
-        );
+        return new IndexSpliterator<>(indexable, end, start);
     }
 }
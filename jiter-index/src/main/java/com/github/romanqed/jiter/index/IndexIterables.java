@@ -28,6 +28,100 @@ public final class IndexIterables {
         return new IndexIterable<>(indexable, 0, length);
     }
 
+    /**
+     * Creates an {@link Iterable} over every {@code step}-th element of the range {@code [start, end)} of the specified {@link Indexable}.
+     * <p>
+     * A positive step starts at {@code start}; a negative step walks the range backwards starting at {@code end - 1}.
+     *
+     * @param indexable the source indexable
+     * @param start     the starting index (inclusive)
+     * @param end       the ending index (exclusive)
+     * @param step      the distance between consecutive elements, must not be zero
+     * @param <E>       the type of elements
+     * @return an {@link Iterable} over the selected elements
+     * @throws NullPointerException           if indexable is null
+     * @throws ArrayIndexOutOfBoundsException if start is negative or greater than end
+     * @throws IllegalArgumentException       if step is zero
+     */
+    public static <E> Iterable<E> of(Indexable<E> indexable, int start, int end, int step) {
+        Objects.requireNonNull(indexable);
+        Util.checkBounds(start, end);
+        Util.checkStep(step);
+        return new StridedIndexIterable<>(indexable, Util.strideOffset(start, end, step), step, Util.strideCount(start, end, step));
+    }
+
+    /**
+     * Creates an {@link Iterable} over the first {@code length} elements of the specified {@link Indexable} in descending index order.
+     *
+     * @param indexable the source indexable
+     * @param length    the number of elements to iterate over
+     * @param <E>       the type of elements
+     * @return an {@link Iterable} from {@code length - 1} down to {@code 0}
+     * @throws NullPointerException           if indexable is null
+     * @throws ArrayIndexOutOfBoundsException if length is negative
+     */
+    public static <E> Iterable<E> reversed(Indexable<E> indexable, int length) {
+        Objects.requireNonNull(indexable);
+        if (length < 0) {
+            throw new ArrayIndexOutOfBoundsException(length);
+        }
+        return new StridedIndexIterable<>(indexable, length - 1, -1, length);
+    }
+
+    /**
+     * Creates a primitive {@link IntIndexIterable} from the specified {@link IntIndexable} with the given length.
+     * Elements are read without boxing.
+     *
+     * @param indexable the source indexable
+     * @param length    the number of elements to iterate over
+     * @return a {@link IntIndexIterable} instance
+     * @throws NullPointerException           if indexable is null
+     * @throws ArrayIndexOutOfBoundsException if length is negative
+     */
+    public static IntIndexIterable of(IntIndexable indexable, int length) {
+        Objects.requireNonNull(indexable);
+        if (length < 0) {
+            throw new ArrayIndexOutOfBoundsException(length);
+        }
+        return new IntIndexIterable(indexable, 0, length);
+    }
+
+    /**
+     * Creates a primitive {@link LongIndexIterable} from the specified {@link LongIndexable} with the given length.
+     * Elements are read without boxing.
+     *
+     * @param indexable the source indexable
+     * @param length    the number of elements to iterate over
+     * @return a {@link LongIndexIterable} instance
+     * @throws NullPointerException           if indexable is null
+     * @throws ArrayIndexOutOfBoundsException if length is negative
+     */
+    public static LongIndexIterable of(LongIndexable indexable, int length) {
+        Objects.requireNonNull(indexable);
+        if (length < 0) {
+            throw new ArrayIndexOutOfBoundsException(length);
+        }
+        return new LongIndexIterable(indexable, 0, length);
+    }
+
+    /**
+     * Creates a primitive {@link DoubleIndexIterable} from the specified {@link DoubleIndexable} with the given length.
+     * Elements are read without boxing.
+     *
+     * @param indexable the source indexable
+     * @param length    the number of elements to iterate over
+     * @return a {@link DoubleIndexIterable} instance
+     * @throws NullPointerException           if indexable is null
+     * @throws ArrayIndexOutOfBoundsException if length is negative
+     */
+    public static DoubleIndexIterable of(DoubleIndexable indexable, int length) {
+        Objects.requireNonNull(indexable);
+        if (length < 0) {
+            throw new ArrayIndexOutOfBoundsException(length);
+        }
+        return new DoubleIndexIterable(indexable, 0, length);
+    }
+
     /**
      * Creates an {@link Iterable} over a subrange of an {@code int[]} array.
      *
@@ -156,4 +250,68 @@ public final class IndexIterables {
         Objects.requireNonNull(array);
         return new IndexIterable<>(new DoubleArrayIndexable(array), 0, array.length);
     }
+
+    /**
+     * Creates an {@link Iterable} from the specified long-indexed {@link BigIndexable} with the given length.
+     *
+     * @param indexable the source indexable
+     * @param length    the number of elements to iterate over
+     * @param <E>       the type of elements
+     * @return an {@link Iterable} instance
+     * @throws NullPointerException           if indexable is null
+     * @throws ArrayIndexOutOfBoundsException if length is negative
+     */
+    public static <E> Iterable<E> of(BigIndexable<E> indexable, long length) {
+        Objects.requireNonNull(indexable);
+        Util.checkLength(length);
+        return new BigIndexIterable<>(indexable, 0, length);
+    }
+
+    /**
+     * Creates a primitive {@link BigIntIndexIterable} from the specified long-indexed {@link BigIntIndexable} with the given length.
+     * Elements are read without boxing.
+     *
+     * @param indexable the source indexable
+     * @param length    the number of elements to iterate over
+     * @return a {@link BigIntIndexIterable} instance
+     * @throws NullPointerException           if indexable is null
+     * @throws ArrayIndexOutOfBoundsException if length is negative
+     */
+    public static BigIntIndexIterable of(BigIntIndexable indexable, long length) {
+        Objects.requireNonNull(indexable);
+        Util.checkLength(length);
+        return new BigIntIndexIterable(indexable, 0, length);
+    }
+
+    /**
+     * Creates a primitive {@link BigLongIndexIterable} from the specified long-indexed {@link BigLongIndexable} with the given length.
+     * Elements are read without boxing.
+     *
+     * @param indexable the source indexable
+     * @param length    the number of elements to iterate over
+     * @return a {@link BigLongIndexIterable} instance
+     * @throws NullPointerException           if indexable is null
+     * @throws ArrayIndexOutOfBoundsException if length is negative
+     */
+    public static BigLongIndexIterable of(BigLongIndexable indexable, long length) {
+        Objects.requireNonNull(indexable);
+        Util.checkLength(length);
+        return new BigLongIndexIterable(indexable, 0, length);
+    }
+
+    /**
+     * Creates a primitive {@link BigDoubleIndexIterable} from the specified long-indexed {@link BigDoubleIndexable} with the given length.
+     * Elements are read without boxing.
+     *
+     * @param indexable the source indexable
+     * @param length    the number of elements to iterate over
+     * @return a {@link BigDoubleIndexIterable} instance
+     * @throws NullPointerException           if indexable is null
+     * @throws ArrayIndexOutOfBoundsException if length is negative
+     */
+    public static BigDoubleIndexIterable of(BigDoubleIndexable indexable, long length) {
+        Objects.requireNonNull(indexable);
+        Util.checkLength(length);
+        return new BigDoubleIndexIterable(indexable, 0, length);
+    }
 }
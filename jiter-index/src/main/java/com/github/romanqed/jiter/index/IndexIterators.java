@@ -2,6 +2,7 @@ package com.github.romanqed.jiter.index;
 
 import java.util.Iterator;
 import java.util.Objects;
+import java.util.PrimitiveIterator;
 
 /**
  * A utility class providing factory methods for creating {@link Iterator} instances
@@ -29,6 +30,100 @@ public final class IndexIterators {
         return new IndexIterator<>(indexable, length, 0);
     }
 
+    /**
+     * Creates an {@link Iterator} over every {@code step}-th element of the range {@code [start, end)} of the specified {@link Indexable}.
+     * <p>
+     * A positive step starts at {@code start}; a negative step walks the range backwards starting at {@code end - 1}.
+     *
+     * @param indexable the source indexable
+     * @param start     the starting index (inclusive)
+     * @param end       the ending index (exclusive)
+     * @param step      the distance between consecutive elements, must not be zero
+     * @param <E>       the type of elements
+     * @return an {@link Iterator} over the selected elements
+     * @throws NullPointerException           if indexable is null
+     * @throws ArrayIndexOutOfBoundsException if start is negative or greater than end
+     * @throws IllegalArgumentException       if step is zero
+     */
+    public static <E> Iterator<E> of(Indexable<E> indexable, int start, int end, int step) {
+        Objects.requireNonNull(indexable);
+        Util.checkBounds(start, end);
+        Util.checkStep(step);
+        return new StridedIndexIterator<>(indexable, Util.strideOffset(start, end, step), step, Util.strideCount(start, end, step), 0);
+    }
+
+    /**
+     * Creates an {@link Iterator} over the first {@code length} elements of the specified {@link Indexable} in descending index order.
+     *
+     * @param indexable the source indexable
+     * @param length    the number of elements to iterate over
+     * @param <E>       the type of elements
+     * @return an {@link Iterator} from {@code length - 1} down to {@code 0}
+     * @throws NullPointerException           if indexable is null
+     * @throws ArrayIndexOutOfBoundsException if length is negative
+     */
+    public static <E> Iterator<E> reversed(Indexable<E> indexable, int length) {
+        Objects.requireNonNull(indexable);
+        if (length < 0) {
+            throw new ArrayIndexOutOfBoundsException(length);
+        }
+        return new StridedIndexIterator<>(indexable, length - 1, -1, length, 0);
+    }
+
+    /**
+     * Creates a {@link PrimitiveIterator.OfInt} from the specified {@link IntIndexable} with the given length.
+     * Elements are read without boxing.
+     *
+     * @param indexable the source indexable
+     * @param length    the number of elements to iterate over
+     * @return a {@link PrimitiveIterator.OfInt} instance
+     * @throws NullPointerException           if indexable is null
+     * @throws ArrayIndexOutOfBoundsException if length is negative
+     */
+    public static PrimitiveIterator.OfInt of(IntIndexable indexable, int length) {
+        Objects.requireNonNull(indexable);
+        if (length < 0) {
+            throw new ArrayIndexOutOfBoundsException(length);
+        }
+        return new IntIndexIterator(indexable, length, 0);
+    }
+
+    /**
+     * Creates a {@link PrimitiveIterator.OfLong} from the specified {@link LongIndexable} with the given length.
+     * Elements are read without boxing.
+     *
+     * @param indexable the source indexable
+     * @param length    the number of elements to iterate over
+     * @return a {@link PrimitiveIterator.OfLong} instance
+     * @throws NullPointerException           if indexable is null
+     * @throws ArrayIndexOutOfBoundsException if length is negative
+     */
+    public static PrimitiveIterator.OfLong of(LongIndexable indexable, int length) {
+        Objects.requireNonNull(indexable);
+        if (length < 0) {
+            throw new ArrayIndexOutOfBoundsException(length);
+        }
+        return new LongIndexIterator(indexable, length, 0);
+    }
+
+    /**
+     * Creates a {@link PrimitiveIterator.OfDouble} from the specified {@link DoubleIndexable} with the given length.
+     * Elements are read without boxing.
+     *
+     * @param indexable the source indexable
+     * @param length    the number of elements to iterate over
+     * @return a {@link PrimitiveIterator.OfDouble} instance
+     * @throws NullPointerException           if indexable is null
+     * @throws ArrayIndexOutOfBoundsException if length is negative
+     */
+    public static PrimitiveIterator.OfDouble of(DoubleIndexable indexable, int length) {
+        Objects.requireNonNull(indexable);
+        if (length < 0) {
+            throw new ArrayIndexOutOfBoundsException(length);
+        }
+        return new DoubleIndexIterator(indexable, length, 0);
+    }
+
     /**
      * Creates an {@link Iterator} over a subrange of the specified {@code int[]} array.
      * Elements are boxed to {@link Integer}.
@@ -166,4 +261,68 @@ public final class IndexIterators {
         Objects.requireNonNull(array);
         return new IndexIterator<>(new DoubleArrayIndexable(array), array.length, 0);
     }
+
+    /**
+     * Creates an {@link Iterator} from the specified long-indexed {@link BigIndexable} with the given length.
+     *
+     * @param indexable the source indexable
+     * @param length    the number of elements to iterate over
+     * @param <E>       the type of elements
+     * @return an {@link Iterator} instance
+     * @throws NullPointerException           if indexable is null
+     * @throws ArrayIndexOutOfBoundsException if length is negative
+     */
+    public static <E> Iterator<E> of(BigIndexable<E> indexable, long length) {
+        Objects.requireNonNull(indexable);
+        Util.checkLength(length);
+        return new BigIndexIterator<>(indexable, length, 0);
+    }
+
+    /**
+     * Creates a {@link PrimitiveIterator.OfInt} from the specified long-indexed {@link BigIntIndexable} with the given length.
+     * Elements are read without boxing.
+     *
+     * @param indexable the source indexable
+     * @param length    the number of elements to iterate over
+     * @return a {@link PrimitiveIterator.OfInt} instance
+     * @throws NullPointerException           if indexable is null
+     * @throws ArrayIndexOutOfBoundsException if length is negative
+     */
+    public static PrimitiveIterator.OfInt of(BigIntIndexable indexable, long length) {
+        Objects.requireNonNull(indexable);
+        Util.checkLength(length);
+        return new BigIntIndexIterator(indexable, length, 0);
+    }
+
+    /**
+     * Creates a {@link PrimitiveIterator.OfLong} from the specified long-indexed {@link BigLongIndexable} with the given length.
+     * Elements are read without boxing.
+     *
+     * @param indexable the source indexable
+     * @param length    the number of elements to iterate over
+     * @return a {@link PrimitiveIterator.OfLong} instance
+     * @throws NullPointerException           if indexable is null
+     * @throws ArrayIndexOutOfBoundsException if length is negative
+     */
+    public static PrimitiveIterator.OfLong of(BigLongIndexable indexable, long length) {
+        Objects.requireNonNull(indexable);
+        Util.checkLength(length);
+        return new BigLongIndexIterator(indexable, length, 0);
+    }
+
+    /**
+     * Creates a {@link PrimitiveIterator.OfDouble} from the specified long-indexed {@link BigDoubleIndexable} with the given length.
+     * Elements are read without boxing.
+     *
+     * @param indexable the source indexable
+     * @param length    the number of elements to iterate over
+     * @return a {@link PrimitiveIterator.OfDouble} instance
+     * @throws NullPointerException           if indexable is null
+     * @throws ArrayIndexOutOfBoundsException if length is negative
+     */
+    public static PrimitiveIterator.OfDouble of(BigDoubleIndexable indexable, long length) {
+        Objects.requireNonNull(indexable);
+        Util.checkLength(length);
+        return new BigDoubleIndexIterator(indexable, length, 0);
+    }
 }
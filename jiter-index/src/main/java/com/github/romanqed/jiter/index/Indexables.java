@@ -1,6 +1,8 @@
 package com.github.romanqed.jiter.index;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 /**
  * A utility class providing factory methods to wrap Java arrays in {@link Indexable} views.
@@ -57,4 +59,302 @@ public final class Indexables {
         Objects.requireNonNull(array);
         return new DoubleArrayIndexable(array);
     }
+
+    /**
+     * Wraps the first {@code rows * columns} elements of an {@code int[]} array into a row-major {@link IntGrid}.
+     *
+     * @param array   the array to wrap
+     * @param rows    the number of rows
+     * @param columns the number of columns
+     * @return a two-dimensional view over the array
+     * @throws NullPointerException           if {@code array} is null
+     * @throws ArrayIndexOutOfBoundsException if a dimension is negative or the array holds fewer than {@code rows * columns} elements
+     */
+    public static IntGrid grid(int[] array, int rows, int columns) {
+        Objects.requireNonNull(array);
+        Util.checkGrid(array.length, rows, columns);
+        return new IntGrid(array, 0, rows, columns, columns);
+    }
+
+    /**
+     * Wraps the first {@code rows * columns} elements of a {@code double[]} array into a row-major {@link DoubleGrid}.
+     *
+     * @param array   the array to wrap
+     * @param rows    the number of rows
+     * @param columns the number of columns
+     * @return a two-dimensional view over the array
+     * @throws NullPointerException           if {@code array} is null
+     * @throws ArrayIndexOutOfBoundsException if a dimension is negative or the array holds fewer than {@code rows * columns} elements
+     */
+    public static DoubleGrid grid(double[] array, int rows, int columns) {
+        Objects.requireNonNull(array);
+        Util.checkGrid(array.length, rows, columns);
+        return new DoubleGrid(array, 0, rows, columns, columns);
+    }
+
+    /**
+     * Wraps an {@link AtomicIntegerArray} into an {@link IntIndexable} accessed in the given {@link MemoryOrder}.
+     *
+     * @param array the array to wrap
+     * @param order the memory order of element accesses
+     * @return an indexable view over the array
+     * @throws NullPointerException if {@code array} or {@code order} is null
+     */
+    public static IntIndexable of(AtomicIntegerArray array, MemoryOrder order) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(order);
+        return new AtomicIntArrayIndexable(array, order);
+    }
+
+    /**
+     * Wraps an {@link AtomicLongArray} into a {@link LongIndexable} accessed in the given {@link MemoryOrder}.
+     *
+     * @param array the array to wrap
+     * @param order the memory order of element accesses
+     * @return an indexable view over the array
+     * @throws NullPointerException if {@code array} or {@code order} is null
+     */
+    public static LongIndexable of(AtomicLongArray array, MemoryOrder order) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(order);
+        return new AtomicLongArrayIndexable(array, order);
+    }
+
+    /**
+     * Wraps an {@code int[]} array into an {@link IntIndexable} accessed in the given {@link MemoryOrder}.
+     *
+     * @param array the array to wrap
+     * @param order the memory order of element accesses
+     * @return an indexable view over the array
+     * @throws NullPointerException if {@code array} or {@code order} is null
+     */
+    public static IntIndexable of(int[] array, MemoryOrder order) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(order);
+        return new VarHandleIntArrayIndexable(array, order);
+    }
+
+    /**
+     * Wraps a {@code long[]} array into a {@link LongIndexable} accessed in the given {@link MemoryOrder}.
+     *
+     * @param array the array to wrap
+     * @param order the memory order of element accesses
+     * @return an indexable view over the array
+     * @throws NullPointerException if {@code array} or {@code order} is null
+     */
+    public static LongIndexable of(long[] array, MemoryOrder order) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(order);
+        return new VarHandleLongArrayIndexable(array, order);
+    }
+
+    /**
+     * Wraps a {@code double[]} array into a {@link DoubleIndexable} accessed in the given {@link MemoryOrder}.
+     *
+     * @param array the array to wrap
+     * @param order the memory order of element accesses
+     * @return an indexable view over the array
+     * @throws NullPointerException if {@code array} or {@code order} is null
+     */
+    public static DoubleIndexable of(double[] array, MemoryOrder order) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(order);
+        return new VarHandleDoubleArrayIndexable(array, order);
+    }
+
+    /**
+     * Creates a {@link GatherIndexable} view of {@code values} through the positions of {@code indices}
+     * from {@code start} (inclusive) to {@code end} (exclusive).
+     *
+     * @param values  the indexable to read elements from
+     * @param indices the positions of the elements in {@code values}
+     * @param start   the starting position in {@code indices} (inclusive)
+     * @param end     the ending position in {@code indices} (exclusive)
+     * @param <E>     the type of elements
+     * @return a view whose element {@code i} is {@code values[indices[start + i]]}
+     * @throws NullPointerException           if {@code values} or {@code indices} is null
+     * @throws ArrayIndexOutOfBoundsException if bounds are invalid
+     */
+    public static <E> GatherIndexable<E> gather(Indexable<E> values, int[] indices, int start, int end) {
+        Objects.requireNonNull(values);
+        Objects.requireNonNull(indices);
+        Util.checkBounds(indices.length, start, end);
+        return new GatherIndexable<>(values, indices, start, end - start);
+    }
+
+    /**
+     * Creates a {@link GatherIndexable} view of {@code values} through every position of {@code indices}.
+     *
+     * @param values  the indexable to read elements from
+     * @param indices the positions of the elements in {@code values}
+     * @param <E>     the type of elements
+     * @return a view whose element {@code i} is {@code values[indices[i]]}
+     * @throws NullPointerException if {@code values} or {@code indices} is null
+     */
+    public static <E> GatherIndexable<E> gather(Indexable<E> values, int[] indices) {
+        Objects.requireNonNull(values);
+        Objects.requireNonNull(indices);
+        return new GatherIndexable<>(values, indices, 0, indices.length);
+    }
+
+    /**
+     * Creates a {@link GatherIntIndexable} view of {@code values} through the positions of {@code indices}
+     * from {@code start} (inclusive) to {@code end} (exclusive).
+     *
+     * @param values  the indexable to read elements from
+     * @param indices the positions of the elements in {@code values}
+     * @param start   the starting position in {@code indices} (inclusive)
+     * @param end     the ending position in {@code indices} (exclusive)
+     * @return a view whose element {@code i} is {@code values[indices[start + i]]}
+     * @throws NullPointerException           if {@code values} or {@code indices} is null
+     * @throws ArrayIndexOutOfBoundsException if bounds are invalid
+     */
+    public static GatherIntIndexable gather(IntIndexable values, int[] indices, int start, int end) {
+        Objects.requireNonNull(values);
+        Objects.requireNonNull(indices);
+        Util.checkBounds(indices.length, start, end);
+        return new GatherIntIndexable(values, indices, start, end - start);
+    }
+
+    /**
+     * Creates a {@link GatherIntIndexable} view of {@code values} through every position of {@code indices}.
+     *
+     * @param values  the indexable to read elements from
+     * @param indices the positions of the elements in {@code values}
+     * @return a view whose element {@code i} is {@code values[indices[i]]}
+     * @throws NullPointerException if {@code values} or {@code indices} is null
+     */
+    public static GatherIntIndexable gather(IntIndexable values, int[] indices) {
+        Objects.requireNonNull(values);
+        Objects.requireNonNull(indices);
+        return new GatherIntIndexable(values, indices, 0, indices.length);
+    }
+
+    /**
+     * Creates a {@link GatherLongIndexable} view of {@code values} through the positions of {@code indices}
+     * from {@code start} (inclusive) to {@code end} (exclusive).
+     *
+     * @param values  the indexable to read elements from
+     * @param indices the positions of the elements in {@code values}
+     * @param start   the starting position in {@code indices} (inclusive)
+     * @param end     the ending position in {@code indices} (exclusive)
+     * @return a view whose element {@code i} is {@code values[indices[start + i]]}
+     * @throws NullPointerException           if {@code values} or {@code indices} is null
+     * @throws ArrayIndexOutOfBoundsException if bounds are invalid
+     */
+    public static GatherLongIndexable gather(LongIndexable values, int[] indices, int start, int end) {
+        Objects.requireNonNull(values);
+        Objects.requireNonNull(indices);
+        Util.checkBounds(indices.length, start, end);
+        return new GatherLongIndexable(values, indices, start, end - start);
+    }
+
+    /**
+     * Creates a {@link GatherLongIndexable} view of {@code values} through every position of {@code indices}.
+     *
+     * @param values  the indexable to read elements from
+     * @param indices the positions of the elements in {@code values}
+     * @return a view whose element {@code i} is {@code values[indices[i]]}
+     * @throws NullPointerException if {@code values} or {@code indices} is null
+     */
+    public static GatherLongIndexable gather(LongIndexable values, int[] indices) {
+        Objects.requireNonNull(values);
+        Objects.requireNonNull(indices);
+        return new GatherLongIndexable(values, indices, 0, indices.length);
+    }
+
+    /**
+     * Creates a {@link GatherDoubleIndexable} view of {@code values} through the positions of {@code indices}
+     * from {@code start} (inclusive) to {@code end} (exclusive).
+     *
+     * @param values  the indexable to read elements from
+     * @param indices the positions of the elements in {@code values}
+     * @param start   the starting position in {@code indices} (inclusive)
+     * @param end     the ending position in {@code indices} (exclusive)
+     * @return a view whose element {@code i} is {@code values[indices[start + i]]}
+     * @throws NullPointerException           if {@code values} or {@code indices} is null
+     * @throws ArrayIndexOutOfBoundsException if bounds are invalid
+     */
+    public static GatherDoubleIndexable gather(DoubleIndexable values, int[] indices, int start, int end) {
+        Objects.requireNonNull(values);
+        Objects.requireNonNull(indices);
+        Util.checkBounds(indices.length, start, end);
+        return new GatherDoubleIndexable(values, indices, start, end - start);
+    }
+
+    /**
+     * Creates a {@link GatherDoubleIndexable} view of {@code values} through every position of {@code indices}.
+     *
+     * @param values  the indexable to read elements from
+     * @param indices the positions of the elements in {@code values}
+     * @return a view whose element {@code i} is {@code values[indices[i]]}
+     * @throws NullPointerException if {@code values} or {@code indices} is null
+     */
+    public static GatherDoubleIndexable gather(DoubleIndexable values, int[] indices) {
+        Objects.requireNonNull(values);
+        Objects.requireNonNull(indices);
+        return new GatherDoubleIndexable(values, indices, 0, indices.length);
+    }
+
+    /**
+     * Wraps {@code length} elements of a circular {@code long[]} buffer, starting at {@code head} and wrapping
+     * around the end of the array, into a {@link LongRingIndexable}.
+     *
+     * @param array  the circular array to wrap
+     * @param head   the index in {@code array} of the first element
+     * @param length the number of elements, at most {@code array.length}
+     * @return a contiguous view over the possibly wrapped window
+     * @throws NullPointerException           if {@code array} is null
+     * @throws ArrayIndexOutOfBoundsException if {@code head} is outside the array or {@code length} is negative
+     *                                        or greater than {@code array.length}
+     */
+    public static LongRingIndexable ring(long[] array, int head, int length) {
+        Objects.requireNonNull(array);
+        Util.checkRing(array.length, head, length);
+        return new LongRingIndexable(array, head, length);
+    }
+
+    /**
+     * Wraps {@code length} elements of a circular {@code double[]} buffer, starting at {@code head} and wrapping
+     * around the end of the array, into a {@link DoubleRingIndexable}.
+     *
+     * @param array  the circular array to wrap
+     * @param head   the index in {@code array} of the first element
+     * @param length the number of elements, at most {@code array.length}
+     * @return a contiguous view over the possibly wrapped window
+     * @throws NullPointerException           if {@code array} is null
+     * @throws ArrayIndexOutOfBoundsException if {@code head} is outside the array or {@code length} is negative
+     *                                        or greater than {@code array.length}
+     */
+    public static DoubleRingIndexable ring(double[] array, int head, int length) {
+        Objects.requireNonNull(array);
+        Util.checkRing(array.length, head, length);
+        return new DoubleRingIndexable(array, head, length);
+    }
+
+    /**
+     * Packs a {@code int[]} array into a bit-packed {@link PackedIntIndexable}, using the smallest element
+     * as the base and the fewest bits that hold the difference to the largest one. The array is not retained.
+     *
+     * @param array the array to pack
+     * @return a packed copy of the array
+     * @throws NullPointerException if {@code array} is null
+     */
+    public static PackedIntIndexable pack(int[] array) {
+        Objects.requireNonNull(array);
+        return PackedIntIndexable.encode(array);
+    }
+
+    /**
+     * Packs a {@code long[]} array into a bit-packed {@link PackedLongIndexable}, using the smallest element
+     * as the base and the fewest bits that hold the difference to the largest one. The array is not retained.
+     *
+     * @param array the array to pack
+     * @return a packed copy of the array
+     * @throws NullPointerException if {@code array} is null
+     */
+    public static PackedLongIndexable pack(long[] array) {
+        Objects.requireNonNull(array);
+        return PackedLongIndexable.encode(array);
+    }
 }
@@ -1,9 +1,9 @@
 package com.github.romanqed.jiter.index;
 
 /**
- * A boxed {@link Indexable} wrapper over an {@code int[]} array.
+ * An {@link IntIndexable} wrapper over an {@code int[]} array.
  */
-public final class IntArrayIndexable implements Indexable<Integer> {
+public final class IntArrayIndexable implements IntIndexable {
     private final int[] array;
 
     /**
@@ -16,12 +16,12 @@ public final class IntArrayIndexable implements Indexable<Integer> {
     }
 
     @Override
-    public Integer get(int index) {
+    public int getInt(int index) {
         return array[index];
     }
 
     @Override
-    public void set(int index, Integer val) {
+    public void setInt(int index, int val) {
         array[index] = val;
     }
 }
@@ -0,0 +1,17 @@
+package com.github.romanqed.jiter.index;
+
+/**
+ * Represents an operation that accepts a cell of a {@link IntGrid}: its row, its column and its {@code int} value.
+ */
+@FunctionalInterface
+public interface IntCellConsumer {
+
+    /**
+     * Performs this operation on the given cell.
+     *
+     * @param row    the row of the cell
+     * @param column the column of the cell
+     * @param value  the value of the cell
+     */
+    void accept(int row, int column, int value);
+}
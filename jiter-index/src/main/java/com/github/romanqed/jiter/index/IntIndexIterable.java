@@ -0,0 +1,53 @@
+package com.github.romanqed.jiter.index;
+
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * A lightweight {@link Iterable} over a range of an {@link IntIndexable} source,
+ * exposing {@link PrimitiveIterator.OfInt} and {@link Spliterator.OfInt} to avoid boxing.
+ */
+public final class IntIndexIterable implements PrimitiveIndexIterable<Integer, IntConsumer, Spliterator.OfInt> {
+    private final IntIndexable indexable;
+    private final int start;
+    private final int end;
+
+    /**
+     * Constructs an iterable over the specified {@link IntIndexable} from {@code start} (inclusive) to {@code end} (exclusive).
+     *
+     * @param indexable the indexable to iterate over
+     * @param start     the starting index (inclusive)
+     * @param end       the ending index (exclusive)
+     */
+    public IntIndexIterable(IntIndexable indexable, int start, int end) {
+        this.indexable = indexable;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new IntIndexIterator(indexable, end, start);
+    }
+
+    @Override
+    public void forEach(Consumer<? super Integer> action) {
+        for (var i = start; i < end; ++i) {
+            action.accept(indexable.getInt(i));
+        }
+    }
+
+    @Override
+    public void forEach(IntConsumer action) {
+        for (var i = start; i < end; ++i) {
+            action.accept(indexable.getInt(i));
+        }
+    }
+
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new IntIndexSpliterator(indexable, end, start);
+    }
+}
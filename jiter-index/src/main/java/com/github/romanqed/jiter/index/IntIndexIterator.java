@@ -0,0 +1,68 @@
+package com.github.romanqed.jiter.index;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * An immutable {@link PrimitiveIterator.OfInt} implementation over an {@link IntIndexable} range.
+ */
+public final class IntIndexIterator implements PrimitiveIterator.OfInt {
+    private final IntIndexable indexable;
+    private final int end;
+    private int index;
+
+    /**
+     * Creates a new iterator over the given {@link IntIndexable} from {@code index} (inclusive) to {@code end} (exclusive).
+     *
+     * @param indexable the underlying indexable source
+     * @param end       the end index (exclusive)
+     * @param index     the start index (inclusive)
+     */
+    public IntIndexIterator(IntIndexable indexable, int end, int index) {
+        this.indexable = indexable;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < end;
+    }
+
+    @Override
+    public int nextInt() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return indexable.getInt(index++);
+    }
+
+    @Override
+    public Integer next() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return indexable.getInt(index++);
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Immutable iterator");
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        while (index < end) {
+            action.accept(indexable.getInt(index++));
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Integer> action) {
+        while (index < end) {
+            action.accept(indexable.getInt(index++));
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.github.romanqed.jiter.index;
+
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+/**
+ * A {@link Spliterator.OfInt} over an {@link IntIndexable} range.
+ * <p>
+ * Splits in constant time by halving the remaining {@code [index, end)} range and reads elements
+ * directly through {@link IntIndexable#getInt(int)} without boxing.
+ */
+public final class IntIndexSpliterator implements Spliterator.OfInt {
+    private final IntIndexable indexable;
+    private final int end;
+    private int index;
+
+    /**
+     * Creates a new spliterator over the given {@link IntIndexable} from {@code index} (inclusive) to {@code end} (exclusive).
+     *
+     * @param indexable the underlying indexable source
+     * @param end       the end index (exclusive)
+     * @param index     the start index (inclusive)
+     */
+    public IntIndexSpliterator(IntIndexable indexable, int end, int index) {
+        this.indexable = indexable;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+        if (index >= end) {
+            return false;
+        }
+        action.accept(indexable.getInt(index++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        var i = index;
+        index = end;
+        for (; i < end; ++i) {
+            action.accept(indexable.getInt(i));
+        }
+    }
+
+    @Override
+    public Spliterator.OfInt trySplit() {
+        var low = index;
+        var mid = (low + end) >>> 1;
+        if (low >= mid) {
+            return null;
+        }
+        index = mid;
+        return new IntIndexSpliterator(indexable, mid, low);
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+}
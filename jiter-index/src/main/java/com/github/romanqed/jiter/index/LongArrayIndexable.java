@@ -1,9 +1,9 @@
 package com.github.romanqed.jiter.index;
 
 /**
- * A boxed {@link Indexable} wrapper over a {@code long[]} array.
+ * A {@link LongIndexable} wrapper over a {@code long[]} array.
  */
-public final class LongArrayIndexable implements Indexable<Long> {
+public final class LongArrayIndexable implements LongIndexable {
     private final long[] array;
 
     /**
@@ -16,12 +16,12 @@ public final class LongArrayIndexable implements Indexable<Long> {
     }
 
     @Override
-    public Long get(int index) {
+    public long getLong(int index) {
         return array[index];
     }
 
     @Override
-    public void set(int index, Long val) {
+    public void setLong(int index, long val) {
         array[index] = val;
     }
 }
@@ -0,0 +1,53 @@
+package com.github.romanqed.jiter.index;
+
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * A lightweight {@link Iterable} over a range of a {@link LongIndexable} source,
+ * exposing {@link PrimitiveIterator.OfLong} and {@link Spliterator.OfLong} to avoid boxing.
+ */
+public final class LongIndexIterable implements PrimitiveIndexIterable<Long, LongConsumer, Spliterator.OfLong> {
+    private final LongIndexable indexable;
+    private final int start;
+    private final int end;
+
+    /**
+     * Constructs an iterable over the specified {@link LongIndexable} from {@code start} (inclusive) to {@code end} (exclusive).
+     *
+     * @param indexable the indexable to iterate over
+     * @param start     the starting index (inclusive)
+     * @param end       the ending index (exclusive)
+     */
+    public LongIndexIterable(LongIndexable indexable, int start, int end) {
+        this.indexable = indexable;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new LongIndexIterator(indexable, end, start);
+    }
+
+    @Override
+    public void forEach(Consumer<? super Long> action) {
+        for (var i = start; i < end; ++i) {
+            action.accept(indexable.getLong(i));
+        }
+    }
+
+    @Override
+    public void forEach(LongConsumer action) {
+        for (var i = start; i < end; ++i) {
+            action.accept(indexable.getLong(i));
+        }
+    }
+
+    @Override
+    public Spliterator.OfLong spliterator() {
+        return new LongIndexSpliterator(indexable, end, start);
+    }
+}
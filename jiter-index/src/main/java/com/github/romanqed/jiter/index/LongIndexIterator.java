@@ -0,0 +1,68 @@
+package com.github.romanqed.jiter.index;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * An immutable {@link PrimitiveIterator.OfLong} implementation over a {@link LongIndexable} range.
+ */
+public final class LongIndexIterator implements PrimitiveIterator.OfLong {
+    private final LongIndexable indexable;
+    private final int end;
+    private int index;
+
+    /**
+     * Creates a new iterator over the given {@link LongIndexable} from {@code index} (inclusive) to {@code end} (exclusive).
+     *
+     * @param indexable the underlying indexable source
+     * @param end       the end index (exclusive)
+     * @param index     the start index (inclusive)
+     */
+    public LongIndexIterator(LongIndexable indexable, int end, int index) {
+        this.indexable = indexable;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < end;
+    }
+
+    @Override
+    public long nextLong() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return indexable.getLong(index++);
+    }
+
+    @Override
+    public Long next() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return indexable.getLong(index++);
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Immutable iterator");
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        while (index < end) {
+            action.accept(indexable.getLong(index++));
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Long> action) {
+        while (index < end) {
+            action.accept(indexable.getLong(index++));
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.github.romanqed.jiter.index;
+
+/**
+ * A primitive specialization of {@link Indexable} for {@code long} values.
+ * <p>
+ * The boxed {@link #get(int)} and {@link #set(int, Long)} methods delegate to their primitive counterparts.
+ */
+public interface LongIndexable extends Indexable<Long> {
+
+    /**
+     * Returns the {@code long} element at the specified index.
+     *
+     * @param index the element index
+     * @return the element at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    long getLong(int index);
+
+    /**
+     * Replaces the element at the specified index with the specified {@code long} value.
+     *
+     * @param index the index of the element to replace
+     * @param val   the value to store at the specified position
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    void setLong(int index, long val);
+
+    @Override
+    default Long get(int index) {
+        return getLong(index);
+    }
+
+    @Override
+    default void set(int index, Long val) {
+        setLong(index, val);
+    }
+}
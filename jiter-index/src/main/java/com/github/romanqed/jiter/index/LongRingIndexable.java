@@ -0,0 +1,54 @@
+package com.github.romanqed.jiter.index;
+
+import java.util.Objects;
+
+/**
+ * A {@link LongIndexable} view over a window of a circular {@code long[]} buffer.
+ * <p>
+ * Index {@code i} of the view maps to {@code array[(head + i) % array.length]}, so a window that wraps around
+ * the end of the array is addressed as one contiguous range and can be traversed, for example with
+ * {@link IndexIterables}, without copying it out.
+ */
+public final class LongRingIndexable implements LongIndexable {
+    private final long[] array;
+    private final int head;
+    private final int length;
+
+    /**
+     * Constructs a view of {@code length} elements of the circular array starting at {@code head}.
+     *
+     * @param array  the backing circular array
+     * @param head   the index in {@code array} of the first element of the view
+     * @param length the number of elements, at most {@code array.length}
+     */
+    public LongRingIndexable(long[] array, int head, int length) {
+        this.array = array;
+        this.head = head;
+        this.length = length;
+    }
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return the number of elements
+     */
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public long getLong(int index) {
+        Objects.checkIndex(index, length);
+        return array[physical(index)];
+    }
+
+    @Override
+    public void setLong(int index, long val) {
+        Objects.checkIndex(index, length);
+        array[physical(index)] = val;
+    }
+
+    private int physical(int index) {
+        return index < array.length - head ? head + index : index - (array.length - head);
+    }
+}
@@ -0,0 +1,27 @@
+package com.github.romanqed.jiter.index;
+
+/**
+ * The memory ordering used to access elements that other threads may access concurrently.
+ * <p>
+ * The modes follow {@link java.lang.invoke.VarHandle} access modes, from the weakest to the strongest.
+ */
+public enum MemoryOrder {
+    /**
+     * Plain reads and writes, with no ordering or visibility guarantees beyond those of ordinary field access.
+     */
+    PLAIN,
+    /**
+     * Opaque reads and writes: accesses to the same element are coherent and eventually visible,
+     * but no ordering with respect to other variables is implied.
+     */
+    OPAQUE,
+    /**
+     * Acquire reads and release writes: a reader that observes a released value also observes
+     * every write the writer made before it.
+     */
+    ACQUIRE,
+    /**
+     * Volatile reads and writes, totally ordered with all other volatile accesses.
+     */
+    VOLATILE
+}
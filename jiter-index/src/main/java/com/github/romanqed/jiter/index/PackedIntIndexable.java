@@ -0,0 +1,84 @@
+package com.github.romanqed.jiter.index;
+
+import java.util.Objects;
+
+/**
+ * An {@link IntIndexable} over {@code int} values bit-packed with frame-of-reference encoding.
+ * <p>
+ * Every element is stored as its unsigned offset from a base value using a fixed number of bits, back to back
+ * in a {@code long[]}, least significant bit first. Reads and writes take constant time; a write fails if the
+ * new value cannot be expressed within the bit width above the base, which are both fixed when packing.
+ */
+public final class PackedIntIndexable implements IntIndexable {
+    private final long[] words;
+    private final int base;
+    private final int bits;
+    private final int length;
+
+    /**
+     * Constructs an indexable over already packed data.
+     *
+     * @param words  the packed elements followed by one padding word
+     * @param base   the value added to every unpacked offset
+     * @param bits   the number of bits per element
+     * @param length the number of elements
+     */
+    public PackedIntIndexable(long[] words, int base, int bits, int length) {
+        this.words = words;
+        this.base = base;
+        this.bits = bits;
+        this.length = length;
+    }
+
+    static PackedIntIndexable encode(int[] values) {
+        var min = values.length > 0 ? values[0] : 0;
+        var max = min;
+        for (var value : values) {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        var bits = Util.packedBits(Integer.toUnsignedLong(max - min));
+        var words = Util.packedWords(values.length, bits);
+        for (var i = 0; i < values.length; ++i) {
+            Util.packedSet(words, bits, i, Integer.toUnsignedLong(values[i] - min));
+        }
+        return new PackedIntIndexable(words, min, bits, values.length);
+    }
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return the number of elements
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Returns the number of bits every element is packed into.
+     *
+     * @return the bit width, from {@code 0} up to {@code 32}
+     */
+    public int bits() {
+        return bits;
+    }
+
+    @Override
+    public int getInt(int index) {
+        Objects.checkIndex(index, length);
+        return base + (int) Util.packedGet(words, bits, index);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if {@code val - base} does not fit in {@link #bits()} bits
+     */
+    @Override
+    public void setInt(int index, int val) {
+        Objects.checkIndex(index, length);
+        var offset = Integer.toUnsignedLong(val - base);
+        Util.checkPacked(offset, bits);
+        Util.packedSet(words, bits, index, offset);
+    }
+}
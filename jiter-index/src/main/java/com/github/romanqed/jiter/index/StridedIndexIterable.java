@@ -0,0 +1,53 @@
+package com.github.romanqed.jiter.index;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * An {@link Iterable} view over every {@code step}-th element of an {@link Indexable} range.
+ * <p>
+ * A negative step walks the elements backwards. Nothing is copied and elements are read through {@link Indexable#get(int)}.
+ *
+ * @param <T> the type of elements returned by this iterable
+ */
+public final class StridedIndexIterable<T> implements Iterable<T> {
+    private final Indexable<T> indexable;
+    private final int offset;
+    private final int step;
+    private final int count;
+
+    /**
+     * Constructs an iterable over {@code count} elements, starting at {@code offset} and advancing by {@code step}.
+     *
+     * @param indexable the source indexable
+     * @param offset the index of the first element
+     * @param step   the distance between consecutive elements, negative to walk backwards
+     * @param count  the number of elements
+     */
+    public StridedIndexIterable(Indexable<T> indexable, int offset, int step, int count) {
+        this.indexable = indexable;
+        this.offset = offset;
+        this.step = step;
+        this.count = count;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new StridedIndexIterator<>(indexable, offset, step, count, 0);
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        var position = offset;
+        for (var i = 0; i < count; ++i) {
+            action.accept(indexable.get(position));
+            position += step;
+        }
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return new StridedIndexSpliterator<>(indexable, offset, step, count, 0);
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.romanqed.jiter.index;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} over every {@code step}-th element of an {@link Indexable} range.
+ * <p>
+ * Splits in constant time by halving the remaining range of sequence positions.
+ *
+ * @param <T> the element type
+ */
+public final class StridedIndexSpliterator<T> implements Spliterator<T> {
+    private final Indexable<T> indexable;
+    private final int offset;
+    private final int step;
+    private final int end;
+    private int index;
+
+    /**
+     * Constructs a new spliterator over the elements {@code index} (inclusive) to {@code end} (exclusive)
+     * of the sequence {@code offset, offset + step, offset + 2 * step, ...}.
+     *
+     * @param indexable the source indexable
+     * @param offset the index of the first element of the sequence
+     * @param step   the distance between consecutive elements, negative to walk backwards
+     * @param end    the sequence position to stop at (exclusive)
+     * @param index  the sequence position to start from (inclusive)
+     */
+    public StridedIndexSpliterator(Indexable<T> indexable, int offset, int step, int end, int index) {
+        this.indexable = indexable;
+        this.offset = offset;
+        this.step = step;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (index >= end) {
+            return false;
+        }
+        action.accept(indexable.get(offset + index++ * step));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        var i = index;
+        index = end;
+        for (var position = offset + i * step; i < end; ++i) {
+            action.accept(indexable.get(position));
+            position += step;
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        var low = index;
+        var mid = (low + end) >>> 1;
+        if (low >= mid) {
+            return null;
+        }
+        index = mid;
+        return new StridedIndexSpliterator<>(indexable, offset, step, mid, low);
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+}
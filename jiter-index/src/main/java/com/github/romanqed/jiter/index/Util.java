@@ -1,6 +1,9 @@
 package com.github.romanqed.jiter.index;
 
 final class Util {
+    static final int PAGE_SHIFT = 20;
+    static final int PAGE_MASK = (1 << PAGE_SHIFT) - 1;
+
     private Util() {
     }
 
@@ -24,4 +27,111 @@ final class Util {
             throw new ArrayIndexOutOfBoundsException("start(" + start + ") > end(" + end + ")");
         }
     }
+
+    static void checkStep(int step) {
+        if (step == 0) {
+            throw new IllegalArgumentException("step == 0");
+        }
+    }
+
+    static int strideOffset(int start, int end, int step) {
+        return step > 0 ? start : end - 1;
+    }
+
+    static int strideCount(int start, int end, int step) {
+        return start == end ? 0 : (int) ((end - start - 1) / Math.abs((long) step) + 1);
+    }
+
+    static void checkGrid(int length, int rows, int columns) {
+        if (rows < 0) {
+            throw new ArrayIndexOutOfBoundsException("rows(" + rows + ") < 0");
+        }
+        if (columns < 0) {
+            throw new ArrayIndexOutOfBoundsException("columns(" + columns + ") < 0");
+        }
+        if ((long) rows * columns > length) {
+            throw new ArrayIndexOutOfBoundsException("rows(" + rows + ") * columns(" + columns + ") > " + length);
+        }
+    }
+
+    static void checkRing(int length, int head, int count) {
+        if (head < 0 || (head >= length && head != 0)) {
+            throw new ArrayIndexOutOfBoundsException(head);
+        }
+        if (count < 0 || count > length) {
+            throw new ArrayIndexOutOfBoundsException("count(" + count + ") is outside [0, " + length + "]");
+        }
+    }
+
+    static int packedBits(long range) {
+        return 64 - Long.numberOfLeadingZeros(range);
+    }
+
+    static long packedMask(int bits) {
+        return bits == 0 ? 0 : -1L >>> -bits;
+    }
+
+    static long[] packedWords(int length, int bits) {
+        return new long[Math.toIntExact((((long) length * bits + 63) >>> 6) + 1)];
+    }
+
+    static long packedGet(long[] words, int bits, int index) {
+        var bit = (long) index * bits;
+        var word = (int) (bit >>> 6);
+        var shift = (int) bit & 63;
+        var ret = words[word] >>> shift;
+        if (shift + bits > 64) {
+            ret |= words[word + 1] << -shift;
+        }
+        return ret & packedMask(bits);
+    }
+
+    static void packedSet(long[] words, int bits, int index, long value) {
+        var mask = packedMask(bits);
+        var bit = (long) index * bits;
+        var word = (int) (bit >>> 6);
+        var shift = (int) bit & 63;
+        words[word] = (words[word] & ~(mask << shift)) | (value << shift);
+        if (shift + bits > 64) {
+            words[word + 1] = (words[word + 1] & ~(mask >>> -shift)) | (value >>> -shift);
+        }
+    }
+
+    static void checkPacked(long value, int bits) {
+        if ((value & ~packedMask(bits)) != 0) {
+            throw new IllegalArgumentException("value does not fit in " + bits + " bits above the base");
+        }
+    }
+
+    static void checkTile(int tileRows, int tileColumns) {
+        if (tileRows < 1) {
+            throw new IllegalArgumentException("tileRows(" + tileRows + ") < 1");
+        }
+        if (tileColumns < 1) {
+            throw new IllegalArgumentException("tileColumns(" + tileColumns + ") < 1");
+        }
+    }
+
+    static void checkLength(long length) {
+        if (length < 0) {
+            throw new ArrayIndexOutOfBoundsException("length(" + length + ") < 0");
+        }
+    }
+
+    static void checkIndex(long index, long length) {
+        if (index < 0 || index >= length) {
+            throw new ArrayIndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+        }
+    }
+
+    static int pages(long length) {
+        if (length < 0) {
+            throw new NegativeArraySizeException(Long.toString(length));
+        }
+        return Math.toIntExact((length + PAGE_MASK) >>> PAGE_SHIFT);
+    }
+
+    static int pageLength(long length, int page) {
+        return (int) Math.min(PAGE_MASK + 1, length - ((long) page << PAGE_SHIFT));
+    }
 }
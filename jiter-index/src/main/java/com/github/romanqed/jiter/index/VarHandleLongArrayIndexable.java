@@ -0,0 +1,67 @@
+package com.github.romanqed.jiter.index;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * A {@link LongIndexable} over a {@code long[]} array shared between threads, accessed in a chosen {@link MemoryOrder}.
+ * <p>
+ * Reads use the given mode and writes its counterpart, so {@link MemoryOrder#ACQUIRE} pairs acquire reads
+ * with release writes.
+ */
+public final class VarHandleLongArrayIndexable implements LongIndexable {
+    private static final VarHandle HANDLE = MethodHandles.arrayElementVarHandle(long[].class);
+    private final long[] array;
+    private final MemoryOrder order;
+
+    /**
+     * Constructs a new indexable view over the given array.
+     *
+     * @param array the backing array
+     * @param order the memory order of element accesses
+     */
+    public VarHandleLongArrayIndexable(long[] array, MemoryOrder order) {
+        this.array = array;
+        this.order = order;
+    }
+
+    /**
+     * Returns the memory order of element accesses.
+     *
+     * @return the memory order
+     */
+    public MemoryOrder order() {
+        return order;
+    }
+
+    @Override
+    public long getLong(int index) {
+        switch (order) {
+            case PLAIN:
+                return array[index];
+            case OPAQUE:
+                return (long) HANDLE.getOpaque(array, index);
+            case ACQUIRE:
+                return (long) HANDLE.getAcquire(array, index);
+            default:
+                return (long) HANDLE.getVolatile(array, index);
+        }
+    }
+
+    @Override
+    public void setLong(int index, long val) {
+        switch (order) {
+            case PLAIN:
+                array[index] = val;
+                break;
+            case OPAQUE:
+                HANDLE.setOpaque(array, index, val);
+                break;
+            case ACQUIRE:
+                HANDLE.setRelease(array, index, val);
+                break;
+            default:
+                HANDLE.setVolatile(array, index, val);
+        }
+    }
+}
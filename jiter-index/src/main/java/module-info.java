@@ -3,7 +3,8 @@
  * <p>
  * This module contains abstractions and implementations for working with {@code Indexable<T>} structures,
  * where iteration and access is performed via integer indices. It includes enhanced iterators with indexing,
- * slicing, and range-based access support.
+ * slicing, and range-based access support, as well as {@code long}-indexed big arrays exceeding the
+ * {@code int} range.
  */
 module com.github.romanqed.jiter.index {
     exports com.github.romanqed.jiter.index;
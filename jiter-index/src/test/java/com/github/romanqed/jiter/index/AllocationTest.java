@@ -0,0 +1,280 @@
+package com.github.romanqed.jiter.index;
+
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Fails when a traversal that is meant to be allocation-free allocates on the calling thread.
+ * Every body is measured several times after its setup, the smallest result is compared
+ * against an empty body to cancel out the cost of the measurement itself.
+ */
+public final class AllocationTest {
+    private static final ThreadMXBean THREADS = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final int ATTEMPTS = 10;
+    private static final int ROUNDS = 100;
+    private static final int LENGTH = 1024;
+    private static final int[] INTS = new int[LENGTH];
+    private static final long[] LONGS = new long[LENGTH];
+    private static final double[] DOUBLES = new double[LENGTH];
+    private static final String[] STRINGS = new String[LENGTH];
+
+    static {
+        for (var i = 0; i < LENGTH; ++i) {
+            INTS[i] = i * 1000;
+            LONGS[i] = i * 1_000_000L;
+            DOUBLES[i] = i * 1000.5;
+            STRINGS[i] = "s" + i;
+        }
+    }
+
+    private static void assertNoAllocation(String name, Supplier<Runnable> setup) {
+        enableAllocationCounting();
+        var thread = Thread.currentThread().getId();
+        Runnable empty = () -> {
+        };
+        var baseline = Long.MAX_VALUE;
+        var allocated = Long.MAX_VALUE;
+        for (var i = 0; i < ATTEMPTS; ++i) {
+            var body = setup.get();
+            var before = THREADS.getThreadAllocatedBytes(thread);
+            empty.run();
+            var middle = THREADS.getThreadAllocatedBytes(thread);
+            body.run();
+            var after = THREADS.getThreadAllocatedBytes(thread);
+            baseline = Math.min(baseline, middle - before);
+            allocated = Math.min(allocated, after - middle);
+        }
+        assertEquals(0L, Math.max(0, allocated - baseline), name + " allocated bytes");
+    }
+
+    private static void enableAllocationCounting() {
+        assertTrue(THREADS.isThreadAllocatedMemorySupported(), "thread allocation counting is not supported");
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    public void testForEach() {
+        var sink = new Sink();
+        var strings = IndexIterables.of(new ArrayIndexable<>(STRINGS), LENGTH);
+        var ints = IndexIterables.of(new IntArrayIndexable(INTS), LENGTH);
+        var longs = IndexIterables.of(new LongArrayIndexable(LONGS), LENGTH);
+        var doubles = IndexIterables.of(new DoubleArrayIndexable(DOUBLES), LENGTH);
+        var big = new BigLongArray(LENGTH);
+        var bigs = IndexIterables.of(big, big.length());
+        assertNoAllocation("IndexIterable.forEach", () -> () -> {
+            for (var i = 0; i < ROUNDS; ++i) {
+                strings.forEach(sink);
+            }
+        });
+        assertNoAllocation("IntIndexIterable.forEach", () -> () -> {
+            for (var i = 0; i < ROUNDS; ++i) {
+                ints.forEach((IntConsumer) sink);
+            }
+        });
+        assertNoAllocation("LongIndexIterable.forEach", () -> () -> {
+            for (var i = 0; i < ROUNDS; ++i) {
+                longs.forEach((LongConsumer) sink);
+            }
+        });
+        assertNoAllocation("DoubleIndexIterable.forEach", () -> () -> {
+            for (var i = 0; i < ROUNDS; ++i) {
+                doubles.forEach((DoubleConsumer) sink);
+            }
+        });
+        assertNoAllocation("BigLongIndexIterable.forEach", () -> () -> {
+            for (var i = 0; i < ROUNDS; ++i) {
+                bigs.forEach((LongConsumer) sink);
+            }
+        });
+        assertTrue(sink.sum != 0);
+    }
+
+    @Test
+    public void testGridTraversal() {
+        var sink = new Sink();
+        var grid = Indexables.grid(INTS, 32, 32);
+        var region = grid.region(3, 5, 20, 17);
+        assertNoAllocation("IntGrid.forEachRowMajor", () -> () -> {
+            for (var i = 0; i < ROUNDS; ++i) {
+                grid.forEachRowMajor(sink);
+            }
+        });
+        assertNoAllocation("IntGrid.forEachTile", () -> () -> {
+            for (var i = 0; i < ROUNDS; ++i) {
+                region.forEachTile(8, 8, sink);
+                region.forEachColumnMajor(sink);
+            }
+        });
+        assertNoAllocation("IntTileSpliterator.forEachRemaining", () -> {
+            var spliterators = new IntTileSpliterator[ROUNDS];
+            for (var i = 0; i < ROUNDS; ++i) {
+                spliterators[i] = region.tileSpliterator(4, 6);
+            }
+            return () -> {
+                for (var spliterator : spliterators) {
+                    spliterator.forEachRemaining((IntCellConsumer) sink);
+                }
+            };
+        });
+        assertNoAllocation("IntTileSpliterator.tryAdvance", () -> {
+            var spliterators = new IntTileSpliterator[ROUNDS];
+            for (var i = 0; i < ROUNDS; ++i) {
+                spliterators[i] = region.tileSpliterator(4, 6);
+            }
+            return () -> {
+                for (var spliterator : spliterators) {
+                    while (spliterator.tryAdvance((IntConsumer) sink)) {
+                        // drain one cell at a time
+                    }
+                }
+            };
+        });
+        assertTrue(sink.sum != 0);
+    }
+
+    @Test
+    public void testIterators() {
+        var sink = new Sink();
+        var strings = new ArrayIndexable<>(STRINGS);
+        assertNoAllocation("IndexIterator.next", () -> {
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            Iterator<String>[] iterators = new Iterator[ROUNDS];
+            for (var i = 0; i < ROUNDS; ++i) {
+                iterators[i] = IndexIterators.of(strings, LENGTH);
+            }
+            return () -> {
+                for (var iterator : iterators) {
+                    while (iterator.hasNext()) {
+                        sink.accept(iterator.next());
+                    }
+                }
+            };
+        });
+        assertNoAllocation("StridedIndexIterator.forEachRemaining", () -> {
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            Iterator<String>[] iterators = new Iterator[ROUNDS];
+            for (var i = 0; i < ROUNDS; ++i) {
+                iterators[i] = IndexIterators.reversed(strings, LENGTH);
+            }
+            return () -> {
+                for (var iterator : iterators) {
+                    iterator.forEachRemaining(sink);
+                }
+            };
+        });
+        var ints = new IntArrayIndexable(INTS);
+        assertNoAllocation("IntIndexIterator.nextInt", () -> {
+            var iterators = new PrimitiveIterator.OfInt[ROUNDS];
+            for (var i = 0; i < ROUNDS; ++i) {
+                iterators[i] = IndexIterators.of(ints, LENGTH);
+            }
+            return () -> {
+                for (var iterator : iterators) {
+                    while (iterator.hasNext()) {
+                        sink.accept(iterator.nextInt());
+                    }
+                }
+            };
+        });
+        var doubles = new DoubleArrayIndexable(DOUBLES);
+        assertNoAllocation("DoubleIndexIterator.forEachRemaining", () -> {
+            var iterators = new PrimitiveIterator.OfDouble[ROUNDS];
+            for (var i = 0; i < ROUNDS; ++i) {
+                iterators[i] = IndexIterators.of(doubles, LENGTH);
+            }
+            return () -> {
+                for (var iterator : iterators) {
+                    iterator.forEachRemaining((DoubleConsumer) sink);
+                }
+            };
+        });
+        assertTrue(sink.sum != 0);
+    }
+
+    @Test
+    public void testSpliterators() {
+        var sink = new Sink();
+        var strings = IndexIterables.of(new ArrayIndexable<>(STRINGS), LENGTH);
+        assertNoAllocation("IndexSpliterator.forEachRemaining", () -> {
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            Spliterator<String>[] spliterators = new Spliterator[ROUNDS];
+            for (var i = 0; i < ROUNDS; ++i) {
+                spliterators[i] = strings.spliterator();
+            }
+            return () -> {
+                for (var spliterator : spliterators) {
+                    spliterator.forEachRemaining(sink);
+                }
+            };
+        });
+        var longs = IndexIterables.of(new LongArrayIndexable(LONGS), LENGTH);
+        assertNoAllocation("LongIndexSpliterator.forEachRemaining", () -> {
+            var spliterators = new Spliterator.OfLong[ROUNDS];
+            for (var i = 0; i < ROUNDS; ++i) {
+                spliterators[i] = longs.spliterator();
+            }
+            return () -> {
+                for (var spliterator : spliterators) {
+                    spliterator.forEachRemaining((LongConsumer) sink);
+                }
+            };
+        });
+        var ints = IndexIterables.of(new IntArrayIndexable(INTS), LENGTH);
+        assertNoAllocation("IntIndexSpliterator.tryAdvance", () -> {
+            var spliterators = new Spliterator.OfInt[ROUNDS];
+            for (var i = 0; i < ROUNDS; ++i) {
+                spliterators[i] = ints.spliterator();
+            }
+            return () -> {
+                for (var spliterator : spliterators) {
+                    while (spliterator.tryAdvance((IntConsumer) sink)) {
+                        // drain one element at a time
+                    }
+                }
+            };
+        });
+        assertTrue(sink.sum != 0);
+    }
+
+    private static final class Sink implements Consumer<String>, IntConsumer, LongConsumer, DoubleConsumer,
+            IntCellConsumer {
+        private double sum;
+
+        @Override
+        public void accept(String value) {
+            sum += value.length();
+        }
+
+        @Override
+        public void accept(int value) {
+            sum += value;
+        }
+
+        @Override
+        public void accept(long value) {
+            sum += value;
+        }
+
+        @Override
+        public void accept(double value) {
+            sum += value;
+        }
+
+        @Override
+        public void accept(int row, int column, int value) {
+            sum += value;
+        }
+    }
+}
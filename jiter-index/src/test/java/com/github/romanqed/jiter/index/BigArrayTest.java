@@ -0,0 +1,114 @@
+package com.github.romanqed.jiter.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class BigArrayTest {
+
+    @Test
+    public void testBeyondIntRange() {
+        var length = 5_000_000_000L;
+        var array = new BigIntArray(length);
+        assertEquals(length, array.length());
+        assertEquals(0, array.getInt(length - 1));
+        array.setInt(length - 1, 42);
+        array.set(3_000_000_000L, 7);
+        assertEquals(42, array.getInt(length - 1));
+        assertEquals(7, array.get(3_000_000_000L));
+        assertEquals(0, array.getInt(3_000_000_001L));
+        assertThrows(IndexOutOfBoundsException.class, () -> array.getInt(length));
+        assertThrows(IndexOutOfBoundsException.class, () -> array.setInt(-1, 0));
+        assertThrows(NegativeArraySizeException.class, () -> new BigLongArray(-1));
+    }
+
+    @Test
+    public void testReferenceArray() {
+        var array = new BigArray<String>(3);
+        assertNull(array.get(1));
+        array.set(1, "b");
+        var it = IndexIterators.of(array, array.length());
+        assertNull(it.next());
+        assertEquals("b", it.next());
+        assertNull(it.next());
+        assertFalse(it.hasNext());
+        assertThrows(NoSuchElementException.class, it::next);
+    }
+
+    @Test
+    public void testPrimitiveIteration() {
+        var array = new BigLongArray(2_000_000);
+        for (var i = 0L; i < array.length(); i += 1000) {
+            array.setLong(i, i);
+        }
+        var iterable = IndexIterables.of(array, array.length());
+        var sum = new long[1];
+        iterable.forEach((LongConsumer) v -> sum[0] += v);
+        var expected = 0L;
+        for (var i = 0L; i < array.length(); i += 1000) {
+            expected += i;
+        }
+        assertEquals(expected, sum[0]);
+        assertEquals(expected, StreamSupport.longStream(iterable.spliterator(), true).sum());
+
+        var doubles = new BigDoubleArray(4);
+        doubles.setDouble(3, 1.5);
+        var it = IndexIterators.of(doubles, 4);
+        it.nextDouble();
+        it.nextDouble();
+        it.nextDouble();
+        assertEquals(1.5, it.nextDouble());
+        assertFalse(it.hasNext());
+
+        assertThrows(NullPointerException.class, () -> IndexIterables.of((BigIntIndexable) null, 0L));
+        assertThrows(IndexOutOfBoundsException.class, () -> IndexIterators.of(new BigIntArray(1), -1L));
+    }
+
+    @Test
+    public void testPageTraversal() {
+        var length = 3L * (1 << 20) + 5;
+        var array = new BigIntArray(length);
+        for (var i = 0L; i < length; i += 999) {
+            if (i >>> 20 != 1) {
+                array.setInt(i, (int) i);
+            }
+        }
+        var expected = 0L;
+        for (var i = 7L; i < length - 3; ++i) {
+            expected += array.getInt(i);
+        }
+        var iterable = new BigIntIndexIterable(array, 7L, length - 3);
+        var sum = new long[1];
+        iterable.forEach((IntConsumer) v -> sum[0] += v);
+        assertEquals(expected, sum[0]);
+        sum[0] = 0;
+        iterable.forEach((Consumer<Integer>) v -> sum[0] += v);
+        assertEquals(expected, sum[0]);
+        sum[0] = 0;
+        var it = iterable.iterator();
+        sum[0] += it.nextInt();
+        it.forEachRemaining((IntConsumer) v -> sum[0] += v);
+        assertFalse(it.hasNext());
+        assertEquals(expected, sum[0]);
+        assertEquals(expected, StreamSupport.intStream(iterable.spliterator(), true).asLongStream().sum());
+    }
+
+    @Test
+    public void testSpliteratorSplit() {
+        var length = 3_000_000_000L;
+        var spliterator = IndexIterables.of(new BigIntArray(length), length).spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        assertEquals(length, spliterator.estimateSize());
+        var prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        assertEquals(length / 2, prefix.estimateSize());
+        assertEquals(length / 2, spliterator.estimateSize());
+    }
+}
@@ -0,0 +1,137 @@
+package com.github.romanqed.jiter.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class GridTest {
+
+    private static int[] matrix(int rows, int columns) {
+        var ret = new int[rows * columns];
+        for (var i = 0; i < ret.length; ++i) {
+            ret[i] = i;
+        }
+        return ret;
+    }
+
+    @Test
+    public void testAccess() {
+        var grid = Indexables.grid(matrix(3, 4), 3, 4);
+        assertEquals(3, grid.rows());
+        assertEquals(4, grid.columns());
+        assertEquals(12, grid.length());
+        assertEquals(6, grid.getInt(1, 2));
+        assertEquals(6, grid.getInt(6));
+        grid.setInt(2, 3, 42);
+        assertEquals(42, grid.getInt(11));
+        assertThrows(IndexOutOfBoundsException.class, () -> grid.getInt(0, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> grid.getInt(3, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> grid.getInt(12));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> Indexables.grid(new int[11], 3, 4));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> Indexables.grid(new int[1], -1, 4));
+        assertThrows(NullPointerException.class, () -> Indexables.grid((int[]) null, 1, 1));
+    }
+
+    @Test
+    public void testRegion() {
+        var grid = Indexables.grid(matrix(4, 5), 4, 5);
+        var region = grid.region(1, 2, 2, 3);
+        assertEquals(7, region.getInt(0, 0));
+        assertEquals(14, region.getInt(1, 2));
+        assertEquals(12, region.getInt(3));
+        region.setInt(1, 0, -1);
+        assertEquals(-1, grid.getInt(2, 2));
+        assertEquals(13, grid.row(2).getInt(3));
+        assertEquals(18, grid.column(3).getInt(3, 0));
+        var values = new ArrayList<Integer>();
+        IndexIterables.of(region, region.length()).forEach((IntConsumer) values::add);
+        assertEquals(List.of(7, 8, 9, -1, 13, 14), values);
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> grid.region(3, 0, 2, 1));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> grid.region(0, 4, 1, 2));
+    }
+
+    @Test
+    public void testTraversalOrders() {
+        var grid = Indexables.grid(matrix(3, 3), 3, 3);
+        var rowMajor = new ArrayList<Integer>();
+        grid.forEachRowMajor((row, column, value) -> {
+            assertEquals(row * 3 + column, value);
+            rowMajor.add(value);
+        });
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8), rowMajor);
+        var columnMajor = new ArrayList<Integer>();
+        grid.forEachColumnMajor((row, column, value) -> columnMajor.add(value));
+        assertEquals(List.of(0, 3, 6, 1, 4, 7, 2, 5, 8), columnMajor);
+        var tiled = new ArrayList<Integer>();
+        grid.forEachTile(2, 2, (row, column, value) -> {
+            assertEquals(row * 3 + column, value);
+            tiled.add(value);
+        });
+        assertEquals(List.of(0, 1, 3, 4, 2, 5, 6, 7, 8), tiled);
+        assertThrows(IllegalArgumentException.class, () -> grid.forEachTile(0, 1, (row, column, value) -> {
+        }));
+    }
+
+    @Test
+    public void testTileSpliterator() {
+        var grid = Indexables.grid(matrix(5, 7), 5, 7);
+        var expected = new ArrayList<Integer>();
+        grid.forEachTile(2, 3, (row, column, value) -> expected.add(value));
+        var spliterator = grid.tileSpliterator(2, 3);
+        assertEquals(35, spliterator.estimateSize());
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+        var actual = new ArrayList<Integer>();
+        assertTrue(spliterator.tryAdvance((IntConsumer) actual::add));
+        assertTrue(spliterator.tryAdvance((row, column, value) -> {
+            assertEquals(0, row);
+            assertEquals(1, column);
+            actual.add(value);
+        }));
+        assertEquals(33, spliterator.estimateSize());
+        var prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        assertEquals(33, prefix.estimateSize() + spliterator.estimateSize());
+        prefix.forEachRemaining((IntConsumer) actual::add);
+        spliterator.forEachRemaining((row, column, value) -> {
+            assertEquals(row * 7 + column, value);
+            actual.add(value);
+        });
+        assertEquals(expected, actual);
+        assertEquals(0, spliterator.estimateSize());
+        assertFalse(spliterator.tryAdvance((IntConsumer) actual::add));
+        var stepped = new ArrayList<Integer>();
+        var steps = grid.tileSpliterator(2, 3);
+        var half = steps.trySplit();
+        assertNotNull(half);
+        while (half.tryAdvance((IntConsumer) stepped::add)) {
+            // drain one cell at a time
+        }
+        while (steps.tryAdvance((IntConsumer) stepped::add)) {
+            // crosses partial tiles at the right and bottom edges
+        }
+        assertEquals(expected, stepped);
+        var region = grid.region(1, 1, 3, 5);
+        var sum = StreamSupport.intStream(region.tileSpliterator(2, 2), true).asLongStream().sum();
+        var plain = new long[1];
+        region.forEachRowMajor((row, column, value) -> plain[0] += value);
+        assertEquals(plain[0], sum);
+        assertNull(Indexables.grid(new int[0], 0, 0).tileSpliterator(1, 1).trySplit());
+    }
+
+    @Test
+    public void testDoubleGrid() {
+        var grid = Indexables.grid(new double[]{1, 2, 3, 4, 5, 6}, 2, 3);
+        assertEquals(5, grid.getDouble(1, 1));
+        var sum = StreamSupport.doubleStream(grid.tileSpliterator(1, 2), true).sum();
+        assertEquals(21, sum);
+        var columnMajor = new ArrayList<Double>();
+        grid.column(2).forEachColumnMajor((row, column, value) -> columnMajor.add(value));
+        assertEquals(List.of(3.0, 6.0), columnMajor);
+    }
+}
@@ -3,6 +3,12 @@ package com.github.romanqed.jiter.index;
 import org.junit.jupiter.api.Test;
 
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -76,4 +82,176 @@ public final class IndexIterableTest {
         assertEquals("c", it.next());
         assertFalse(it.hasNext());
     }
+
+    @Test
+    public void testPrimitiveIndexable() {
+        var ints = IndexIterables.of(new IntArrayIndexable(new int[]{1, 2, 3}), 2);
+        var intIt = ints.iterator();
+        assertEquals(1, intIt.nextInt());
+        assertEquals(2, intIt.nextInt());
+        assertFalse(intIt.hasNext());
+        var sum = new long[1];
+        IndexIterables.of(new LongArrayIndexable(new long[]{10L, 20L, 30L}), 3).forEach((LongConsumer) v -> sum[0] += v);
+        assertEquals(60L, sum[0]);
+        var doubles = IndexIterables.of(new DoubleArrayIndexable(new double[]{1.5, 2.5}), 2);
+        assertEquals(4.0, StreamSupport.doubleStream(doubles.spliterator(), false).sum());
+        assertThrows(NullPointerException.class, () -> IndexIterables.of((IntIndexable) null, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> IndexIterables.of(new IntArrayIndexable(new int[0]), -1));
+    }
+
+    @Test
+    public void testSpliteratorSplit() {
+        var array = new Integer[100];
+        for (var i = 0; i < array.length; ++i) {
+            array[i] = i;
+        }
+        var spliterator = IndexIterables.of(new ArrayIndexable<>(array), array.length).spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        var prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        assertEquals(50, prefix.estimateSize());
+        assertEquals(50, spliterator.estimateSize());
+        assertTrue(prefix.tryAdvance(v -> assertEquals(0, v)));
+        assertTrue(spliterator.tryAdvance(v -> assertEquals(50, v)));
+        var parallel = StreamSupport.stream(IndexIterables.of(new ArrayIndexable<>(array), 100).spliterator(), true);
+        assertEquals(4950, parallel.mapToInt(Integer::intValue).sum());
+        var ints = IndexIterables.of(new IntArrayIndexable(new int[]{1, 2, 3, 4, 5}), 5);
+        assertEquals(15, StreamSupport.intStream(ints.spliterator(), true).sum());
+        var single = IndexIterables.of(new IntArrayIndexable(new int[]{1}), 1).spliterator();
+        assertNull(single.trySplit());
+    }
+
+    @Test
+    public void testStridedAndReversed() {
+        var indexable = new IntArrayIndexable(new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10});
+        assertArrayEquals(new int[]{2, 5, 8}, StreamSupport.stream(IndexIterables.of(indexable, 2, 10, 3).spliterator(), false)
+                .mapToInt(Integer::intValue).toArray());
+        assertArrayEquals(new int[]{9, 6, 3}, StreamSupport.stream(IndexIterables.of(indexable, 2, 10, -3).spliterator(), false)
+                .mapToInt(Integer::intValue).toArray());
+        var reversed = new StringBuilder();
+        IndexIterables.reversed(indexable, 4).forEach(reversed::append);
+        assertEquals("3210", reversed.toString());
+        var spliterator = IndexIterables.of(indexable, 0, 11, 2).spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+        var prefix = spliterator.trySplit();
+        assertEquals(3, prefix.estimateSize());
+        assertEquals(3, spliterator.estimateSize());
+        assertEquals(10 + 8 + 6 + 4 + 2, StreamSupport.stream(IndexIterables.of(indexable, 0, 11, -2).spliterator(), true)
+                .mapToInt(Integer::intValue).sum());
+        assertFalse(IndexIterables.reversed(indexable, 0).iterator().hasNext());
+        assertThrows(IllegalArgumentException.class, () -> IndexIterables.of(indexable, 0, 1, 0));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> IndexIterables.of(indexable, 3, 1, 1));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> IndexIterables.reversed(indexable, -1));
+    }
+
+    @Test
+    public void testMemoryOrderedIndexables() {
+        for (var order : MemoryOrder.values()) {
+            var atomic = new AtomicIntegerArray(4);
+            var ints = Indexables.of(atomic, order);
+            ints.setInt(2, 7);
+            assertEquals(7, atomic.get(2));
+            assertEquals(7, ints.getInt(2));
+            assertEquals(7, ints.get(2));
+            var longs = Indexables.of(new AtomicLongArray(3), order);
+            longs.setLong(1, 5L);
+            var sum = new long[1];
+            IndexIterables.of(longs, 3).forEach((LongConsumer) value -> sum[0] += value);
+            assertEquals(5, sum[0]);
+            var raw = new double[]{1.5, 2.5};
+            var doubles = Indexables.of(raw, order);
+            doubles.setDouble(0, 4.5);
+            assertEquals(4.5, raw[0]);
+            assertEquals(2.5, doubles.getDouble(1));
+            var plain = new long[2];
+            Indexables.of(plain, order).setLong(1, 9);
+            assertEquals(9, plain[1]);
+            assertEquals(0, Indexables.of(new int[1], order).getInt(0));
+        }
+        assertThrows(NullPointerException.class, () -> Indexables.of(new AtomicIntegerArray(1), null));
+        assertThrows(NullPointerException.class, () -> Indexables.of((int[]) null, MemoryOrder.PLAIN));
+    }
+
+    @Test
+    public void testGatherIndexables() {
+        var values = new long[]{5, 6, 7, 8};
+        var view = Indexables.gather(new LongArrayIndexable(values), new int[]{3, 3, 0, 2, 1}, 1, 5);
+        assertEquals(4, view.length());
+        assertEquals(8L, view.getLong(0));
+        var sum = new long[1];
+        IndexIterables.of(view, view.length()).forEach((LongConsumer) value -> sum[0] += value);
+        assertEquals(26, sum[0]);
+        view.setLong(1, 50);
+        assertEquals(50, values[0]);
+        var destination = new long[4];
+        view.gatherInto(destination, 0);
+        assertArrayEquals(new long[]{8, 50, 7, 6}, destination);
+        var grid = Indexables.grid(new double[]{1, 2, 3, 4}, 2, 2);
+        var column = Indexables.gather(grid, new int[]{1, 3});
+        assertEquals(6, StreamSupport.doubleStream(IndexIterables.of(column, column.length()).spliterator(), false).sum());
+        var names = Indexables.gather(Indexables.of(new String[]{"x", "y"}), new int[]{1, 0});
+        assertEquals("y", names.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> view.getLong(4));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> view.gatherInto(new long[3], 0));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> Indexables.gather(grid, new int[2], 1, 3));
+        assertThrows(NullPointerException.class, () -> Indexables.gather((IntIndexable) null, new int[0]));
+    }
+
+    @Test
+    public void testRingIndexables() {
+        var buffer = new long[]{6, 7, 3, 4, 5};
+        var ring = Indexables.ring(buffer, 2, 5);
+        assertEquals(5, ring.length());
+        assertEquals(3, ring.getLong(0));
+        assertEquals(7, ring.getLong(4));
+        var sum = new long[1];
+        IndexIterables.of(ring, ring.length()).forEach((LongConsumer) value -> sum[0] += value);
+        assertEquals(25, sum[0]);
+        ring.setLong(3, 60);
+        assertEquals(60, buffer[0]);
+        var window = Indexables.ring(new double[]{1, 2, 3, 4}, 3, 2);
+        assertEquals(4.0, window.getDouble(0));
+        assertEquals(5, StreamSupport.doubleStream(IndexIterables.of(window, window.length()).spliterator(), true).sum());
+        assertEquals(0, Indexables.ring(new long[0], 0, 0).length());
+        assertThrows(IndexOutOfBoundsException.class, () -> ring.getLong(5));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> Indexables.ring(buffer, 5, 1));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> Indexables.ring(buffer, 0, 6));
+        assertThrows(NullPointerException.class, () -> Indexables.ring((long[]) null, 0, 0));
+    }
+
+    @Test
+    public void testPackedIndexables() {
+        var values = new int[100];
+        for (var i = 0; i < values.length; ++i) {
+            values[i] = 1000 + i * 7 % 61;
+        }
+        var packed = Indexables.pack(values);
+        assertEquals(100, packed.length());
+        assertEquals(6, packed.bits());
+        for (var i = 0; i < values.length; ++i) {
+            assertEquals(values[i], packed.getInt(i));
+        }
+        packed.setInt(10, 1063);
+        packed.setInt(11, 1000);
+        assertEquals(1063, packed.getInt(10));
+        assertEquals(1000, packed.getInt(11));
+        assertEquals(values[12], packed.getInt(12));
+        var sum = StreamSupport.intStream(IndexIterables.of(packed, packed.length()).spliterator(), true).sum();
+        assertEquals(IntStream.of(values).sum() - values[10] - values[11] + 2063, sum);
+        assertThrows(IllegalArgumentException.class, () -> packed.setInt(0, 1064));
+        assertThrows(IllegalArgumentException.class, () -> packed.setInt(0, 999));
+        assertThrows(IndexOutOfBoundsException.class, () -> packed.getInt(100));
+        var longs = Indexables.pack(new long[]{-5, Long.MAX_VALUE, 3});
+        assertEquals(64, longs.bits());
+        assertEquals(Long.MAX_VALUE, longs.getLong(1));
+        longs.setLong(2, Long.MIN_VALUE + 1);
+        assertEquals(Long.MIN_VALUE + 1, longs.getLong(2));
+        assertEquals(-5, longs.getLong(0));
+        var constant = Indexables.pack(new long[]{9, 9, 9});
+        assertEquals(0, constant.bits());
+        assertEquals(9, constant.getLong(2));
+        assertThrows(NullPointerException.class, () -> Indexables.pack((int[]) null));
+    }
 }
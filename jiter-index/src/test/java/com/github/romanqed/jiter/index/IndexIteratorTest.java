@@ -71,4 +71,43 @@ public final class IndexIteratorTest {
         assertEquals("c", it.next());
         assertFalse(it.hasNext());
     }
+
+    @Test
+    public void testPrimitiveIndexable() {
+        var array = new int[]{1, 2, 3};
+        var indexable = new IntArrayIndexable(array);
+        indexable.setInt(0, 5);
+        indexable.set(1, 6);
+        assertEquals(5, array[0]);
+        assertEquals(6, indexable.getInt(1));
+        var it = IndexIterators.of(indexable, 3);
+        assertEquals(5, it.nextInt());
+        assertEquals(6, it.next());
+        assertEquals(3, it.nextInt());
+        assertFalse(it.hasNext());
+        assertThrows(NoSuchElementException.class, it::nextInt);
+        var longIt = IndexIterators.of(new LongArrayIndexable(new long[]{7L}), 1);
+        assertEquals(7L, longIt.nextLong());
+        var doubleIt = IndexIterators.of(new DoubleArrayIndexable(new double[]{0.5}), 1);
+        assertEquals(0.5, doubleIt.nextDouble());
+        assertThrows(NullPointerException.class, () -> IndexIterators.of((LongIndexable) null, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> IndexIterators.of(new DoubleArrayIndexable(new double[0]), -1));
+    }
+
+    @Test
+    public void testStridedAndReversedIterators() {
+        var indexable = new LongArrayIndexable(new long[]{10, 20, 30, 40, 50});
+        var it = IndexIterators.of(indexable, 1, 5, 2);
+        assertEquals(20L, it.next());
+        assertEquals(40L, it.next());
+        assertFalse(it.hasNext());
+        assertThrows(NoSuchElementException.class, it::next);
+        var reversed = IndexIterators.reversed(indexable, 5);
+        assertEquals(50L, reversed.next());
+        var sum = new long[1];
+        reversed.forEachRemaining(value -> sum[0] += value);
+        assertEquals(100, sum[0]);
+        assertThrows(UnsupportedOperationException.class, reversed::remove);
+        assertThrows(NullPointerException.class, () -> IndexIterators.reversed(null, 1));
+    }
 }
@@ -0,0 +1,109 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * A primitive {@link IntIterable} over a range of an {@link AtomicIntegerArray} that other threads may write concurrently.
+ * <p>
+ * Every element is read through the {@link AtomicIntegerArray} access method of the chosen {@link MemoryOrder},
+ * so a reader observes exactly the ordering it asks for without locking.
+ */
+public final class AtomicIntArrayIterable implements IntIterable {
+    private final AtomicIntegerArray array;
+    private final MemoryOrder order;
+    private final int start;
+    private final int end;
+
+    /**
+     * Constructs an iterable over the specified range from {@code start} (inclusive) to {@code end} (exclusive).
+     *
+     * @param array the source array
+     * @param order the memory order of element reads
+     * @param start the starting index (inclusive)
+     * @param end   the ending index (exclusive)
+     */
+    public AtomicIntArrayIterable(AtomicIntegerArray array, MemoryOrder order, int start, int end) {
+        this.array = array;
+        this.order = order;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Returns the memory order of element reads.
+     *
+     * @return the memory order
+     */
+    public MemoryOrder order() {
+        return order;
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new AtomicIntArrayIterator(array, order, end, start);
+    }
+
+    @Override
+    public void forEach(Consumer<? super Integer> action) {
+        switch (order) {
+            case PLAIN:
+                for (var i = start; i < end; ++i) {
+                    action.accept(array.getPlain(i));
+                }
+                break;
+            case OPAQUE:
+                for (var i = start; i < end; ++i) {
+                    action.accept(array.getOpaque(i));
+                }
+                break;
+            case ACQUIRE:
+                for (var i = start; i < end; ++i) {
+                    action.accept(array.getAcquire(i));
+                }
+                break;
+            default:
+                for (var i = start; i < end; ++i) {
+                    action.accept(array.get(i));
+                }
+        }
+    }
+
+    @Override
+    public void forEach(IntConsumer action) {
+        switch (order) {
+            case PLAIN:
+                for (var i = start; i < end; ++i) {
+                    action.accept(array.getPlain(i));
+                }
+                break;
+            case OPAQUE:
+                for (var i = start; i < end; ++i) {
+                    action.accept(array.getOpaque(i));
+                }
+                break;
+            case ACQUIRE:
+                for (var i = start; i < end; ++i) {
+                    action.accept(array.getAcquire(i));
+                }
+                break;
+            default:
+                for (var i = start; i < end; ++i) {
+                    action.accept(array.get(i));
+                }
+        }
+    }
+
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new AtomicIntArraySpliterator(array, order, end, start);
+    }
+
+    @Override
+    public long count() {
+        return end - start;
+    }
+}
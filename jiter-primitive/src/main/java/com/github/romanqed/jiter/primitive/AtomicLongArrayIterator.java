@@ -0,0 +1,114 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * A primitive {@link PrimitiveIterator.OfLong} over a range of an {@link AtomicLongArray} that other threads may write concurrently.
+ * <p>
+ * Elements are read in the {@link MemoryOrder} given at construction. Immutable and non-thread-safe.
+ */
+public final class AtomicLongArrayIterator implements PrimitiveIterator.OfLong {
+    private final AtomicLongArray array;
+    private final MemoryOrder order;
+    private final int end;
+    private int index;
+
+    /**
+     * Constructs a new iterator from {@code index} (inclusive) to {@code end} (exclusive).
+     *
+     * @param array the source array
+     * @param order the memory order of element reads
+     * @param end   the end index (exclusive)
+     * @param index the starting index (inclusive)
+     */
+    public AtomicLongArrayIterator(AtomicLongArray array, MemoryOrder order, int end, int index) {
+        this.array = array;
+        this.order = order;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < end;
+    }
+
+    @Override
+    public long nextLong() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return MemoryAccess.getLong(array, index++, order);
+    }
+
+    @Override
+    public Long next() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return MemoryAccess.getLong(array, index++, order);
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Immutable iterator");
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        var start = index;
+        index = end;
+        switch (order) {
+            case PLAIN:
+                for (var i = start; i < end; ++i) {
+                    action.accept(array.getPlain(i));
+                }
+                break;
+            case OPAQUE:
+                for (var i = start; i < end; ++i) {
+                    action.accept(array.getOpaque(i));
+                }
+                break;
+            case ACQUIRE:
+                for (var i = start; i < end; ++i) {
+                    action.accept(array.getAcquire(i));
+                }
+                break;
+            default:
+                for (var i = start; i < end; ++i) {
+                    action.accept(array.get(i));
+                }
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Long> action) {
+        var start = index;
+        index = end;
+        switch (order) {
+            case PLAIN:
+                for (var i = start; i < end; ++i) {
+                    action.accept(array.getPlain(i));
+                }
+                break;
+            case OPAQUE:
+                for (var i = start; i < end; ++i) {
+                    action.accept(array.getOpaque(i));
+                }
+                break;
+            case ACQUIRE:
+                for (var i = start; i < end; ++i) {
+                    action.accept(array.getAcquire(i));
+                }
+                break;
+            default:
+                for (var i = start; i < end; ++i) {
+                    action.accept(array.get(i));
+                }
+        }
+    }
+}
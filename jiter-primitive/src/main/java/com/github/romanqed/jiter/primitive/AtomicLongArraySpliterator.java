@@ -0,0 +1,91 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongConsumer;
+
+/**
+ * A {@link Spliterator.OfLong} over a range of an {@link AtomicLongArray} that other threads may write concurrently.
+ * <p>
+ * Splits in constant time by halving the remaining range. Elements are read in the {@link MemoryOrder}
+ * given at construction; the size is fixed while the values may change, so the spliterator is not
+ * {@link Spliterator#IMMUTABLE}.
+ */
+public final class AtomicLongArraySpliterator implements Spliterator.OfLong {
+    private final AtomicLongArray array;
+    private final MemoryOrder order;
+    private final int end;
+    private int index;
+
+    /**
+     * Constructs a new spliterator from {@code index} (inclusive) to {@code end} (exclusive).
+     *
+     * @param array the source array
+     * @param order the memory order of element reads
+     * @param end   the end index (exclusive)
+     * @param index the starting index (inclusive)
+     */
+    public AtomicLongArraySpliterator(AtomicLongArray array, MemoryOrder order, int end, int index) {
+        this.array = array;
+        this.order = order;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+        if (index >= end) {
+            return false;
+        }
+        action.accept(MemoryAccess.getLong(array, index++, order));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        var start = index;
+        index = end;
+        switch (order) {
+            case PLAIN:
+                for (var i = start; i < end; ++i) {
+                    action.accept(array.getPlain(i));
+                }
+                break;
+            case OPAQUE:
+                for (var i = start; i < end; ++i) {
+                    action.accept(array.getOpaque(i));
+                }
+                break;
+            case ACQUIRE:
+                for (var i = start; i < end; ++i) {
+                    action.accept(array.getAcquire(i));
+                }
+                break;
+            default:
+                for (var i = start; i < end; ++i) {
+                    action.accept(array.get(i));
+                }
+        }
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit() {
+        var low = index;
+        var mid = (low + end) >>> 1;
+        if (low >= mid) {
+            return null;
+        }
+        index = mid;
+        return new AtomicLongArraySpliterator(array, order, mid, low);
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+}
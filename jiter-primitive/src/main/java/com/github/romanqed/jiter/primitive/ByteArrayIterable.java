@@ -0,0 +1,60 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * A primitive {@link ByteIterable} implementation over a range of a {@code byte[]} array.
+ * <p>
+ * Iterates over the array segment without copying it, widening elements to {@code int} only when requested.
+ */
+public final class ByteArrayIterable implements ByteIterable {
+    private final byte[] array;
+    private final int start;
+    private final int end;
+
+    /**
+     * Constructs an iterable over the specified {@code byte[]} from {@code start} (inclusive) to {@code end} (exclusive).
+     *
+     * @param array the source array
+     * @param start the starting index (inclusive)
+     * @param end   the ending index (exclusive)
+     */
+    public ByteArrayIterable(byte[] array, int start, int end) {
+        this.array = array;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public ByteIterator iterator() {
+        return new ByteArrayIterator(array, end, start);
+    }
+
+    @Override
+    public void forEach(Consumer<? super Integer> action) {
+        for (var i = start; i < end; ++i) {
+            action.accept((int) array[i]);
+        }
+    }
+
+    @Override
+    public void forEach(IntConsumer action) {
+        for (var i = start; i < end; ++i) {
+            action.accept(array[i]);
+        }
+    }
+
+    @Override
+    public void forEachByte(ByteConsumer action) {
+        for (var i = start; i < end; ++i) {
+            action.accept(array[i]);
+        }
+    }
+
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new ByteArraySpliterator(array, end, start);
+    }
+}
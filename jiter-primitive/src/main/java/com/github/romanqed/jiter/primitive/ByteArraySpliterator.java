@@ -0,0 +1,67 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+/**
+ * A {@link Spliterator.OfInt} over a subrange of a {@code byte[]} array, widening each element to {@code int}.
+ * <p>
+ * Splits in constant time by halving the remaining range.
+ */
+public final class ByteArraySpliterator implements Spliterator.OfInt {
+    private final byte[] array;
+    private final int end;
+    private int index;
+
+    /**
+     * Constructs a new spliterator over a {@code byte[]} from {@code index} (inclusive) to {@code end} (exclusive).
+     *
+     * @param array the source array
+     * @param end   the exclusive end index
+     * @param index the starting index (inclusive)
+     */
+    public ByteArraySpliterator(byte[] array, int end, int index) {
+        this.array = array;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+        if (index >= end) {
+            return false;
+        }
+        action.accept(array[index++]);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        var i = index;
+        index = end;
+        for (; i < end; ++i) {
+            action.accept(array[i]);
+        }
+    }
+
+    @Override
+    public Spliterator.OfInt trySplit() {
+        var low = index;
+        var mid = (low + end) >>> 1;
+        if (low >= mid) {
+            return null;
+        }
+        index = mid;
+        return new ByteArraySpliterator(array, mid, low);
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE;
+    }
+}
@@ -0,0 +1,16 @@
+package com.github.romanqed.jiter.primitive;
+
+/**
+ * Represents an operation that accepts a single {@code byte} argument and returns no result.
+ * This is the {@code byte} specialization of {@link java.util.function.Consumer}.
+ */
+@FunctionalInterface
+public interface ByteConsumer {
+
+    /**
+     * Performs this operation on the given argument.
+     *
+     * @param value the input argument
+     */
+    void accept(byte value);
+}
@@ -0,0 +1,23 @@
+package com.github.romanqed.jiter.primitive;
+
+/**
+ * A primitive iterable over {@code byte} values, exposed as {@code int} through {@link IntIterable}
+ * and in their native width through {@link ByteIterator} and {@link ByteConsumer}.
+ */
+public interface ByteIterable extends IntIterable {
+
+    /**
+     * Returns a {@link ByteIterator} over the {@code byte} elements.
+     *
+     * @return a {@link ByteIterator}
+     */
+    @Override
+    ByteIterator iterator();
+
+    /**
+     * Performs the given {@link ByteConsumer} action for each {@code byte} element.
+     *
+     * @param action the action to be performed for each element
+     */
+    void forEachByte(ByteConsumer action);
+}
@@ -0,0 +1,30 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * A {@link PrimitiveIterator.OfInt} over {@code byte} values, widened to {@code int},
+ * that additionally exposes the values in their native width.
+ */
+public interface ByteIterator extends PrimitiveIterator.OfInt {
+
+    /**
+     * Returns the next {@code byte} element in the iteration.
+     *
+     * @return the next element
+     * @throws java.util.NoSuchElementException if the iteration has no more elements
+     */
+    byte nextByte();
+
+    /**
+     * Performs the given {@link ByteConsumer} action for each remaining element.
+     *
+     * @param action the action to be performed for each element
+     */
+    void forEachRemainingByte(ByteConsumer action);
+
+    @Override
+    default int nextInt() {
+        return nextByte();
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * A primitive {@link CharIterable} implementation over a range of a {@code char[]} array.
+ * <p>
+ * Iterates over the array segment without copying it, widening elements to {@code int} only when requested.
+ */
+public final class CharArrayIterable implements CharIterable {
+    private final char[] array;
+    private final int start;
+    private final int end;
+
+    /**
+     * Constructs an iterable over the specified {@code char[]} from {@code start} (inclusive) to {@code end} (exclusive).
+     *
+     * @param array the source array
+     * @param start the starting index (inclusive)
+     * @param end   the ending index (exclusive)
+     */
+    public CharArrayIterable(char[] array, int start, int end) {
+        this.array = array;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public CharIterator iterator() {
+        return new CharArrayIterator(array, end, start);
+    }
+
+    @Override
+    public void forEach(Consumer<? super Integer> action) {
+        for (var i = start; i < end; ++i) {
+            action.accept((int) array[i]);
+        }
+    }
+
+    @Override
+    public void forEach(IntConsumer action) {
+        for (var i = start; i < end; ++i) {
+            action.accept(array[i]);
+        }
+    }
+
+    @Override
+    public void forEachChar(CharConsumer action) {
+        for (var i = start; i < end; ++i) {
+            action.accept(array[i]);
+        }
+    }
+
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new CharArraySpliterator(array, end, start);
+    }
+}
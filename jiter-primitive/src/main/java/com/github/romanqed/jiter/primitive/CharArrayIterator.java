@@ -0,0 +1,84 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * A {@link CharIterator} implementation over a subrange of a {@code char[]} array.
+ * <p>
+ * Immutable and non-thread-safe.
+ */
+public final class CharArrayIterator implements CharIterator {
+    private final char[] array;
+    private final int end;
+    private int index;
+
+    /**
+     * Constructs a new iterator over a {@code char[]} from {@code index} (inclusive) to {@code end} (exclusive).
+     *
+     * @param array the source array
+     * @param end   the exclusive end index
+     * @param index the starting index (inclusive)
+     */
+    public CharArrayIterator(char[] array, int end, int index) {
+        this.array = array;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < end;
+    }
+
+    @Override
+    public char nextChar() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return array[index++];
+    }
+
+    @Override
+    public int nextInt() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return array[index++];
+    }
+
+    @Override
+    public Integer next() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return (int) array[index++];
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Immutable iterator");
+    }
+
+    @Override
+    public void forEachRemainingChar(CharConsumer action) {
+        while (index < end) {
+            action.accept(array[index++]);
+        }
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        while (index < end) {
+            action.accept(array[index++]);
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Integer> action) {
+        while (index < end) {
+            action.accept((int) array[index++]);
+        }
+    }
+}
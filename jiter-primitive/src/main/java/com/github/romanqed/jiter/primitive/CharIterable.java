@@ -0,0 +1,23 @@
+package com.github.romanqed.jiter.primitive;
+
+/**
+ * A primitive iterable over {@code char} values, exposed as {@code int} through {@link IntIterable}
+ * and in their native width through {@link CharIterator} and {@link CharConsumer}.
+ */
+public interface CharIterable extends IntIterable {
+
+    /**
+     * Returns a {@link CharIterator} over the {@code char} elements.
+     *
+     * @return a {@link CharIterator}
+     */
+    @Override
+    CharIterator iterator();
+
+    /**
+     * Performs the given {@link CharConsumer} action for each {@code char} element.
+     *
+     * @param action the action to be performed for each element
+     */
+    void forEachChar(CharConsumer action);
+}
@@ -0,0 +1,30 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * A {@link PrimitiveIterator.OfInt} over {@code char} values, widened to {@code int},
+ * that additionally exposes the values in their native width.
+ */
+public interface CharIterator extends PrimitiveIterator.OfInt {
+
+    /**
+     * Returns the next {@code char} element in the iteration.
+     *
+     * @return the next element
+     * @throws java.util.NoSuchElementException if the iteration has no more elements
+     */
+    char nextChar();
+
+    /**
+     * Performs the given {@link CharConsumer} action for each remaining element.
+     *
+     * @param action the action to be performed for each element
+     */
+    void forEachRemainingChar(CharConsumer action);
+
+    @Override
+    default int nextInt() {
+        return nextChar();
+    }
+}
@@ -0,0 +1,117 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * An immutable sorted sequence of {@code int} values stored as variable-length deltas in a {@code byte[]}.
+ * <p>
+ * Elements are grouped into blocks of {@code blockSize} entries. The first value and the byte offset of every
+ * block are kept in a skip table; the remaining entries of the block are stored as the unsigned difference to
+ * their predecessor in little-endian base-128 varint form, one to five bytes each. Dense sorted identifiers
+ * therefore take one or two bytes per element instead of four.
+ * <p>
+ * Iterators can skip forward with {@link CompressedIntIterator#advanceTo(int)}, which binary searches the skip
+ * table before decoding, and spliterators split at block boundaries so both halves start decoding from a skip entry.
+ */
+public final class CompressedIntSequence implements IntIterable {
+    private final byte[] data;
+    private final int[] values;
+    private final int[] offsets;
+    private final int blockSize;
+    private final int size;
+
+    /**
+     * Constructs a sequence over already encoded data.
+     *
+     * @param data      the encoded deltas
+     * @param values    the first value of every block
+     * @param offsets   the offset in {@code data} of the first delta of every block
+     * @param blockSize the number of entries per block
+     * @param size      the number of elements
+     */
+    public CompressedIntSequence(byte[] data, int[] values, int[] offsets, int blockSize, int size) {
+        this.data = data;
+        this.values = values;
+        this.offsets = offsets;
+        this.blockSize = blockSize;
+        this.size = size;
+    }
+
+    static CompressedIntSequence encode(int[] sorted, int start, int end, int blockSize) {
+        var size = end - start;
+        var blocks = (int) (((long) size + blockSize - 1) / blockSize);
+        var values = new int[blocks];
+        var offsets = new int[blocks];
+        var data = new byte[Math.max(16, size)];
+        var position = 0;
+        var previous = 0;
+        for (var i = 0; i < size; ++i) {
+            var value = sorted[start + i];
+            if (i > 0 && value < previous) {
+                throw new IllegalArgumentException("array is not sorted at index " + (start + i));
+            }
+            if (i % blockSize == 0) {
+                values[i / blockSize] = value;
+                offsets[i / blockSize] = position;
+            } else {
+                if (data.length - position < 5) {
+                    data = Arrays.copyOf(data, Util.grow(data.length, position + 5));
+                }
+                var delta = value - previous;
+                while ((delta & ~0x7F) != 0) {
+                    data[position++] = (byte) (delta | 0x80);
+                    delta >>>= 7;
+                }
+                data[position++] = (byte) delta;
+            }
+            previous = value;
+        }
+        return new CompressedIntSequence(Arrays.copyOf(data, position), values, offsets, blockSize, size);
+    }
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of bytes holding the encoded deltas, excluding the skip table.
+     *
+     * @return the length of the encoded data
+     */
+    public int dataLength() {
+        return data.length;
+    }
+
+    @Override
+    public CompressedIntIterator iterator() {
+        return new CompressedIntIterator(data, values, offsets, blockSize, size, 0);
+    }
+
+    @Override
+    public void forEach(Consumer<? super Integer> action) {
+        CompressedIntSpliterator.decode(data, values, offsets, blockSize, size, 0, 0, 0, action::accept);
+    }
+
+    @Override
+    public void forEach(IntConsumer action) {
+        CompressedIntSpliterator.decode(data, values, offsets, blockSize, size, 0, 0, 0, action);
+    }
+
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new CompressedIntSpliterator(data, values, offsets, blockSize, size, 0);
+    }
+
+    @Override
+    public long count() {
+        return size;
+    }
+}
@@ -0,0 +1,139 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * A primitive {@link PrimitiveIterator.OfLong} over a {@link CompressedLongSequence}.
+ * <p>
+ * Besides sequential decoding, the iterator can skip forward to the first element not less than a target
+ * with {@link #advanceTo(long)}, jumping over whole blocks through the skip table.
+ * Immutable and non-thread-safe.
+ */
+public final class CompressedLongIterator implements PrimitiveIterator.OfLong {
+    private final byte[] data;
+    private final long[] values;
+    private final int[] offsets;
+    private final int blockSize;
+    private final int end;
+    private int index;
+    private int position;
+    private long value;
+
+    /**
+     * Constructs a new iterator over the encoded elements from {@code index} (inclusive) to {@code end} (exclusive).
+     *
+     * @param data      the encoded deltas
+     * @param values    the first value of every block
+     * @param offsets   the offset in {@code data} of the first delta of every block
+     * @param blockSize the number of entries per block
+     * @param end       the end index (exclusive)
+     * @param index     the starting index (inclusive)
+     */
+    public CompressedLongIterator(byte[] data, long[] values, int[] offsets, int blockSize, int end, int index) {
+        this.data = data;
+        this.values = values;
+        this.offsets = offsets;
+        this.blockSize = blockSize;
+        this.end = end;
+        this.index = index / blockSize * blockSize;
+        while (this.index < index) {
+            nextValue();
+        }
+    }
+
+    private long nextValue() {
+        if (index % blockSize == 0) {
+            var block = index / blockSize;
+            position = offsets[block];
+            value = values[block];
+        } else {
+            int read;
+            var delta = 0L;
+            var shift = 0;
+            do {
+                read = data[position++];
+                delta |= (long) (read & 0x7F) << shift;
+                shift += 7;
+            } while (read < 0);
+            value += delta;
+        }
+        ++index;
+        return value;
+    }
+
+    /**
+     * Skips the elements less than {@code target}, so that the next returned element is the first one
+     * not less than it.
+     * <p>
+     * Blocks whose successor starts below {@code target} are skipped by binary search over the skip table,
+     * only the block that may hold the target is decoded.
+     *
+     * @param target the smallest value to stop at
+     * @return {@code true} if an element not less than {@code target} remains
+     */
+    public boolean advanceTo(long target) {
+        if (index >= end) {
+            return false;
+        }
+        var block = index / blockSize;
+        var found = Util.lowerBound(values, block + 1, (end - 1) / blockSize + 1, target) - 1;
+        if (found > block) {
+            index = found * blockSize;
+        }
+        while (index < end) {
+            var savedIndex = index;
+            var savedPosition = position;
+            var savedValue = value;
+            if (nextValue() >= target) {
+                index = savedIndex;
+                position = savedPosition;
+                value = savedValue;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < end;
+    }
+
+    @Override
+    public long nextLong() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return nextValue();
+    }
+
+    @Override
+    public Long next() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return nextValue();
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Immutable iterator");
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        while (index < end) {
+            action.accept(nextValue());
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Long> action) {
+        while (index < end) {
+            action.accept(nextValue());
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+/**
+ * A {@link Spliterator.OfLong} over a {@link CompressedLongSequence}.
+ * <p>
+ * Splits at the block boundary nearest to the middle of the remaining range, so every half starts decoding
+ * from a skip table entry. The split is {@code O(1)}; only a spliterator created at a position inside a block
+ * decodes the entries before that position.
+ */
+public final class CompressedLongSpliterator implements Spliterator.OfLong {
+    private final byte[] data;
+    private final long[] values;
+    private final int[] offsets;
+    private final int blockSize;
+    private final int end;
+    private int index;
+    private int position;
+    private long value;
+
+    /**
+     * Constructs a new spliterator over the encoded elements from {@code index} (inclusive) to {@code end} (exclusive).
+     *
+     * @param data      the encoded deltas
+     * @param values    the first value of every block
+     * @param offsets   the offset in {@code data} of the first delta of every block
+     * @param blockSize the number of entries per block
+     * @param end       the end index (exclusive)
+     * @param index     the starting index (inclusive)
+     */
+    public CompressedLongSpliterator(byte[] data, long[] values, int[] offsets, int blockSize, int end, int index) {
+        this.data = data;
+        this.values = values;
+        this.offsets = offsets;
+        this.blockSize = blockSize;
+        this.end = end;
+        this.index = index / blockSize * blockSize;
+        while (this.index < index) {
+            nextValue();
+        }
+    }
+
+    private CompressedLongSpliterator(CompressedLongSpliterator source, int end) {
+        this.data = source.data;
+        this.values = source.values;
+        this.offsets = source.offsets;
+        this.blockSize = source.blockSize;
+        this.end = end;
+        this.index = source.index;
+        this.position = source.position;
+        this.value = source.value;
+    }
+
+    static void decode(byte[] data, long[] values, int[] offsets, int blockSize, int end, int index, int position,
+                       long value, LongConsumer action) {
+        var i = index;
+        var p = position;
+        var v = value;
+        while (i < end) {
+            var block = i / blockSize;
+            var stop = (int) Math.min(end, (block + 1L) * blockSize);
+            if (i == block * blockSize) {
+                p = offsets[block];
+                v = values[block];
+                action.accept(v);
+                ++i;
+            }
+            for (; i < stop; ++i) {
+                int read;
+                var delta = 0L;
+                var shift = 0;
+                do {
+                    read = data[p++];
+                    delta |= (long) (read & 0x7F) << shift;
+                    shift += 7;
+                } while (read < 0);
+                v += delta;
+                action.accept(v);
+            }
+        }
+    }
+
+    private long nextValue() {
+        if (index % blockSize == 0) {
+            var block = index / blockSize;
+            position = offsets[block];
+            value = values[block];
+        } else {
+            int read;
+            var delta = 0L;
+            var shift = 0;
+            do {
+                read = data[position++];
+                delta |= (long) (read & 0x7F) << shift;
+                shift += 7;
+            } while (read < 0);
+            value += delta;
+        }
+        ++index;
+        return value;
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+        if (index >= end) {
+            return false;
+        }
+        action.accept(nextValue());
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        var from = index;
+        index = end;
+        decode(data, values, offsets, blockSize, end, from, position, value, action);
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit() {
+        var low = index;
+        var mid = ((low + end) >>> 1) / blockSize * blockSize;
+        if (mid <= low) {
+            mid += blockSize;
+        }
+        if (mid >= end || mid <= low) {
+            return null;
+        }
+        var ret = new CompressedLongSpliterator(this, mid);
+        index = mid;
+        return ret;
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SORTED | Spliterator.SIZED | Spliterator.SUBSIZED
+                | Spliterator.IMMUTABLE | Spliterator.NONNULL;
+    }
+
+    @Override
+    public Comparator<? super Long> getComparator() {
+        return null;
+    }
+}
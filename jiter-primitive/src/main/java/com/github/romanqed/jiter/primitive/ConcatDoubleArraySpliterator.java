@@ -0,0 +1,91 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+
+/**
+ * A {@link Spliterator.OfDouble} over several {@code double[]} slices traversed one after another.
+ * <p>
+ * Splits at the middle of the remaining global element range, locating the segment of the split point
+ * by binary search over the cumulative counts, so both halves hold the same number of elements
+ * regardless of how the segments are sized.
+ */
+public final class ConcatDoubleArraySpliterator implements Spliterator.OfDouble {
+    private final double[][] arrays;
+    private final int[] starts;
+    private final long[] prefix;
+    private final long end;
+    private long index;
+    private int segment;
+
+    /**
+     * Constructs a new spliterator over the concatenated segments from global {@code index} (inclusive)
+     * to {@code end} (exclusive).
+     *
+     * @param arrays the segment arrays
+     * @param starts the start index (inclusive) of every segment in its array
+     * @param prefix the cumulative element counts of the segments
+     * @param end    the global end index (exclusive)
+     * @param index  the global starting index (inclusive)
+     */
+    public ConcatDoubleArraySpliterator(double[][] arrays, int[] starts, long[] prefix, long end, long index) {
+        this.arrays = arrays;
+        this.starts = starts;
+        this.prefix = prefix;
+        this.end = end;
+        this.index = index;
+        this.segment = Util.segmentOf(prefix, index);
+    }
+
+    @Override
+    public boolean tryAdvance(DoubleConsumer action) {
+        if (index >= end) {
+            return false;
+        }
+        while (index >= prefix[segment + 1]) {
+            ++segment;
+        }
+        action.accept(arrays[segment][starts[segment] + (int) (index++ - prefix[segment])]);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+        var i = index;
+        index = end;
+        for (var k = segment; i < end; ++k) {
+            var limit = Math.min(end, prefix[k + 1]);
+            var array = arrays[k];
+            var position = starts[k] + (int) (i - prefix[k]);
+            var stop = starts[k] + (int) (limit - prefix[k]);
+            for (; position < stop; ++position) {
+                action.accept(array[position]);
+            }
+            i = limit;
+            segment = k;
+        }
+    }
+
+    @Override
+    public Spliterator.OfDouble trySplit() {
+        var low = index;
+        var mid = (low + end) >>> 1;
+        if (low >= mid) {
+            return null;
+        }
+        var ret = new ConcatDoubleArraySpliterator(arrays, starts, prefix, mid, low);
+        index = mid;
+        segment = Util.segmentOf(prefix, mid);
+        return ret;
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE;
+    }
+}
@@ -0,0 +1,69 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * A {@link IntIterable} over several {@code int[]} slices traversed one after another as a single sequence.
+ * <p>
+ * Segment {@code k} covers {@code arrays[k][starts[k]:starts[k] + prefix[k + 1] - prefix[k]]}, where {@code prefix}
+ * holds the cumulative element counts of the segments. The spliterator splits by element count rather than by
+ * segment, so skewed segment sizes still produce balanced parallel work.
+ */
+public final class ConcatIntArrayIterable implements IntIterable {
+    private final int[][] arrays;
+    private final int[] starts;
+    private final long[] prefix;
+
+    /**
+     * Constructs a new iterable over the given segments.
+     *
+     * @param arrays the segment arrays
+     * @param starts the start index (inclusive) of every segment in its array
+     * @param prefix the cumulative element counts, {@code prefix[0] == 0} and {@code prefix[arrays.length]} is the total
+     */
+    public ConcatIntArrayIterable(int[][] arrays, int[] starts, long[] prefix) {
+        this.arrays = arrays;
+        this.starts = starts;
+        this.prefix = prefix;
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new ConcatIntArrayIterator(arrays, starts, prefix, prefix[arrays.length], 0);
+    }
+
+    @Override
+    public void forEach(Consumer<? super Integer> action) {
+        for (var k = 0; k < arrays.length; ++k) {
+            var array = arrays[k];
+            var end = starts[k] + (int) (prefix[k + 1] - prefix[k]);
+            for (var i = starts[k]; i < end; ++i) {
+                action.accept(array[i]);
+            }
+        }
+    }
+
+    @Override
+    public void forEach(IntConsumer action) {
+        for (var k = 0; k < arrays.length; ++k) {
+            var array = arrays[k];
+            var end = starts[k] + (int) (prefix[k + 1] - prefix[k]);
+            for (var i = starts[k]; i < end; ++i) {
+                action.accept(array[i]);
+            }
+        }
+    }
+
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new ConcatIntArraySpliterator(arrays, starts, prefix, prefix[arrays.length], 0);
+    }
+
+    @Override
+    public long count() {
+        return prefix[arrays.length];
+    }
+}
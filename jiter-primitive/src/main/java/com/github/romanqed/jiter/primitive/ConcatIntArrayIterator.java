@@ -0,0 +1,106 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * A primitive {@link PrimitiveIterator.OfInt} over several {@code int[]} slices traversed one after another.
+ * <p>
+ * Positions are global element indices over the concatenation, see {@link ConcatIntArrayIterable}.
+ * Immutable and non-thread-safe.
+ */
+public final class ConcatIntArrayIterator implements PrimitiveIterator.OfInt {
+    private final int[][] arrays;
+    private final int[] starts;
+    private final long[] prefix;
+    private final long end;
+    private long index;
+    private int segment;
+
+    /**
+     * Constructs a new iterator over the concatenated segments from global {@code index} (inclusive)
+     * to {@code end} (exclusive).
+     *
+     * @param arrays the segment arrays
+     * @param starts the start index (inclusive) of every segment in its array
+     * @param prefix the cumulative element counts of the segments
+     * @param end    the global end index (exclusive)
+     * @param index  the global starting index (inclusive)
+     */
+    public ConcatIntArrayIterator(int[][] arrays, int[] starts, long[] prefix, long end, long index) {
+        this.arrays = arrays;
+        this.starts = starts;
+        this.prefix = prefix;
+        this.end = end;
+        this.index = index;
+        this.segment = Util.segmentOf(prefix, index);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < end;
+    }
+
+    @Override
+    public int nextInt() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        while (index >= prefix[segment + 1]) {
+            ++segment;
+        }
+        return arrays[segment][starts[segment] + (int) (index++ - prefix[segment])];
+    }
+
+    @Override
+    public Integer next() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        while (index >= prefix[segment + 1]) {
+            ++segment;
+        }
+        return arrays[segment][starts[segment] + (int) (index++ - prefix[segment])];
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Immutable iterator");
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        var i = index;
+        index = end;
+        for (var k = segment; i < end; ++k) {
+            var limit = Math.min(end, prefix[k + 1]);
+            var array = arrays[k];
+            var position = starts[k] + (int) (i - prefix[k]);
+            var stop = starts[k] + (int) (limit - prefix[k]);
+            for (; position < stop; ++position) {
+                action.accept(array[position]);
+            }
+            i = limit;
+            segment = k;
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Integer> action) {
+        var i = index;
+        index = end;
+        for (var k = segment; i < end; ++k) {
+            var limit = Math.min(end, prefix[k + 1]);
+            var array = arrays[k];
+            var position = starts[k] + (int) (i - prefix[k]);
+            var stop = starts[k] + (int) (limit - prefix[k]);
+            for (; position < stop; ++position) {
+                action.accept(array[position]);
+            }
+            i = limit;
+            segment = k;
+        }
+    }
+}
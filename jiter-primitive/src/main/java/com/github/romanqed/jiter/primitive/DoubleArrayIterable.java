@@ -1,10 +1,16 @@
 package com.github.romanqed.jiter.primitive;
 
+import java.util.Arrays;
+import java.util.DoubleSummaryStatistics;
+import java.util.Objects;
+import java.util.OptionalDouble;
 import java.util.PrimitiveIterator;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.function.Consumer;
+import java.util.function.DoubleBinaryOperator;
 import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
 
 /**
  * A primitive {@link DoubleIterable} implementation over a range of a {@code double[]} array.
@@ -52,4 +58,176 @@ public final class DoubleArrayIterable implements DoubleIterable {
     public Spliterator.OfDouble spliterator() {
         return Spliterators.spliterator(array, start, end, Spliterator.SIZED | Spliterator.IMMUTABLE);
     }
+
+    @Override
+    public boolean forEachWhile(DoublePredicate action) {
+        for (var i = start; i < end; ++i) {
+            if (!action.test(array[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public DoubleIterable limit(long maxSize) {
+        Util.checkCount(maxSize);
+        return end - start > maxSize ? new DoubleArrayIterable(array, start, start + (int) maxSize) : this;
+    }
+
+    @Override
+    public DoubleIterable skip(long count) {
+        Util.checkCount(count);
+        return end - start > count ? new DoubleArrayIterable(array, start + (int) count, end) : new DoubleArrayIterable(array, end, end);
+    }
+
+    @Override
+    public double[] toArray() {
+        return Arrays.copyOfRange(array, start, end);
+    }
+
+    @Override
+    public void forEachChunk(int chunkSize, DoubleChunkConsumer action) {
+        Util.checkChunkSize(chunkSize);
+        Objects.requireNonNull(action);
+        var from = start;
+        while (from < end) {
+            var to = end - from > chunkSize ? from + chunkSize : end;
+            action.accept(array, from, to);
+            from = to;
+        }
+    }
+
+    @Override
+    public long count() {
+        return end - start;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * On Java 17+ with {@code jdk.incubator.vector} resolved the elements are added in vector lanes, so the
+     * rounding, and therefore the result, may differ from the scalar left-to-right sum computed on Java 11.
+     */
+    @Override
+    public double sum() {
+        return Kernels.sum(array, start, end);
+    }
+
+    @Override
+    public OptionalDouble min() {
+        return start < end ? OptionalDouble.of(Kernels.min(array, start, end)) : OptionalDouble.empty();
+    }
+
+    @Override
+    public OptionalDouble max() {
+        return start < end ? OptionalDouble.of(Kernels.max(array, start, end)) : OptionalDouble.empty();
+    }
+
+    @Override
+    public OptionalDouble average() {
+        return start < end ? OptionalDouble.of(Kernels.sum(array, start, end) / (end - start)) : OptionalDouble.empty();
+    }
+
+    @Override
+    public DoubleSummaryStatistics summaryStatistics() {
+        return Reductions.statistics(array, start, end);
+    }
+
+    @Override
+    public double reduce(double identity, DoubleBinaryOperator op) {
+        return Reductions.reduce(array, start, end, identity, op);
+    }
+
+    @Override
+    public double parallelSum(int threshold) {
+        return Reductions.invoke(start, end, threshold, (from, to) -> Kernels.sum(array, from, to), Double::sum);
+    }
+
+    @Override
+    public OptionalDouble parallelMin(int threshold) {
+        var ret = Reductions.invoke(start, end, threshold, (from, to) -> Kernels.min(array, from, to), Math::min);
+        return start < end ? OptionalDouble.of(ret) : OptionalDouble.empty();
+    }
+
+    @Override
+    public OptionalDouble parallelMax(int threshold) {
+        var ret = Reductions.invoke(start, end, threshold, (from, to) -> Kernels.max(array, from, to), Math::max);
+        return start < end ? OptionalDouble.of(ret) : OptionalDouble.empty();
+    }
+
+    @Override
+    public OptionalDouble parallelAverage(int threshold) {
+        var sum = parallelSum(threshold);
+        return start < end ? OptionalDouble.of(sum / (end - start)) : OptionalDouble.empty();
+    }
+
+    @Override
+    public DoubleSummaryStatistics parallelSummaryStatistics(int threshold) {
+        return Reductions.invoke(
+                start,
+                end,
+                threshold,
+                (from, to) -> Reductions.statistics(array, from, to),
+                Reductions::combine
+        );
+    }
+
+    @Override
+    public double parallelReduce(double identity, DoubleBinaryOperator op, int threshold) {
+        return Reductions.invoke(
+                start,
+                end,
+                threshold,
+                (from, to) -> Reductions.reduce(array, from, to, identity, op),
+                op::applyAsDouble
+        );
+    }
+
+    /**
+     * Computes the dot product of this slice and the same number of elements of {@code other}
+     * starting at {@code offset}. The order in which the products are added is unspecified: on Java 17+ with
+     * {@code jdk.incubator.vector} resolved they are added in vector lanes, so the result may differ from the
+     * scalar result computed on Java 11.
+     *
+     * @param other  the second operand
+     * @param offset the index of the first element of {@code other} to use
+     * @return the dot product
+     * @throws NullPointerException           if {@code other} is null
+     * @throws ArrayIndexOutOfBoundsException if {@code other} holds fewer than {@code offset + count()} elements
+     */
+    public double dot(double[] other, int offset) {
+        Objects.requireNonNull(other);
+        Util.checkBounds(other.length, offset, offset + (end - start));
+        return Kernels.dot(array, start, end, other, offset);
+    }
+
+    /**
+     * Counts the elements that are greater than or equal to {@code from} and less than {@code to}.
+     * {@code NaN} elements are never counted.
+     *
+     * @param from the lower bound (inclusive)
+     * @param to   the upper bound (exclusive)
+     * @return the number of matching elements
+     */
+    public long countInRange(double from, double to) {
+        return Kernels.countInRange(array, start, end, from, to);
+    }
+
+    /**
+     * Writes {@code element * factor + addend} for every element of this slice into {@code destination},
+     * starting at {@code offset}.
+     *
+     * @param destination the array to write into
+     * @param offset      the index of the first element to write
+     * @param factor      the value to multiply every element by
+     * @param addend      the value to add to every product
+     * @throws NullPointerException           if {@code destination} is null
+     * @throws ArrayIndexOutOfBoundsException if {@code destination} holds fewer than {@code offset + count()} elements
+     */
+    public void multiplyAddInto(double[] destination, int offset, double factor, double addend) {
+        Objects.requireNonNull(destination);
+        Util.checkBounds(destination.length, offset, offset + (end - start));
+        Kernels.multiplyAdd(array, start, end, destination, offset, factor, addend);
+    }
 }
@@ -1,6 +1,7 @@
 package com.github.romanqed.jiter.primitive;
 
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.PrimitiveIterator;
 import java.util.function.Consumer;
 import java.util.function.DoubleConsumer;
@@ -8,11 +9,13 @@ import java.util.function.DoubleConsumer;
 /**
  * A primitive {@link PrimitiveIterator.OfDouble} implementation over a subrange of a {@code double[]} array.
  * <p>
- * Immutable and non-thread-safe.
+ * Does not support removal. A single instance can be re-pointed at another range with
+ * {@link #reset(double[], int, int)}. Not thread-safe.
  */
 public final class DoubleArrayIterator implements PrimitiveIterator.OfDouble {
-    private final double[] array;
-    private final int end;
+    private static final double[] EMPTY = new double[0];
+    private double[] array;
+    private int end;
     private int index;
 
     /**
@@ -28,6 +31,33 @@ public final class DoubleArrayIterator implements PrimitiveIterator.OfDouble {
         this.index = index;
     }
 
+    /**
+     * Constructs an exhausted iterator, meant to be pointed at an array later with {@link #reset(double[], int, int)}.
+     */
+    public DoubleArrayIterator() {
+        this.array = EMPTY;
+    }
+
+    /**
+     * Re-points this iterator at {@code array[start:end]}, so a single instance can serve any number of traversals
+     * without allocating.
+     *
+     * @param array the array to iterate over
+     * @param start the start index (inclusive)
+     * @param end   the end index (exclusive)
+     * @return this iterator
+     * @throws NullPointerException           if {@code array} is null
+     * @throws ArrayIndexOutOfBoundsException if start or end are out of bounds or invalid
+     */
+    public DoubleArrayIterator reset(double[] array, int start, int end) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(array.length, start, end);
+        this.array = array;
+        this.end = end;
+        this.index = start;
+        return this;
+    }
+
     @Override
     public boolean hasNext() {
         return index < end;
@@ -51,7 +81,7 @@ public final class DoubleArrayIterator implements PrimitiveIterator.OfDouble {
 
     @Override
     public void remove() {
-        throw new UnsupportedOperationException("Immutable iterator");
+        throw new UnsupportedOperationException("Removal is not supported");
     }
 
     @Override
@@ -67,4 +97,25 @@ public final class DoubleArrayIterator implements PrimitiveIterator.OfDouble {
             action.accept(array[index++]);
         }
     }
+
+    /**
+     * Copies up to {@code max} remaining elements into {@code destination} starting at {@code offset}
+     * and advances past them.
+     *
+     * @param destination the array to copy into
+     * @param offset      the index of the first element to write
+     * @param max         the maximum number of elements to copy
+     * @return the number of elements copied, {@code 0} if the iterator is exhausted
+     * @throws NullPointerException           if {@code destination} is null
+     * @throws ArrayIndexOutOfBoundsException if {@code offset} or {@code max} is negative,
+     *                                        or {@code offset + max} exceeds the destination length
+     */
+    public int nextBatch(double[] destination, int offset, int max) {
+        Objects.requireNonNull(destination);
+        Util.checkBounds(destination.length, offset, offset + max);
+        var count = Math.min(end - index, max);
+        System.arraycopy(array, index, destination, offset, count);
+        index += count;
+        return count;
+    }
 }
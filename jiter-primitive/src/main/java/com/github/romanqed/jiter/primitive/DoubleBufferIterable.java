@@ -0,0 +1,56 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.nio.DoubleBuffer;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+/**
+ * A primitive {@link DoubleIterable} implementation over a range of a {@link DoubleBuffer}.
+ * <p>
+ * Works with heap, direct and view buffers alike without copying them. Elements are read with absolute
+ * {@link DoubleBuffer#get(int)}, so the buffer position is never changed.
+ */
+public final class DoubleBufferIterable implements DoubleIterable {
+    private final DoubleBuffer buffer;
+    private final int start;
+    private final int end;
+
+    /**
+     * Constructs an iterable over the specified {@link DoubleBuffer} from {@code start} (inclusive) to {@code end} (exclusive).
+     *
+     * @param buffer the source buffer
+     * @param start  the starting index (inclusive)
+     * @param end    the ending index (exclusive)
+     */
+    public DoubleBufferIterable(DoubleBuffer buffer, int start, int end) {
+        this.buffer = buffer;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public PrimitiveIterator.OfDouble iterator() {
+        return new DoubleBufferIterator(buffer, end, start);
+    }
+
+    @Override
+    public void forEach(Consumer<? super Double> action) {
+        for (var i = start; i < end; ++i) {
+            action.accept(buffer.get(i));
+        }
+    }
+
+    @Override
+    public void forEach(DoubleConsumer action) {
+        for (var i = start; i < end; ++i) {
+            action.accept(buffer.get(i));
+        }
+    }
+
+    @Override
+    public Spliterator.OfDouble spliterator() {
+        return new DoubleBufferSpliterator(buffer, end, start);
+    }
+}
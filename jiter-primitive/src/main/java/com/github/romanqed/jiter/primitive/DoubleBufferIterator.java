@@ -0,0 +1,72 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.nio.DoubleBuffer;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+/**
+ * A primitive {@link PrimitiveIterator.OfDouble} implementation over a subrange of a {@link DoubleBuffer}.
+ * <p>
+ * Elements are read with absolute {@link DoubleBuffer#get(int)}, so the buffer position is never changed.
+ * Immutable and non-thread-safe.
+ */
+public final class DoubleBufferIterator implements PrimitiveIterator.OfDouble {
+    private final DoubleBuffer buffer;
+    private final int end;
+    private int index;
+
+    /**
+     * Constructs a new iterator over a {@link DoubleBuffer} from {@code index} (inclusive) to {@code end} (exclusive).
+     *
+     * @param buffer the source buffer
+     * @param end    the exclusive end index
+     * @param index  the starting index (inclusive)
+     */
+    public DoubleBufferIterator(DoubleBuffer buffer, int end, int index) {
+        this.buffer = buffer;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < end;
+    }
+
+    @Override
+    public double nextDouble() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return buffer.get(index++);
+    }
+
+    @Override
+    public Double next() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return buffer.get(index++);
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Immutable iterator");
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+        while (index < end) {
+            action.accept(buffer.get(index++));
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Double> action) {
+        while (index < end) {
+            action.accept(buffer.get(index++));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.nio.DoubleBuffer;
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+
+/**
+ * A {@link Spliterator.OfDouble} over a subrange of a {@link DoubleBuffer}.
+ * <p>
+ * Splits in constant time by halving the remaining range and reads elements with absolute
+ * {@link DoubleBuffer#get(int)}, so the buffer position is never changed.
+ */
+public final class DoubleBufferSpliterator implements Spliterator.OfDouble {
+    private final DoubleBuffer buffer;
+    private final int end;
+    private int index;
+
+    /**
+     * Constructs a new spliterator over a {@link DoubleBuffer} from {@code index} (inclusive) to {@code end} (exclusive).
+     *
+     * @param buffer the source buffer
+     * @param end    the exclusive end index
+     * @param index  the starting index (inclusive)
+     */
+    public DoubleBufferSpliterator(DoubleBuffer buffer, int end, int index) {
+        this.buffer = buffer;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean tryAdvance(DoubleConsumer action) {
+        if (index >= end) {
+            return false;
+        }
+        action.accept(buffer.get(index++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+        var i = index;
+        index = end;
+        for (; i < end; ++i) {
+            action.accept(buffer.get(i));
+        }
+    }
+
+    @Override
+    public Spliterator.OfDouble trySplit() {
+        var low = index;
+        var mid = (low + end) >>> 1;
+        if (low >= mid) {
+            return null;
+        }
+        index = mid;
+        return new DoubleBufferSpliterator(buffer, mid, low);
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+}
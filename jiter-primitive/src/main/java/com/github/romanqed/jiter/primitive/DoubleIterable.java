@@ -1,8 +1,17 @@
 package com.github.romanqed.jiter.primitive;
 
+import java.util.Arrays;
+import java.util.DoubleSummaryStatistics;
+import java.util.Objects;
+import java.util.OptionalDouble;
 import java.util.PrimitiveIterator;
 import java.util.Spliterator;
+import java.util.function.DoubleBinaryOperator;
 import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
 
 /**
  * A primitive iterable over {@code double} values, exposing {@link PrimitiveIterator.OfDouble}
@@ -33,4 +42,345 @@ public interface DoubleIterable extends PrimitiveIterable<Double, DoubleConsumer
      */
     @Override
     Spliterator.OfDouble spliterator();
+
+    /**
+     * Returns a lazy view applying {@code mapper} to every element.
+     *
+     * @param mapper the function to apply to each element
+     * @return a {@link DoubleIterable} over the mapped elements
+     * @throws NullPointerException if {@code mapper} is null
+     */
+    default DoubleIterable map(DoubleUnaryOperator mapper) {
+        return new DoublePipelines.MapFromDouble(this, mapper);
+    }
+
+    /**
+     * Returns a lazy view applying {@code mapper} to every element, producing {@code int} values.
+     *
+     * @param mapper the function to apply to each element
+     * @return a {@link IntIterable} over the mapped elements
+     * @throws NullPointerException if {@code mapper} is null
+     */
+    default IntIterable mapToInt(DoubleToIntFunction mapper) {
+        return new IntPipelines.MapFromDouble(this, mapper);
+    }
+
+    /**
+     * Returns a lazy view applying {@code mapper} to every element, producing {@code long} values.
+     *
+     * @param mapper the function to apply to each element
+     * @return a {@link LongIterable} over the mapped elements
+     * @throws NullPointerException if {@code mapper} is null
+     */
+    default LongIterable mapToLong(DoubleToLongFunction mapper) {
+        return new LongPipelines.MapFromDouble(this, mapper);
+    }
+
+    /**
+     * Returns a lazy view over the elements matching {@code predicate}.
+     *
+     * @param predicate the predicate to test each element against
+     * @return a {@link DoubleIterable} over the matching elements
+     * @throws NullPointerException if {@code predicate} is null
+     */
+    default DoubleIterable filter(DoublePredicate predicate) {
+        return new DoublePipelines.Filter(this, predicate);
+    }
+
+    /**
+     * Returns a lazy view over at most the first {@code maxSize} elements.
+     *
+     * @param maxSize the maximum number of elements
+     * @return a {@link DoubleIterable} over the leading elements
+     * @throws IllegalArgumentException if {@code maxSize} is negative
+     */
+    default DoubleIterable limit(long maxSize) {
+        return new DoublePipelines.Limit(this, maxSize);
+    }
+
+    /**
+     * Returns a lazy view over the elements remaining after the first {@code count} are discarded.
+     *
+     * @param count the number of leading elements to discard
+     * @return a {@link DoubleIterable} over the remaining elements
+     * @throws IllegalArgumentException if {@code count} is negative
+     */
+    default DoubleIterable skip(long count) {
+        return new DoublePipelines.Skip(this, count);
+    }
+
+    /**
+     * Copies the elements into a new array.
+     *
+     * @return an array holding the elements
+     */
+    default double[] toArray() {
+        var size = spliterator().getExactSizeIfKnown();
+        var ret = new double[size >= 0 && size <= Integer.MAX_VALUE - 8 ? (int) size : 16];
+        var count = 0;
+        for (var iterator = iterator(); iterator.hasNext(); ) {
+            if (count == ret.length) {
+                ret = Arrays.copyOf(ret, count * 2);
+            }
+            ret[count++] = iterator.nextDouble();
+        }
+        return count == ret.length ? ret : Arrays.copyOf(ret, count);
+    }
+
+    /**
+     * Passes the elements to {@code action} in order until it returns {@code false}.
+     * <p>
+     * The stages created by {@code map}, {@code filter}, {@code limit} and {@code skip} hand the action down
+     * to their source, so a short-circuiting traversal of a chain over an array slice still runs as a single
+     * loop over the array.
+     *
+     * @param action the action to perform on each element, returning whether to continue
+     * @return {@code true} if the traversal ran to the end, {@code false} if {@code action} stopped it
+     */
+    default boolean forEachWhile(DoublePredicate action) {
+        for (var iterator = iterator(); iterator.hasNext(); ) {
+            if (!action.test(iterator.nextDouble())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether any element matches {@code predicate}, stopping at the first match.
+     *
+     * @param predicate the predicate to test elements against
+     * @return {@code true} if any element matches, {@code false} otherwise
+     */
+    default boolean anyMatch(DoublePredicate predicate) {
+        return !forEachWhile(value -> !predicate.test(value));
+    }
+
+    /**
+     * Returns whether all elements match {@code predicate}, stopping at the first mismatch.
+     *
+     * @param predicate the predicate to test elements against
+     * @return {@code true} if every element matches or there are none, {@code false} otherwise
+     */
+    default boolean allMatch(DoublePredicate predicate) {
+        return !anyMatch(predicate.negate());
+    }
+
+    /**
+     * Returns whether no element matches {@code predicate}, stopping at the first match.
+     *
+     * @param predicate the predicate to test elements against
+     * @return {@code true} if no element matches, {@code false} otherwise
+     */
+    default boolean noneMatch(DoublePredicate predicate) {
+        return !anyMatch(predicate);
+    }
+
+    /**
+     * Returns the first element, or an empty optional if there are none.
+     *
+     * @return an {@link OptionalDouble} containing the first element
+     */
+    default OptionalDouble findFirst() {
+        var iterator = iterator();
+        return iterator.hasNext() ? OptionalDouble.of(iterator.nextDouble()) : OptionalDouble.empty();
+    }
+
+    /**
+     * Passes the elements to {@code action} as consecutive array ranges, each holding at most
+     * {@code chunkSize} elements.
+     * <p>
+     * The default implementation copies the elements into a buffer that is reused between calls;
+     * array-backed implementations hand out ranges of the backing array instead.
+     *
+     * @param chunkSize the maximum number of elements per range, must be positive
+     * @param action    the action to perform on each range
+     * @throws IllegalArgumentException if {@code chunkSize} is less than 1
+     * @throws NullPointerException     if {@code action} is null
+     */
+    default void forEachChunk(int chunkSize, DoubleChunkConsumer action) {
+        Util.checkChunkSize(chunkSize);
+        Objects.requireNonNull(action);
+        var size = spliterator().getExactSizeIfKnown();
+        var buffer = new double[size < 0 ? chunkSize : (int) Math.min(size, chunkSize)];
+        var iterator = iterator();
+        var count = 0;
+        while (iterator.hasNext()) {
+            buffer[count++] = iterator.nextDouble();
+            if (count == buffer.length) {
+                action.accept(buffer, 0, count);
+                count = 0;
+            }
+        }
+        if (count > 0) {
+            action.accept(buffer, 0, count);
+        }
+    }
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return the number of elements
+     */
+    default long count() {
+        var ret = spliterator().getExactSizeIfKnown();
+        if (ret >= 0) {
+            return ret;
+        }
+        var count = new long[1];
+        forEach((DoubleConsumer) value -> ++count[0]);
+        return count[0];
+    }
+
+    /**
+     * Returns the sum of the elements, or {@code 0} if there are none.
+     * <p>
+     * The order in which the elements are added is unspecified, so the result may differ
+     * in the last bits from a strictly sequential summation.
+     *
+     * @return the sum of the elements
+     */
+    default double sum() {
+        return summaryStatistics().getSum();
+    }
+
+    /**
+     * Returns the smallest element, or an empty optional if there are none.
+     *
+     * @return an {@link OptionalDouble} containing the smallest element
+     */
+    default OptionalDouble min() {
+        var statistics = summaryStatistics();
+        return statistics.getCount() == 0 ? OptionalDouble.empty() : OptionalDouble.of(statistics.getMin());
+    }
+
+    /**
+     * Returns the largest element, or an empty optional if there are none.
+     *
+     * @return an {@link OptionalDouble} containing the largest element
+     */
+    default OptionalDouble max() {
+        var statistics = summaryStatistics();
+        return statistics.getCount() == 0 ? OptionalDouble.empty() : OptionalDouble.of(statistics.getMax());
+    }
+
+    /**
+     * Returns the arithmetic mean of the elements, or an empty optional if there are none.
+     *
+     * @return an {@link OptionalDouble} containing the average
+     */
+    default OptionalDouble average() {
+        var statistics = summaryStatistics();
+        return statistics.getCount() == 0 ? OptionalDouble.empty() : OptionalDouble.of(statistics.getAverage());
+    }
+
+    /**
+     * Collects count, sum, min, max and average of the elements in a single pass.
+     *
+     * @return a new {@link DoubleSummaryStatistics} describing the elements
+     */
+    default DoubleSummaryStatistics summaryStatistics() {
+        var ret = new DoubleSummaryStatistics();
+        forEach((DoubleConsumer) ret);
+        return ret;
+    }
+
+    /**
+     * Folds the elements from left to right using the given operator, starting with {@code identity}.
+     *
+     * @param identity the initial value, which must be an identity for {@code op}
+     * @param op       an associative operator combining two values
+     * @return the result of the reduction
+     */
+    default double reduce(double identity, DoubleBinaryOperator op) {
+        var ret = new double[]{identity};
+        forEach((DoubleConsumer) value -> ret[0] = op.applyAsDouble(ret[0], value));
+        return ret[0];
+    }
+
+    /**
+     * Returns the sum of the elements, computed in parallel on the common {@link java.util.concurrent.ForkJoinPool}.
+     * <p>
+     * The elements are split until a part holds at most {@code threshold} elements; parts are then
+     * summed sequentially and the partial results combined.
+     *
+     * @param threshold the maximum number of elements processed by a single task, must be positive
+     * @return the sum of the elements
+     * @throws IllegalArgumentException if {@code threshold} is less than 1
+     */
+    default double parallelSum(int threshold) {
+        return parallelSummaryStatistics(threshold).getSum();
+    }
+
+    /**
+     * Returns the smallest element, computed in parallel. See {@link #parallelSum(int)} for the meaning of {@code threshold}.
+     *
+     * @param threshold the maximum number of elements processed by a single task, must be positive
+     * @return an {@link OptionalDouble} containing the smallest element
+     * @throws IllegalArgumentException if {@code threshold} is less than 1
+     */
+    default OptionalDouble parallelMin(int threshold) {
+        var statistics = parallelSummaryStatistics(threshold);
+        return statistics.getCount() == 0 ? OptionalDouble.empty() : OptionalDouble.of(statistics.getMin());
+    }
+
+    /**
+     * Returns the largest element, computed in parallel. See {@link #parallelSum(int)} for the meaning of {@code threshold}.
+     *
+     * @param threshold the maximum number of elements processed by a single task, must be positive
+     * @return an {@link OptionalDouble} containing the largest element
+     * @throws IllegalArgumentException if {@code threshold} is less than 1
+     */
+    default OptionalDouble parallelMax(int threshold) {
+        var statistics = parallelSummaryStatistics(threshold);
+        return statistics.getCount() == 0 ? OptionalDouble.empty() : OptionalDouble.of(statistics.getMax());
+    }
+
+    /**
+     * Returns the arithmetic mean of the elements, computed in parallel.
+     * See {@link #parallelSum(int)} for the meaning of {@code threshold}.
+     *
+     * @param threshold the maximum number of elements processed by a single task, must be positive
+     * @return an {@link OptionalDouble} containing the average
+     * @throws IllegalArgumentException if {@code threshold} is less than 1
+     */
+    default OptionalDouble parallelAverage(int threshold) {
+        var statistics = parallelSummaryStatistics(threshold);
+        return statistics.getCount() == 0 ? OptionalDouble.empty() : OptionalDouble.of(statistics.getAverage());
+    }
+
+    /**
+     * Collects summary statistics of the elements in parallel.
+     * See {@link #parallelSum(int)} for the meaning of {@code threshold}.
+     *
+     * @param threshold the maximum number of elements processed by a single task, must be positive
+     * @return a new {@link DoubleSummaryStatistics} describing the elements
+     * @throws IllegalArgumentException if {@code threshold} is less than 1
+     */
+    default DoubleSummaryStatistics parallelSummaryStatistics(int threshold) {
+        return Reductions.invoke(spliterator(), threshold, spliterator -> {
+            var ret = new DoubleSummaryStatistics();
+            spliterator.forEachRemaining((DoubleConsumer) ret);
+            return ret;
+        }, Reductions::combine);
+    }
+
+    /**
+     * Reduces the elements in parallel using the given operator.
+     * Partial results are combined in encounter order, so {@code op} needs to be associative but not commutative.
+     * See {@link #parallelSum(int)} for the meaning of {@code threshold}.
+     *
+     * @param identity  the initial value of every partial reduction, which must be an identity for {@code op}
+     * @param op        an associative operator combining two values
+     * @param threshold the maximum number of elements processed by a single task, must be positive
+     * @return the result of the reduction
+     * @throws IllegalArgumentException if {@code threshold} is less than 1
+     */
+    default double parallelReduce(double identity, DoubleBinaryOperator op, int threshold) {
+        return Reductions.invoke(spliterator(), threshold, spliterator -> {
+            var ret = new double[]{identity};
+            spliterator.forEachRemaining((DoubleConsumer) value -> ret[0] = op.applyAsDouble(ret[0], value));
+            return ret[0];
+        }, op::applyAsDouble);
+    }
 }
@@ -0,0 +1,130 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.Objects;
+
+/**
+ * A fixed-capacity circular buffer of {@code double} values that keeps the latest {@link #capacity()} elements.
+ * <p>
+ * Elements are addressed by logical index, {@code 0} being the oldest retained element. Any logical window
+ * occupies one contiguous segment of the backing array, or two when it wraps around its end, and is exposed
+ * as a {@link DoubleIterable} over those segments without copying: a window that does not wrap is a plain
+ * {@link DoubleArrayIterable}, a wrapped one is a {@link ConcatDoubleArrayIterable} whose spliterator splits
+ * by element count across the wrap point.
+ * <p>
+ * Windows read the backing array directly, so elements overwritten by later {@link #add(double)} calls are
+ * visible through them. Not thread-safe.
+ */
+public final class DoubleRingBuffer {
+    private final double[] array;
+    private int head;
+    private int size;
+
+    /**
+     * Constructs an empty buffer holding at most {@code capacity} elements.
+     *
+     * @param capacity the maximum number of retained elements
+     * @throws IllegalArgumentException if {@code capacity} is less than 1
+     */
+    public DoubleRingBuffer(int capacity) {
+        Util.checkCapacity(capacity);
+        this.array = new double[capacity];
+    }
+
+    /**
+     * Returns the maximum number of retained elements.
+     *
+     * @return the capacity of the buffer
+     */
+    public int capacity() {
+        return array.length;
+    }
+
+    /**
+     * Returns the number of retained elements.
+     *
+     * @return the number of elements, at most {@link #capacity()}
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Appends an element, overwriting the oldest one if the buffer is full.
+     *
+     * @param value the element to append
+     */
+    public void add(double value) {
+        if (size < array.length) {
+            array[physical(size++)] = value;
+            return;
+        }
+        array[head] = value;
+        if (++head == array.length) {
+            head = 0;
+        }
+    }
+
+    /**
+     * Returns the element at the given logical index.
+     *
+     * @param index the logical index, {@code 0} being the oldest element
+     * @return the element
+     * @throws IndexOutOfBoundsException if {@code index} is not less than {@link #size()}
+     */
+    public double getDouble(int index) {
+        Objects.checkIndex(index, size);
+        return array[physical(index)];
+    }
+
+    /**
+     * Removes all elements.
+     */
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Returns a view over the retained elements from logical index {@code start} (inclusive)
+     * to {@code end} (exclusive).
+     *
+     * @param start the starting logical index (inclusive)
+     * @param end   the ending logical index (exclusive)
+     * @return an iterable over the window
+     * @throws ArrayIndexOutOfBoundsException if bounds are invalid
+     */
+    public DoubleIterable window(int start, int end) {
+        Util.checkBounds(size, start, end);
+        var first = physical(start);
+        var length = end - start;
+        var tail = array.length - first;
+        if (length <= tail) {
+            return new DoubleArrayIterable(array, first, first + length);
+        }
+        return new ConcatDoubleArrayIterable(new double[][]{array, array}, new int[]{first, 0}, new long[]{0, tail, length});
+    }
+
+    /**
+     * Returns a view over the latest {@code count} elements.
+     *
+     * @param count the number of elements
+     * @return an iterable over the newest {@code count} elements, oldest first
+     * @throws ArrayIndexOutOfBoundsException if {@code count} is negative or greater than {@link #size()}
+     */
+    public DoubleIterable latest(int count) {
+        return window(size - count, size);
+    }
+
+    /**
+     * Returns a view over all retained elements, oldest first.
+     *
+     * @return an iterable over the buffer contents
+     */
+    public DoubleIterable values() {
+        return window(0, size);
+    }
+
+    private int physical(int index) {
+        return index < array.length - head ? head + index : index - (array.length - head);
+    }
+}
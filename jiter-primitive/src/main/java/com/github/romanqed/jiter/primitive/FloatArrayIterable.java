@@ -0,0 +1,60 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+/**
+ * A primitive {@link FloatIterable} implementation over a range of a {@code float[]} array.
+ * <p>
+ * Iterates over the array segment without copying it, widening elements to {@code double} only when requested.
+ */
+public final class FloatArrayIterable implements FloatIterable {
+    private final float[] array;
+    private final int start;
+    private final int end;
+
+    /**
+     * Constructs an iterable over the specified {@code float[]} from {@code start} (inclusive) to {@code end} (exclusive).
+     *
+     * @param array the source array
+     * @param start the starting index (inclusive)
+     * @param end   the ending index (exclusive)
+     */
+    public FloatArrayIterable(float[] array, int start, int end) {
+        this.array = array;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public FloatIterator iterator() {
+        return new FloatArrayIterator(array, end, start);
+    }
+
+    @Override
+    public void forEach(Consumer<? super Double> action) {
+        for (var i = start; i < end; ++i) {
+            action.accept((double) array[i]);
+        }
+    }
+
+    @Override
+    public void forEach(DoubleConsumer action) {
+        for (var i = start; i < end; ++i) {
+            action.accept(array[i]);
+        }
+    }
+
+    @Override
+    public void forEachFloat(FloatConsumer action) {
+        for (var i = start; i < end; ++i) {
+            action.accept(array[i]);
+        }
+    }
+
+    @Override
+    public Spliterator.OfDouble spliterator() {
+        return new FloatArraySpliterator(array, end, start);
+    }
+}
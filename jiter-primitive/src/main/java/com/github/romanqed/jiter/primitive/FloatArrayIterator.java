@@ -0,0 +1,84 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+/**
+ * A {@link FloatIterator} implementation over a subrange of a {@code float[]} array.
+ * <p>
+ * Immutable and non-thread-safe.
+ */
+public final class FloatArrayIterator implements FloatIterator {
+    private final float[] array;
+    private final int end;
+    private int index;
+
+    /**
+     * Constructs a new iterator over a {@code float[]} from {@code index} (inclusive) to {@code end} (exclusive).
+     *
+     * @param array the source array
+     * @param end   the exclusive end index
+     * @param index the starting index (inclusive)
+     */
+    public FloatArrayIterator(float[] array, int end, int index) {
+        this.array = array;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < end;
+    }
+
+    @Override
+    public float nextFloat() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return array[index++];
+    }
+
+    @Override
+    public double nextDouble() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return array[index++];
+    }
+
+    @Override
+    public Double next() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return (double) array[index++];
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Immutable iterator");
+    }
+
+    @Override
+    public void forEachRemainingFloat(FloatConsumer action) {
+        while (index < end) {
+            action.accept(array[index++]);
+        }
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+        while (index < end) {
+            action.accept(array[index++]);
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Double> action) {
+        while (index < end) {
+            action.accept((double) array[index++]);
+        }
+    }
+}
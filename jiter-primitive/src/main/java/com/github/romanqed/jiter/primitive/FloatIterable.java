@@ -0,0 +1,23 @@
+package com.github.romanqed.jiter.primitive;
+
+/**
+ * A primitive iterable over {@code float} values, exposed as {@code double} through {@link DoubleIterable}
+ * and in their native width through {@link FloatIterator} and {@link FloatConsumer}.
+ */
+public interface FloatIterable extends DoubleIterable {
+
+    /**
+     * Returns a {@link FloatIterator} over the {@code float} elements.
+     *
+     * @return a {@link FloatIterator}
+     */
+    @Override
+    FloatIterator iterator();
+
+    /**
+     * Performs the given {@link FloatConsumer} action for each {@code float} element.
+     *
+     * @param action the action to be performed for each element
+     */
+    void forEachFloat(FloatConsumer action);
+}
@@ -0,0 +1,30 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * A {@link PrimitiveIterator.OfDouble} over {@code float} values, widened to {@code double},
+ * that additionally exposes the values in their native width.
+ */
+public interface FloatIterator extends PrimitiveIterator.OfDouble {
+
+    /**
+     * Returns the next {@code float} element in the iteration.
+     *
+     * @return the next element
+     * @throws java.util.NoSuchElementException if the iteration has no more elements
+     */
+    float nextFloat();
+
+    /**
+     * Performs the given {@link FloatConsumer} action for each remaining element.
+     *
+     * @param action the action to be performed for each element
+     */
+    void forEachRemainingFloat(FloatConsumer action);
+
+    @Override
+    default double nextDouble() {
+        return nextFloat();
+    }
+}
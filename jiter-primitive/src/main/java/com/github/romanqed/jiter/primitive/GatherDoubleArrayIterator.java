@@ -0,0 +1,78 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+/**
+ * An iterator over the elements of a {@code double[]} array picked through a range of an {@code int[]} index array.
+ * <p>
+ * See {@link GatherDoubleArrayIterable} for details. Immutable and non-thread-safe.
+ */
+public final class GatherDoubleArrayIterator implements PrimitiveIterator.OfDouble {
+    private final double[] values;
+    private final int[] indices;
+    private final int end;
+    private int index;
+
+    /**
+     * Constructs a new iterator over {@code values[indices[i]]} for {@code i} from {@code index} (inclusive)
+     * to {@code end} (exclusive).
+     *
+     * @param values  the array to read elements from
+     * @param indices the positions of the elements in {@code values}
+     * @param end     the ending position in {@code indices} (exclusive)
+     * @param index   the starting position in {@code indices} (inclusive)
+     */
+    public GatherDoubleArrayIterator(double[] values, int[] indices, int end, int index) {
+        this.values = values;
+        this.indices = indices;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < end;
+    }
+
+    @Override
+    public double nextDouble() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return values[indices[index++]];
+    }
+
+    @Override
+    public Double next() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return values[indices[index++]];
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Immutable iterator");
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+        var i = index;
+        index = end;
+        for (; i < end; ++i) {
+            action.accept(values[indices[i]]);
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Double> action) {
+        var i = index;
+        index = end;
+        for (; i < end; ++i) {
+            action.accept(values[indices[i]]);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+
+/**
+ * A spliterator over the elements of a {@code double[]} array picked through a range of an {@code int[]} index array.
+ * <p>
+ * Splits in constant time by halving the remaining range of positions in the index array.
+ */
+public final class GatherDoubleArraySpliterator implements Spliterator.OfDouble {
+    private final double[] values;
+    private final int[] indices;
+    private final int end;
+    private int index;
+
+    /**
+     * Constructs a new spliterator over {@code values[indices[i]]} for {@code i} from {@code index} (inclusive)
+     * to {@code end} (exclusive).
+     *
+     * @param values  the array to read elements from
+     * @param indices the positions of the elements in {@code values}
+     * @param end     the ending position in {@code indices} (exclusive)
+     * @param index   the starting position in {@code indices} (inclusive)
+     */
+    public GatherDoubleArraySpliterator(double[] values, int[] indices, int end, int index) {
+        this.values = values;
+        this.indices = indices;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean tryAdvance(DoubleConsumer action) {
+        if (index >= end) {
+            return false;
+        }
+        action.accept(values[indices[index++]]);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+        var i = index;
+        index = end;
+        for (; i < end; ++i) {
+            action.accept(values[indices[i]]);
+        }
+    }
+
+    @Override
+    public Spliterator.OfDouble trySplit() {
+        var low = index;
+        var mid = (low + end) >>> 1;
+        if (low >= mid) {
+            return null;
+        }
+        index = mid;
+        return new GatherDoubleArraySpliterator(values, indices, mid, low);
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE;
+    }
+}
@@ -0,0 +1,102 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * An iterable over the elements of a {@code long[]} array picked through a range of an {@code int[]} index array.
+ * <p>
+ * The {@code k}-th element is {@code values[indices[start + k]]}, so a permutation or the row positions
+ * produced by a sort or a join can be traversed without materializing the gathered values first.
+ * Neither array is copied; indices are not validated up front, an out-of-range index fails when it is reached.
+ */
+public final class GatherLongArrayIterable implements LongIterable {
+    private final long[] values;
+    private final int[] indices;
+    private final int start;
+    private final int end;
+
+    /**
+     * Constructs an iterable over {@code values[indices[i]]} for {@code i} from {@code start} (inclusive)
+     * to {@code end} (exclusive).
+     *
+     * @param values  the array to read elements from
+     * @param indices the positions of the elements in {@code values}
+     * @param start   the starting position in {@code indices} (inclusive)
+     * @param end     the ending position in {@code indices} (exclusive)
+     */
+    public GatherLongArrayIterable(long[] values, int[] indices, int start, int end) {
+        this.values = values;
+        this.indices = indices;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new GatherLongArrayIterator(values, indices, end, start);
+    }
+
+    @Override
+    public void forEach(Consumer<? super Long> action) {
+        for (var i = start; i < end; ++i) {
+            action.accept(values[indices[i]]);
+        }
+    }
+
+    @Override
+    public void forEach(LongConsumer action) {
+        for (var i = start; i < end; ++i) {
+            action.accept(values[indices[i]]);
+        }
+    }
+
+    @Override
+    public Spliterator.OfLong spliterator() {
+        return new GatherLongArraySpliterator(values, indices, end, start);
+    }
+
+    @Override
+    public long count() {
+        return end - start;
+    }
+
+    @Override
+    public long[] toArray() {
+        var ret = new long[end - start];
+        gatherInto(ret, 0);
+        return ret;
+    }
+
+    /**
+     * Writes the gathered elements into {@code destination}, starting at {@code offset}.
+     *
+     * @param destination the array to write into
+     * @param offset      the index of the first element to write
+     * @throws NullPointerException           if {@code destination} is null
+     * @throws ArrayIndexOutOfBoundsException if {@code destination} holds fewer than {@code offset + (end - start)} elements
+     *                                        or an index is out of range of {@code values}
+     */
+    public void gatherInto(long[] destination, int offset) {
+        Objects.requireNonNull(destination);
+        Util.checkBounds(destination.length, offset, offset + (end - start));
+        for (var i = start; i < end; ++i) {
+            destination[offset++] = values[indices[i]];
+        }
+    }
+
+    /**
+     * Writes the gathered elements into the beginning of {@code destination}.
+     *
+     * @param destination the array to write into
+     * @throws NullPointerException           if {@code destination} is null
+     * @throws ArrayIndexOutOfBoundsException if {@code destination} holds fewer than {@code end - start} elements
+     *                                        or an index is out of range of {@code values}
+     */
+    public void gatherInto(long[] destination) {
+        gatherInto(destination, 0);
+    }
+}
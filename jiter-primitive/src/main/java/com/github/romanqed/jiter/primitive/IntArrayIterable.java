@@ -1,10 +1,17 @@
 package com.github.romanqed.jiter.primitive;
 
+import java.util.Arrays;
+import java.util.IntSummaryStatistics;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
 import java.util.PrimitiveIterator;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.function.Consumer;
+import java.util.function.IntBinaryOperator;
 import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
 
 /**
  * A primitive {@link IntIterable} implementation over a range of an {@code int[]} array.
@@ -52,4 +59,167 @@ public final class IntArrayIterable implements IntIterable {
     public Spliterator.OfInt spliterator() {
         return Spliterators.spliterator(array, start, end, Spliterator.SIZED | Spliterator.IMMUTABLE);
     }
+
+    @Override
+    public boolean forEachWhile(IntPredicate action) {
+        for (var i = start; i < end; ++i) {
+            if (!action.test(array[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public IntIterable limit(long maxSize) {
+        Util.checkCount(maxSize);
+        return end - start > maxSize ? new IntArrayIterable(array, start, start + (int) maxSize) : this;
+    }
+
+    @Override
+    public IntIterable skip(long count) {
+        Util.checkCount(count);
+        return end - start > count ? new IntArrayIterable(array, start + (int) count, end) : new IntArrayIterable(array, end, end);
+    }
+
+    @Override
+    public int[] toArray() {
+        return Arrays.copyOfRange(array, start, end);
+    }
+
+    @Override
+    public void forEachChunk(int chunkSize, IntChunkConsumer action) {
+        Util.checkChunkSize(chunkSize);
+        Objects.requireNonNull(action);
+        var from = start;
+        while (from < end) {
+            var to = end - from > chunkSize ? from + chunkSize : end;
+            action.accept(array, from, to);
+            from = to;
+        }
+    }
+
+    @Override
+    public long count() {
+        return end - start;
+    }
+
+    @Override
+    public long sum() {
+        return Kernels.sum(array, start, end);
+    }
+
+    @Override
+    public OptionalInt min() {
+        return start < end ? OptionalInt.of(Kernels.min(array, start, end)) : OptionalInt.empty();
+    }
+
+    @Override
+    public OptionalInt max() {
+        return start < end ? OptionalInt.of(Kernels.max(array, start, end)) : OptionalInt.empty();
+    }
+
+    @Override
+    public OptionalDouble average() {
+        return start < end ? OptionalDouble.of((double) Kernels.sum(array, start, end) / (end - start)) : OptionalDouble.empty();
+    }
+
+    @Override
+    public IntSummaryStatistics summaryStatistics() {
+        return Reductions.statistics(array, start, end);
+    }
+
+    @Override
+    public int reduce(int identity, IntBinaryOperator op) {
+        return Reductions.reduce(array, start, end, identity, op);
+    }
+
+    @Override
+    public long parallelSum(int threshold) {
+        return Reductions.invoke(start, end, threshold, (from, to) -> Kernels.sum(array, from, to), Long::sum);
+    }
+
+    @Override
+    public OptionalInt parallelMin(int threshold) {
+        var ret = Reductions.invoke(start, end, threshold, (from, to) -> Kernels.min(array, from, to), Math::min);
+        return start < end ? OptionalInt.of(ret) : OptionalInt.empty();
+    }
+
+    @Override
+    public OptionalInt parallelMax(int threshold) {
+        var ret = Reductions.invoke(start, end, threshold, (from, to) -> Kernels.max(array, from, to), Math::max);
+        return start < end ? OptionalInt.of(ret) : OptionalInt.empty();
+    }
+
+    @Override
+    public OptionalDouble parallelAverage(int threshold) {
+        var sum = parallelSum(threshold);
+        return start < end ? OptionalDouble.of((double) sum / (end - start)) : OptionalDouble.empty();
+    }
+
+    @Override
+    public IntSummaryStatistics parallelSummaryStatistics(int threshold) {
+        return Reductions.invoke(
+                start,
+                end,
+                threshold,
+                (from, to) -> Reductions.statistics(array, from, to),
+                Reductions::combine
+        );
+    }
+
+    @Override
+    public int parallelReduce(int identity, IntBinaryOperator op, int threshold) {
+        return Reductions.invoke(
+                start,
+                end,
+                threshold,
+                (from, to) -> Reductions.reduce(array, from, to, identity, op),
+                op::applyAsInt
+        );
+    }
+
+    /**
+     * Computes the dot product of this slice and the same number of elements of {@code other}
+     * starting at {@code offset}. Products are accumulated in {@code long}.
+     *
+     * @param other  the second operand
+     * @param offset the index of the first element of {@code other} to use
+     * @return the dot product
+     * @throws NullPointerException           if {@code other} is null
+     * @throws ArrayIndexOutOfBoundsException if {@code other} holds fewer than {@code offset + count()} elements
+     */
+    public long dot(int[] other, int offset) {
+        Objects.requireNonNull(other);
+        Util.checkBounds(other.length, offset, offset + (end - start));
+        return Kernels.dot(array, start, end, other, offset);
+    }
+
+    /**
+     * Counts the elements that are greater than or equal to {@code from} and less than {@code to}.
+     *
+     * @param from the lower bound (inclusive)
+     * @param to   the upper bound (exclusive)
+     * @return the number of matching elements
+     */
+    public long countInRange(int from, int to) {
+        return Kernels.countInRange(array, start, end, from, to);
+    }
+
+    /**
+     * Writes {@code element * factor + addend} for every element of this slice into {@code destination},
+     * starting at {@code offset}.
+     *
+     * @param destination the array to write into
+     * @param offset      the index of the first element to write
+     * @param factor      the value to multiply every element by
+     * @param addend      the value to add to every product
+     * @throws NullPointerException           if {@code destination} is null
+     * @throws ArrayIndexOutOfBoundsException if {@code destination} holds fewer than {@code offset + count()} elements
+     */
+    public void multiplyAddInto(int[] destination, int offset, int factor, int addend) {
+        Objects.requireNonNull(destination);
+        Util.checkBounds(destination.length, offset, offset + (end - start));
+        Kernels.multiplyAdd(array, start, end, destination, offset, factor, addend);
+    }
 }
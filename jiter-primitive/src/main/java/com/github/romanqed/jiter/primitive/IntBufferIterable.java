@@ -0,0 +1,56 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.nio.IntBuffer;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * A primitive {@link IntIterable} implementation over a range of an {@link IntBuffer}.
+ * <p>
+ * Works with heap, direct and view buffers alike without copying them. Elements are read with absolute
+ * {@link IntBuffer#get(int)}, so the buffer position is never changed.
+ */
+public final class IntBufferIterable implements IntIterable {
+    private final IntBuffer buffer;
+    private final int start;
+    private final int end;
+
+    /**
+     * Constructs an iterable over the specified {@link IntBuffer} from {@code start} (inclusive) to {@code end} (exclusive).
+     *
+     * @param buffer the source buffer
+     * @param start  the starting index (inclusive)
+     * @param end    the ending index (exclusive)
+     */
+    public IntBufferIterable(IntBuffer buffer, int start, int end) {
+        this.buffer = buffer;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new IntBufferIterator(buffer, end, start);
+    }
+
+    @Override
+    public void forEach(Consumer<? super Integer> action) {
+        for (var i = start; i < end; ++i) {
+            action.accept(buffer.get(i));
+        }
+    }
+
+    @Override
+    public void forEach(IntConsumer action) {
+        for (var i = start; i < end; ++i) {
+            action.accept(buffer.get(i));
+        }
+    }
+
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new IntBufferSpliterator(buffer, end, start);
+    }
+}
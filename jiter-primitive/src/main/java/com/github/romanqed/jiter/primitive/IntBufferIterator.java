@@ -0,0 +1,72 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.nio.IntBuffer;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * A primitive {@link PrimitiveIterator.OfInt} implementation over a subrange of an {@link IntBuffer}.
+ * <p>
+ * Elements are read with absolute {@link IntBuffer#get(int)}, so the buffer position is never changed.
+ * Immutable and non-thread-safe.
+ */
+public final class IntBufferIterator implements PrimitiveIterator.OfInt {
+    private final IntBuffer buffer;
+    private final int end;
+    private int index;
+
+    /**
+     * Constructs a new iterator over an {@link IntBuffer} from {@code index} (inclusive) to {@code end} (exclusive).
+     *
+     * @param buffer the source buffer
+     * @param end    the exclusive end index
+     * @param index  the starting index (inclusive)
+     */
+    public IntBufferIterator(IntBuffer buffer, int end, int index) {
+        this.buffer = buffer;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < end;
+    }
+
+    @Override
+    public int nextInt() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return buffer.get(index++);
+    }
+
+    @Override
+    public Integer next() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return buffer.get(index++);
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Immutable iterator");
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        while (index < end) {
+            action.accept(buffer.get(index++));
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Integer> action) {
+        while (index < end) {
+            action.accept(buffer.get(index++));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.nio.IntBuffer;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+/**
+ * A {@link Spliterator.OfInt} over a subrange of an {@link IntBuffer}.
+ * <p>
+ * Splits in constant time by halving the remaining range and reads elements with absolute
+ * {@link IntBuffer#get(int)}, so the buffer position is never changed.
+ */
+public final class IntBufferSpliterator implements Spliterator.OfInt {
+    private final IntBuffer buffer;
+    private final int end;
+    private int index;
+
+    /**
+     * Constructs a new spliterator over an {@link IntBuffer} from {@code index} (inclusive) to {@code end} (exclusive).
+     *
+     * @param buffer the source buffer
+     * @param end    the exclusive end index
+     * @param index  the starting index (inclusive)
+     */
+    public IntBufferSpliterator(IntBuffer buffer, int end, int index) {
+        this.buffer = buffer;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+        if (index >= end) {
+            return false;
+        }
+        action.accept(buffer.get(index++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        var i = index;
+        index = end;
+        for (; i < end; ++i) {
+            action.accept(buffer.get(i));
+        }
+    }
+
+    @Override
+    public Spliterator.OfInt trySplit() {
+        var low = index;
+        var mid = (low + end) >>> 1;
+        if (low >= mid) {
+            return null;
+        }
+        index = mid;
+        return new IntBufferSpliterator(buffer, mid, low);
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+}
@@ -1,8 +1,18 @@
 package com.github.romanqed.jiter.primitive;
 
+import java.util.Arrays;
+import java.util.IntSummaryStatistics;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
 import java.util.PrimitiveIterator;
 import java.util.Spliterator;
+import java.util.function.IntBinaryOperator;
 import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
 
 /**
  * A primitive iterable over {@code int} values, exposing {@link PrimitiveIterator.OfInt}
@@ -33,4 +43,344 @@ public interface IntIterable extends PrimitiveIterable<Integer, IntConsumer, Spl
      */
     @Override
     Spliterator.OfInt spliterator();
+
+    /**
+     * Returns a lazy view applying {@code mapper} to every element.
+     *
+     * @param mapper the function to apply to each element
+     * @return a {@link IntIterable} over the mapped elements
+     * @throws NullPointerException if {@code mapper} is null
+     */
+    default IntIterable map(IntUnaryOperator mapper) {
+        return new IntPipelines.MapFromInt(this, mapper);
+    }
+
+    /**
+     * Returns a lazy view applying {@code mapper} to every element, producing {@code long} values.
+     *
+     * @param mapper the function to apply to each element
+     * @return a {@link LongIterable} over the mapped elements
+     * @throws NullPointerException if {@code mapper} is null
+     */
+    default LongIterable mapToLong(IntToLongFunction mapper) {
+        return new LongPipelines.MapFromInt(this, mapper);
+    }
+
+    /**
+     * Returns a lazy view applying {@code mapper} to every element, producing {@code double} values.
+     *
+     * @param mapper the function to apply to each element
+     * @return a {@link DoubleIterable} over the mapped elements
+     * @throws NullPointerException if {@code mapper} is null
+     */
+    default DoubleIterable mapToDouble(IntToDoubleFunction mapper) {
+        return new DoublePipelines.MapFromInt(this, mapper);
+    }
+
+    /**
+     * Returns a lazy view over the elements matching {@code predicate}.
+     *
+     * @param predicate the predicate to test each element against
+     * @return a {@link IntIterable} over the matching elements
+     * @throws NullPointerException if {@code predicate} is null
+     */
+    default IntIterable filter(IntPredicate predicate) {
+        return new IntPipelines.Filter(this, predicate);
+    }
+
+    /**
+     * Returns a lazy view over at most the first {@code maxSize} elements.
+     *
+     * @param maxSize the maximum number of elements
+     * @return a {@link IntIterable} over the leading elements
+     * @throws IllegalArgumentException if {@code maxSize} is negative
+     */
+    default IntIterable limit(long maxSize) {
+        return new IntPipelines.Limit(this, maxSize);
+    }
+
+    /**
+     * Returns a lazy view over the elements remaining after the first {@code count} are discarded.
+     *
+     * @param count the number of leading elements to discard
+     * @return a {@link IntIterable} over the remaining elements
+     * @throws IllegalArgumentException if {@code count} is negative
+     */
+    default IntIterable skip(long count) {
+        return new IntPipelines.Skip(this, count);
+    }
+
+    /**
+     * Copies the elements into a new array.
+     *
+     * @return an array holding the elements
+     */
+    default int[] toArray() {
+        var size = spliterator().getExactSizeIfKnown();
+        var ret = new int[size >= 0 && size <= Integer.MAX_VALUE - 8 ? (int) size : 16];
+        var count = 0;
+        for (var iterator = iterator(); iterator.hasNext(); ) {
+            if (count == ret.length) {
+                ret = Arrays.copyOf(ret, count * 2);
+            }
+            ret[count++] = iterator.nextInt();
+        }
+        return count == ret.length ? ret : Arrays.copyOf(ret, count);
+    }
+
+    /**
+     * Passes the elements to {@code action} in order until it returns {@code false}.
+     * <p>
+     * The stages created by {@code map}, {@code filter}, {@code limit} and {@code skip} hand the action down
+     * to their source, so a short-circuiting traversal of a chain over an array slice still runs as a single
+     * loop over the array.
+     *
+     * @param action the action to perform on each element, returning whether to continue
+     * @return {@code true} if the traversal ran to the end, {@code false} if {@code action} stopped it
+     */
+    default boolean forEachWhile(IntPredicate action) {
+        for (var iterator = iterator(); iterator.hasNext(); ) {
+            if (!action.test(iterator.nextInt())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether any element matches {@code predicate}, stopping at the first match.
+     *
+     * @param predicate the predicate to test elements against
+     * @return {@code true} if any element matches, {@code false} otherwise
+     */
+    default boolean anyMatch(IntPredicate predicate) {
+        return !forEachWhile(value -> !predicate.test(value));
+    }
+
+    /**
+     * Returns whether all elements match {@code predicate}, stopping at the first mismatch.
+     *
+     * @param predicate the predicate to test elements against
+     * @return {@code true} if every element matches or there are none, {@code false} otherwise
+     */
+    default boolean allMatch(IntPredicate predicate) {
+        return !anyMatch(predicate.negate());
+    }
+
+    /**
+     * Returns whether no element matches {@code predicate}, stopping at the first match.
+     *
+     * @param predicate the predicate to test elements against
+     * @return {@code true} if no element matches, {@code false} otherwise
+     */
+    default boolean noneMatch(IntPredicate predicate) {
+        return !anyMatch(predicate);
+    }
+
+    /**
+     * Returns the first element, or an empty optional if there are none.
+     *
+     * @return an {@link OptionalInt} containing the first element
+     */
+    default OptionalInt findFirst() {
+        var iterator = iterator();
+        return iterator.hasNext() ? OptionalInt.of(iterator.nextInt()) : OptionalInt.empty();
+    }
+
+    /**
+     * Passes the elements to {@code action} as consecutive array ranges, each holding at most
+     * {@code chunkSize} elements.
+     * <p>
+     * The default implementation copies the elements into a buffer that is reused between calls;
+     * array-backed implementations hand out ranges of the backing array instead.
+     *
+     * @param chunkSize the maximum number of elements per range, must be positive
+     * @param action    the action to perform on each range
+     * @throws IllegalArgumentException if {@code chunkSize} is less than 1
+     * @throws NullPointerException     if {@code action} is null
+     */
+    default void forEachChunk(int chunkSize, IntChunkConsumer action) {
+        Util.checkChunkSize(chunkSize);
+        Objects.requireNonNull(action);
+        var size = spliterator().getExactSizeIfKnown();
+        var buffer = new int[size < 0 ? chunkSize : (int) Math.min(size, chunkSize)];
+        var iterator = iterator();
+        var count = 0;
+        while (iterator.hasNext()) {
+            buffer[count++] = iterator.nextInt();
+            if (count == buffer.length) {
+                action.accept(buffer, 0, count);
+                count = 0;
+            }
+        }
+        if (count > 0) {
+            action.accept(buffer, 0, count);
+        }
+    }
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return the number of elements
+     */
+    default long count() {
+        var ret = spliterator().getExactSizeIfKnown();
+        if (ret >= 0) {
+            return ret;
+        }
+        var count = new long[1];
+        forEach((IntConsumer) value -> ++count[0]);
+        return count[0];
+    }
+
+    /**
+     * Returns the sum of the elements, or {@code 0} if there are none.
+     * <p>
+     * Sums are accumulated in {@code long}, so they do not overflow for slices of up to 2<sup>32</sup> elements.
+     *
+     * @return the sum of the elements
+     */
+    default long sum() {
+        return summaryStatistics().getSum();
+    }
+
+    /**
+     * Returns the smallest element, or an empty optional if there are none.
+     *
+     * @return an {@link OptionalInt} containing the smallest element
+     */
+    default OptionalInt min() {
+        var statistics = summaryStatistics();
+        return statistics.getCount() == 0 ? OptionalInt.empty() : OptionalInt.of(statistics.getMin());
+    }
+
+    /**
+     * Returns the largest element, or an empty optional if there are none.
+     *
+     * @return an {@link OptionalInt} containing the largest element
+     */
+    default OptionalInt max() {
+        var statistics = summaryStatistics();
+        return statistics.getCount() == 0 ? OptionalInt.empty() : OptionalInt.of(statistics.getMax());
+    }
+
+    /**
+     * Returns the arithmetic mean of the elements, or an empty optional if there are none.
+     *
+     * @return an {@link OptionalDouble} containing the average
+     */
+    default OptionalDouble average() {
+        var statistics = summaryStatistics();
+        return statistics.getCount() == 0 ? OptionalDouble.empty() : OptionalDouble.of(statistics.getAverage());
+    }
+
+    /**
+     * Collects count, sum, min, max and average of the elements in a single pass.
+     *
+     * @return a new {@link IntSummaryStatistics} describing the elements
+     */
+    default IntSummaryStatistics summaryStatistics() {
+        var ret = new IntSummaryStatistics();
+        forEach((IntConsumer) ret);
+        return ret;
+    }
+
+    /**
+     * Folds the elements from left to right using the given operator, starting with {@code identity}.
+     *
+     * @param identity the initial value, which must be an identity for {@code op}
+     * @param op       an associative operator combining two values
+     * @return the result of the reduction
+     */
+    default int reduce(int identity, IntBinaryOperator op) {
+        var ret = new int[]{identity};
+        forEach((IntConsumer) value -> ret[0] = op.applyAsInt(ret[0], value));
+        return ret[0];
+    }
+
+    /**
+     * Returns the sum of the elements, computed in parallel on the common {@link java.util.concurrent.ForkJoinPool}.
+     * <p>
+     * The elements are split until a part holds at most {@code threshold} elements; parts are then
+     * summed sequentially and the partial results combined.
+     *
+     * @param threshold the maximum number of elements processed by a single task, must be positive
+     * @return the sum of the elements
+     * @throws IllegalArgumentException if {@code threshold} is less than 1
+     */
+    default long parallelSum(int threshold) {
+        return parallelSummaryStatistics(threshold).getSum();
+    }
+
+    /**
+     * Returns the smallest element, computed in parallel. See {@link #parallelSum(int)} for the meaning of {@code threshold}.
+     *
+     * @param threshold the maximum number of elements processed by a single task, must be positive
+     * @return an {@link OptionalInt} containing the smallest element
+     * @throws IllegalArgumentException if {@code threshold} is less than 1
+     */
+    default OptionalInt parallelMin(int threshold) {
+        var statistics = parallelSummaryStatistics(threshold);
+        return statistics.getCount() == 0 ? OptionalInt.empty() : OptionalInt.of(statistics.getMin());
+    }
+
+    /**
+     * Returns the largest element, computed in parallel. See {@link #parallelSum(int)} for the meaning of {@code threshold}.
+     *
+     * @param threshold the maximum number of elements processed by a single task, must be positive
+     * @return an {@link OptionalInt} containing the largest element
+     * @throws IllegalArgumentException if {@code threshold} is less than 1
+     */
+    default OptionalInt parallelMax(int threshold) {
+        var statistics = parallelSummaryStatistics(threshold);
+        return statistics.getCount() == 0 ? OptionalInt.empty() : OptionalInt.of(statistics.getMax());
+    }
+
+    /**
+     * Returns the arithmetic mean of the elements, computed in parallel.
+     * See {@link #parallelSum(int)} for the meaning of {@code threshold}.
+     *
+     * @param threshold the maximum number of elements processed by a single task, must be positive
+     * @return an {@link OptionalDouble} containing the average
+     * @throws IllegalArgumentException if {@code threshold} is less than 1
+     */
+    default OptionalDouble parallelAverage(int threshold) {
+        var statistics = parallelSummaryStatistics(threshold);
+        return statistics.getCount() == 0 ? OptionalDouble.empty() : OptionalDouble.of(statistics.getAverage());
+    }
+
+    /**
+     * Collects summary statistics of the elements in parallel.
+     * See {@link #parallelSum(int)} for the meaning of {@code threshold}.
+     *
+     * @param threshold the maximum number of elements processed by a single task, must be positive
+     * @return a new {@link IntSummaryStatistics} describing the elements
+     * @throws IllegalArgumentException if {@code threshold} is less than 1
+     */
+    default IntSummaryStatistics parallelSummaryStatistics(int threshold) {
+        return Reductions.invoke(spliterator(), threshold, spliterator -> {
+            var ret = new IntSummaryStatistics();
+            spliterator.forEachRemaining((IntConsumer) ret);
+            return ret;
+        }, Reductions::combine);
+    }
+
+    /**
+     * Reduces the elements in parallel using the given operator.
+     * Partial results are combined in encounter order, so {@code op} needs to be associative but not commutative.
+     * See {@link #parallelSum(int)} for the meaning of {@code threshold}.
+     *
+     * @param identity  the initial value of every partial reduction, which must be an identity for {@code op}
+     * @param op        an associative operator combining two values
+     * @param threshold the maximum number of elements processed by a single task, must be positive
+     * @return the result of the reduction
+     * @throws IllegalArgumentException if {@code threshold} is less than 1
+     */
+    default int parallelReduce(int identity, IntBinaryOperator op, int threshold) {
+        return Reductions.invoke(spliterator(), threshold, spliterator -> {
+            var ret = new int[]{identity};
+            spliterator.forEachRemaining((IntConsumer) value -> ret[0] = op.applyAsInt(ret[0], value));
+            return ret[0];
+        }, op::applyAsInt);
+    }
 }
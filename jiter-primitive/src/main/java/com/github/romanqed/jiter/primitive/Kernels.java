@@ -0,0 +1,85 @@
+package com.github.romanqed.jiter.primitive;
+
+/**
+ * Entry point for the bulk kernels used by the primitive array iterables.
+ * <p>
+ * This is the Java 11 variant, which always uses {@link ScalarKernels}. The multi-release jar
+ * replaces it on Java 17+ with a variant that dispatches to {@code jdk.incubator.vector} when
+ * that module is present in the boot layer.
+ */
+final class Kernels {
+    private Kernels() {
+    }
+
+    static long sum(int[] array, int start, int end) {
+        return ScalarKernels.sum(array, start, end);
+    }
+
+    static int min(int[] array, int start, int end) {
+        return ScalarKernels.min(array, start, end);
+    }
+
+    static int max(int[] array, int start, int end) {
+        return ScalarKernels.max(array, start, end);
+    }
+
+    static long dot(int[] array, int start, int end, int[] other, int offset) {
+        return ScalarKernels.dot(array, start, end, other, offset);
+    }
+
+    static long countInRange(int[] array, int start, int end, int from, int to) {
+        return ScalarKernels.countInRange(array, start, end, from, to);
+    }
+
+    static void multiplyAdd(int[] array, int start, int end, int[] destination, int offset, int factor, int addend) {
+        ScalarKernels.multiplyAdd(array, start, end, destination, offset, factor, addend);
+    }
+
+    static long sum(long[] array, int start, int end) {
+        return ScalarKernels.sum(array, start, end);
+    }
+
+    static long min(long[] array, int start, int end) {
+        return ScalarKernels.min(array, start, end);
+    }
+
+    static long max(long[] array, int start, int end) {
+        return ScalarKernels.max(array, start, end);
+    }
+
+    static long dot(long[] array, int start, int end, long[] other, int offset) {
+        return ScalarKernels.dot(array, start, end, other, offset);
+    }
+
+    static long countInRange(long[] array, int start, int end, long from, long to) {
+        return ScalarKernels.countInRange(array, start, end, from, to);
+    }
+
+    static void multiplyAdd(long[] array, int start, int end, long[] destination, int offset, long factor, long addend) {
+        ScalarKernels.multiplyAdd(array, start, end, destination, offset, factor, addend);
+    }
+
+    static double sum(double[] array, int start, int end) {
+        return ScalarKernels.sum(array, start, end);
+    }
+
+    static double min(double[] array, int start, int end) {
+        return ScalarKernels.min(array, start, end);
+    }
+
+    static double max(double[] array, int start, int end) {
+        return ScalarKernels.max(array, start, end);
+    }
+
+    static double dot(double[] array, int start, int end, double[] other, int offset) {
+        return ScalarKernels.dot(array, start, end, other, offset);
+    }
+
+    static long countInRange(double[] array, int start, int end, double from, double to) {
+        return ScalarKernels.countInRange(array, start, end, from, to);
+    }
+
+    static void multiplyAdd(double[] array, int start, int end, double[] destination, int offset, double factor, double addend) {
+        ScalarKernels.multiplyAdd(array, start, end, destination, offset, factor, addend);
+    }
+}
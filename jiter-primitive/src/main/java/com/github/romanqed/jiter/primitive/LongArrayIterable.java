@@ -1,10 +1,17 @@
 package com.github.romanqed.jiter.primitive;
 
+import java.util.Arrays;
+import java.util.LongSummaryStatistics;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
 import java.util.PrimitiveIterator;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.function.Consumer;
+import java.util.function.LongBinaryOperator;
 import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
 
 /**
  * A primitive {@link LongIterable} implementation over a range of a {@code long[]} array.
@@ -52,4 +59,167 @@ public final class LongArrayIterable implements LongIterable {
     public Spliterator.OfLong spliterator() {
         return Spliterators.spliterator(array, start, end, Spliterator.SIZED | Spliterator.IMMUTABLE);
     }
+
+    @Override
+    public boolean forEachWhile(LongPredicate action) {
+        for (var i = start; i < end; ++i) {
+            if (!action.test(array[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public LongIterable limit(long maxSize) {
+        Util.checkCount(maxSize);
+        return end - start > maxSize ? new LongArrayIterable(array, start, start + (int) maxSize) : this;
+    }
+
+    @Override
+    public LongIterable skip(long count) {
+        Util.checkCount(count);
+        return end - start > count ? new LongArrayIterable(array, start + (int) count, end) : new LongArrayIterable(array, end, end);
+    }
+
+    @Override
+    public long[] toArray() {
+        return Arrays.copyOfRange(array, start, end);
+    }
+
+    @Override
+    public void forEachChunk(int chunkSize, LongChunkConsumer action) {
+        Util.checkChunkSize(chunkSize);
+        Objects.requireNonNull(action);
+        var from = start;
+        while (from < end) {
+            var to = end - from > chunkSize ? from + chunkSize : end;
+            action.accept(array, from, to);
+            from = to;
+        }
+    }
+
+    @Override
+    public long count() {
+        return end - start;
+    }
+
+    @Override
+    public long sum() {
+        return Kernels.sum(array, start, end);
+    }
+
+    @Override
+    public OptionalLong min() {
+        return start < end ? OptionalLong.of(Kernels.min(array, start, end)) : OptionalLong.empty();
+    }
+
+    @Override
+    public OptionalLong max() {
+        return start < end ? OptionalLong.of(Kernels.max(array, start, end)) : OptionalLong.empty();
+    }
+
+    @Override
+    public OptionalDouble average() {
+        return start < end ? OptionalDouble.of((double) Kernels.sum(array, start, end) / (end - start)) : OptionalDouble.empty();
+    }
+
+    @Override
+    public LongSummaryStatistics summaryStatistics() {
+        return Reductions.statistics(array, start, end);
+    }
+
+    @Override
+    public long reduce(long identity, LongBinaryOperator op) {
+        return Reductions.reduce(array, start, end, identity, op);
+    }
+
+    @Override
+    public long parallelSum(int threshold) {
+        return Reductions.invoke(start, end, threshold, (from, to) -> Kernels.sum(array, from, to), Long::sum);
+    }
+
+    @Override
+    public OptionalLong parallelMin(int threshold) {
+        var ret = Reductions.invoke(start, end, threshold, (from, to) -> Kernels.min(array, from, to), Math::min);
+        return start < end ? OptionalLong.of(ret) : OptionalLong.empty();
+    }
+
+    @Override
+    public OptionalLong parallelMax(int threshold) {
+        var ret = Reductions.invoke(start, end, threshold, (from, to) -> Kernels.max(array, from, to), Math::max);
+        return start < end ? OptionalLong.of(ret) : OptionalLong.empty();
+    }
+
+    @Override
+    public OptionalDouble parallelAverage(int threshold) {
+        var sum = parallelSum(threshold);
+        return start < end ? OptionalDouble.of((double) sum / (end - start)) : OptionalDouble.empty();
+    }
+
+    @Override
+    public LongSummaryStatistics parallelSummaryStatistics(int threshold) {
+        return Reductions.invoke(
+                start,
+                end,
+                threshold,
+                (from, to) -> Reductions.statistics(array, from, to),
+                Reductions::combine
+        );
+    }
+
+    @Override
+    public long parallelReduce(long identity, LongBinaryOperator op, int threshold) {
+        return Reductions.invoke(
+                start,
+                end,
+                threshold,
+                (from, to) -> Reductions.reduce(array, from, to, identity, op),
+                op::applyAsLong
+        );
+    }
+
+    /**
+     * Computes the dot product of this slice and the same number of elements of {@code other}
+     * starting at {@code offset}. The result wraps around on overflow, as {@code long} arithmetic does.
+     *
+     * @param other  the second operand
+     * @param offset the index of the first element of {@code other} to use
+     * @return the dot product
+     * @throws NullPointerException           if {@code other} is null
+     * @throws ArrayIndexOutOfBoundsException if {@code other} holds fewer than {@code offset + count()} elements
+     */
+    public long dot(long[] other, int offset) {
+        Objects.requireNonNull(other);
+        Util.checkBounds(other.length, offset, offset + (end - start));
+        return Kernels.dot(array, start, end, other, offset);
+    }
+
+    /**
+     * Counts the elements that are greater than or equal to {@code from} and less than {@code to}.
+     *
+     * @param from the lower bound (inclusive)
+     * @param to   the upper bound (exclusive)
+     * @return the number of matching elements
+     */
+    public long countInRange(long from, long to) {
+        return Kernels.countInRange(array, start, end, from, to);
+    }
+
+    /**
+     * Writes {@code element * factor + addend} for every element of this slice into {@code destination},
+     * starting at {@code offset}.
+     *
+     * @param destination the array to write into
+     * @param offset      the index of the first element to write
+     * @param factor      the value to multiply every element by
+     * @param addend      the value to add to every product
+     * @throws NullPointerException           if {@code destination} is null
+     * @throws ArrayIndexOutOfBoundsException if {@code destination} holds fewer than {@code offset + count()} elements
+     */
+    public void multiplyAddInto(long[] destination, int offset, long factor, long addend) {
+        Objects.requireNonNull(destination);
+        Util.checkBounds(destination.length, offset, offset + (end - start));
+        Kernels.multiplyAdd(array, start, end, destination, offset, factor, addend);
+    }
 }
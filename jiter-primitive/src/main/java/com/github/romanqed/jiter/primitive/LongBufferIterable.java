@@ -0,0 +1,56 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.nio.LongBuffer;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * A primitive {@link LongIterable} implementation over a range of a {@link LongBuffer}.
+ * <p>
+ * Works with heap, direct and view buffers alike without copying them. Elements are read with absolute
+ * {@link LongBuffer#get(int)}, so the buffer position is never changed.
+ */
+public final class LongBufferIterable implements LongIterable {
+    private final LongBuffer buffer;
+    private final int start;
+    private final int end;
+
+    /**
+     * Constructs an iterable over the specified {@link LongBuffer} from {@code start} (inclusive) to {@code end} (exclusive).
+     *
+     * @param buffer the source buffer
+     * @param start  the starting index (inclusive)
+     * @param end    the ending index (exclusive)
+     */
+    public LongBufferIterable(LongBuffer buffer, int start, int end) {
+        this.buffer = buffer;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new LongBufferIterator(buffer, end, start);
+    }
+
+    @Override
+    public void forEach(Consumer<? super Long> action) {
+        for (var i = start; i < end; ++i) {
+            action.accept(buffer.get(i));
+        }
+    }
+
+    @Override
+    public void forEach(LongConsumer action) {
+        for (var i = start; i < end; ++i) {
+            action.accept(buffer.get(i));
+        }
+    }
+
+    @Override
+    public Spliterator.OfLong spliterator() {
+        return new LongBufferSpliterator(buffer, end, start);
+    }
+}
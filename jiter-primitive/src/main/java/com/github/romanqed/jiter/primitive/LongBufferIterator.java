@@ -0,0 +1,72 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.nio.LongBuffer;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * A primitive {@link PrimitiveIterator.OfLong} implementation over a subrange of a {@link LongBuffer}.
+ * <p>
+ * Elements are read with absolute {@link LongBuffer#get(int)}, so the buffer position is never changed.
+ * Immutable and non-thread-safe.
+ */
+public final class LongBufferIterator implements PrimitiveIterator.OfLong {
+    private final LongBuffer buffer;
+    private final int end;
+    private int index;
+
+    /**
+     * Constructs a new iterator over a {@link LongBuffer} from {@code index} (inclusive) to {@code end} (exclusive).
+     *
+     * @param buffer the source buffer
+     * @param end    the exclusive end index
+     * @param index  the starting index (inclusive)
+     */
+    public LongBufferIterator(LongBuffer buffer, int end, int index) {
+        this.buffer = buffer;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < end;
+    }
+
+    @Override
+    public long nextLong() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return buffer.get(index++);
+    }
+
+    @Override
+    public Long next() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return buffer.get(index++);
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Immutable iterator");
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        while (index < end) {
+            action.accept(buffer.get(index++));
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Long> action) {
+        while (index < end) {
+            action.accept(buffer.get(index++));
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.nio.LongBuffer;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+/**
+ * A {@link Spliterator.OfLong} over a subrange of a {@link LongBuffer}.
+ * <p>
+ * Splits in constant time by halving the remaining range and reads elements with absolute
+ * {@link LongBuffer#get(int)}, so the buffer position is never changed.
+ */
+public final class LongBufferSpliterator implements Spliterator.OfLong {
+    private final LongBuffer buffer;
+    private final int end;
+    private int index;
+
+    /**
+     * Constructs a new spliterator over a {@link LongBuffer} from {@code index} (inclusive) to {@code end} (exclusive).
+     *
+     * @param buffer the source buffer
+     * @param end    the exclusive end index
+     * @param index  the starting index (inclusive)
+     */
+    public LongBufferSpliterator(LongBuffer buffer, int end, int index) {
+        this.buffer = buffer;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+        if (index >= end) {
+            return false;
+        }
+        action.accept(buffer.get(index++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        var i = index;
+        index = end;
+        for (; i < end; ++i) {
+            action.accept(buffer.get(i));
+        }
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit() {
+        var low = index;
+        var mid = (low + end) >>> 1;
+        if (low >= mid) {
+            return null;
+        }
+        index = mid;
+        return new LongBufferSpliterator(buffer, mid, low);
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+}
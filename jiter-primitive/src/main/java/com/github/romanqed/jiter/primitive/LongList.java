@@ -0,0 +1,228 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * A growable list of {@code long} values backed by a {@code long[]} array with amortized constant-time append.
+ * <p>
+ * The list is itself a {@link LongIterable} over its current contents: every traversal reads the backing array
+ * and size as they are when the traversal starts, so it observes elements appended before that point.
+ * {@link #slice(int, int)} hands out a fixed range as a {@link LongArrayIterable} over the backing array
+ * without copying; {@link #setLong(int, long)} writes are visible through such a slice, but an append that
+ * grows the backing array detaches it from the list.
+ * <p>
+ * Not thread-safe.
+ */
+public final class LongList implements LongIterable {
+    private static final int CHUNK_SIZE = 256;
+
+    private long[] array;
+    private int size;
+
+    /**
+     * Constructs an empty list with the given initial capacity.
+     *
+     * @param capacity the initial capacity
+     * @throws IllegalArgumentException if {@code capacity} is negative
+     */
+    public LongList(int capacity) {
+        Util.checkCount(capacity);
+        this.array = new long[capacity];
+    }
+
+    /**
+     * Constructs an empty list with a small default capacity.
+     */
+    public LongList() {
+        this(16);
+    }
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns {@code true} if the list holds no elements.
+     *
+     * @return {@code true} if the list is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the element at the given index.
+     *
+     * @param index the index of the element
+     * @return the element
+     * @throws IndexOutOfBoundsException if {@code index} is not less than {@link #size()}
+     */
+    public long getLong(int index) {
+        Objects.checkIndex(index, size);
+        return array[index];
+    }
+
+    /**
+     * Replaces the element at the given index.
+     *
+     * @param index the index of the element
+     * @param value the new value
+     * @throws IndexOutOfBoundsException if {@code index} is not less than {@link #size()}
+     */
+    public void setLong(int index, long value) {
+        Objects.checkIndex(index, size);
+        array[index] = value;
+    }
+
+    /**
+     * Appends an element, growing the backing array if necessary.
+     *
+     * @param value the element to append
+     */
+    public void add(long value) {
+        if (size == array.length) {
+            array = Arrays.copyOf(array, Util.grow(array.length, size + 1));
+        }
+        array[size++] = value;
+    }
+
+    /**
+     * Appends the elements of an array range.
+     *
+     * @param values the array holding the elements
+     * @param start  the starting index (inclusive)
+     * @param end    the ending index (exclusive)
+     * @throws NullPointerException           if {@code values} is null
+     * @throws ArrayIndexOutOfBoundsException if bounds are invalid
+     */
+    public void addAll(long[] values, int start, int end) {
+        Objects.requireNonNull(values);
+        Util.checkBounds(values.length, start, end);
+        ensureCapacity(Util.checkedCapacity((long) size + (end - start)));
+        System.arraycopy(values, start, array, size, end - start);
+        size += end - start;
+    }
+
+    /**
+     * Appends all elements of an array.
+     *
+     * @param values the array holding the elements
+     * @throws NullPointerException if {@code values} is null
+     */
+    public void addAll(long[] values) {
+        addAll(values, 0, values.length);
+    }
+
+    /**
+     * Appends all elements of a {@link LongIterable}.
+     * <p>
+     * The capacity is reserved up front when the size of the source is known, and elements are copied
+     * chunk by chunk through {@link LongIterable#forEachChunk(int, LongChunkConsumer)}, so array-backed
+     * sources are appended with bulk array copies.
+     *
+     * @param values the elements to append
+     * @throws NullPointerException if {@code values} is null
+     */
+    public void addAll(LongIterable values) {
+        var count = values.spliterator().getExactSizeIfKnown();
+        if (count > 0) {
+            ensureCapacity(Util.checkedCapacity(size + count));
+        }
+        values.forEachChunk(CHUNK_SIZE, this::addAll);
+    }
+
+    /**
+     * Grows the backing array, if necessary, so that it holds at least {@code capacity} elements.
+     *
+     * @param capacity the required capacity
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity > array.length) {
+            array = Arrays.copyOf(array, Util.grow(array.length, capacity));
+        }
+    }
+
+    /**
+     * Removes all elements, keeping the backing array.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Returns a view over the elements from {@code start} (inclusive) to {@code end} (exclusive) without copying them.
+     *
+     * @param start the starting index (inclusive)
+     * @param end   the ending index (exclusive)
+     * @return an iterable over the backing array range
+     * @throws ArrayIndexOutOfBoundsException if bounds are invalid
+     */
+    public LongArrayIterable slice(int start, int end) {
+        Util.checkBounds(size, start, end);
+        return new LongArrayIterable(array, start, end);
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new LongArrayIterator(array, size, 0);
+    }
+
+    @Override
+    public void forEach(Consumer<? super Long> action) {
+        var array = this.array;
+        var end = size;
+        for (var i = 0; i < end; ++i) {
+            action.accept(array[i]);
+        }
+    }
+
+    @Override
+    public void forEach(LongConsumer action) {
+        var array = this.array;
+        var end = size;
+        for (var i = 0; i < end; ++i) {
+            action.accept(array[i]);
+        }
+    }
+
+    @Override
+    public Spliterator.OfLong spliterator() {
+        return new LongArrayIterable(array, 0, size).spliterator();
+    }
+
+    @Override
+    public long[] toArray() {
+        return Arrays.copyOf(array, size);
+    }
+
+    @Override
+    public long count() {
+        return size;
+    }
+
+    @Override
+    public long sum() {
+        return new LongArrayIterable(array, 0, size).sum();
+    }
+
+    @Override
+    public OptionalLong min() {
+        return new LongArrayIterable(array, 0, size).min();
+    }
+
+    @Override
+    public OptionalLong max() {
+        return new LongArrayIterable(array, 0, size).max();
+    }
+}
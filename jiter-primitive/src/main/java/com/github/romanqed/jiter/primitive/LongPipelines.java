@@ -0,0 +1,424 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntToLongFunction;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Lazy stages producing {@code long} values, created by the intermediate operations of the primitive iterables.
+ * <p>
+ * Stages evaluate nothing until traversed. {@code forEach} and {@code forEachWhile} compose the stage into
+ * the action passed to its source, so a chain of stages over an array slice runs as a single loop over the array,
+ * including chains cut short by {@code limit}.
+ */
+final class LongPipelines {
+    private LongPipelines() {
+    }
+
+    abstract static class Stage implements LongIterable {
+
+        @Override
+        public void forEach(Consumer<? super Long> action) {
+            if (action instanceof LongConsumer) {
+                forEach((LongConsumer) action);
+            } else {
+                Objects.requireNonNull(action);
+                forEach((LongConsumer) action::accept);
+            }
+        }
+
+        Spliterator.OfLong spliterator(long size) {
+            if (size < 0) {
+                return Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED);
+            }
+            return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED);
+        }
+    }
+
+    static final class MapFromInt extends Stage {
+        private final IntIterable source;
+        private final IntToLongFunction mapper;
+
+        MapFromInt(IntIterable source, IntToLongFunction mapper) {
+            this.source = source;
+            this.mapper = Objects.requireNonNull(mapper);
+        }
+
+        @Override
+        public PrimitiveIterator.OfLong iterator() {
+            var iterator = source.iterator();
+            return new PrimitiveIterator.OfLong() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public long nextLong() {
+                    return mapper.applyAsLong(iterator.nextInt());
+                }
+            };
+        }
+
+        @Override
+        public void forEach(LongConsumer action) {
+            Objects.requireNonNull(action);
+            source.forEach((IntConsumer) value -> action.accept(mapper.applyAsLong(value)));
+        }
+
+        @Override
+        public boolean forEachWhile(LongPredicate action) {
+            Objects.requireNonNull(action);
+            return source.forEachWhile(value -> action.test(mapper.applyAsLong(value)));
+        }
+
+        @Override
+        public Spliterator.OfLong spliterator() {
+            return spliterator(source.spliterator().getExactSizeIfKnown());
+        }
+
+        @Override
+        public long count() {
+            return source.count();
+        }
+    }
+
+    static final class MapFromLong extends Stage {
+        private final LongIterable source;
+        private final LongUnaryOperator mapper;
+
+        MapFromLong(LongIterable source, LongUnaryOperator mapper) {
+            this.source = source;
+            this.mapper = Objects.requireNonNull(mapper);
+        }
+
+        @Override
+        public PrimitiveIterator.OfLong iterator() {
+            var iterator = source.iterator();
+            return new PrimitiveIterator.OfLong() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public long nextLong() {
+                    return mapper.applyAsLong(iterator.nextLong());
+                }
+            };
+        }
+
+        @Override
+        public void forEach(LongConsumer action) {
+            Objects.requireNonNull(action);
+            source.forEach((LongConsumer) value -> action.accept(mapper.applyAsLong(value)));
+        }
+
+        @Override
+        public boolean forEachWhile(LongPredicate action) {
+            Objects.requireNonNull(action);
+            return source.forEachWhile(value -> action.test(mapper.applyAsLong(value)));
+        }
+
+        @Override
+        public Spliterator.OfLong spliterator() {
+            return spliterator(source.spliterator().getExactSizeIfKnown());
+        }
+
+        @Override
+        public long count() {
+            return source.count();
+        }
+    }
+
+    static final class MapFromDouble extends Stage {
+        private final DoubleIterable source;
+        private final DoubleToLongFunction mapper;
+
+        MapFromDouble(DoubleIterable source, DoubleToLongFunction mapper) {
+            this.source = source;
+            this.mapper = Objects.requireNonNull(mapper);
+        }
+
+        @Override
+        public PrimitiveIterator.OfLong iterator() {
+            var iterator = source.iterator();
+            return new PrimitiveIterator.OfLong() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public long nextLong() {
+                    return mapper.applyAsLong(iterator.nextDouble());
+                }
+            };
+        }
+
+        @Override
+        public void forEach(LongConsumer action) {
+            Objects.requireNonNull(action);
+            source.forEach((DoubleConsumer) value -> action.accept(mapper.applyAsLong(value)));
+        }
+
+        @Override
+        public boolean forEachWhile(LongPredicate action) {
+            Objects.requireNonNull(action);
+            return source.forEachWhile(value -> action.test(mapper.applyAsLong(value)));
+        }
+
+        @Override
+        public Spliterator.OfLong spliterator() {
+            return spliterator(source.spliterator().getExactSizeIfKnown());
+        }
+
+        @Override
+        public long count() {
+            return source.count();
+        }
+    }
+
+    static final class Filter extends Stage {
+        private final LongIterable source;
+        private final LongPredicate predicate;
+
+        Filter(LongIterable source, LongPredicate predicate) {
+            this.source = source;
+            this.predicate = Objects.requireNonNull(predicate);
+        }
+
+        @Override
+        public PrimitiveIterator.OfLong iterator() {
+            var iterator = source.iterator();
+            return new PrimitiveIterator.OfLong() {
+                private boolean ready;
+                private long next;
+
+                @Override
+                public boolean hasNext() {
+                    while (!ready && iterator.hasNext()) {
+                        var value = iterator.nextLong();
+                        if (predicate.test(value)) {
+                            next = value;
+                            ready = true;
+                        }
+                    }
+                    return ready;
+                }
+
+                @Override
+                public long nextLong() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    ready = false;
+                    return next;
+                }
+            };
+        }
+
+        @Override
+        public void forEach(LongConsumer action) {
+            Objects.requireNonNull(action);
+            source.forEach((LongConsumer) value -> {
+                if (predicate.test(value)) {
+                    action.accept(value);
+                }
+            });
+        }
+
+        @Override
+        public boolean forEachWhile(LongPredicate action) {
+            Objects.requireNonNull(action);
+            return source.forEachWhile(value -> !predicate.test(value) || action.test(value));
+        }
+
+        @Override
+        public Spliterator.OfLong spliterator() {
+            return spliterator(-1);
+        }
+    }
+
+    static final class Limit extends Stage {
+        private final LongIterable source;
+        private final long maxSize;
+
+        Limit(LongIterable source, long maxSize) {
+            Util.checkCount(maxSize);
+            this.source = source;
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public PrimitiveIterator.OfLong iterator() {
+            var iterator = source.iterator();
+            return new PrimitiveIterator.OfLong() {
+                private long remaining = maxSize;
+
+                @Override
+                public boolean hasNext() {
+                    return remaining > 0 && iterator.hasNext();
+                }
+
+                @Override
+                public long nextLong() {
+                    if (remaining <= 0) {
+                        throw new NoSuchElementException();
+                    }
+                    --remaining;
+                    return iterator.nextLong();
+                }
+            };
+        }
+
+        @Override
+        public void forEach(LongConsumer action) {
+            Objects.requireNonNull(action);
+            forEachWhile(value -> {
+                action.accept(value);
+                return true;
+            });
+        }
+
+        @Override
+        public boolean forEachWhile(LongPredicate action) {
+            Objects.requireNonNull(action);
+            if (maxSize == 0) {
+                return true;
+            }
+            var sink = new LimitSink(action, maxSize);
+            source.forEachWhile(sink);
+            return !sink.stopped;
+        }
+
+        @Override
+        public Spliterator.OfLong spliterator() {
+            var spliterator = source.spliterator();
+            var size = spliterator.getExactSizeIfKnown();
+            var characteristics = size < 0 ? Spliterator.ORDERED : Spliterator.ORDERED | Spliterator.SIZED;
+            return new Spliterators.AbstractLongSpliterator(size < 0 ? maxSize : Math.min(size, maxSize),
+                    characteristics) {
+                private long remaining = maxSize;
+
+                @Override
+                public boolean tryAdvance(LongConsumer action) {
+                    if (remaining <= 0) {
+                        return false;
+                    }
+                    --remaining;
+                    return spliterator.tryAdvance(action);
+                }
+            };
+        }
+    }
+
+    static final class Skip extends Stage {
+        private final LongIterable source;
+        private final long count;
+
+        Skip(LongIterable source, long count) {
+            Util.checkCount(count);
+            this.source = source;
+            this.count = count;
+        }
+
+        @Override
+        public PrimitiveIterator.OfLong iterator() {
+            var iterator = source.iterator();
+            for (var i = 0L; i < count && iterator.hasNext(); ++i) {
+                iterator.nextLong();
+            }
+            return iterator;
+        }
+
+        @Override
+        public void forEach(LongConsumer action) {
+            Objects.requireNonNull(action);
+            source.forEach(new LongConsumer() {
+                private long skipped;
+
+                @Override
+                public void accept(long value) {
+                    if (skipped < count) {
+                        ++skipped;
+                    } else {
+                        action.accept(value);
+                    }
+                }
+            });
+        }
+
+        @Override
+        public boolean forEachWhile(LongPredicate action) {
+            Objects.requireNonNull(action);
+            return source.forEachWhile(new LongPredicate() {
+                private long skipped;
+
+                @Override
+                public boolean test(long value) {
+                    if (skipped < count) {
+                        ++skipped;
+                        return true;
+                    }
+                    return action.test(value);
+                }
+            });
+        }
+
+        @Override
+        public Spliterator.OfLong spliterator() {
+            var spliterator = source.spliterator();
+            var size = spliterator.getExactSizeIfKnown();
+            var characteristics = size < 0 ? Spliterator.ORDERED : Spliterator.ORDERED | Spliterator.SIZED;
+            return new Spliterators.AbstractLongSpliterator(size < 0 ? Long.MAX_VALUE : Math.max(size - count, 0),
+                    characteristics) {
+                private long skipped;
+
+                @Override
+                public boolean tryAdvance(LongConsumer action) {
+                    while (skipped < count) {
+                        ++skipped;
+                        if (!spliterator.tryAdvance((LongConsumer) value -> {
+                        })) {
+                            return false;
+                        }
+                    }
+                    return spliterator.tryAdvance(action);
+                }
+            };
+        }
+    }
+
+    private static final class LimitSink implements LongPredicate {
+        private final LongPredicate action;
+        private long remaining;
+        private boolean stopped;
+
+        private LimitSink(LongPredicate action, long remaining) {
+            this.action = action;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public boolean test(long value) {
+            if (!action.test(value)) {
+                stopped = true;
+                return false;
+            }
+            return --remaining > 0;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.nio.DoubleBuffer;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+/**
+ * A primitive {@link DoubleIterable} implementation over {@code double} values of a memory-mapped file.
+ * <p>
+ * The file is mapped as a sequence of equally sized segments, so files larger than 2 GB are supported
+ * and no data is copied onto the heap. Use {@link MappedIterables} to create instances.
+ */
+public final class MappedDoubleIterable implements DoubleIterable {
+    private final DoubleBuffer[] segments;
+    private final int shift;
+    private final long pageOffset;
+    private final long start;
+    private final long end;
+
+    /**
+     * Constructs an iterable over mapped segments from {@code start} (inclusive) to {@code end} (exclusive).
+     *
+     * @param segments   the mapped segments, each except the last holding exactly {@code 1 << shift} elements
+     * @param shift      the binary logarithm of the number of elements in a full segment
+     * @param pageOffset the number of elements between the preceding page boundary of the file and the first element
+     * @param start      the starting index (inclusive)
+     * @param end        the ending index (exclusive)
+     */
+    public MappedDoubleIterable(DoubleBuffer[] segments, int shift, long pageOffset, long start, long end) {
+        this.segments = segments;
+        this.shift = shift;
+        this.pageOffset = pageOffset;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public PrimitiveIterator.OfDouble iterator() {
+        return new MappedDoubleIterator(segments, shift, end, start);
+    }
+
+    @Override
+    public void forEach(Consumer<? super Double> action) {
+        var mask = (1 << shift) - 1;
+        var index = start;
+        while (index < end) {
+            var segment = segments[(int) (index >>> shift)];
+            var from = (int) (index & mask);
+            var to = (int) Math.min(segment.limit(), from + (end - index));
+            for (var i = from; i < to; ++i) {
+                action.accept(segment.get(i));
+            }
+            index += to - from;
+        }
+    }
+
+    @Override
+    public void forEach(DoubleConsumer action) {
+        var mask = (1 << shift) - 1;
+        var index = start;
+        while (index < end) {
+            var segment = segments[(int) (index >>> shift)];
+            var from = (int) (index & mask);
+            var to = (int) Math.min(segment.limit(), from + (end - index));
+            for (var i = from; i < to; ++i) {
+                action.accept(segment.get(i));
+            }
+            index += to - from;
+        }
+    }
+
+    @Override
+    public Spliterator.OfDouble spliterator() {
+        return new MappedDoubleSpliterator(segments, shift, pageOffset, end, start);
+    }
+}
@@ -0,0 +1,84 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.nio.IntBuffer;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+/**
+ * A {@link Spliterator.OfInt} over {@code int} values of a memory-mapped file.
+ * <p>
+ * Splits in constant time, preferring a segment boundary near the middle of the remaining range and
+ * falling back to a page boundary of the file. Segments start at the mapped position, so parallel tasks
+ * never share a page as long as that position is page-aligned.
+ */
+public final class MappedIntSpliterator implements Spliterator.OfInt {
+    private static final int PAGE_SHIFT = MappedIterables.PAGE_SHIFT - 2;
+
+    private final IntBuffer[] segments;
+    private final int shift;
+    private final long pageOffset;
+    private final long end;
+    private long index;
+
+    /**
+     * Constructs a new spliterator over mapped segments from {@code index} (inclusive) to {@code end} (exclusive).
+     *
+     * @param segments   the mapped segments, each except the last holding exactly {@code 1 << shift} elements
+     * @param shift      the binary logarithm of the number of elements in a full segment
+     * @param pageOffset the number of elements between the preceding page boundary of the file and the first element
+     * @param end        the exclusive end index
+     * @param index      the starting index (inclusive)
+     */
+    public MappedIntSpliterator(IntBuffer[] segments, int shift, long pageOffset, long end, long index) {
+        this.segments = segments;
+        this.shift = shift;
+        this.pageOffset = pageOffset;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+        if (index >= end) {
+            return false;
+        }
+        action.accept(segments[(int) (index >>> shift)].get((int) (index & ((1 << shift) - 1))));
+        ++index;
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        var mask = (1 << shift) - 1;
+        while (index < end) {
+            var segment = segments[(int) (index >>> shift)];
+            var from = (int) (index & mask);
+            var to = (int) Math.min(segment.limit(), from + (end - index));
+            index += to - from;
+            for (var i = from; i < to; ++i) {
+                action.accept(segment.get(i));
+            }
+        }
+    }
+
+    @Override
+    public Spliterator.OfInt trySplit() {
+        var low = index;
+        var mid = Util.splitPoint(low, end, shift, PAGE_SHIFT, pageOffset);
+        if (mid < 0) {
+            return null;
+        }
+        index = mid;
+        return new MappedIntSpliterator(segments, shift, pageOffset, mid, low);
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+}
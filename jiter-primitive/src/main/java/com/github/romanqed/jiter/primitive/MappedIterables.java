@@ -0,0 +1,231 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Utility class providing factory methods to create {@link IntIterable}, {@link LongIterable} and
+ * {@link DoubleIterable} instances over fixed-width values stored in files.
+ * <p>
+ * Files are mapped read-only through {@link FileChannel#map} in segments of 1 GiB, so files larger than
+ * 2 GB are supported and no data is copied onto the heap. The mappings stay valid after the channel is closed.
+ * Trailing bytes that do not form a whole value are ignored.
+ * <p>
+ * All methods check arguments non-nullity and bounds. Throws {@link NullPointerException} or
+ * {@link IndexOutOfBoundsException} accordingly, and propagate {@link IOException} raised by mapping.
+ */
+public final class MappedIterables {
+    static final int SEGMENT_SHIFT = 30;
+    static final int PAGE_SHIFT = 12;
+
+    private MappedIterables() {
+    }
+
+    private static ByteBuffer[] map(FileChannel channel, ByteOrder order, long position, long bytes, int shift)
+            throws IOException {
+        var size = 1L << shift;
+        var count = (int) ((bytes + size - 1) >>> shift);
+        var ret = new ByteBuffer[count];
+        for (var i = 0; i < count; ++i) {
+            var offset = (long) i << shift;
+            var length = Math.min(size, bytes - offset);
+            ret[i] = channel.map(FileChannel.MapMode.READ_ONLY, position + offset, length).order(order);
+        }
+        return ret;
+    }
+
+    private static long pageOffset(long position, int width) {
+        return (position & ((1 << PAGE_SHIFT) - 1)) / width;
+    }
+
+    static IntIterable ofInts(FileChannel channel, ByteOrder order, long position, long count, int shift)
+            throws IOException {
+        Objects.requireNonNull(channel);
+        Objects.requireNonNull(order);
+        Util.checkBounds(channel.size() / Integer.BYTES, 0, count);
+        Util.checkBounds(channel.size(), position, count * Integer.BYTES);
+        var buffers = map(channel, order, position, count * Integer.BYTES, shift);
+        var segments = new IntBuffer[buffers.length];
+        for (var i = 0; i < buffers.length; ++i) {
+            segments[i] = buffers[i].asIntBuffer();
+        }
+        return new MappedIntIterable(segments, shift - 2, pageOffset(position, Integer.BYTES), 0, count);
+    }
+
+    static LongIterable ofLongs(FileChannel channel, ByteOrder order, long position, long count, int shift)
+            throws IOException {
+        Objects.requireNonNull(channel);
+        Objects.requireNonNull(order);
+        Util.checkBounds(channel.size() / Long.BYTES, 0, count);
+        Util.checkBounds(channel.size(), position, count * Long.BYTES);
+        var buffers = map(channel, order, position, count * Long.BYTES, shift);
+        var segments = new LongBuffer[buffers.length];
+        for (var i = 0; i < buffers.length; ++i) {
+            segments[i] = buffers[i].asLongBuffer();
+        }
+        return new MappedLongIterable(segments, shift - 3, pageOffset(position, Long.BYTES), 0, count);
+    }
+
+    static DoubleIterable ofDoubles(FileChannel channel, ByteOrder order, long position, long count, int shift)
+            throws IOException {
+        Objects.requireNonNull(channel);
+        Objects.requireNonNull(order);
+        Util.checkBounds(channel.size() / Double.BYTES, 0, count);
+        Util.checkBounds(channel.size(), position, count * Double.BYTES);
+        var buffers = map(channel, order, position, count * Double.BYTES, shift);
+        var segments = new DoubleBuffer[buffers.length];
+        for (var i = 0; i < buffers.length; ++i) {
+            segments[i] = buffers[i].asDoubleBuffer();
+        }
+        return new MappedDoubleIterable(segments, shift - 3, pageOffset(position, Double.BYTES), 0, count);
+    }
+
+    /**
+     * Creates an {@link IntIterable} over {@code count} {@code int} values stored in the file
+     * starting at byte {@code position}.
+     *
+     * @param channel  the file channel, must be readable and not null
+     * @param order    the byte order of the stored values, must not be null
+     * @param position the byte offset of the first value
+     * @param count    the number of values
+     * @return an iterable over the mapped values
+     * @throws NullPointerException      if channel or order is null
+     * @throws IndexOutOfBoundsException if the values do not fit into the file
+     * @throws IOException               if an I/O error occurs while mapping the file
+     */
+    public static IntIterable ofInts(FileChannel channel, ByteOrder order, long position, long count)
+            throws IOException {
+        return ofInts(channel, order, position, count, SEGMENT_SHIFT);
+    }
+
+    /**
+     * Creates an {@link IntIterable} over all {@code int} values stored in the file.
+     *
+     * @param channel the file channel, must be readable and not null
+     * @param order   the byte order of the stored values, must not be null
+     * @return an iterable over the mapped values
+     * @throws NullPointerException if channel or order is null
+     * @throws IOException          if an I/O error occurs while mapping the file
+     */
+    public static IntIterable ofInts(FileChannel channel, ByteOrder order) throws IOException {
+        Objects.requireNonNull(channel);
+        return ofInts(channel, order, 0, channel.size() / Integer.BYTES, SEGMENT_SHIFT);
+    }
+
+    /**
+     * Creates an {@link IntIterable} over all {@code int} values stored in the file at the given path.
+     *
+     * @param path  the file path, must not be null
+     * @param order the byte order of the stored values, must not be null
+     * @return an iterable over the mapped values
+     * @throws NullPointerException if path or order is null
+     * @throws IOException          if an I/O error occurs while opening or mapping the file
+     */
+    public static IntIterable ofInts(Path path, ByteOrder order) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return ofInts(channel, order);
+        }
+    }
+
+    /**
+     * Creates a {@link LongIterable} over {@code count} {@code long} values stored in the file
+     * starting at byte {@code position}.
+     *
+     * @param channel  the file channel, must be readable and not null
+     * @param order    the byte order of the stored values, must not be null
+     * @param position the byte offset of the first value
+     * @param count    the number of values
+     * @return an iterable over the mapped values
+     * @throws NullPointerException      if channel or order is null
+     * @throws IndexOutOfBoundsException if the values do not fit into the file
+     * @throws IOException               if an I/O error occurs while mapping the file
+     */
+    public static LongIterable ofLongs(FileChannel channel, ByteOrder order, long position, long count)
+            throws IOException {
+        return ofLongs(channel, order, position, count, SEGMENT_SHIFT);
+    }
+
+    /**
+     * Creates a {@link LongIterable} over all {@code long} values stored in the file.
+     *
+     * @param channel the file channel, must be readable and not null
+     * @param order   the byte order of the stored values, must not be null
+     * @return an iterable over the mapped values
+     * @throws NullPointerException if channel or order is null
+     * @throws IOException          if an I/O error occurs while mapping the file
+     */
+    public static LongIterable ofLongs(FileChannel channel, ByteOrder order) throws IOException {
+        Objects.requireNonNull(channel);
+        return ofLongs(channel, order, 0, channel.size() / Long.BYTES, SEGMENT_SHIFT);
+    }
+
+    /**
+     * Creates a {@link LongIterable} over all {@code long} values stored in the file at the given path.
+     *
+     * @param path  the file path, must not be null
+     * @param order the byte order of the stored values, must not be null
+     * @return an iterable over the mapped values
+     * @throws NullPointerException if path or order is null
+     * @throws IOException          if an I/O error occurs while opening or mapping the file
+     */
+    public static LongIterable ofLongs(Path path, ByteOrder order) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return ofLongs(channel, order);
+        }
+    }
+
+    /**
+     * Creates a {@link DoubleIterable} over {@code count} {@code double} values stored in the file
+     * starting at byte {@code position}.
+     *
+     * @param channel  the file channel, must be readable and not null
+     * @param order    the byte order of the stored values, must not be null
+     * @param position the byte offset of the first value
+     * @param count    the number of values
+     * @return an iterable over the mapped values
+     * @throws NullPointerException      if channel or order is null
+     * @throws IndexOutOfBoundsException if the values do not fit into the file
+     * @throws IOException               if an I/O error occurs while mapping the file
+     */
+    public static DoubleIterable ofDoubles(FileChannel channel, ByteOrder order, long position, long count)
+            throws IOException {
+        return ofDoubles(channel, order, position, count, SEGMENT_SHIFT);
+    }
+
+    /**
+     * Creates a {@link DoubleIterable} over all {@code double} values stored in the file.
+     *
+     * @param channel the file channel, must be readable and not null
+     * @param order   the byte order of the stored values, must not be null
+     * @return an iterable over the mapped values
+     * @throws NullPointerException if channel or order is null
+     * @throws IOException          if an I/O error occurs while mapping the file
+     */
+    public static DoubleIterable ofDoubles(FileChannel channel, ByteOrder order) throws IOException {
+        Objects.requireNonNull(channel);
+        return ofDoubles(channel, order, 0, channel.size() / Double.BYTES, SEGMENT_SHIFT);
+    }
+
+    /**
+     * Creates a {@link DoubleIterable} over all {@code double} values stored in the file at the given path.
+     *
+     * @param path  the file path, must not be null
+     * @param order the byte order of the stored values, must not be null
+     * @return an iterable over the mapped values
+     * @throws NullPointerException if path or order is null
+     * @throws IOException          if an I/O error occurs while opening or mapping the file
+     */
+    public static DoubleIterable ofDoubles(Path path, ByteOrder order) throws IOException {
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return ofDoubles(channel, order);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.nio.LongBuffer;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * A primitive {@link PrimitiveIterator.OfLong} implementation over {@code long} values of a memory-mapped file.
+ * <p>
+ * The file is mapped as a sequence of equally sized segments, iteration crosses segment boundaries transparently.
+ * Immutable and non-thread-safe.
+ */
+public final class MappedLongIterator implements PrimitiveIterator.OfLong {
+    private final LongBuffer[] segments;
+    private final int shift;
+    private final long end;
+    private long index;
+
+    /**
+     * Constructs a new iterator over mapped segments from {@code index} (inclusive) to {@code end} (exclusive).
+     *
+     * @param segments the mapped segments, each except the last holding exactly {@code 1 << shift} elements
+     * @param shift    the binary logarithm of the number of elements in a full segment
+     * @param end      the exclusive end index
+     * @param index    the starting index (inclusive)
+     */
+    public MappedLongIterator(LongBuffer[] segments, int shift, long end, long index) {
+        this.segments = segments;
+        this.shift = shift;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < end;
+    }
+
+    @Override
+    public long nextLong() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        var ret = segments[(int) (index >>> shift)].get((int) (index & ((1 << shift) - 1)));
+        ++index;
+        return ret;
+    }
+
+    @Override
+    public Long next() {
+        return nextLong();
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Immutable iterator");
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        var mask = (1 << shift) - 1;
+        while (index < end) {
+            var segment = segments[(int) (index >>> shift)];
+            var from = (int) (index & mask);
+            var to = (int) Math.min(segment.limit(), from + (end - index));
+            index += to - from;
+            for (var i = from; i < to; ++i) {
+                action.accept(segment.get(i));
+            }
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Long> action) {
+        forEachRemaining((LongConsumer) action::accept);
+    }
+}
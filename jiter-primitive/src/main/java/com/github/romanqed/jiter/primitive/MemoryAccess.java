@@ -0,0 +1,80 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+final class MemoryAccess {
+    static final VarHandle INTS = MethodHandles.arrayElementVarHandle(int[].class);
+    static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+    static final VarHandle DOUBLES = MethodHandles.arrayElementVarHandle(double[].class);
+
+    private MemoryAccess() {
+    }
+
+    static int getInt(AtomicIntegerArray array, int index, MemoryOrder order) {
+        switch (order) {
+            case PLAIN:
+                return array.getPlain(index);
+            case OPAQUE:
+                return array.getOpaque(index);
+            case ACQUIRE:
+                return array.getAcquire(index);
+            default:
+                return array.get(index);
+        }
+    }
+
+    static long getLong(AtomicLongArray array, int index, MemoryOrder order) {
+        switch (order) {
+            case PLAIN:
+                return array.getPlain(index);
+            case OPAQUE:
+                return array.getOpaque(index);
+            case ACQUIRE:
+                return array.getAcquire(index);
+            default:
+                return array.get(index);
+        }
+    }
+
+    static int getInt(int[] array, int index, MemoryOrder order) {
+        switch (order) {
+            case PLAIN:
+                return array[index];
+            case OPAQUE:
+                return (int) MemoryAccess.INTS.getOpaque(array, index);
+            case ACQUIRE:
+                return (int) MemoryAccess.INTS.getAcquire(array, index);
+            default:
+                return (int) MemoryAccess.INTS.getVolatile(array, index);
+        }
+    }
+
+    static long getLong(long[] array, int index, MemoryOrder order) {
+        switch (order) {
+            case PLAIN:
+                return array[index];
+            case OPAQUE:
+                return (long) MemoryAccess.LONGS.getOpaque(array, index);
+            case ACQUIRE:
+                return (long) MemoryAccess.LONGS.getAcquire(array, index);
+            default:
+                return (long) MemoryAccess.LONGS.getVolatile(array, index);
+        }
+    }
+
+    static double getDouble(double[] array, int index, MemoryOrder order) {
+        switch (order) {
+            case PLAIN:
+                return array[index];
+            case OPAQUE:
+                return (double) MemoryAccess.DOUBLES.getOpaque(array, index);
+            case ACQUIRE:
+                return (double) MemoryAccess.DOUBLES.getAcquire(array, index);
+            default:
+                return (double) MemoryAccess.DOUBLES.getVolatile(array, index);
+        }
+    }
+}
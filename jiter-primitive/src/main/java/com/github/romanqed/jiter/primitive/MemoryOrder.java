@@ -0,0 +1,27 @@
+package com.github.romanqed.jiter.primitive;
+
+/**
+ * The memory ordering used to read elements that other threads may write concurrently.
+ * <p>
+ * The modes follow {@link java.lang.invoke.VarHandle} access modes, from the weakest to the strongest.
+ */
+public enum MemoryOrder {
+    /**
+     * Plain reads, with no ordering or visibility guarantees beyond those of ordinary field access.
+     */
+    PLAIN,
+    /**
+     * Opaque reads: every read observes some value actually written, and reads of the same element
+     * are coherent, but no ordering with respect to other variables is implied.
+     */
+    OPAQUE,
+    /**
+     * Acquire reads: later reads and writes of the reading thread are not reordered before the read,
+     * pairing with release writes of the writer.
+     */
+    ACQUIRE,
+    /**
+     * Volatile reads, totally ordered with all other volatile accesses.
+     */
+    VOLATILE
+}
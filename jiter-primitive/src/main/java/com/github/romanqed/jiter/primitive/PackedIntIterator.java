@@ -0,0 +1,77 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * A primitive {@link PrimitiveIterator.OfInt} over a {@link PackedIntSequence}.
+ * <p>
+ * Single steps decode one element in constant time, {@code forEachRemaining} unpacks word by word.
+ * Immutable and non-thread-safe.
+ */
+public final class PackedIntIterator implements PrimitiveIterator.OfInt {
+    private final long[] words;
+    private final int base;
+    private final int bits;
+    private final int end;
+    private int index;
+
+    /**
+     * Constructs a new iterator over the packed elements from {@code index} (inclusive) to {@code end} (exclusive).
+     *
+     * @param words the packed elements followed by one padding word
+     * @param base  the value added to every unpacked offset
+     * @param bits  the number of bits per element
+     * @param end   the end index (exclusive)
+     * @param index the starting index (inclusive)
+     */
+    public PackedIntIterator(long[] words, int base, int bits, int end, int index) {
+        this.words = words;
+        this.base = base;
+        this.bits = bits;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < end;
+    }
+
+    @Override
+    public int nextInt() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return base + (int) Util.packedGet(words, bits, index++);
+    }
+
+    @Override
+    public Integer next() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return base + (int) Util.packedGet(words, bits, index++);
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Immutable iterator");
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        var from = index;
+        index = end;
+        PackedIntSpliterator.decode(words, base, bits, end, from, action);
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Integer> action) {
+        var from = index;
+        index = end;
+        PackedIntSpliterator.decode(words, base, bits, end, from, action::accept);
+    }
+}
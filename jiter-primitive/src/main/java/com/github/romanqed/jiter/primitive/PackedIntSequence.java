@@ -0,0 +1,109 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * An immutable sequence of {@code int} values bit-packed with frame-of-reference encoding.
+ * <p>
+ * Every element is stored as its unsigned offset from the smallest element, the base, using the fewest bits
+ * that can hold the largest offset. Elements are laid out back to back in a {@code long[]}, least significant
+ * bit first, so an element may straddle two words. A column of values spanning a range of {@code 2^k} takes
+ * {@code k} bits per element instead of 32.
+ * <p>
+ * Sequential traversal loads every word once and extracts the elements from it with shifts, so scanning
+ * costs little more than reading the packed words; {@link #getInt(int)} decodes a single element in constant time.
+ */
+public final class PackedIntSequence implements IntIterable {
+    private final long[] words;
+    private final int base;
+    private final int bits;
+    private final int size;
+
+    /**
+     * Constructs a sequence over already packed data.
+     *
+     * @param words the packed elements followed by one padding word
+     * @param base  the value added to every unpacked offset
+     * @param bits  the number of bits per element
+     * @param size  the number of elements
+     */
+    public PackedIntSequence(long[] words, int base, int bits, int size) {
+        this.words = words;
+        this.base = base;
+        this.bits = bits;
+        this.size = size;
+    }
+
+    static PackedIntSequence encode(int[] values, int start, int end) {
+        var min = start < end ? values[start] : 0;
+        var max = min;
+        for (var i = start; i < end; ++i) {
+            min = Math.min(min, values[i]);
+            max = Math.max(max, values[i]);
+        }
+        var bits = Util.packedBits(Integer.toUnsignedLong(max - min));
+        var words = Util.packedWords(end - start, bits);
+        for (var i = start; i < end; ++i) {
+            Util.packedSet(words, bits, i - start, Integer.toUnsignedLong(values[i] - min));
+        }
+        return new PackedIntSequence(words, min, bits, end - start);
+    }
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of bits every element is packed into.
+     *
+     * @return the bit width, from {@code 0} when all elements are equal up to {@code 32}
+     */
+    public int bits() {
+        return bits;
+    }
+
+    /**
+     * Returns the element at the given index.
+     *
+     * @param index the index of the element
+     * @return the element
+     * @throws IndexOutOfBoundsException if {@code index} is not less than {@link #size()}
+     */
+    public int getInt(int index) {
+        Objects.checkIndex(index, size);
+        return base + (int) Util.packedGet(words, bits, index);
+    }
+
+    @Override
+    public PackedIntIterator iterator() {
+        return new PackedIntIterator(words, base, bits, size, 0);
+    }
+
+    @Override
+    public void forEach(Consumer<? super Integer> action) {
+        PackedIntSpliterator.decode(words, base, bits, size, 0, action::accept);
+    }
+
+    @Override
+    public void forEach(IntConsumer action) {
+        PackedIntSpliterator.decode(words, base, bits, size, 0, action);
+    }
+
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new PackedIntSpliterator(words, base, bits, size, 0);
+    }
+
+    @Override
+    public long count() {
+        return size;
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * A primitive {@link PrimitiveIterator.OfLong} over a {@link PackedLongSequence}.
+ * <p>
+ * Single steps decode one element in constant time, {@code forEachRemaining} unpacks word by word.
+ * Immutable and non-thread-safe.
+ */
+public final class PackedLongIterator implements PrimitiveIterator.OfLong {
+    private final long[] words;
+    private final long base;
+    private final int bits;
+    private final int end;
+    private int index;
+
+    /**
+     * Constructs a new iterator over the packed elements from {@code index} (inclusive) to {@code end} (exclusive).
+     *
+     * @param words the packed elements followed by one padding word
+     * @param base  the value added to every unpacked offset
+     * @param bits  the number of bits per element
+     * @param end   the end index (exclusive)
+     * @param index the starting index (inclusive)
+     */
+    public PackedLongIterator(long[] words, long base, int bits, int end, int index) {
+        this.words = words;
+        this.base = base;
+        this.bits = bits;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < end;
+    }
+
+    @Override
+    public long nextLong() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return base + Util.packedGet(words, bits, index++);
+    }
+
+    @Override
+    public Long next() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return base + Util.packedGet(words, bits, index++);
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Immutable iterator");
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        var from = index;
+        index = end;
+        PackedLongSpliterator.decode(words, base, bits, end, from, action);
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Long> action) {
+        var from = index;
+        index = end;
+        PackedLongSpliterator.decode(words, base, bits, end, from, action::accept);
+    }
+}
@@ -0,0 +1,109 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * An immutable sequence of {@code long} values bit-packed with frame-of-reference encoding.
+ * <p>
+ * Every element is stored as its unsigned offset from the smallest element, the base, using the fewest bits
+ * that can hold the largest offset. Elements are laid out back to back in a {@code long[]}, least significant
+ * bit first, so an element may straddle two words. A column of values spanning a range of {@code 2^k} takes
+ * {@code k} bits per element instead of 64.
+ * <p>
+ * Sequential traversal loads every word once and extracts the elements from it with shifts, so scanning
+ * costs little more than reading the packed words; {@link #getLong(int)} decodes a single element in constant time.
+ */
+public final class PackedLongSequence implements LongIterable {
+    private final long[] words;
+    private final long base;
+    private final int bits;
+    private final int size;
+
+    /**
+     * Constructs a sequence over already packed data.
+     *
+     * @param words the packed elements followed by one padding word
+     * @param base  the value added to every unpacked offset
+     * @param bits  the number of bits per element
+     * @param size  the number of elements
+     */
+    public PackedLongSequence(long[] words, long base, int bits, int size) {
+        this.words = words;
+        this.base = base;
+        this.bits = bits;
+        this.size = size;
+    }
+
+    static PackedLongSequence encode(long[] values, int start, int end) {
+        var min = start < end ? values[start] : 0;
+        var max = min;
+        for (var i = start; i < end; ++i) {
+            min = Math.min(min, values[i]);
+            max = Math.max(max, values[i]);
+        }
+        var bits = Util.packedBits(max - min);
+        var words = Util.packedWords(end - start, bits);
+        for (var i = start; i < end; ++i) {
+            Util.packedSet(words, bits, i - start, values[i] - min);
+        }
+        return new PackedLongSequence(words, min, bits, end - start);
+    }
+
+    /**
+     * Returns the number of elements.
+     *
+     * @return the number of elements
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of bits every element is packed into.
+     *
+     * @return the bit width, from {@code 0} when all elements are equal up to {@code 64}
+     */
+    public int bits() {
+        return bits;
+    }
+
+    /**
+     * Returns the element at the given index.
+     *
+     * @param index the index of the element
+     * @return the element
+     * @throws IndexOutOfBoundsException if {@code index} is not less than {@link #size()}
+     */
+    public long getLong(int index) {
+        Objects.checkIndex(index, size);
+        return base + Util.packedGet(words, bits, index);
+    }
+
+    @Override
+    public PackedLongIterator iterator() {
+        return new PackedLongIterator(words, base, bits, size, 0);
+    }
+
+    @Override
+    public void forEach(Consumer<? super Long> action) {
+        PackedLongSpliterator.decode(words, base, bits, size, 0, action::accept);
+    }
+
+    @Override
+    public void forEach(LongConsumer action) {
+        PackedLongSpliterator.decode(words, base, bits, size, 0, action);
+    }
+
+    @Override
+    public Spliterator.OfLong spliterator() {
+        return new PackedLongSpliterator(words, base, bits, size, 0);
+    }
+
+    @Override
+    public long count() {
+        return size;
+    }
+}
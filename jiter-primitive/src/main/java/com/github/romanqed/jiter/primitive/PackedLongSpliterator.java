@@ -0,0 +1,96 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+/**
+ * A {@link Spliterator.OfLong} over a {@link PackedLongSequence}.
+ * <p>
+ * Splits in constant time by halving the remaining range; elements are addressable by index, so both halves
+ * start decoding right away.
+ */
+public final class PackedLongSpliterator implements Spliterator.OfLong {
+    private final long[] words;
+    private final long base;
+    private final int bits;
+    private final int end;
+    private int index;
+
+    /**
+     * Constructs a new spliterator over the packed elements from {@code index} (inclusive) to {@code end} (exclusive).
+     *
+     * @param words the packed elements followed by one padding word
+     * @param base  the value added to every unpacked offset
+     * @param bits  the number of bits per element
+     * @param end   the end index (exclusive)
+     * @param index the starting index (inclusive)
+     */
+    public PackedLongSpliterator(long[] words, long base, int bits, int end, int index) {
+        this.words = words;
+        this.base = base;
+        this.bits = bits;
+        this.end = end;
+        this.index = index;
+    }
+
+    static void decode(long[] words, long base, int bits, int end, int index, LongConsumer action) {
+        if (index >= end) {
+            return;
+        }
+        var mask = Util.packedMask(bits);
+        var bit = (long) index * bits;
+        var word = (int) (bit >>> 6);
+        var shift = (int) bit & 63;
+        var current = words[word];
+        for (var i = index; i < end; ++i) {
+            long raw;
+            if (shift + bits < 64) {
+                raw = current >>> shift;
+                shift += bits;
+            } else {
+                var next = words[++word];
+                raw = (current >>> shift) | (next << 1 << (63 - shift));
+                shift += bits - 64;
+                current = next;
+            }
+            action.accept(base + (raw & mask));
+        }
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+        if (index >= end) {
+            return false;
+        }
+        action.accept(base + Util.packedGet(words, bits, index++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        var from = index;
+        index = end;
+        decode(words, base, bits, end, from, action);
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit() {
+        var low = index;
+        var mid = (low + end) >>> 1;
+        if (low >= mid) {
+            return null;
+        }
+        index = mid;
+        return new PackedLongSpliterator(words, base, bits, mid, low);
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE | Spliterator.NONNULL;
+    }
+}
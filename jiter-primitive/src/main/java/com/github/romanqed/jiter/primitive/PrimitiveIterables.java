@@ -1,11 +1,26 @@
 package com.github.romanqed.jiter.primitive;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.BitSet;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 /**
  * Utility class providing factory methods to create {@link IntIterable},
  * {@link LongIterable} and {@link DoubleIterable} instances from primitive arrays.
  * <p>
+ * {@code byte[]}, {@code short[]}, {@code char[]} and {@code float[]} arrays are exposed as
+ * {@link ByteIterable}, {@link ShortIterable}, {@link CharIterable} and {@link FloatIterable},
+ * which widen elements to {@code int} or {@code double} and also provide native-width access.
+ * <p>
+ * {@link IntBuffer}, {@link LongBuffer} and {@link DoubleBuffer} slices, as well as typed views of
+ * {@link ByteBuffer} contents, are iterated in place with absolute reads, without copying them to the heap.
+ * <p>
  * All methods check input array non-nullity and bounds. Throws
  * {@link NullPointerException} or {@link IndexOutOfBoundsException} accordingly.
  */
@@ -56,6 +71,70 @@ public final class PrimitiveIterables {
         return new IntArrayIterable(array, 0, array.length);
     }
 
+    /**
+     * Creates an {@link IntIterable} over every {@code step}-th element of the specified subrange of an {@code int[]} array.
+     * <p>
+     * A positive step starts at {@code start}; a negative step walks the range backwards starting at {@code end - 1}.
+     *
+     * @param array the source array (must not be {@code null})
+     * @param start the starting index (inclusive)
+     * @param end   the ending index (exclusive)
+     * @param step  the distance between consecutive elements, must not be zero
+     * @return an {@link IntIterable} over the selected elements
+     * @throws NullPointerException      if {@code array} is {@code null}
+     * @throws IndexOutOfBoundsException if bounds are invalid
+     * @throws IllegalArgumentException  if {@code step} is zero
+     */
+    public static IntIterable of(int[] array, int start, int end, int step) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(array.length, start, end);
+        Util.checkStep(step);
+        return new StridedIntArrayIterable(array, Util.strideOffset(start, end, step), step, Util.strideCount(start, end, step));
+    }
+
+    /**
+     * Creates an {@link IntIterable} over the specified subrange of an {@code int[]} array in descending index order.
+     *
+     * @param array the source array (must not be {@code null})
+     * @param start the lowest index (inclusive)
+     * @param end   the index after the first returned element (exclusive)
+     * @return an {@link IntIterable} from {@code end - 1} down to {@code start}
+     * @throws NullPointerException      if {@code array} is {@code null}
+     * @throws IndexOutOfBoundsException if bounds are invalid
+     */
+    public static IntIterable reversed(int[] array, int start, int end) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(array.length, start, end);
+        return new StridedIntArrayIterable(array, end - 1, -1, end - start);
+    }
+
+    /**
+     * Creates an {@link IntIterable} over an {@code int[]} array from its last element down to {@code start}.
+     *
+     * @param array the source array (must not be {@code null})
+     * @param start the lowest index (inclusive)
+     * @return an {@link IntIterable} from the last element down to {@code start}
+     * @throws NullPointerException      if {@code array} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code start} is out of bounds
+     */
+    public static IntIterable reversed(int[] array, int start) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(start, array.length);
+        return new StridedIntArrayIterable(array, array.length - 1, -1, array.length - start);
+    }
+
+    /**
+     * Creates an {@link IntIterable} over the entire {@code int[]} array in descending index order.
+     *
+     * @param array the source array (must not be {@code null})
+     * @return an {@link IntIterable} from the last element down to the first
+     * @throws NullPointerException if {@code array} is {@code null}
+     */
+    public static IntIterable reversed(int[] array) {
+        Objects.requireNonNull(array);
+        return new StridedIntArrayIterable(array, array.length - 1, -1, array.length);
+    }
+
     /**
      * Creates a {@link LongIterable} over a subrange of the given long array.
      *
@@ -99,6 +178,70 @@ public final class PrimitiveIterables {
         return new LongArrayIterable(array, 0, array.length);
     }
 
+    /**
+     * Creates a {@link LongIterable} over every {@code step}-th element of the specified subrange of a {@code long[]} array.
+     * <p>
+     * A positive step starts at {@code start}; a negative step walks the range backwards starting at {@code end - 1}.
+     *
+     * @param array the source array (must not be {@code null})
+     * @param start the starting index (inclusive)
+     * @param end   the ending index (exclusive)
+     * @param step  the distance between consecutive elements, must not be zero
+     * @return a {@link LongIterable} over the selected elements
+     * @throws NullPointerException      if {@code array} is {@code null}
+     * @throws IndexOutOfBoundsException if bounds are invalid
+     * @throws IllegalArgumentException  if {@code step} is zero
+     */
+    public static LongIterable of(long[] array, int start, int end, int step) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(array.length, start, end);
+        Util.checkStep(step);
+        return new StridedLongArrayIterable(array, Util.strideOffset(start, end, step), step, Util.strideCount(start, end, step));
+    }
+
+    /**
+     * Creates a {@link LongIterable} over the specified subrange of a {@code long[]} array in descending index order.
+     *
+     * @param array the source array (must not be {@code null})
+     * @param start the lowest index (inclusive)
+     * @param end   the index after the first returned element (exclusive)
+     * @return a {@link LongIterable} from {@code end - 1} down to {@code start}
+     * @throws NullPointerException      if {@code array} is {@code null}
+     * @throws IndexOutOfBoundsException if bounds are invalid
+     */
+    public static LongIterable reversed(long[] array, int start, int end) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(array.length, start, end);
+        return new StridedLongArrayIterable(array, end - 1, -1, end - start);
+    }
+
+    /**
+     * Creates a {@link LongIterable} over a {@code long[]} array from its last element down to {@code start}.
+     *
+     * @param array the source array (must not be {@code null})
+     * @param start the lowest index (inclusive)
+     * @return a {@link LongIterable} from the last element down to {@code start}
+     * @throws NullPointerException      if {@code array} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code start} is out of bounds
+     */
+    public static LongIterable reversed(long[] array, int start) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(start, array.length);
+        return new StridedLongArrayIterable(array, array.length - 1, -1, array.length - start);
+    }
+
+    /**
+     * Creates a {@link LongIterable} over the entire {@code long[]} array in descending index order.
+     *
+     * @param array the source array (must not be {@code null})
+     * @return a {@link LongIterable} from the last element down to the first
+     * @throws NullPointerException if {@code array} is {@code null}
+     */
+    public static LongIterable reversed(long[] array) {
+        Objects.requireNonNull(array);
+        return new StridedLongArrayIterable(array, array.length - 1, -1, array.length);
+    }
+
     /**
      * Creates a {@link DoubleIterable} over a subrange of the given double array.
      *
@@ -141,4 +284,1477 @@ public final class PrimitiveIterables {
         Objects.requireNonNull(array);
         return new DoubleArrayIterable(array, 0, array.length);
     }
+
+    /**
+     * Creates a {@link DoubleIterable} over every {@code step}-th element of the specified subrange of a {@code double[]} array.
+     * <p>
+     * A positive step starts at {@code start}; a negative step walks the range backwards starting at {@code end - 1}.
+     *
+     * @param array the source array (must not be {@code null})
+     * @param start the starting index (inclusive)
+     * @param end   the ending index (exclusive)
+     * @param step  the distance between consecutive elements, must not be zero
+     * @return a {@link DoubleIterable} over the selected elements
+     * @throws NullPointerException      if {@code array} is {@code null}
+     * @throws IndexOutOfBoundsException if bounds are invalid
+     * @throws IllegalArgumentException  if {@code step} is zero
+     */
+    public static DoubleIterable of(double[] array, int start, int end, int step) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(array.length, start, end);
+        Util.checkStep(step);
+        return new StridedDoubleArrayIterable(array, Util.strideOffset(start, end, step), step, Util.strideCount(start, end, step));
+    }
+
+    /**
+     * Creates a {@link DoubleIterable} over the specified subrange of a {@code double[]} array in descending index order.
+     *
+     * @param array the source array (must not be {@code null})
+     * @param start the lowest index (inclusive)
+     * @param end   the index after the first returned element (exclusive)
+     * @return a {@link DoubleIterable} from {@code end - 1} down to {@code start}
+     * @throws NullPointerException      if {@code array} is {@code null}
+     * @throws IndexOutOfBoundsException if bounds are invalid
+     */
+    public static DoubleIterable reversed(double[] array, int start, int end) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(array.length, start, end);
+        return new StridedDoubleArrayIterable(array, end - 1, -1, end - start);
+    }
+
+    /**
+     * Creates a {@link DoubleIterable} over a {@code double[]} array from its last element down to {@code start}.
+     *
+     * @param array the source array (must not be {@code null})
+     * @param start the lowest index (inclusive)
+     * @return a {@link DoubleIterable} from the last element down to {@code start}
+     * @throws NullPointerException      if {@code array} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code start} is out of bounds
+     */
+    public static DoubleIterable reversed(double[] array, int start) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(start, array.length);
+        return new StridedDoubleArrayIterable(array, array.length - 1, -1, array.length - start);
+    }
+
+    /**
+     * Creates a {@link DoubleIterable} over the entire {@code double[]} array in descending index order.
+     *
+     * @param array the source array (must not be {@code null})
+     * @return a {@link DoubleIterable} from the last element down to the first
+     * @throws NullPointerException if {@code array} is {@code null}
+     */
+    public static DoubleIterable reversed(double[] array) {
+        Objects.requireNonNull(array);
+        return new StridedDoubleArrayIterable(array, array.length - 1, -1, array.length);
+    }
+
+    /**
+     * Creates a {@link ByteIterable} over a subrange of the given byte array.
+     *
+     * @param array the source array, must not be null
+     * @param start the start index, inclusive (0-based)
+     * @param end   the end index, exclusive
+     * @return an iterable iterating over array[start:end]
+     * @throws NullPointerException           if array is null
+     * @throws IndexOutOfBoundsException      if start or end are out of array bounds or invalid
+     */
+    public static ByteIterable of(byte[] array, int start, int end) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(array.length, start, end);
+        return new ByteArrayIterable(array, start, end);
+    }
+
+    /**
+     * Creates a {@link ByteIterable} over a subrange starting at {@code start} until the end of the array.
+     *
+     * @param array the source array, must not be null
+     * @param start the start index, inclusive (0-based)
+     * @return an iterable iterating over array[start:array.length]
+     * @throws NullPointerException           if array is null
+     * @throws IndexOutOfBoundsException      if start is out of bounds
+     */
+    public static ByteIterable of(byte[] array, int start) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(start, array.length);
+        return new ByteArrayIterable(array, start, array.length);
+    }
+
+    /**
+     * Creates a {@link ByteIterable} over the entire byte array.
+     *
+     * @param array the source array, must not be null
+     * @return an iterable iterating over the entire array
+     * @throws NullPointerException if array is null
+     */
+    public static ByteIterable of(byte[] array) {
+        Objects.requireNonNull(array);
+        return new ByteArrayIterable(array, 0, array.length);
+    }
+
+    /**
+     * Creates a {@link ShortIterable} over a subrange of the given short array.
+     *
+     * @param array the source array, must not be null
+     * @param start the start index, inclusive (0-based)
+     * @param end   the end index, exclusive
+     * @return an iterable iterating over array[start:end]
+     * @throws NullPointerException           if array is null
+     * @throws IndexOutOfBoundsException      if start or end are out of array bounds or invalid
+     */
+    public static ShortIterable of(short[] array, int start, int end) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(array.length, start, end);
+        return new ShortArrayIterable(array, start, end);
+    }
+
+    /**
+     * Creates a {@link ShortIterable} over a subrange starting at {@code start} until the end of the array.
+     *
+     * @param array the source array, must not be null
+     * @param start the start index, inclusive (0-based)
+     * @return an iterable iterating over array[start:array.length]
+     * @throws NullPointerException           if array is null
+     * @throws IndexOutOfBoundsException      if start is out of bounds
+     */
+    public static ShortIterable of(short[] array, int start) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(start, array.length);
+        return new ShortArrayIterable(array, start, array.length);
+    }
+
+    /**
+     * Creates a {@link ShortIterable} over the entire short array.
+     *
+     * @param array the source array, must not be null
+     * @return an iterable iterating over the entire array
+     * @throws NullPointerException if array is null
+     */
+    public static ShortIterable of(short[] array) {
+        Objects.requireNonNull(array);
+        return new ShortArrayIterable(array, 0, array.length);
+    }
+
+    /**
+     * Creates a {@link CharIterable} over a subrange of the given char array.
+     *
+     * @param array the source array, must not be null
+     * @param start the start index, inclusive (0-based)
+     * @param end   the end index, exclusive
+     * @return an iterable iterating over array[start:end]
+     * @throws NullPointerException           if array is null
+     * @throws IndexOutOfBoundsException      if start or end are out of array bounds or invalid
+     */
+    public static CharIterable of(char[] array, int start, int end) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(array.length, start, end);
+        return new CharArrayIterable(array, start, end);
+    }
+
+    /**
+     * Creates a {@link CharIterable} over a subrange starting at {@code start} until the end of the array.
+     *
+     * @param array the source array, must not be null
+     * @param start the start index, inclusive (0-based)
+     * @return an iterable iterating over array[start:array.length]
+     * @throws NullPointerException           if array is null
+     * @throws IndexOutOfBoundsException      if start is out of bounds
+     */
+    public static CharIterable of(char[] array, int start) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(start, array.length);
+        return new CharArrayIterable(array, start, array.length);
+    }
+
+    /**
+     * Creates a {@link CharIterable} over the entire char array.
+     *
+     * @param array the source array, must not be null
+     * @return an iterable iterating over the entire array
+     * @throws NullPointerException if array is null
+     */
+    public static CharIterable of(char[] array) {
+        Objects.requireNonNull(array);
+        return new CharArrayIterable(array, 0, array.length);
+    }
+
+    /**
+     * Creates a {@link FloatIterable} over a subrange of the given float array.
+     *
+     * @param array the source array, must not be null
+     * @param start the start index, inclusive (0-based)
+     * @param end   the end index, exclusive
+     * @return an iterable iterating over array[start:end]
+     * @throws NullPointerException           if array is null
+     * @throws IndexOutOfBoundsException      if start or end are out of array bounds or invalid
+     */
+    public static FloatIterable of(float[] array, int start, int end) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(array.length, start, end);
+        return new FloatArrayIterable(array, start, end);
+    }
+
+    /**
+     * Creates a {@link FloatIterable} over a subrange starting at {@code start} until the end of the array.
+     *
+     * @param array the source array, must not be null
+     * @param start the start index, inclusive (0-based)
+     * @return an iterable iterating over array[start:array.length]
+     * @throws NullPointerException           if array is null
+     * @throws IndexOutOfBoundsException      if start is out of bounds
+     */
+    public static FloatIterable of(float[] array, int start) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(start, array.length);
+        return new FloatArrayIterable(array, start, array.length);
+    }
+
+    /**
+     * Creates a {@link FloatIterable} over the entire float array.
+     *
+     * @param array the source array, must not be null
+     * @return an iterable iterating over the entire array
+     * @throws NullPointerException if array is null
+     */
+    public static FloatIterable of(float[] array) {
+        Objects.requireNonNull(array);
+        return new FloatArrayIterable(array, 0, array.length);
+    }
+
+    /**
+     * Creates an {@link IntIterable} over a subrange of the given {@link IntBuffer}.
+     * <p>
+     * Indices are absolute, elements are read with {@link IntBuffer#get(int)} and the buffer position is not changed.
+     *
+     * @param buffer the source buffer, must not be null
+     * @param start  the start index, inclusive (0-based)
+     * @param end    the end index, exclusive
+     * @return an iterable iterating over buffer[start:end]
+     * @throws NullPointerException           if buffer is null
+     * @throws IndexOutOfBoundsException      if start or end are out of buffer limit or invalid
+     */
+    public static IntIterable of(IntBuffer buffer, int start, int end) {
+        Objects.requireNonNull(buffer);
+        Util.checkBounds(buffer.limit(), start, end);
+        return new IntBufferIterable(buffer, start, end);
+    }
+
+    /**
+     * Creates an {@link IntIterable} over a subrange of the given {@link IntBuffer} starting at {@code start} until its limit.
+     *
+     * @param buffer the source buffer, must not be null
+     * @param start  the start index, inclusive (0-based)
+     * @return an iterable iterating over buffer[start:buffer.limit()]
+     * @throws NullPointerException           if buffer is null
+     * @throws IndexOutOfBoundsException      if start is out of bounds
+     */
+    public static IntIterable of(IntBuffer buffer, int start) {
+        Objects.requireNonNull(buffer);
+        Util.checkBounds(start, buffer.limit());
+        return new IntBufferIterable(buffer, start, buffer.limit());
+    }
+
+    /**
+     * Creates an {@link IntIterable} over the given {@link IntBuffer} from index 0 until its limit.
+     *
+     * @param buffer the source buffer, must not be null
+     * @return an iterable iterating over buffer[0:buffer.limit()]
+     * @throws NullPointerException if buffer is null
+     */
+    public static IntIterable of(IntBuffer buffer) {
+        Objects.requireNonNull(buffer);
+        return new IntBufferIterable(buffer, 0, buffer.limit());
+    }
+
+    /**
+     * Creates an {@link IntIterable} over a subrange of {@code int} values stored in the given {@link ByteBuffer}.
+     * <p>
+     * The buffer content from byte 0 until its limit is viewed as {@code int} values in the specified byte order,
+     * trailing bytes that do not form a whole value are ignored. Indices are counted in {@code int} values.
+     * Neither the position nor the byte order of the given buffer is changed.
+     *
+     * @param buffer the source buffer, must not be null
+     * @param order  the byte order of the stored values, must not be null
+     * @param start  the start index, inclusive (0-based)
+     * @param end    the end index, exclusive
+     * @return an iterable iterating over the {@code int} values [start:end]
+     * @throws NullPointerException           if buffer or order is null
+     * @throws IndexOutOfBoundsException      if start or end are out of bounds or invalid
+     */
+    public static IntIterable ofInts(ByteBuffer buffer, ByteOrder order, int start, int end) {
+        var view = Util.asIntBuffer(buffer, order);
+        Util.checkBounds(view.limit(), start, end);
+        return new IntBufferIterable(view, start, end);
+    }
+
+    /**
+     * Creates an {@link IntIterable} over all {@code int} values stored in the given {@link ByteBuffer}.
+     * <p>
+     * The buffer content from byte 0 until its limit is viewed as {@code int} values in the specified byte order,
+     * trailing bytes that do not form a whole value are ignored.
+     * Neither the position nor the byte order of the given buffer is changed.
+     *
+     * @param buffer the source buffer, must not be null
+     * @param order  the byte order of the stored values, must not be null
+     * @return an iterable iterating over all stored {@code int} values
+     * @throws NullPointerException if buffer or order is null
+     */
+    public static IntIterable ofInts(ByteBuffer buffer, ByteOrder order) {
+        var view = Util.asIntBuffer(buffer, order);
+        return new IntBufferIterable(view, 0, view.limit());
+    }
+
+    /**
+     * Creates a {@link LongIterable} over a subrange of the given {@link LongBuffer}.
+     * <p>
+     * Indices are absolute, elements are read with {@link LongBuffer#get(int)} and the buffer position is not changed.
+     *
+     * @param buffer the source buffer, must not be null
+     * @param start  the start index, inclusive (0-based)
+     * @param end    the end index, exclusive
+     * @return an iterable iterating over buffer[start:end]
+     * @throws NullPointerException           if buffer is null
+     * @throws IndexOutOfBoundsException      if start or end are out of buffer limit or invalid
+     */
+    public static LongIterable of(LongBuffer buffer, int start, int end) {
+        Objects.requireNonNull(buffer);
+        Util.checkBounds(buffer.limit(), start, end);
+        return new LongBufferIterable(buffer, start, end);
+    }
+
+    /**
+     * Creates a {@link LongIterable} over a subrange of the given {@link LongBuffer} starting at {@code start} until its limit.
+     *
+     * @param buffer the source buffer, must not be null
+     * @param start  the start index, inclusive (0-based)
+     * @return an iterable iterating over buffer[start:buffer.limit()]
+     * @throws NullPointerException           if buffer is null
+     * @throws IndexOutOfBoundsException      if start is out of bounds
+     */
+    public static LongIterable of(LongBuffer buffer, int start) {
+        Objects.requireNonNull(buffer);
+        Util.checkBounds(start, buffer.limit());
+        return new LongBufferIterable(buffer, start, buffer.limit());
+    }
+
+    /**
+     * Creates a {@link LongIterable} over the given {@link LongBuffer} from index 0 until its limit.
+     *
+     * @param buffer the source buffer, must not be null
+     * @return an iterable iterating over buffer[0:buffer.limit()]
+     * @throws NullPointerException if buffer is null
+     */
+    public static LongIterable of(LongBuffer buffer) {
+        Objects.requireNonNull(buffer);
+        return new LongBufferIterable(buffer, 0, buffer.limit());
+    }
+
+    /**
+     * Creates a {@link LongIterable} over a subrange of {@code long} values stored in the given {@link ByteBuffer}.
+     * <p>
+     * The buffer content from byte 0 until its limit is viewed as {@code long} values in the specified byte order,
+     * trailing bytes that do not form a whole value are ignored. Indices are counted in {@code long} values.
+     * Neither the position nor the byte order of the given buffer is changed.
+     *
+     * @param buffer the source buffer, must not be null
+     * @param order  the byte order of the stored values, must not be null
+     * @param start  the start index, inclusive (0-based)
+     * @param end    the end index, exclusive
+     * @return an iterable iterating over the {@code long} values [start:end]
+     * @throws NullPointerException           if buffer or order is null
+     * @throws IndexOutOfBoundsException      if start or end are out of bounds or invalid
+     */
+    public static LongIterable ofLongs(ByteBuffer buffer, ByteOrder order, int start, int end) {
+        var view = Util.asLongBuffer(buffer, order);
+        Util.checkBounds(view.limit(), start, end);
+        return new LongBufferIterable(view, start, end);
+    }
+
+    /**
+     * Creates a {@link LongIterable} over all {@code long} values stored in the given {@link ByteBuffer}.
+     * <p>
+     * The buffer content from byte 0 until its limit is viewed as {@code long} values in the specified byte order,
+     * trailing bytes that do not form a whole value are ignored.
+     * Neither the position nor the byte order of the given buffer is changed.
+     *
+     * @param buffer the source buffer, must not be null
+     * @param order  the byte order of the stored values, must not be null
+     * @return an iterable iterating over all stored {@code long} values
+     * @throws NullPointerException if buffer or order is null
+     */
+    public static LongIterable ofLongs(ByteBuffer buffer, ByteOrder order) {
+        var view = Util.asLongBuffer(buffer, order);
+        return new LongBufferIterable(view, 0, view.limit());
+    }
+
+    /**
+     * Creates a {@link DoubleIterable} over a subrange of the given {@link DoubleBuffer}.
+     * <p>
+     * Indices are absolute, elements are read with {@link DoubleBuffer#get(int)} and the buffer position is not changed.
+     *
+     * @param buffer the source buffer, must not be null
+     * @param start  the start index, inclusive (0-based)
+     * @param end    the end index, exclusive
+     * @return an iterable iterating over buffer[start:end]
+     * @throws NullPointerException           if buffer is null
+     * @throws IndexOutOfBoundsException      if start or end are out of buffer limit or invalid
+     */
+    public static DoubleIterable of(DoubleBuffer buffer, int start, int end) {
+        Objects.requireNonNull(buffer);
+        Util.checkBounds(buffer.limit(), start, end);
+        return new DoubleBufferIterable(buffer, start, end);
+    }
+
+    /**
+     * Creates a {@link DoubleIterable} over a subrange of the given {@link DoubleBuffer} starting at {@code start} until its limit.
+     *
+     * @param buffer the source buffer, must not be null
+     * @param start  the start index, inclusive (0-based)
+     * @return an iterable iterating over buffer[start:buffer.limit()]
+     * @throws NullPointerException           if buffer is null
+     * @throws IndexOutOfBoundsException      if start is out of bounds
+     */
+    public static DoubleIterable of(DoubleBuffer buffer, int start) {
+        Objects.requireNonNull(buffer);
+        Util.checkBounds(start, buffer.limit());
+        return new DoubleBufferIterable(buffer, start, buffer.limit());
+    }
+
+    /**
+     * Creates a {@link DoubleIterable} over the given {@link DoubleBuffer} from index 0 until its limit.
+     *
+     * @param buffer the source buffer, must not be null
+     * @return an iterable iterating over buffer[0:buffer.limit()]
+     * @throws NullPointerException if buffer is null
+     */
+    public static DoubleIterable of(DoubleBuffer buffer) {
+        Objects.requireNonNull(buffer);
+        return new DoubleBufferIterable(buffer, 0, buffer.limit());
+    }
+
+    /**
+     * Creates a {@link DoubleIterable} over a subrange of {@code double} values stored in the given {@link ByteBuffer}.
+     * <p>
+     * The buffer content from byte 0 until its limit is viewed as {@code double} values in the specified byte order,
+     * trailing bytes that do not form a whole value are ignored. Indices are counted in {@code double} values.
+     * Neither the position nor the byte order of the given buffer is changed.
+     *
+     * @param buffer the source buffer, must not be null
+     * @param order  the byte order of the stored values, must not be null
+     * @param start  the start index, inclusive (0-based)
+     * @param end    the end index, exclusive
+     * @return an iterable iterating over the {@code double} values [start:end]
+     * @throws NullPointerException           if buffer or order is null
+     * @throws IndexOutOfBoundsException      if start or end are out of bounds or invalid
+     */
+    public static DoubleIterable ofDoubles(ByteBuffer buffer, ByteOrder order, int start, int end) {
+        var view = Util.asDoubleBuffer(buffer, order);
+        Util.checkBounds(view.limit(), start, end);
+        return new DoubleBufferIterable(view, start, end);
+    }
+
+    /**
+     * Creates a {@link DoubleIterable} over all {@code double} values stored in the given {@link ByteBuffer}.
+     * <p>
+     * The buffer content from byte 0 until its limit is viewed as {@code double} values in the specified byte order,
+     * trailing bytes that do not form a whole value are ignored.
+     * Neither the position nor the byte order of the given buffer is changed.
+     *
+     * @param buffer the source buffer, must not be null
+     * @param order  the byte order of the stored values, must not be null
+     * @return an iterable iterating over all stored {@code double} values
+     * @throws NullPointerException if buffer or order is null
+     */
+    public static DoubleIterable ofDoubles(ByteBuffer buffer, ByteOrder order) {
+        var view = Util.asDoubleBuffer(buffer, order);
+        return new DoubleBufferIterable(view, 0, view.limit());
+    }
+
+    /**
+     * Creates a {@link ZipIterable} walking the given arrays in lock-step over rows [start:end].
+     * <p>
+     * Every column must be an {@code int[]}, {@code long[]}, {@code double[]} or object array
+     * holding at least {@code end} elements.
+     *
+     * @param columns 2 to 4 arrays, must not be null or contain null
+     * @param start   the start index, inclusive (0-based)
+     * @param end     the end index, exclusive
+     * @return an iterable iterating over the rows [start:end] of the columns
+     * @throws NullPointerException           if columns or any column is null
+     * @throws IllegalArgumentException       if there are fewer than 2 or more than 4 columns, or a column is not an array of a supported type
+     * @throws ArrayIndexOutOfBoundsException if start or end are out of bounds of any column or invalid
+     */
+    public static ZipIterable zip(Object[] columns, int start, int end) {
+        var copy = Util.checkColumns(columns);
+        Util.checkColumnBounds(copy, start, end);
+        return new ZipIterable(copy, start, end);
+    }
+
+    /**
+     * Creates a {@link ZipIterable} walking the given arrays in lock-step from {@code start}
+     * to their common length.
+     *
+     * @param columns 2 to 4 arrays of equal length, must not be null or contain null
+     * @param start   the start index, inclusive (0-based)
+     * @return an iterable iterating over the rows [start:columns[0].length] of the columns
+     * @throws NullPointerException           if columns or any column is null
+     * @throws IllegalArgumentException       if there are fewer than 2 or more than 4 columns, a column is not an array of a supported type or the columns differ in length
+     * @throws ArrayIndexOutOfBoundsException if start is out of bounds
+     */
+    public static ZipIterable zip(Object[] columns, int start) {
+        var copy = Util.checkColumns(columns);
+        var end = Util.checkColumnLengths(copy);
+        Util.checkBounds(start, end);
+        return new ZipIterable(copy, start, end);
+    }
+
+    /**
+     * Creates a {@link ZipIterable} walking all rows of the given arrays in lock-step.
+     *
+     * @param columns 2 to 4 arrays of equal length, must not be null or contain null
+     * @return an iterable iterating over all rows of the columns
+     * @throws NullPointerException     if columns or any column is null
+     * @throws IllegalArgumentException if there are fewer than 2 or more than 4 columns, a column is not an array of a supported type or the columns differ in length
+     */
+    public static ZipIterable zip(Object[] columns) {
+        var copy = Util.checkColumns(columns);
+        return new ZipIterable(copy, 0, Util.checkColumnLengths(copy));
+    }
+
+    /**
+     * Creates a {@link ZipBuilder} collecting typed columns for a {@link ZipIterable}.
+     * <p>
+     * Unlike the {@code Object[]} overloads of {@code zip}, the builder only accepts {@code int[]}, {@code long[]},
+     * {@code double[]} and object arrays one column at a time, so neither a column of an unsupported type, such as
+     * a {@code char[]}, nor a single object array mistaken for the whole column list compiles.
+     *
+     * @return a new empty builder
+     */
+    public static ZipBuilder zipBuilder() {
+        return new ZipBuilder();
+    }
+
+    /**
+     * Creates an {@link IntIterable} over several slices traversed one after another as a single sequence.
+     * <p>
+     * Slice {@code k} is {@code arrays[k][starts[k]:ends[k]]}. The spliterator splits by cumulative element count,
+     * so the halves stay balanced even when the slices are of very different sizes.
+     *
+     * @param arrays the source arrays, must not be null or contain null
+     * @param starts the start index (inclusive) of every slice
+     * @param ends   the end index (exclusive) of every slice
+     * @return an iterable iterating over the concatenation of the slices
+     * @throws NullPointerException           if arrays, starts, ends or any array is null
+     * @throws IllegalArgumentException       if arrays, starts and ends differ in length
+     * @throws ArrayIndexOutOfBoundsException if a slice is out of bounds of its array or invalid
+     */
+    public static IntIterable concat(int[][] arrays, int[] starts, int[] ends) {
+        Objects.requireNonNull(arrays);
+        Util.checkSegments(arrays.length, starts, ends);
+        for (var i = 0; i < arrays.length; ++i) {
+            Objects.requireNonNull(arrays[i]);
+            Util.checkBounds(arrays[i].length, starts[i], ends[i]);
+        }
+        var copy = starts.clone();
+        return new ConcatIntArrayIterable(arrays.clone(), copy, Util.prefixSums(copy, ends));
+    }
+
+    /**
+     * Creates an {@link IntIterable} over the given whole arrays traversed one after another as a single sequence,
+     * for example the rows of a jagged array.
+     *
+     * @param arrays the source arrays, must not be null or contain null
+     * @return an iterable iterating over the concatenation of the arrays
+     * @throws NullPointerException if arrays or any array is null
+     */
+    public static IntIterable concat(int[]... arrays) {
+        Objects.requireNonNull(arrays);
+        var starts = new int[arrays.length];
+        var ends = new int[arrays.length];
+        for (var i = 0; i < arrays.length; ++i) {
+            ends[i] = Objects.requireNonNull(arrays[i]).length;
+        }
+        return new ConcatIntArrayIterable(arrays.clone(), starts, Util.prefixSums(starts, ends));
+    }
+
+    /**
+     * Creates a {@link LongIterable} over several slices traversed one after another as a single sequence.
+     * <p>
+     * Slice {@code k} is {@code arrays[k][starts[k]:ends[k]]}. The spliterator splits by cumulative element count,
+     * so the halves stay balanced even when the slices are of very different sizes.
+     *
+     * @param arrays the source arrays, must not be null or contain null
+     * @param starts the start index (inclusive) of every slice
+     * @param ends   the end index (exclusive) of every slice
+     * @return an iterable iterating over the concatenation of the slices
+     * @throws NullPointerException           if arrays, starts, ends or any array is null
+     * @throws IllegalArgumentException       if arrays, starts and ends differ in length
+     * @throws ArrayIndexOutOfBoundsException if a slice is out of bounds of its array or invalid
+     */
+    public static LongIterable concat(long[][] arrays, int[] starts, int[] ends) {
+        Objects.requireNonNull(arrays);
+        Util.checkSegments(arrays.length, starts, ends);
+        for (var i = 0; i < arrays.length; ++i) {
+            Objects.requireNonNull(arrays[i]);
+            Util.checkBounds(arrays[i].length, starts[i], ends[i]);
+        }
+        var copy = starts.clone();
+        return new ConcatLongArrayIterable(arrays.clone(), copy, Util.prefixSums(copy, ends));
+    }
+
+    /**
+     * Creates a {@link LongIterable} over the given whole arrays traversed one after another as a single sequence,
+     * for example the rows of a jagged array.
+     *
+     * @param arrays the source arrays, must not be null or contain null
+     * @return an iterable iterating over the concatenation of the arrays
+     * @throws NullPointerException if arrays or any array is null
+     */
+    public static LongIterable concat(long[]... arrays) {
+        Objects.requireNonNull(arrays);
+        var starts = new int[arrays.length];
+        var ends = new int[arrays.length];
+        for (var i = 0; i < arrays.length; ++i) {
+            ends[i] = Objects.requireNonNull(arrays[i]).length;
+        }
+        return new ConcatLongArrayIterable(arrays.clone(), starts, Util.prefixSums(starts, ends));
+    }
+
+    /**
+     * Creates a {@link DoubleIterable} over several slices traversed one after another as a single sequence.
+     * <p>
+     * Slice {@code k} is {@code arrays[k][starts[k]:ends[k]]}. The spliterator splits by cumulative element count,
+     * so the halves stay balanced even when the slices are of very different sizes.
+     *
+     * @param arrays the source arrays, must not be null or contain null
+     * @param starts the start index (inclusive) of every slice
+     * @param ends   the end index (exclusive) of every slice
+     * @return an iterable iterating over the concatenation of the slices
+     * @throws NullPointerException           if arrays, starts, ends or any array is null
+     * @throws IllegalArgumentException       if arrays, starts and ends differ in length
+     * @throws ArrayIndexOutOfBoundsException if a slice is out of bounds of its array or invalid
+     */
+    public static DoubleIterable concat(double[][] arrays, int[] starts, int[] ends) {
+        Objects.requireNonNull(arrays);
+        Util.checkSegments(arrays.length, starts, ends);
+        for (var i = 0; i < arrays.length; ++i) {
+            Objects.requireNonNull(arrays[i]);
+            Util.checkBounds(arrays[i].length, starts[i], ends[i]);
+        }
+        var copy = starts.clone();
+        return new ConcatDoubleArrayIterable(arrays.clone(), copy, Util.prefixSums(copy, ends));
+    }
+
+    /**
+     * Creates a {@link DoubleIterable} over the given whole arrays traversed one after another as a single sequence,
+     * for example the rows of a jagged array.
+     *
+     * @param arrays the source arrays, must not be null or contain null
+     * @return an iterable iterating over the concatenation of the arrays
+     * @throws NullPointerException if arrays or any array is null
+     */
+    public static DoubleIterable concat(double[]... arrays) {
+        Objects.requireNonNull(arrays);
+        var starts = new int[arrays.length];
+        var ends = new int[arrays.length];
+        for (var i = 0; i < arrays.length; ++i) {
+            ends[i] = Objects.requireNonNull(arrays[i]).length;
+        }
+        return new ConcatDoubleArrayIterable(arrays.clone(), starts, Util.prefixSums(starts, ends));
+    }
+
+    /**
+     * Creates an {@link IntIterable} over a subrange of an {@link AtomicIntegerArray}, reading elements in the given {@link MemoryOrder}.
+     *
+     * @param array the source array, must not be null
+     * @param order the memory order of element reads, must not be null
+     * @param start the start index, inclusive (0-based)
+     * @param end   the end index, exclusive
+     * @return an iterable iterating over array[start:end]
+     * @throws NullPointerException           if array or order is null
+     * @throws IndexOutOfBoundsException      if start or end are out of bounds or invalid
+     */
+    public static IntIterable of(AtomicIntegerArray array, MemoryOrder order, int start, int end) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(order);
+        Util.checkBounds(array.length(), start, end);
+        return new AtomicIntArrayIterable(array, order, start, end);
+    }
+
+    /**
+     * Creates an {@link IntIterable} over an {@link AtomicIntegerArray} from {@code start} to its end,
+     * reading elements in the given {@link MemoryOrder}.
+     *
+     * @param array the source array, must not be null
+     * @param order the memory order of element reads, must not be null
+     * @param start the start index, inclusive (0-based)
+     * @return an iterable iterating over array[start:length]
+     * @throws NullPointerException           if array or order is null
+     * @throws IndexOutOfBoundsException      if start is out of bounds
+     */
+    public static IntIterable of(AtomicIntegerArray array, MemoryOrder order, int start) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(order);
+        Util.checkBounds(start, array.length());
+        return new AtomicIntArrayIterable(array, order, start, array.length());
+    }
+
+    /**
+     * Creates an {@link IntIterable} over the whole of an {@link AtomicIntegerArray}, reading elements in the given {@link MemoryOrder}.
+     *
+     * @param array the source array, must not be null
+     * @param order the memory order of element reads, must not be null
+     * @return an iterable iterating over the entire array
+     * @throws NullPointerException if array or order is null
+     */
+    public static IntIterable of(AtomicIntegerArray array, MemoryOrder order) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(order);
+        return new AtomicIntArrayIterable(array, order, 0, array.length());
+    }
+
+    /**
+     * Creates a {@link LongIterable} over a subrange of an {@link AtomicLongArray}, reading elements in the given {@link MemoryOrder}.
+     *
+     * @param array the source array, must not be null
+     * @param order the memory order of element reads, must not be null
+     * @param start the start index, inclusive (0-based)
+     * @param end   the end index, exclusive
+     * @return an iterable iterating over array[start:end]
+     * @throws NullPointerException           if array or order is null
+     * @throws IndexOutOfBoundsException      if start or end are out of bounds or invalid
+     */
+    public static LongIterable of(AtomicLongArray array, MemoryOrder order, int start, int end) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(order);
+        Util.checkBounds(array.length(), start, end);
+        return new AtomicLongArrayIterable(array, order, start, end);
+    }
+
+    /**
+     * Creates a {@link LongIterable} over an {@link AtomicLongArray} from {@code start} to its end,
+     * reading elements in the given {@link MemoryOrder}.
+     *
+     * @param array the source array, must not be null
+     * @param order the memory order of element reads, must not be null
+     * @param start the start index, inclusive (0-based)
+     * @return an iterable iterating over array[start:length]
+     * @throws NullPointerException           if array or order is null
+     * @throws IndexOutOfBoundsException      if start is out of bounds
+     */
+    public static LongIterable of(AtomicLongArray array, MemoryOrder order, int start) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(order);
+        Util.checkBounds(start, array.length());
+        return new AtomicLongArrayIterable(array, order, start, array.length());
+    }
+
+    /**
+     * Creates a {@link LongIterable} over the whole of an {@link AtomicLongArray}, reading elements in the given {@link MemoryOrder}.
+     *
+     * @param array the source array, must not be null
+     * @param order the memory order of element reads, must not be null
+     * @return an iterable iterating over the entire array
+     * @throws NullPointerException if array or order is null
+     */
+    public static LongIterable of(AtomicLongArray array, MemoryOrder order) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(order);
+        return new AtomicLongArrayIterable(array, order, 0, array.length());
+    }
+
+    /**
+     * Creates an {@link IntIterable} over a subrange of an {@code int[]} array, reading elements in the given {@link MemoryOrder}.
+     *
+     * @param array the source array, must not be null
+     * @param order the memory order of element reads, must not be null
+     * @param start the start index, inclusive (0-based)
+     * @param end   the end index, exclusive
+     * @return an iterable iterating over array[start:end]
+     * @throws NullPointerException           if array or order is null
+     * @throws IndexOutOfBoundsException      if start or end are out of bounds or invalid
+     */
+    public static IntIterable of(int[] array, MemoryOrder order, int start, int end) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(order);
+        Util.checkBounds(array.length, start, end);
+        return new VarHandleIntArrayIterable(array, order, start, end);
+    }
+
+    /**
+     * Creates an {@link IntIterable} over an {@code int[]} array from {@code start} to its end,
+     * reading elements in the given {@link MemoryOrder}.
+     *
+     * @param array the source array, must not be null
+     * @param order the memory order of element reads, must not be null
+     * @param start the start index, inclusive (0-based)
+     * @return an iterable iterating over array[start:length]
+     * @throws NullPointerException           if array or order is null
+     * @throws IndexOutOfBoundsException      if start is out of bounds
+     */
+    public static IntIterable of(int[] array, MemoryOrder order, int start) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(order);
+        Util.checkBounds(start, array.length);
+        return new VarHandleIntArrayIterable(array, order, start, array.length);
+    }
+
+    /**
+     * Creates an {@link IntIterable} over the whole of an {@code int[]} array, reading elements in the given {@link MemoryOrder}.
+     *
+     * @param array the source array, must not be null
+     * @param order the memory order of element reads, must not be null
+     * @return an iterable iterating over the entire array
+     * @throws NullPointerException if array or order is null
+     */
+    public static IntIterable of(int[] array, MemoryOrder order) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(order);
+        return new VarHandleIntArrayIterable(array, order, 0, array.length);
+    }
+
+    /**
+     * Creates a {@link LongIterable} over a subrange of a {@code long[]} array, reading elements in the given {@link MemoryOrder}.
+     *
+     * @param array the source array, must not be null
+     * @param order the memory order of element reads, must not be null
+     * @param start the start index, inclusive (0-based)
+     * @param end   the end index, exclusive
+     * @return an iterable iterating over array[start:end]
+     * @throws NullPointerException           if array or order is null
+     * @throws IndexOutOfBoundsException      if start or end are out of bounds or invalid
+     */
+    public static LongIterable of(long[] array, MemoryOrder order, int start, int end) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(order);
+        Util.checkBounds(array.length, start, end);
+        return new VarHandleLongArrayIterable(array, order, start, end);
+    }
+
+    /**
+     * Creates a {@link LongIterable} over a {@code long[]} array from {@code start} to its end,
+     * reading elements in the given {@link MemoryOrder}.
+     *
+     * @param array the source array, must not be null
+     * @param order the memory order of element reads, must not be null
+     * @param start the start index, inclusive (0-based)
+     * @return an iterable iterating over array[start:length]
+     * @throws NullPointerException           if array or order is null
+     * @throws IndexOutOfBoundsException      if start is out of bounds
+     */
+    public static LongIterable of(long[] array, MemoryOrder order, int start) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(order);
+        Util.checkBounds(start, array.length);
+        return new VarHandleLongArrayIterable(array, order, start, array.length);
+    }
+
+    /**
+     * Creates a {@link LongIterable} over the whole of a {@code long[]} array, reading elements in the given {@link MemoryOrder}.
+     *
+     * @param array the source array, must not be null
+     * @param order the memory order of element reads, must not be null
+     * @return an iterable iterating over the entire array
+     * @throws NullPointerException if array or order is null
+     */
+    public static LongIterable of(long[] array, MemoryOrder order) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(order);
+        return new VarHandleLongArrayIterable(array, order, 0, array.length);
+    }
+
+    /**
+     * Creates a {@link DoubleIterable} over a subrange of a {@code double[]} array, reading elements in the given {@link MemoryOrder}.
+     *
+     * @param array the source array, must not be null
+     * @param order the memory order of element reads, must not be null
+     * @param start the start index, inclusive (0-based)
+     * @param end   the end index, exclusive
+     * @return an iterable iterating over array[start:end]
+     * @throws NullPointerException           if array or order is null
+     * @throws IndexOutOfBoundsException      if start or end are out of bounds or invalid
+     */
+    public static DoubleIterable of(double[] array, MemoryOrder order, int start, int end) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(order);
+        Util.checkBounds(array.length, start, end);
+        return new VarHandleDoubleArrayIterable(array, order, start, end);
+    }
+
+    /**
+     * Creates a {@link DoubleIterable} over a {@code double[]} array from {@code start} to its end,
+     * reading elements in the given {@link MemoryOrder}.
+     *
+     * @param array the source array, must not be null
+     * @param order the memory order of element reads, must not be null
+     * @param start the start index, inclusive (0-based)
+     * @return an iterable iterating over array[start:length]
+     * @throws NullPointerException           if array or order is null
+     * @throws IndexOutOfBoundsException      if start is out of bounds
+     */
+    public static DoubleIterable of(double[] array, MemoryOrder order, int start) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(order);
+        Util.checkBounds(start, array.length);
+        return new VarHandleDoubleArrayIterable(array, order, start, array.length);
+    }
+
+    /**
+     * Creates a {@link DoubleIterable} over the whole of a {@code double[]} array, reading elements in the given {@link MemoryOrder}.
+     *
+     * @param array the source array, must not be null
+     * @param order the memory order of element reads, must not be null
+     * @return an iterable iterating over the entire array
+     * @throws NullPointerException if array or order is null
+     */
+    public static DoubleIterable of(double[] array, MemoryOrder order) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(order);
+        return new VarHandleDoubleArrayIterable(array, order, 0, array.length);
+    }
+
+    /**
+     * Creates an {@link IntIterable} over the elements of a sorted {@code int[]} array that lie in {@code [from, to)}.
+     * <p>
+     * The lower bound is found by binary search and the upper bound by exponential search from the lower bound,
+     * so the lookup takes {@code O(log n)} time and the result is a slice of the array, not a copy.
+     * The array must be sorted in ascending order, otherwise the result is unspecified.
+     *
+     * @param sorted the source array sorted in ascending order, must not be null
+     * @param from   the lowest value to include
+     * @param to     the value to stop at, exclusive
+     * @return an iterable iterating over the elements {@code from <= v < to}
+     * @throws NullPointerException     if sorted is null
+     * @throws IllegalArgumentException if {@code from > to}
+     */
+    public static IntIterable range(int[] sorted, int from, int to) {
+        Objects.requireNonNull(sorted);
+        Util.checkRange(from, to);
+        var start = Util.lowerBound(sorted, 0, sorted.length, from);
+        var end = Util.gallop(sorted, start, sorted.length, to);
+        return new IntArrayIterable(sorted, start, end);
+    }
+
+    /**
+     * Creates a {@link LongIterable} over the elements of a sorted {@code long[]} array that lie in {@code [from, to)}.
+     * <p>
+     * The lower bound is found by binary search and the upper bound by exponential search from the lower bound,
+     * so the lookup takes {@code O(log n)} time and the result is a slice of the array, not a copy.
+     * The array must be sorted in ascending order, otherwise the result is unspecified.
+     *
+     * @param sorted the source array sorted in ascending order, must not be null
+     * @param from   the lowest value to include
+     * @param to     the value to stop at, exclusive
+     * @return an iterable iterating over the elements {@code from <= v < to}
+     * @throws NullPointerException     if sorted is null
+     * @throws IllegalArgumentException if {@code from > to}
+     */
+    public static LongIterable range(long[] sorted, long from, long to) {
+        Objects.requireNonNull(sorted);
+        Util.checkRange(from, to);
+        var start = Util.lowerBound(sorted, 0, sorted.length, from);
+        var end = Util.gallop(sorted, start, sorted.length, to);
+        return new LongArrayIterable(sorted, start, end);
+    }
+
+    /**
+     * Creates a {@link DoubleIterable} over the elements of a sorted {@code double[]} array that lie in {@code [from, to)}.
+     * <p>
+     * The lower bound is found by binary search and the upper bound by exponential search from the lower bound,
+     * so the lookup takes {@code O(log n)} time and the result is a slice of the array, not a copy.
+     * The array must be sorted in ascending order, otherwise the result is unspecified.
+     * Values are ordered as by {@link Double#compare(double, double)}, the order produced by {@link java.util.Arrays#sort(double[])}.
+     *
+     * @param sorted the source array sorted in ascending order, must not be null
+     * @param from   the lowest value to include
+     * @param to     the value to stop at, exclusive
+     * @return an iterable iterating over the elements {@code from <= v < to}
+     * @throws NullPointerException     if sorted is null
+     * @throws IllegalArgumentException if {@code from > to}
+     */
+    public static DoubleIterable range(double[] sorted, double from, double to) {
+        Objects.requireNonNull(sorted);
+        Util.checkRange(from, to);
+        var start = Util.lowerBound(sorted, 0, sorted.length, from);
+        var end = Util.gallop(sorted, start, sorted.length, to);
+        return new DoubleArrayIterable(sorted, start, end);
+    }
+
+    /**
+     * Creates an {@link IntIterable} over the elements of the specified subrange of a {@code int[]} array whose bits are set in {@code mask}.
+     * <p>
+     * Bit {@code i} of the mask, stored as bit {@code i & 63} of word {@code i >>> 6}, selects {@code array[i]};
+     * words past the end of the mask count as zero. Neither array is copied, so later changes to the mask are visible.
+     *
+     * @param array the source array, must not be null
+     * @param mask  the selection bitmap indexed by array index, must not be null
+     * @param start the starting index (inclusive)
+     * @param end   the ending index (exclusive)
+     * @return an iterable iterating over the selected elements
+     * @throws NullPointerException      if array or mask is null
+     * @throws IndexOutOfBoundsException if bounds are invalid
+     */
+    public static IntIterable select(int[] array, long[] mask, int start, int end) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(mask);
+        Util.checkBounds(array.length, start, end);
+        return new SelectedIntArrayIterable(array, mask, start, end);
+    }
+
+    /**
+     * Creates an {@link IntIterable} over the elements of a {@code int[]} array whose bits are set in {@code mask}.
+     *
+     * @param array the source array, must not be null
+     * @param mask  the selection bitmap indexed by array index, must not be null
+     * @return an iterable iterating over the selected elements
+     * @throws NullPointerException if array or mask is null
+     */
+    public static IntIterable select(int[] array, long[] mask) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(mask);
+        return new SelectedIntArrayIterable(array, mask, 0, array.length);
+    }
+
+    /**
+     * Creates an {@link IntIterable} over the elements of the specified subrange of a {@code int[]} array whose bits are set in {@code bits}.
+     * <p>
+     * The bit set is captured with {@link BitSet#toLongArray()}, so later changes to it are not visible.
+     *
+     * @param array the source array, must not be null
+     * @param bits  the selected indices, must not be null
+     * @param start the starting index (inclusive)
+     * @param end   the ending index (exclusive)
+     * @return an iterable iterating over the selected elements
+     * @throws NullPointerException      if array or bits is null
+     * @throws IndexOutOfBoundsException if bounds are invalid
+     */
+    public static IntIterable select(int[] array, BitSet bits, int start, int end) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(array.length, start, end);
+        return new SelectedIntArrayIterable(array, bits.toLongArray(), start, end);
+    }
+
+    /**
+     * Creates an {@link IntIterable} over the elements of a {@code int[]} array whose indices are set in {@code bits}.
+     * <p>
+     * The bit set is captured with {@link BitSet#toLongArray()}, so later changes to it are not visible.
+     *
+     * @param array the source array, must not be null
+     * @param bits  the selected indices, must not be null
+     * @return an iterable iterating over the selected elements
+     * @throws NullPointerException if array or bits is null
+     */
+    public static IntIterable select(int[] array, BitSet bits) {
+        Objects.requireNonNull(array);
+        return new SelectedIntArrayIterable(array, bits.toLongArray(), 0, array.length);
+    }
+
+    /**
+     * Creates a {@link LongIterable} over the elements of the specified subrange of a {@code long[]} array whose bits are set in {@code mask}.
+     * <p>
+     * Bit {@code i} of the mask, stored as bit {@code i & 63} of word {@code i >>> 6}, selects {@code array[i]};
+     * words past the end of the mask count as zero. Neither array is copied, so later changes to the mask are visible.
+     *
+     * @param array the source array, must not be null
+     * @param mask  the selection bitmap indexed by array index, must not be null
+     * @param start the starting index (inclusive)
+     * @param end   the ending index (exclusive)
+     * @return an iterable iterating over the selected elements
+     * @throws NullPointerException      if array or mask is null
+     * @throws IndexOutOfBoundsException if bounds are invalid
+     */
+    public static LongIterable select(long[] array, long[] mask, int start, int end) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(mask);
+        Util.checkBounds(array.length, start, end);
+        return new SelectedLongArrayIterable(array, mask, start, end);
+    }
+
+    /**
+     * Creates a {@link LongIterable} over the elements of a {@code long[]} array whose bits are set in {@code mask}.
+     *
+     * @param array the source array, must not be null
+     * @param mask  the selection bitmap indexed by array index, must not be null
+     * @return an iterable iterating over the selected elements
+     * @throws NullPointerException if array or mask is null
+     */
+    public static LongIterable select(long[] array, long[] mask) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(mask);
+        return new SelectedLongArrayIterable(array, mask, 0, array.length);
+    }
+
+    /**
+     * Creates a {@link LongIterable} over the elements of the specified subrange of a {@code long[]} array whose bits are set in {@code bits}.
+     * <p>
+     * The bit set is captured with {@link BitSet#toLongArray()}, so later changes to it are not visible.
+     *
+     * @param array the source array, must not be null
+     * @param bits  the selected indices, must not be null
+     * @param start the starting index (inclusive)
+     * @param end   the ending index (exclusive)
+     * @return an iterable iterating over the selected elements
+     * @throws NullPointerException      if array or bits is null
+     * @throws IndexOutOfBoundsException if bounds are invalid
+     */
+    public static LongIterable select(long[] array, BitSet bits, int start, int end) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(array.length, start, end);
+        return new SelectedLongArrayIterable(array, bits.toLongArray(), start, end);
+    }
+
+    /**
+     * Creates a {@link LongIterable} over the elements of a {@code long[]} array whose indices are set in {@code bits}.
+     * <p>
+     * The bit set is captured with {@link BitSet#toLongArray()}, so later changes to it are not visible.
+     *
+     * @param array the source array, must not be null
+     * @param bits  the selected indices, must not be null
+     * @return an iterable iterating over the selected elements
+     * @throws NullPointerException if array or bits is null
+     */
+    public static LongIterable select(long[] array, BitSet bits) {
+        Objects.requireNonNull(array);
+        return new SelectedLongArrayIterable(array, bits.toLongArray(), 0, array.length);
+    }
+
+    /**
+     * Creates a {@link DoubleIterable} over the elements of the specified subrange of a {@code double[]} array whose bits are set in {@code mask}.
+     * <p>
+     * Bit {@code i} of the mask, stored as bit {@code i & 63} of word {@code i >>> 6}, selects {@code array[i]};
+     * words past the end of the mask count as zero. Neither array is copied, so later changes to the mask are visible.
+     *
+     * @param array the source array, must not be null
+     * @param mask  the selection bitmap indexed by array index, must not be null
+     * @param start the starting index (inclusive)
+     * @param end   the ending index (exclusive)
+     * @return an iterable iterating over the selected elements
+     * @throws NullPointerException      if array or mask is null
+     * @throws IndexOutOfBoundsException if bounds are invalid
+     */
+    public static DoubleIterable select(double[] array, long[] mask, int start, int end) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(mask);
+        Util.checkBounds(array.length, start, end);
+        return new SelectedDoubleArrayIterable(array, mask, start, end);
+    }
+
+    /**
+     * Creates a {@link DoubleIterable} over the elements of a {@code double[]} array whose bits are set in {@code mask}.
+     *
+     * @param array the source array, must not be null
+     * @param mask  the selection bitmap indexed by array index, must not be null
+     * @return an iterable iterating over the selected elements
+     * @throws NullPointerException if array or mask is null
+     */
+    public static DoubleIterable select(double[] array, long[] mask) {
+        Objects.requireNonNull(array);
+        Objects.requireNonNull(mask);
+        return new SelectedDoubleArrayIterable(array, mask, 0, array.length);
+    }
+
+    /**
+     * Creates a {@link DoubleIterable} over the elements of the specified subrange of a {@code double[]} array whose bits are set in {@code bits}.
+     * <p>
+     * The bit set is captured with {@link BitSet#toLongArray()}, so later changes to it are not visible.
+     *
+     * @param array the source array, must not be null
+     * @param bits  the selected indices, must not be null
+     * @param start the starting index (inclusive)
+     * @param end   the ending index (exclusive)
+     * @return an iterable iterating over the selected elements
+     * @throws NullPointerException      if array or bits is null
+     * @throws IndexOutOfBoundsException if bounds are invalid
+     */
+    public static DoubleIterable select(double[] array, BitSet bits, int start, int end) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(array.length, start, end);
+        return new SelectedDoubleArrayIterable(array, bits.toLongArray(), start, end);
+    }
+
+    /**
+     * Creates a {@link DoubleIterable} over the elements of a {@code double[]} array whose indices are set in {@code bits}.
+     * <p>
+     * The bit set is captured with {@link BitSet#toLongArray()}, so later changes to it are not visible.
+     *
+     * @param array the source array, must not be null
+     * @param bits  the selected indices, must not be null
+     * @return an iterable iterating over the selected elements
+     * @throws NullPointerException if array or bits is null
+     */
+    public static DoubleIterable select(double[] array, BitSet bits) {
+        Objects.requireNonNull(array);
+        return new SelectedDoubleArrayIterable(array, bits.toLongArray(), 0, array.length);
+    }
+
+    /**
+     * Creates a {@link GatherIntArrayIterable} over {@code values[indices[i]]} for {@code i} from {@code start} (inclusive) to {@code end} (exclusive).
+     * <p>
+     * Neither array is copied. Indices are not validated up front; an index out of range of {@code values}
+     * fails with {@link ArrayIndexOutOfBoundsException} when it is reached.
+     *
+     * @param values  the {@code int[]} array to read elements from, must not be null
+     * @param indices the positions of the elements in {@code values}, must not be null
+     * @param start   the starting position in {@code indices} (inclusive)
+     * @param end     the ending position in {@code indices} (exclusive)
+     * @return an iterable iterating over the gathered elements
+     * @throws NullPointerException      if values or indices is null
+     * @throws IndexOutOfBoundsException if bounds are invalid
+     */
+    public static GatherIntArrayIterable gather(int[] values, int[] indices, int start, int end) {
+        Objects.requireNonNull(values);
+        Objects.requireNonNull(indices);
+        Util.checkBounds(indices.length, start, end);
+        return new GatherIntArrayIterable(values, indices, start, end);
+    }
+
+    /**
+     * Creates a {@link GatherIntArrayIterable} over {@code values[indices[i]]} for every position {@code i} of {@code indices}.
+     *
+     * @param values  the {@code int[]} array to read elements from, must not be null
+     * @param indices the positions of the elements in {@code values}, must not be null
+     * @return an iterable iterating over the gathered elements
+     * @throws NullPointerException if values or indices is null
+     */
+    public static GatherIntArrayIterable gather(int[] values, int[] indices) {
+        Objects.requireNonNull(values);
+        Objects.requireNonNull(indices);
+        return new GatherIntArrayIterable(values, indices, 0, indices.length);
+    }
+
+    /**
+     * Creates a {@link GatherLongArrayIterable} over {@code values[indices[i]]} for {@code i} from {@code start} (inclusive) to {@code end} (exclusive).
+     * <p>
+     * Neither array is copied. Indices are not validated up front; an index out of range of {@code values}
+     * fails with {@link ArrayIndexOutOfBoundsException} when it is reached.
+     *
+     * @param values  the {@code long[]} array to read elements from, must not be null
+     * @param indices the positions of the elements in {@code values}, must not be null
+     * @param start   the starting position in {@code indices} (inclusive)
+     * @param end     the ending position in {@code indices} (exclusive)
+     * @return an iterable iterating over the gathered elements
+     * @throws NullPointerException      if values or indices is null
+     * @throws IndexOutOfBoundsException if bounds are invalid
+     */
+    public static GatherLongArrayIterable gather(long[] values, int[] indices, int start, int end) {
+        Objects.requireNonNull(values);
+        Objects.requireNonNull(indices);
+        Util.checkBounds(indices.length, start, end);
+        return new GatherLongArrayIterable(values, indices, start, end);
+    }
+
+    /**
+     * Creates a {@link GatherLongArrayIterable} over {@code values[indices[i]]} for every position {@code i} of {@code indices}.
+     *
+     * @param values  the {@code long[]} array to read elements from, must not be null
+     * @param indices the positions of the elements in {@code values}, must not be null
+     * @return an iterable iterating over the gathered elements
+     * @throws NullPointerException if values or indices is null
+     */
+    public static GatherLongArrayIterable gather(long[] values, int[] indices) {
+        Objects.requireNonNull(values);
+        Objects.requireNonNull(indices);
+        return new GatherLongArrayIterable(values, indices, 0, indices.length);
+    }
+
+    /**
+     * Creates a {@link GatherDoubleArrayIterable} over {@code values[indices[i]]} for {@code i} from {@code start} (inclusive) to {@code end} (exclusive).
+     * <p>
+     * Neither array is copied. Indices are not validated up front; an index out of range of {@code values}
+     * fails with {@link ArrayIndexOutOfBoundsException} when it is reached.
+     *
+     * @param values  the {@code double[]} array to read elements from, must not be null
+     * @param indices the positions of the elements in {@code values}, must not be null
+     * @param start   the starting position in {@code indices} (inclusive)
+     * @param end     the ending position in {@code indices} (exclusive)
+     * @return an iterable iterating over the gathered elements
+     * @throws NullPointerException      if values or indices is null
+     * @throws IndexOutOfBoundsException if bounds are invalid
+     */
+    public static GatherDoubleArrayIterable gather(double[] values, int[] indices, int start, int end) {
+        Objects.requireNonNull(values);
+        Objects.requireNonNull(indices);
+        Util.checkBounds(indices.length, start, end);
+        return new GatherDoubleArrayIterable(values, indices, start, end);
+    }
+
+    /**
+     * Creates a {@link GatherDoubleArrayIterable} over {@code values[indices[i]]} for every position {@code i} of {@code indices}.
+     *
+     * @param values  the {@code double[]} array to read elements from, must not be null
+     * @param indices the positions of the elements in {@code values}, must not be null
+     * @return an iterable iterating over the gathered elements
+     * @throws NullPointerException if values or indices is null
+     */
+    public static GatherDoubleArrayIterable gather(double[] values, int[] indices) {
+        Objects.requireNonNull(values);
+        Objects.requireNonNull(indices);
+        return new GatherDoubleArrayIterable(values, indices, 0, indices.length);
+    }
+
+    /**
+     * Encodes the specified subrange of a sorted {@code int[]} array into a {@link CompressedIntSequence}.
+     * <p>
+     * Every entry is stored as a varint of the difference to its predecessor, and the first value and byte offset
+     * of every {@code blockSize} entries are kept in a skip table used by
+     * {@link CompressedIntIterator#advanceTo(int)} and for splitting. Smaller blocks make skipping and splitting
+     * finer at the cost of a larger skip table.
+     *
+     * @param sorted    the source array sorted in ascending order, must not be null
+     * @param start     the starting index (inclusive)
+     * @param end       the ending index (exclusive)
+     * @param blockSize the number of entries between skip table entries
+     * @return the compressed sequence
+     * @throws NullPointerException      if sorted is null
+     * @throws IndexOutOfBoundsException if bounds are invalid
+     * @throws IllegalArgumentException  if {@code blockSize} is less than 1 or the range is not sorted
+     */
+    public static CompressedIntSequence compress(int[] sorted, int start, int end, int blockSize) {
+        Objects.requireNonNull(sorted);
+        Util.checkBounds(sorted.length, start, end);
+        Util.checkBlockSize(blockSize);
+        return CompressedIntSequence.encode(sorted, start, end, blockSize);
+    }
+
+    /**
+     * Encodes a sorted {@code int[]} array into a {@link CompressedIntSequence} with the given block size.
+     *
+     * @param sorted    the source array sorted in ascending order, must not be null
+     * @param blockSize the number of entries between skip table entries
+     * @return the compressed sequence
+     * @throws NullPointerException     if sorted is null
+     * @throws IllegalArgumentException if {@code blockSize} is less than 1 or the array is not sorted
+     */
+    public static CompressedIntSequence compress(int[] sorted, int blockSize) {
+        Objects.requireNonNull(sorted);
+        Util.checkBlockSize(blockSize);
+        return CompressedIntSequence.encode(sorted, 0, sorted.length, blockSize);
+    }
+
+    /**
+     * Encodes a sorted {@code int[]} array into a {@link CompressedIntSequence} with a skip table entry
+     * every 128 elements.
+     *
+     * @param sorted the source array sorted in ascending order, must not be null
+     * @return the compressed sequence
+     * @throws NullPointerException     if sorted is null
+     * @throws IllegalArgumentException if the array is not sorted
+     */
+    public static CompressedIntSequence compress(int[] sorted) {
+        return compress(sorted, 128);
+    }
+
+    /**
+     * Encodes the specified subrange of a sorted {@code long[]} array into a {@link CompressedLongSequence}.
+     * <p>
+     * Every entry is stored as a varint of the difference to its predecessor, and the first value and byte offset
+     * of every {@code blockSize} entries are kept in a skip table used by
+     * {@link CompressedLongIterator#advanceTo(long)} and for splitting. Smaller blocks make skipping and splitting
+     * finer at the cost of a larger skip table.
+     *
+     * @param sorted    the source array sorted in ascending order, must not be null
+     * @param start     the starting index (inclusive)
+     * @param end       the ending index (exclusive)
+     * @param blockSize the number of entries between skip table entries
+     * @return the compressed sequence
+     * @throws NullPointerException      if sorted is null
+     * @throws IndexOutOfBoundsException if bounds are invalid
+     * @throws IllegalArgumentException  if {@code blockSize} is less than 1 or the range is not sorted
+     */
+    public static CompressedLongSequence compress(long[] sorted, int start, int end, int blockSize) {
+        Objects.requireNonNull(sorted);
+        Util.checkBounds(sorted.length, start, end);
+        Util.checkBlockSize(blockSize);
+        return CompressedLongSequence.encode(sorted, start, end, blockSize);
+    }
+
+    /**
+     * Encodes a sorted {@code long[]} array into a {@link CompressedLongSequence} with the given block size.
+     *
+     * @param sorted    the source array sorted in ascending order, must not be null
+     * @param blockSize the number of entries between skip table entries
+     * @return the compressed sequence
+     * @throws NullPointerException     if sorted is null
+     * @throws IllegalArgumentException if {@code blockSize} is less than 1 or the array is not sorted
+     */
+    public static CompressedLongSequence compress(long[] sorted, int blockSize) {
+        Objects.requireNonNull(sorted);
+        Util.checkBlockSize(blockSize);
+        return CompressedLongSequence.encode(sorted, 0, sorted.length, blockSize);
+    }
+
+    /**
+     * Encodes a sorted {@code long[]} array into a {@link CompressedLongSequence} with a skip table entry
+     * every 128 elements.
+     *
+     * @param sorted the source array sorted in ascending order, must not be null
+     * @return the compressed sequence
+     * @throws NullPointerException     if sorted is null
+     * @throws IllegalArgumentException if the array is not sorted
+     */
+    public static CompressedLongSequence compress(long[] sorted) {
+        return compress(sorted, 128);
+    }
+
+    /**
+     * Packs the specified subrange of a {@code int[]} array into a {@link PackedIntSequence}.
+     * <p>
+     * The smallest element becomes the base and the bit width is the fewest bits that hold the difference
+     * between the largest and the smallest element. The array is not retained.
+     *
+     * @param values the source array, must not be null
+     * @param start  the starting index (inclusive)
+     * @param end    the ending index (exclusive)
+     * @return the packed sequence
+     * @throws NullPointerException      if values is null
+     * @throws IndexOutOfBoundsException if bounds are invalid
+     */
+    public static PackedIntSequence pack(int[] values, int start, int end) {
+        Objects.requireNonNull(values);
+        Util.checkBounds(values.length, start, end);
+        return PackedIntSequence.encode(values, start, end);
+    }
+
+    /**
+     * Packs a {@code int[]} array into a {@link PackedIntSequence}.
+     *
+     * @param values the source array, must not be null
+     * @return the packed sequence
+     * @throws NullPointerException if values is null
+     */
+    public static PackedIntSequence pack(int[] values) {
+        Objects.requireNonNull(values);
+        return PackedIntSequence.encode(values, 0, values.length);
+    }
+
+    /**
+     * Packs the specified subrange of a {@code long[]} array into a {@link PackedLongSequence}.
+     * <p>
+     * The smallest element becomes the base and the bit width is the fewest bits that hold the difference
+     * between the largest and the smallest element. The array is not retained.
+     *
+     * @param values the source array, must not be null
+     * @param start  the starting index (inclusive)
+     * @param end    the ending index (exclusive)
+     * @return the packed sequence
+     * @throws NullPointerException      if values is null
+     * @throws IndexOutOfBoundsException if bounds are invalid
+     */
+    public static PackedLongSequence pack(long[] values, int start, int end) {
+        Objects.requireNonNull(values);
+        Util.checkBounds(values.length, start, end);
+        return PackedLongSequence.encode(values, start, end);
+    }
+
+    /**
+     * Packs a {@code long[]} array into a {@link PackedLongSequence}.
+     *
+     * @param values the source array, must not be null
+     * @return the packed sequence
+     * @throws NullPointerException if values is null
+     */
+    public static PackedLongSequence pack(long[] values) {
+        Objects.requireNonNull(values);
+        return PackedLongSequence.encode(values, 0, values.length);
+    }
 }
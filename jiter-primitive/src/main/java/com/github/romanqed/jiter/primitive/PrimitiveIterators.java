@@ -1,5 +1,10 @@
 package com.github.romanqed.jiter.primitive;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
 import java.util.Objects;
 import java.util.PrimitiveIterator;
 
@@ -8,10 +13,20 @@ import java.util.PrimitiveIterator;
  * ({@link PrimitiveIterator.OfInt}, {@link PrimitiveIterator.OfLong}, {@link PrimitiveIterator.OfDouble})
  * over primitive arrays.
  * <p>
+ * Iterators over {@code byte[]}, {@code short[]}, {@code char[]} and {@code float[]} arrays
+ * ({@link ByteIterator}, {@link ShortIterator}, {@link CharIterator}, {@link FloatIterator})
+ * widen elements to {@code int} or {@code double} and also provide native-width access.
+ * <p>
+ * Buffer-backed iterators read elements with absolute {@code get(int)} and never change the buffer position.
+ * <p>
  * All methods check input array non-nullity and bounds. Throws
  * {@link NullPointerException} or {@link IndexOutOfBoundsException} accordingly.
  */
 public final class PrimitiveIterators {
+    private static final ThreadLocal<IntArrayIterator> LOCAL_INTS = ThreadLocal.withInitial(IntArrayIterator::new);
+    private static final ThreadLocal<LongArrayIterator> LOCAL_LONGS = ThreadLocal.withInitial(LongArrayIterator::new);
+    private static final ThreadLocal<DoubleArrayIterator> LOCAL_DOUBLES = ThreadLocal.withInitial(DoubleArrayIterator::new);
+
     private PrimitiveIterators() {
     }
 
@@ -58,6 +73,70 @@ public final class PrimitiveIterators {
         return new IntArrayIterator(array, array.length, 0);
     }
 
+    /**
+     * Creates a {@link PrimitiveIterator.OfInt} over every {@code step}-th element of the specified subrange of an {@code int[]} array.
+     * <p>
+     * A positive step starts at {@code start}; a negative step walks the range backwards starting at {@code end - 1}.
+     *
+     * @param array the source array (must not be {@code null})
+     * @param start the starting index (inclusive)
+     * @param end   the ending index (exclusive)
+     * @param step  the distance between consecutive elements, must not be zero
+     * @return a {@link PrimitiveIterator.OfInt} over the selected elements
+     * @throws NullPointerException      if {@code array} is {@code null}
+     * @throws IndexOutOfBoundsException if bounds are invalid
+     * @throws IllegalArgumentException  if {@code step} is zero
+     */
+    public static PrimitiveIterator.OfInt of(int[] array, int start, int end, int step) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(array.length, start, end);
+        Util.checkStep(step);
+        return new StridedIntArrayIterator(array, Util.strideOffset(start, end, step), step, Util.strideCount(start, end, step), 0);
+    }
+
+    /**
+     * Creates a {@link PrimitiveIterator.OfInt} over the specified subrange of an {@code int[]} array in descending index order.
+     *
+     * @param array the source array (must not be {@code null})
+     * @param start the lowest index (inclusive)
+     * @param end   the index after the first returned element (exclusive)
+     * @return a {@link PrimitiveIterator.OfInt} from {@code end - 1} down to {@code start}
+     * @throws NullPointerException      if {@code array} is {@code null}
+     * @throws IndexOutOfBoundsException if bounds are invalid
+     */
+    public static PrimitiveIterator.OfInt reversed(int[] array, int start, int end) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(array.length, start, end);
+        return new StridedIntArrayIterator(array, end - 1, -1, end - start, 0);
+    }
+
+    /**
+     * Creates a {@link PrimitiveIterator.OfInt} over an {@code int[]} array from its last element down to {@code start}.
+     *
+     * @param array the source array (must not be {@code null})
+     * @param start the lowest index (inclusive)
+     * @return a {@link PrimitiveIterator.OfInt} from the last element down to {@code start}
+     * @throws NullPointerException      if {@code array} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code start} is out of bounds
+     */
+    public static PrimitiveIterator.OfInt reversed(int[] array, int start) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(start, array.length);
+        return new StridedIntArrayIterator(array, array.length - 1, -1, array.length - start, 0);
+    }
+
+    /**
+     * Creates a {@link PrimitiveIterator.OfInt} over the entire {@code int[]} array in descending index order.
+     *
+     * @param array the source array (must not be {@code null})
+     * @return a {@link PrimitiveIterator.OfInt} from the last element down to the first
+     * @throws NullPointerException if {@code array} is {@code null}
+     */
+    public static PrimitiveIterator.OfInt reversed(int[] array) {
+        Objects.requireNonNull(array);
+        return new StridedIntArrayIterator(array, array.length - 1, -1, array.length, 0);
+    }
+
     /**
      * Creates a primitive long iterator over a subrange of the given long array.
      *
@@ -101,6 +180,70 @@ public final class PrimitiveIterators {
         return new LongArrayIterator(array, array.length, 0);
     }
 
+    /**
+     * Creates a {@link PrimitiveIterator.OfLong} over every {@code step}-th element of the specified subrange of a {@code long[]} array.
+     * <p>
+     * A positive step starts at {@code start}; a negative step walks the range backwards starting at {@code end - 1}.
+     *
+     * @param array the source array (must not be {@code null})
+     * @param start the starting index (inclusive)
+     * @param end   the ending index (exclusive)
+     * @param step  the distance between consecutive elements, must not be zero
+     * @return a {@link PrimitiveIterator.OfLong} over the selected elements
+     * @throws NullPointerException      if {@code array} is {@code null}
+     * @throws IndexOutOfBoundsException if bounds are invalid
+     * @throws IllegalArgumentException  if {@code step} is zero
+     */
+    public static PrimitiveIterator.OfLong of(long[] array, int start, int end, int step) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(array.length, start, end);
+        Util.checkStep(step);
+        return new StridedLongArrayIterator(array, Util.strideOffset(start, end, step), step, Util.strideCount(start, end, step), 0);
+    }
+
+    /**
+     * Creates a {@link PrimitiveIterator.OfLong} over the specified subrange of a {@code long[]} array in descending index order.
+     *
+     * @param array the source array (must not be {@code null})
+     * @param start the lowest index (inclusive)
+     * @param end   the index after the first returned element (exclusive)
+     * @return a {@link PrimitiveIterator.OfLong} from {@code end - 1} down to {@code start}
+     * @throws NullPointerException      if {@code array} is {@code null}
+     * @throws IndexOutOfBoundsException if bounds are invalid
+     */
+    public static PrimitiveIterator.OfLong reversed(long[] array, int start, int end) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(array.length, start, end);
+        return new StridedLongArrayIterator(array, end - 1, -1, end - start, 0);
+    }
+
+    /**
+     * Creates a {@link PrimitiveIterator.OfLong} over a {@code long[]} array from its last element down to {@code start}.
+     *
+     * @param array the source array (must not be {@code null})
+     * @param start the lowest index (inclusive)
+     * @return a {@link PrimitiveIterator.OfLong} from the last element down to {@code start}
+     * @throws NullPointerException      if {@code array} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code start} is out of bounds
+     */
+    public static PrimitiveIterator.OfLong reversed(long[] array, int start) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(start, array.length);
+        return new StridedLongArrayIterator(array, array.length - 1, -1, array.length - start, 0);
+    }
+
+    /**
+     * Creates a {@link PrimitiveIterator.OfLong} over the entire {@code long[]} array in descending index order.
+     *
+     * @param array the source array (must not be {@code null})
+     * @return a {@link PrimitiveIterator.OfLong} from the last element down to the first
+     * @throws NullPointerException if {@code array} is {@code null}
+     */
+    public static PrimitiveIterator.OfLong reversed(long[] array) {
+        Objects.requireNonNull(array);
+        return new StridedLongArrayIterator(array, array.length - 1, -1, array.length, 0);
+    }
+
     /**
      * Creates a primitive double iterator over a subrange of the given double array.
      *
@@ -143,4 +286,627 @@ public final class PrimitiveIterators {
         Objects.requireNonNull(array);
         return new DoubleArrayIterator(array, array.length, 0);
     }
+
+    /**
+     * Creates a {@link PrimitiveIterator.OfDouble} over every {@code step}-th element of the specified subrange of a {@code double[]} array.
+     * <p>
+     * A positive step starts at {@code start}; a negative step walks the range backwards starting at {@code end - 1}.
+     *
+     * @param array the source array (must not be {@code null})
+     * @param start the starting index (inclusive)
+     * @param end   the ending index (exclusive)
+     * @param step  the distance between consecutive elements, must not be zero
+     * @return a {@link PrimitiveIterator.OfDouble} over the selected elements
+     * @throws NullPointerException      if {@code array} is {@code null}
+     * @throws IndexOutOfBoundsException if bounds are invalid
+     * @throws IllegalArgumentException  if {@code step} is zero
+     */
+    public static PrimitiveIterator.OfDouble of(double[] array, int start, int end, int step) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(array.length, start, end);
+        Util.checkStep(step);
+        return new StridedDoubleArrayIterator(array, Util.strideOffset(start, end, step), step, Util.strideCount(start, end, step), 0);
+    }
+
+    /**
+     * Creates a {@link PrimitiveIterator.OfDouble} over the specified subrange of a {@code double[]} array in descending index order.
+     *
+     * @param array the source array (must not be {@code null})
+     * @param start the lowest index (inclusive)
+     * @param end   the index after the first returned element (exclusive)
+     * @return a {@link PrimitiveIterator.OfDouble} from {@code end - 1} down to {@code start}
+     * @throws NullPointerException      if {@code array} is {@code null}
+     * @throws IndexOutOfBoundsException if bounds are invalid
+     */
+    public static PrimitiveIterator.OfDouble reversed(double[] array, int start, int end) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(array.length, start, end);
+        return new StridedDoubleArrayIterator(array, end - 1, -1, end - start, 0);
+    }
+
+    /**
+     * Creates a {@link PrimitiveIterator.OfDouble} over a {@code double[]} array from its last element down to {@code start}.
+     *
+     * @param array the source array (must not be {@code null})
+     * @param start the lowest index (inclusive)
+     * @return a {@link PrimitiveIterator.OfDouble} from the last element down to {@code start}
+     * @throws NullPointerException      if {@code array} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code start} is out of bounds
+     */
+    public static PrimitiveIterator.OfDouble reversed(double[] array, int start) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(start, array.length);
+        return new StridedDoubleArrayIterator(array, array.length - 1, -1, array.length - start, 0);
+    }
+
+    /**
+     * Creates a {@link PrimitiveIterator.OfDouble} over the entire {@code double[]} array in descending index order.
+     *
+     * @param array the source array (must not be {@code null})
+     * @return a {@link PrimitiveIterator.OfDouble} from the last element down to the first
+     * @throws NullPointerException if {@code array} is {@code null}
+     */
+    public static PrimitiveIterator.OfDouble reversed(double[] array) {
+        Objects.requireNonNull(array);
+        return new StridedDoubleArrayIterator(array, array.length - 1, -1, array.length, 0);
+    }
+
+    /**
+     * Creates a {@link ByteIterator} over a subrange of the given byte array.
+     *
+     * @param array the source array, must not be null
+     * @param start the start index, inclusive (0-based)
+     * @param end   the end index, exclusive
+     * @return an iterator iterating over array[start:end]
+     * @throws NullPointerException           if array is null
+     * @throws IndexOutOfBoundsException      if start or end are out of array bounds or invalid
+     */
+    public static ByteIterator of(byte[] array, int start, int end) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(array.length, start, end);
+        return new ByteArrayIterator(array, end, start);
+    }
+
+    /**
+     * Creates a {@link ByteIterator} over a subrange starting at {@code start} until the end of the array.
+     *
+     * @param array the source array, must not be null
+     * @param start the start index, inclusive (0-based)
+     * @return an iterator iterating over array[start:array.length]
+     * @throws NullPointerException           if array is null
+     * @throws IndexOutOfBoundsException      if start is out of bounds
+     */
+    public static ByteIterator of(byte[] array, int start) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(start, array.length);
+        return new ByteArrayIterator(array, array.length, start);
+    }
+
+    /**
+     * Creates a {@link ByteIterator} over the entire byte array.
+     *
+     * @param array the source array, must not be null
+     * @return an iterator iterating over the entire array
+     * @throws NullPointerException if array is null
+     */
+    public static ByteIterator of(byte[] array) {
+        Objects.requireNonNull(array);
+        return new ByteArrayIterator(array, array.length, 0);
+    }
+
+    /**
+     * Creates a {@link ShortIterator} over a subrange of the given short array.
+     *
+     * @param array the source array, must not be null
+     * @param start the start index, inclusive (0-based)
+     * @param end   the end index, exclusive
+     * @return an iterator iterating over array[start:end]
+     * @throws NullPointerException           if array is null
+     * @throws IndexOutOfBoundsException      if start or end are out of array bounds or invalid
+     */
+    public static ShortIterator of(short[] array, int start, int end) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(array.length, start, end);
+        return new ShortArrayIterator(array, end, start);
+    }
+
+    /**
+     * Creates a {@link ShortIterator} over a subrange starting at {@code start} until the end of the array.
+     *
+     * @param array the source array, must not be null
+     * @param start the start index, inclusive (0-based)
+     * @return an iterator iterating over array[start:array.length]
+     * @throws NullPointerException           if array is null
+     * @throws IndexOutOfBoundsException      if start is out of bounds
+     */
+    public static ShortIterator of(short[] array, int start) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(start, array.length);
+        return new ShortArrayIterator(array, array.length, start);
+    }
+
+    /**
+     * Creates a {@link ShortIterator} over the entire short array.
+     *
+     * @param array the source array, must not be null
+     * @return an iterator iterating over the entire array
+     * @throws NullPointerException if array is null
+     */
+    public static ShortIterator of(short[] array) {
+        Objects.requireNonNull(array);
+        return new ShortArrayIterator(array, array.length, 0);
+    }
+
+    /**
+     * Creates a {@link CharIterator} over a subrange of the given char array.
+     *
+     * @param array the source array, must not be null
+     * @param start the start index, inclusive (0-based)
+     * @param end   the end index, exclusive
+     * @return an iterator iterating over array[start:end]
+     * @throws NullPointerException           if array is null
+     * @throws IndexOutOfBoundsException      if start or end are out of array bounds or invalid
+     */
+    public static CharIterator of(char[] array, int start, int end) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(array.length, start, end);
+        return new CharArrayIterator(array, end, start);
+    }
+
+    /**
+     * Creates a {@link CharIterator} over a subrange starting at {@code start} until the end of the array.
+     *
+     * @param array the source array, must not be null
+     * @param start the start index, inclusive (0-based)
+     * @return an iterator iterating over array[start:array.length]
+     * @throws NullPointerException           if array is null
+     * @throws IndexOutOfBoundsException      if start is out of bounds
+     */
+    public static CharIterator of(char[] array, int start) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(start, array.length);
+        return new CharArrayIterator(array, array.length, start);
+    }
+
+    /**
+     * Creates a {@link CharIterator} over the entire char array.
+     *
+     * @param array the source array, must not be null
+     * @return an iterator iterating over the entire array
+     * @throws NullPointerException if array is null
+     */
+    public static CharIterator of(char[] array) {
+        Objects.requireNonNull(array);
+        return new CharArrayIterator(array, array.length, 0);
+    }
+
+    /**
+     * Creates a {@link FloatIterator} over a subrange of the given float array.
+     *
+     * @param array the source array, must not be null
+     * @param start the start index, inclusive (0-based)
+     * @param end   the end index, exclusive
+     * @return an iterator iterating over array[start:end]
+     * @throws NullPointerException           if array is null
+     * @throws IndexOutOfBoundsException      if start or end are out of array bounds or invalid
+     */
+    public static FloatIterator of(float[] array, int start, int end) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(array.length, start, end);
+        return new FloatArrayIterator(array, end, start);
+    }
+
+    /**
+     * Creates a {@link FloatIterator} over a subrange starting at {@code start} until the end of the array.
+     *
+     * @param array the source array, must not be null
+     * @param start the start index, inclusive (0-based)
+     * @return an iterator iterating over array[start:array.length]
+     * @throws NullPointerException           if array is null
+     * @throws IndexOutOfBoundsException      if start is out of bounds
+     */
+    public static FloatIterator of(float[] array, int start) {
+        Objects.requireNonNull(array);
+        Util.checkBounds(start, array.length);
+        return new FloatArrayIterator(array, array.length, start);
+    }
+
+    /**
+     * Creates a {@link FloatIterator} over the entire float array.
+     *
+     * @param array the source array, must not be null
+     * @return an iterator iterating over the entire array
+     * @throws NullPointerException if array is null
+     */
+    public static FloatIterator of(float[] array) {
+        Objects.requireNonNull(array);
+        return new FloatArrayIterator(array, array.length, 0);
+    }
+
+    /**
+     * Creates a primitive int iterator over a subrange of the given {@link IntBuffer}.
+     * <p>
+     * Indices are absolute, elements are read with {@link IntBuffer#get(int)} and the buffer position is not changed.
+     *
+     * @param buffer the source buffer, must not be null
+     * @param start  the start index, inclusive (0-based)
+     * @param end    the end index, exclusive
+     * @return an iterator iterating over buffer[start:end]
+     * @throws NullPointerException           if buffer is null
+     * @throws IndexOutOfBoundsException      if start or end are out of buffer limit or invalid
+     */
+    public static PrimitiveIterator.OfInt of(IntBuffer buffer, int start, int end) {
+        Objects.requireNonNull(buffer);
+        Util.checkBounds(buffer.limit(), start, end);
+        return new IntBufferIterator(buffer, end, start);
+    }
+
+    /**
+     * Creates a primitive int iterator over a subrange of the given {@link IntBuffer} starting at {@code start} until its limit.
+     *
+     * @param buffer the source buffer, must not be null
+     * @param start  the start index, inclusive (0-based)
+     * @return an iterator iterating over buffer[start:buffer.limit()]
+     * @throws NullPointerException           if buffer is null
+     * @throws IndexOutOfBoundsException      if start is out of bounds
+     */
+    public static PrimitiveIterator.OfInt of(IntBuffer buffer, int start) {
+        Objects.requireNonNull(buffer);
+        Util.checkBounds(start, buffer.limit());
+        return new IntBufferIterator(buffer, buffer.limit(), start);
+    }
+
+    /**
+     * Creates a primitive int iterator over the given {@link IntBuffer} from index 0 until its limit.
+     *
+     * @param buffer the source buffer, must not be null
+     * @return an iterator iterating over buffer[0:buffer.limit()]
+     * @throws NullPointerException if buffer is null
+     */
+    public static PrimitiveIterator.OfInt of(IntBuffer buffer) {
+        Objects.requireNonNull(buffer);
+        return new IntBufferIterator(buffer, buffer.limit(), 0);
+    }
+
+    /**
+     * Creates a primitive int iterator over a subrange of {@code int} values stored in the given {@link ByteBuffer}.
+     * <p>
+     * The buffer content from byte 0 until its limit is viewed as {@code int} values in the specified byte order,
+     * trailing bytes that do not form a whole value are ignored. Indices are counted in {@code int} values.
+     * Neither the position nor the byte order of the given buffer is changed.
+     *
+     * @param buffer the source buffer, must not be null
+     * @param order  the byte order of the stored values, must not be null
+     * @param start  the start index, inclusive (0-based)
+     * @param end    the end index, exclusive
+     * @return an iterator iterating over the {@code int} values [start:end]
+     * @throws NullPointerException           if buffer or order is null
+     * @throws IndexOutOfBoundsException      if start or end are out of bounds or invalid
+     */
+    public static PrimitiveIterator.OfInt ofInts(ByteBuffer buffer, ByteOrder order, int start, int end) {
+        var view = Util.asIntBuffer(buffer, order);
+        Util.checkBounds(view.limit(), start, end);
+        return new IntBufferIterator(view, end, start);
+    }
+
+    /**
+     * Creates a primitive int iterator over all {@code int} values stored in the given {@link ByteBuffer}.
+     * <p>
+     * The buffer content from byte 0 until its limit is viewed as {@code int} values in the specified byte order,
+     * trailing bytes that do not form a whole value are ignored.
+     * Neither the position nor the byte order of the given buffer is changed.
+     *
+     * @param buffer the source buffer, must not be null
+     * @param order  the byte order of the stored values, must not be null
+     * @return an iterator iterating over all stored {@code int} values
+     * @throws NullPointerException if buffer or order is null
+     */
+    public static PrimitiveIterator.OfInt ofInts(ByteBuffer buffer, ByteOrder order) {
+        var view = Util.asIntBuffer(buffer, order);
+        return new IntBufferIterator(view, view.limit(), 0);
+    }
+
+    /**
+     * Creates a primitive long iterator over a subrange of the given {@link LongBuffer}.
+     * <p>
+     * Indices are absolute, elements are read with {@link LongBuffer#get(int)} and the buffer position is not changed.
+     *
+     * @param buffer the source buffer, must not be null
+     * @param start  the start index, inclusive (0-based)
+     * @param end    the end index, exclusive
+     * @return an iterator iterating over buffer[start:end]
+     * @throws NullPointerException           if buffer is null
+     * @throws IndexOutOfBoundsException      if start or end are out of buffer limit or invalid
+     */
+    public static PrimitiveIterator.OfLong of(LongBuffer buffer, int start, int end) {
+        Objects.requireNonNull(buffer);
+        Util.checkBounds(buffer.limit(), start, end);
+        return new LongBufferIterator(buffer, end, start);
+    }
+
+    /**
+     * Creates a primitive long iterator over a subrange of the given {@link LongBuffer} starting at {@code start} until its limit.
+     *
+     * @param buffer the source buffer, must not be null
+     * @param start  the start index, inclusive (0-based)
+     * @return an iterator iterating over buffer[start:buffer.limit()]
+     * @throws NullPointerException           if buffer is null
+     * @throws IndexOutOfBoundsException      if start is out of bounds
+     */
+    public static PrimitiveIterator.OfLong of(LongBuffer buffer, int start) {
+        Objects.requireNonNull(buffer);
+        Util.checkBounds(start, buffer.limit());
+        return new LongBufferIterator(buffer, buffer.limit(), start);
+    }
+
+    /**
+     * Creates a primitive long iterator over the given {@link LongBuffer} from index 0 until its limit.
+     *
+     * @param buffer the source buffer, must not be null
+     * @return an iterator iterating over buffer[0:buffer.limit()]
+     * @throws NullPointerException if buffer is null
+     */
+    public static PrimitiveIterator.OfLong of(LongBuffer buffer) {
+        Objects.requireNonNull(buffer);
+        return new LongBufferIterator(buffer, buffer.limit(), 0);
+    }
+
+    /**
+     * Creates a primitive long iterator over a subrange of {@code long} values stored in the given {@link ByteBuffer}.
+     * <p>
+     * The buffer content from byte 0 until its limit is viewed as {@code long} values in the specified byte order,
+     * trailing bytes that do not form a whole value are ignored. Indices are counted in {@code long} values.
+     * Neither the position nor the byte order of the given buffer is changed.
+     *
+     * @param buffer the source buffer, must not be null
+     * @param order  the byte order of the stored values, must not be null
+     * @param start  the start index, inclusive (0-based)
+     * @param end    the end index, exclusive
+     * @return an iterator iterating over the {@code long} values [start:end]
+     * @throws NullPointerException           if buffer or order is null
+     * @throws IndexOutOfBoundsException      if start or end are out of bounds or invalid
+     */
+    public static PrimitiveIterator.OfLong ofLongs(ByteBuffer buffer, ByteOrder order, int start, int end) {
+        var view = Util.asLongBuffer(buffer, order);
+        Util.checkBounds(view.limit(), start, end);
+        return new LongBufferIterator(view, end, start);
+    }
+
+    /**
+     * Creates a primitive long iterator over all {@code long} values stored in the given {@link ByteBuffer}.
+     * <p>
+     * The buffer content from byte 0 until its limit is viewed as {@code long} values in the specified byte order,
+     * trailing bytes that do not form a whole value are ignored.
+     * Neither the position nor the byte order of the given buffer is changed.
+     *
+     * @param buffer the source buffer, must not be null
+     * @param order  the byte order of the stored values, must not be null
+     * @return an iterator iterating over all stored {@code long} values
+     * @throws NullPointerException if buffer or order is null
+     */
+    public static PrimitiveIterator.OfLong ofLongs(ByteBuffer buffer, ByteOrder order) {
+        var view = Util.asLongBuffer(buffer, order);
+        return new LongBufferIterator(view, view.limit(), 0);
+    }
+
+    /**
+     * Creates a primitive double iterator over a subrange of the given {@link DoubleBuffer}.
+     * <p>
+     * Indices are absolute, elements are read with {@link DoubleBuffer#get(int)} and the buffer position is not changed.
+     *
+     * @param buffer the source buffer, must not be null
+     * @param start  the start index, inclusive (0-based)
+     * @param end    the end index, exclusive
+     * @return an iterator iterating over buffer[start:end]
+     * @throws NullPointerException           if buffer is null
+     * @throws IndexOutOfBoundsException      if start or end are out of buffer limit or invalid
+     */
+    public static PrimitiveIterator.OfDouble of(DoubleBuffer buffer, int start, int end) {
+        Objects.requireNonNull(buffer);
+        Util.checkBounds(buffer.limit(), start, end);
+        return new DoubleBufferIterator(buffer, end, start);
+    }
+
+    /**
+     * Creates a primitive double iterator over a subrange of the given {@link DoubleBuffer} starting at {@code start} until its limit.
+     *
+     * @param buffer the source buffer, must not be null
+     * @param start  the start index, inclusive (0-based)
+     * @return an iterator iterating over buffer[start:buffer.limit()]
+     * @throws NullPointerException           if buffer is null
+     * @throws IndexOutOfBoundsException      if start is out of bounds
+     */
+    public static PrimitiveIterator.OfDouble of(DoubleBuffer buffer, int start) {
+        Objects.requireNonNull(buffer);
+        Util.checkBounds(start, buffer.limit());
+        return new DoubleBufferIterator(buffer, buffer.limit(), start);
+    }
+
+    /**
+     * Creates a primitive double iterator over the given {@link DoubleBuffer} from index 0 until its limit.
+     *
+     * @param buffer the source buffer, must not be null
+     * @return an iterator iterating over buffer[0:buffer.limit()]
+     * @throws NullPointerException if buffer is null
+     */
+    public static PrimitiveIterator.OfDouble of(DoubleBuffer buffer) {
+        Objects.requireNonNull(buffer);
+        return new DoubleBufferIterator(buffer, buffer.limit(), 0);
+    }
+
+    /**
+     * Creates a primitive double iterator over a subrange of {@code double} values stored in the given {@link ByteBuffer}.
+     * <p>
+     * The buffer content from byte 0 until its limit is viewed as {@code double} values in the specified byte order,
+     * trailing bytes that do not form a whole value are ignored. Indices are counted in {@code double} values.
+     * Neither the position nor the byte order of the given buffer is changed.
+     *
+     * @param buffer the source buffer, must not be null
+     * @param order  the byte order of the stored values, must not be null
+     * @param start  the start index, inclusive (0-based)
+     * @param end    the end index, exclusive
+     * @return an iterator iterating over the {@code double} values [start:end]
+     * @throws NullPointerException           if buffer or order is null
+     * @throws IndexOutOfBoundsException      if start or end are out of bounds or invalid
+     */
+    public static PrimitiveIterator.OfDouble ofDoubles(ByteBuffer buffer, ByteOrder order, int start, int end) {
+        var view = Util.asDoubleBuffer(buffer, order);
+        Util.checkBounds(view.limit(), start, end);
+        return new DoubleBufferIterator(view, end, start);
+    }
+
+    /**
+     * Creates a primitive double iterator over all {@code double} values stored in the given {@link ByteBuffer}.
+     * <p>
+     * The buffer content from byte 0 until its limit is viewed as {@code double} values in the specified byte order,
+     * trailing bytes that do not form a whole value are ignored.
+     * Neither the position nor the byte order of the given buffer is changed.
+     *
+     * @param buffer the source buffer, must not be null
+     * @param order  the byte order of the stored values, must not be null
+     * @return an iterator iterating over all stored {@code double} values
+     * @throws NullPointerException if buffer or order is null
+     */
+    public static PrimitiveIterator.OfDouble ofDoubles(ByteBuffer buffer, ByteOrder order) {
+        var view = Util.asDoubleBuffer(buffer, order);
+        return new DoubleBufferIterator(view, view.limit(), 0);
+    }
+
+    /**
+     * Returns the calling thread's reusable {@link IntArrayIterator} re-pointed at the specified subrange of an {@code int[]} array.
+     * <p>
+     * The calling thread owns a single iterator, and every {@code local} call made on that thread re-points that
+     * same instance, so the result is single-use and not reentrant: finish or abandon it before the next call, as a
+     * nested {@code local} call on the same thread redirects the enclosing traversal. Abandoning it early is safe,
+     * the next call simply re-points it. Until then the thread keeps a reference to the last array.
+     * It must not be handed to another thread.
+     *
+     * @param array the source array (must not be {@code null})
+     * @param start the starting index (inclusive)
+     * @param end   the ending index (exclusive)
+     * @return the thread's {@link IntArrayIterator} over the specified range
+     * @throws NullPointerException      if {@code array} is {@code null}
+     * @throws IndexOutOfBoundsException if bounds are invalid
+     */
+    public static IntArrayIterator local(int[] array, int start, int end) {
+        return LOCAL_INTS.get().reset(array, start, end);
+    }
+
+    /**
+     * Returns the calling thread's reusable {@link IntArrayIterator} re-pointed at an {@code int[]} array from {@code start} to its end.
+     *
+     * @param array the source array (must not be {@code null})
+     * @param start the starting index (inclusive)
+     * @return the thread's {@link IntArrayIterator} over the specified range
+     * @throws NullPointerException      if {@code array} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code start} is out of bounds
+     */
+    public static IntArrayIterator local(int[] array, int start) {
+        Objects.requireNonNull(array);
+        return LOCAL_INTS.get().reset(array, start, array.length);
+    }
+
+    /**
+     * Returns the calling thread's reusable {@link IntArrayIterator} re-pointed at the entire {@code int[]} array.
+     *
+     * @param array the source array (must not be {@code null})
+     * @return the thread's {@link IntArrayIterator} over the entire array
+     * @throws NullPointerException if {@code array} is {@code null}
+     */
+    public static IntArrayIterator local(int[] array) {
+        Objects.requireNonNull(array);
+        return LOCAL_INTS.get().reset(array, 0, array.length);
+    }
+
+    /**
+     * Returns the calling thread's reusable {@link LongArrayIterator} re-pointed at the specified subrange of a {@code long[]} array.
+     * <p>
+     * The calling thread owns a single iterator, and every {@code local} call made on that thread re-points that
+     * same instance, so the result is single-use and not reentrant: finish or abandon it before the next call, as a
+     * nested {@code local} call on the same thread redirects the enclosing traversal. Abandoning it early is safe,
+     * the next call simply re-points it. Until then the thread keeps a reference to the last array.
+     * It must not be handed to another thread.
+     *
+     * @param array the source array (must not be {@code null})
+     * @param start the starting index (inclusive)
+     * @param end   the ending index (exclusive)
+     * @return the thread's {@link LongArrayIterator} over the specified range
+     * @throws NullPointerException      if {@code array} is {@code null}
+     * @throws IndexOutOfBoundsException if bounds are invalid
+     */
+    public static LongArrayIterator local(long[] array, int start, int end) {
+        return LOCAL_LONGS.get().reset(array, start, end);
+    }
+
+    /**
+     * Returns the calling thread's reusable {@link LongArrayIterator} re-pointed at a {@code long[]} array from {@code start} to its end.
+     *
+     * @param array the source array (must not be {@code null})
+     * @param start the starting index (inclusive)
+     * @return the thread's {@link LongArrayIterator} over the specified range
+     * @throws NullPointerException      if {@code array} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code start} is out of bounds
+     */
+    public static LongArrayIterator local(long[] array, int start) {
+        Objects.requireNonNull(array);
+        return LOCAL_LONGS.get().reset(array, start, array.length);
+    }
+
+    /**
+     * Returns the calling thread's reusable {@link LongArrayIterator} re-pointed at the entire {@code long[]} array.
+     *
+     * @param array the source array (must not be {@code null})
+     * @return the thread's {@link LongArrayIterator} over the entire array
+     * @throws NullPointerException if {@code array} is {@code null}
+     */
+    public static LongArrayIterator local(long[] array) {
+        Objects.requireNonNull(array);
+        return LOCAL_LONGS.get().reset(array, 0, array.length);
+    }
+
+    /**
+     * Returns the calling thread's reusable {@link DoubleArrayIterator} re-pointed at the specified subrange of a {@code double[]} array.
+     * <p>
+     * The calling thread owns a single iterator, and every {@code local} call made on that thread re-points that
+     * same instance, so the result is single-use and not reentrant: finish or abandon it before the next call, as a
+     * nested {@code local} call on the same thread redirects the enclosing traversal. Abandoning it early is safe,
+     * the next call simply re-points it. Until then the thread keeps a reference to the last array.
+     * It must not be handed to another thread.
+     *
+     * @param array the source array (must not be {@code null})
+     * @param start the starting index (inclusive)
+     * @param end   the ending index (exclusive)
+     * @return the thread's {@link DoubleArrayIterator} over the specified range
+     * @throws NullPointerException      if {@code array} is {@code null}
+     * @throws IndexOutOfBoundsException if bounds are invalid
+     */
+    public static DoubleArrayIterator local(double[] array, int start, int end) {
+        return LOCAL_DOUBLES.get().reset(array, start, end);
+    }
+
+    /**
+     * Returns the calling thread's reusable {@link DoubleArrayIterator} re-pointed at a {@code double[]} array from {@code start} to its end.
+     *
+     * @param array the source array (must not be {@code null})
+     * @param start the starting index (inclusive)
+     * @return the thread's {@link DoubleArrayIterator} over the specified range
+     * @throws NullPointerException      if {@code array} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code start} is out of bounds
+     */
+    public static DoubleArrayIterator local(double[] array, int start) {
+        Objects.requireNonNull(array);
+        return LOCAL_DOUBLES.get().reset(array, start, array.length);
+    }
+
+    /**
+     * Returns the calling thread's reusable {@link DoubleArrayIterator} re-pointed at the entire {@code double[]} array.
+     *
+     * @param array the source array (must not be {@code null})
+     * @return the thread's {@link DoubleArrayIterator} over the entire array
+     * @throws NullPointerException if {@code array} is {@code null}
+     */
+    public static DoubleArrayIterator local(double[] array) {
+        Objects.requireNonNull(array);
+        return LOCAL_DOUBLES.get().reset(array, 0, array.length);
+    }
 }
@@ -0,0 +1,176 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.DoubleSummaryStatistics;
+import java.util.IntSummaryStatistics;
+import java.util.LongSummaryStatistics;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.LongBinaryOperator;
+
+final class Reductions {
+    private Reductions() {
+    }
+
+    static void checkThreshold(int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("threshold(" + threshold + ") < 1");
+        }
+    }
+
+    static <R> R invoke(int start, int end, int threshold, RangeFunction<R> leaf, BinaryOperator<R> combiner) {
+        checkThreshold(threshold);
+        return ForkJoinPool.commonPool().invoke(new RangeTask<>(start, end, threshold, leaf, combiner));
+    }
+
+    static <S extends Spliterator<?>, R> R invoke(S spliterator,
+                                                  int threshold,
+                                                  Function<S, R> leaf,
+                                                  BinaryOperator<R> combiner) {
+        checkThreshold(threshold);
+        return ForkJoinPool.commonPool().invoke(new SpliteratorTask<>(spliterator, threshold, leaf, combiner));
+    }
+
+    static IntSummaryStatistics combine(IntSummaryStatistics left, IntSummaryStatistics right) {
+        left.combine(right);
+        return left;
+    }
+
+    static LongSummaryStatistics combine(LongSummaryStatistics left, LongSummaryStatistics right) {
+        left.combine(right);
+        return left;
+    }
+
+    static DoubleSummaryStatistics combine(DoubleSummaryStatistics left, DoubleSummaryStatistics right) {
+        left.combine(right);
+        return left;
+    }
+
+    static IntSummaryStatistics statistics(int[] array, int start, int end) {
+        if (start >= end) {
+            return new IntSummaryStatistics();
+        }
+        return new IntSummaryStatistics(
+                end - start,
+                Kernels.min(array, start, end),
+                Kernels.max(array, start, end),
+                Kernels.sum(array, start, end)
+        );
+    }
+
+    static int reduce(int[] array, int start, int end, int identity, IntBinaryOperator op) {
+        var ret = identity;
+        for (var i = start; i < end; ++i) {
+            ret = op.applyAsInt(ret, array[i]);
+        }
+        return ret;
+    }
+
+    static LongSummaryStatistics statistics(long[] array, int start, int end) {
+        if (start >= end) {
+            return new LongSummaryStatistics();
+        }
+        return new LongSummaryStatistics(
+                end - start,
+                Kernels.min(array, start, end),
+                Kernels.max(array, start, end),
+                Kernels.sum(array, start, end)
+        );
+    }
+
+    static long reduce(long[] array, int start, int end, long identity, LongBinaryOperator op) {
+        var ret = identity;
+        for (var i = start; i < end; ++i) {
+            ret = op.applyAsLong(ret, array[i]);
+        }
+        return ret;
+    }
+
+    static DoubleSummaryStatistics statistics(double[] array, int start, int end) {
+        if (start >= end) {
+            return new DoubleSummaryStatistics();
+        }
+        return new DoubleSummaryStatistics(
+                end - start,
+                Kernels.min(array, start, end),
+                Kernels.max(array, start, end),
+                Kernels.sum(array, start, end)
+        );
+    }
+
+    static double reduce(double[] array, int start, int end, double identity, DoubleBinaryOperator op) {
+        var ret = identity;
+        for (var i = start; i < end; ++i) {
+            ret = op.applyAsDouble(ret, array[i]);
+        }
+        return ret;
+    }
+
+    @FunctionalInterface
+    interface RangeFunction<R> {
+        R apply(int start, int end);
+    }
+
+    @SuppressWarnings("serial")
+    private static final class RangeTask<R> extends RecursiveTask<R> {
+        private final int start;
+        private final int end;
+        private final int threshold;
+        private final RangeFunction<R> leaf;
+        private final BinaryOperator<R> combiner;
+
+        private RangeTask(int start, int end, int threshold, RangeFunction<R> leaf, BinaryOperator<R> combiner) {
+            this.start = start;
+            this.end = end;
+            this.threshold = threshold;
+            this.leaf = leaf;
+            this.combiner = combiner;
+        }
+
+        @Override
+        protected R compute() {
+            if (end - start <= threshold) {
+                return leaf.apply(start, end);
+            }
+            var mid = (start + end) >>> 1;
+            var left = new RangeTask<>(start, mid, threshold, leaf, combiner);
+            left.fork();
+            var right = new RangeTask<>(mid, end, threshold, leaf, combiner).compute();
+            return combiner.apply(left.join(), right);
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class SpliteratorTask<S extends Spliterator<?>, R> extends RecursiveTask<R> {
+        private final S spliterator;
+        private final int threshold;
+        private final Function<S, R> leaf;
+        private final BinaryOperator<R> combiner;
+
+        private SpliteratorTask(S spliterator, int threshold, Function<S, R> leaf, BinaryOperator<R> combiner) {
+            this.spliterator = spliterator;
+            this.threshold = threshold;
+            this.leaf = leaf;
+            this.combiner = combiner;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected R compute() {
+            if (spliterator.estimateSize() > threshold) {
+                var prefix = (S) spliterator.trySplit();
+                if (prefix != null) {
+                    var left = new SpliteratorTask<>(prefix, threshold, leaf, combiner);
+                    left.fork();
+                    var right = new SpliteratorTask<>(spliterator, threshold, leaf, combiner).compute();
+                    return combiner.apply(left.join(), right);
+                }
+            }
+            return leaf.apply(spliterator);
+        }
+    }
+}
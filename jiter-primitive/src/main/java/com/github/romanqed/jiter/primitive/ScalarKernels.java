@@ -0,0 +1,251 @@
+package com.github.romanqed.jiter.primitive;
+
+/**
+ * Portable kernels shared by every {@link Kernels} implementation.
+ * <p>
+ * Loops keep four independent accumulators so that the bodies have no dependency chain
+ * between iterations and can be unrolled or auto-vectorized by the JIT.
+ */
+final class ScalarKernels {
+    private ScalarKernels() {
+    }
+
+    static long sum(int[] array, int start, int end) {
+        long s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        var i = start;
+        for (var limit = end - 3; i < limit; i += 4) {
+            s0 += array[i];
+            s1 += array[i + 1];
+            s2 += array[i + 2];
+            s3 += array[i + 3];
+        }
+        for (; i < end; ++i) {
+            s0 += array[i];
+        }
+        return s0 + s1 + s2 + s3;
+    }
+
+    static int min(int[] array, int start, int end) {
+        int m0 = Integer.MAX_VALUE, m1 = Integer.MAX_VALUE, m2 = Integer.MAX_VALUE, m3 = Integer.MAX_VALUE;
+        var i = start;
+        for (var limit = end - 3; i < limit; i += 4) {
+            m0 = Math.min(m0, array[i]);
+            m1 = Math.min(m1, array[i + 1]);
+            m2 = Math.min(m2, array[i + 2]);
+            m3 = Math.min(m3, array[i + 3]);
+        }
+        for (; i < end; ++i) {
+            m0 = Math.min(m0, array[i]);
+        }
+        return Math.min(Math.min(m0, m1), Math.min(m2, m3));
+    }
+
+    static int max(int[] array, int start, int end) {
+        int m0 = Integer.MIN_VALUE, m1 = Integer.MIN_VALUE, m2 = Integer.MIN_VALUE, m3 = Integer.MIN_VALUE;
+        var i = start;
+        for (var limit = end - 3; i < limit; i += 4) {
+            m0 = Math.max(m0, array[i]);
+            m1 = Math.max(m1, array[i + 1]);
+            m2 = Math.max(m2, array[i + 2]);
+            m3 = Math.max(m3, array[i + 3]);
+        }
+        for (; i < end; ++i) {
+            m0 = Math.max(m0, array[i]);
+        }
+        return Math.max(Math.max(m0, m1), Math.max(m2, m3));
+    }
+
+    static long dot(int[] array, int start, int end, int[] other, int offset) {
+        long s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        var i = start;
+        var j = offset;
+        for (var limit = end - 3; i < limit; i += 4, j += 4) {
+            s0 += (long) array[i] * other[j];
+            s1 += (long) array[i + 1] * other[j + 1];
+            s2 += (long) array[i + 2] * other[j + 2];
+            s3 += (long) array[i + 3] * other[j + 3];
+        }
+        for (; i < end; ++i, ++j) {
+            s0 += (long) array[i] * other[j];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    static long countInRange(int[] array, int start, int end, int from, int to) {
+        var ret = 0L;
+        for (var i = start; i < end; ++i) {
+            var value = array[i];
+            if (value >= from && value < to) {
+                ++ret;
+            }
+        }
+        return ret;
+    }
+
+    static void multiplyAdd(int[] array, int start, int end, int[] destination, int offset, int factor, int addend) {
+        var j = offset;
+        for (var i = start; i < end; ++i, ++j) {
+            destination[j] = array[i] * factor + addend;
+        }
+    }
+
+    static long sum(long[] array, int start, int end) {
+        long s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        var i = start;
+        for (var limit = end - 3; i < limit; i += 4) {
+            s0 += array[i];
+            s1 += array[i + 1];
+            s2 += array[i + 2];
+            s3 += array[i + 3];
+        }
+        for (; i < end; ++i) {
+            s0 += array[i];
+        }
+        return s0 + s1 + s2 + s3;
+    }
+
+    static long min(long[] array, int start, int end) {
+        long m0 = Long.MAX_VALUE, m1 = Long.MAX_VALUE, m2 = Long.MAX_VALUE, m3 = Long.MAX_VALUE;
+        var i = start;
+        for (var limit = end - 3; i < limit; i += 4) {
+            m0 = Math.min(m0, array[i]);
+            m1 = Math.min(m1, array[i + 1]);
+            m2 = Math.min(m2, array[i + 2]);
+            m3 = Math.min(m3, array[i + 3]);
+        }
+        for (; i < end; ++i) {
+            m0 = Math.min(m0, array[i]);
+        }
+        return Math.min(Math.min(m0, m1), Math.min(m2, m3));
+    }
+
+    static long max(long[] array, int start, int end) {
+        long m0 = Long.MIN_VALUE, m1 = Long.MIN_VALUE, m2 = Long.MIN_VALUE, m3 = Long.MIN_VALUE;
+        var i = start;
+        for (var limit = end - 3; i < limit; i += 4) {
+            m0 = Math.max(m0, array[i]);
+            m1 = Math.max(m1, array[i + 1]);
+            m2 = Math.max(m2, array[i + 2]);
+            m3 = Math.max(m3, array[i + 3]);
+        }
+        for (; i < end; ++i) {
+            m0 = Math.max(m0, array[i]);
+        }
+        return Math.max(Math.max(m0, m1), Math.max(m2, m3));
+    }
+
+    static long dot(long[] array, int start, int end, long[] other, int offset) {
+        long s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        var i = start;
+        var j = offset;
+        for (var limit = end - 3; i < limit; i += 4, j += 4) {
+            s0 += array[i] * other[j];
+            s1 += array[i + 1] * other[j + 1];
+            s2 += array[i + 2] * other[j + 2];
+            s3 += array[i + 3] * other[j + 3];
+        }
+        for (; i < end; ++i, ++j) {
+            s0 += array[i] * other[j];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    static long countInRange(long[] array, int start, int end, long from, long to) {
+        var ret = 0L;
+        for (var i = start; i < end; ++i) {
+            var value = array[i];
+            if (value >= from && value < to) {
+                ++ret;
+            }
+        }
+        return ret;
+    }
+
+    static void multiplyAdd(long[] array, int start, int end, long[] destination, int offset, long factor, long addend) {
+        var j = offset;
+        for (var i = start; i < end; ++i, ++j) {
+            destination[j] = array[i] * factor + addend;
+        }
+    }
+
+    static double sum(double[] array, int start, int end) {
+        double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        var i = start;
+        for (var limit = end - 3; i < limit; i += 4) {
+            s0 += array[i];
+            s1 += array[i + 1];
+            s2 += array[i + 2];
+            s3 += array[i + 3];
+        }
+        for (; i < end; ++i) {
+            s0 += array[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    static double min(double[] array, int start, int end) {
+        double m0 = Double.POSITIVE_INFINITY, m1 = Double.POSITIVE_INFINITY;
+        double m2 = Double.POSITIVE_INFINITY, m3 = Double.POSITIVE_INFINITY;
+        var i = start;
+        for (var limit = end - 3; i < limit; i += 4) {
+            m0 = Math.min(m0, array[i]);
+            m1 = Math.min(m1, array[i + 1]);
+            m2 = Math.min(m2, array[i + 2]);
+            m3 = Math.min(m3, array[i + 3]);
+        }
+        for (; i < end; ++i) {
+            m0 = Math.min(m0, array[i]);
+        }
+        return Math.min(Math.min(m0, m1), Math.min(m2, m3));
+    }
+
+    static double max(double[] array, int start, int end) {
+        double m0 = Double.NEGATIVE_INFINITY, m1 = Double.NEGATIVE_INFINITY;
+        double m2 = Double.NEGATIVE_INFINITY, m3 = Double.NEGATIVE_INFINITY;
+        var i = start;
+        for (var limit = end - 3; i < limit; i += 4) {
+            m0 = Math.max(m0, array[i]);
+            m1 = Math.max(m1, array[i + 1]);
+            m2 = Math.max(m2, array[i + 2]);
+            m3 = Math.max(m3, array[i + 3]);
+        }
+        for (; i < end; ++i) {
+            m0 = Math.max(m0, array[i]);
+        }
+        return Math.max(Math.max(m0, m1), Math.max(m2, m3));
+    }
+
+    static double dot(double[] array, int start, int end, double[] other, int offset) {
+        double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        var i = start;
+        var j = offset;
+        for (var limit = end - 3; i < limit; i += 4, j += 4) {
+            s0 += array[i] * other[j];
+            s1 += array[i + 1] * other[j + 1];
+            s2 += array[i + 2] * other[j + 2];
+            s3 += array[i + 3] * other[j + 3];
+        }
+        for (; i < end; ++i, ++j) {
+            s0 += array[i] * other[j];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    static long countInRange(double[] array, int start, int end, double from, double to) {
+        var ret = 0L;
+        for (var i = start; i < end; ++i) {
+            var value = array[i];
+            if (value >= from && value < to) {
+                ++ret;
+            }
+        }
+        return ret;
+    }
+
+    static void multiplyAdd(double[] array, int start, int end, double[] destination, int offset, double factor, double addend) {
+        var j = offset;
+        for (var i = start; i < end; ++i, ++j) {
+            destination[j] = array[i] * factor + addend;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * An iterator over the elements of a range of an {@code int[]} array whose bits are set in a selection bitmap.
+ * <p>
+ * See {@link SelectedIntArrayIterable} for the bitmap layout. Immutable and non-thread-safe.
+ */
+public final class SelectedIntArrayIterator implements PrimitiveIterator.OfInt {
+    private final int[] array;
+    private final long[] mask;
+    private final int end;
+    private int index;
+
+    /**
+     * Constructs a new iterator over the selected elements from {@code index} (inclusive) to {@code end} (exclusive).
+     *
+     * @param array the source array
+     * @param mask  the selection bitmap, indexed by array index
+     * @param end   the end index (exclusive)
+     * @param index the starting index (inclusive)
+     */
+    public SelectedIntArrayIterator(int[] array, long[] mask, int end, int index) {
+        this.array = array;
+        this.mask = mask;
+        this.end = end;
+        this.index = Util.nextSetBit(mask, index, end);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < end;
+    }
+
+    @Override
+    public int nextInt() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        var ret = array[index];
+        index = Util.nextSetBit(mask, index + 1, end);
+        return ret;
+    }
+
+    @Override
+    public Integer next() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        var ret = array[index];
+        index = Util.nextSetBit(mask, index + 1, end);
+        return ret;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Immutable iterator");
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        var from = index;
+        index = end;
+        if (from >= end) {
+            return;
+        }
+        var first = from >>> 6;
+        var last = (end - 1) >>> 6;
+        var limit = Math.min(mask.length - 1, last);
+        for (var w = first; w <= limit; ++w) {
+            var word = mask[w];
+            if (w == first) {
+                word &= -1L << from;
+            }
+            if (w == last) {
+                word &= -1L >>> -end;
+            }
+            while (word != 0) {
+                action.accept(array[(w << 6) + Long.numberOfTrailingZeros(word)]);
+                word &= word - 1;
+            }
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Integer> action) {
+        var from = index;
+        index = end;
+        if (from >= end) {
+            return;
+        }
+        var first = from >>> 6;
+        var last = (end - 1) >>> 6;
+        var limit = Math.min(mask.length - 1, last);
+        for (var w = first; w <= limit; ++w) {
+            var word = mask[w];
+            if (w == first) {
+                word &= -1L << from;
+            }
+            if (w == last) {
+                word &= -1L >>> -end;
+            }
+            while (word != 0) {
+                action.accept(array[(w << 6) + Long.numberOfTrailingZeros(word)]);
+                word &= word - 1;
+            }
+        }
+    }
+}
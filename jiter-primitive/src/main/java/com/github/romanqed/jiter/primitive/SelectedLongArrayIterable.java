@@ -0,0 +1,102 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * An iterable over the elements of a range of a {@code long[]} array whose bits are set in a selection bitmap.
+ * <p>
+ * Bit {@code i} of the bitmap, stored as bit {@code i & 63} of word {@code i >>> 6} like {@link java.util.BitSet#toLongArray()},
+ * selects {@code array[i]}; words past the end of the bitmap count as zero. Traversal skips whole zero words
+ * and walks the set bits with {@link Long#numberOfTrailingZeros(long)}, so sparse selections cost little more
+ * than reading the bitmap.
+ */
+public final class SelectedLongArrayIterable implements LongIterable {
+    private final long[] array;
+    private final long[] mask;
+    private final int start;
+    private final int end;
+
+    /**
+     * Constructs an iterable over the selected elements between {@code start} (inclusive) and {@code end} (exclusive).
+     *
+     * @param array the source array
+     * @param mask  the selection bitmap, indexed by array index
+     * @param start the starting index (inclusive)
+     * @param end   the ending index (exclusive)
+     */
+    public SelectedLongArrayIterable(long[] array, long[] mask, int start, int end) {
+        this.array = array;
+        this.mask = mask;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new SelectedLongArrayIterator(array, mask, end, start);
+    }
+
+    @Override
+    public void forEach(Consumer<? super Long> action) {
+        if (start >= end) {
+            return;
+        }
+        var first = start >>> 6;
+        var last = (end - 1) >>> 6;
+        var limit = Math.min(mask.length - 1, last);
+        for (var w = first; w <= limit; ++w) {
+            var word = mask[w];
+            if (w == first) {
+                word &= -1L << start;
+            }
+            if (w == last) {
+                word &= -1L >>> -end;
+            }
+            while (word != 0) {
+                action.accept(array[(w << 6) + Long.numberOfTrailingZeros(word)]);
+                word &= word - 1;
+            }
+        }
+    }
+
+    @Override
+    public void forEach(LongConsumer action) {
+        if (start >= end) {
+            return;
+        }
+        var first = start >>> 6;
+        var last = (end - 1) >>> 6;
+        var limit = Math.min(mask.length - 1, last);
+        for (var w = first; w <= limit; ++w) {
+            var word = mask[w];
+            if (w == first) {
+                word &= -1L << start;
+            }
+            if (w == last) {
+                word &= -1L >>> -end;
+            }
+            while (word != 0) {
+                action.accept(array[(w << 6) + Long.numberOfTrailingZeros(word)]);
+                word &= word - 1;
+            }
+        }
+    }
+
+    @Override
+    public Spliterator.OfLong spliterator() {
+        return new SelectedLongArraySpliterator(array, mask, end, start);
+    }
+
+    /**
+     * Returns the number of selected elements, counted with {@link Long#bitCount(long)} over the bitmap words.
+     *
+     * @return the number of selected elements
+     */
+    @Override
+    public long count() {
+        return Util.selectedCount(mask, start, end);
+    }
+}
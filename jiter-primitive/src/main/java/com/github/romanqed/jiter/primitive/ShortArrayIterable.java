@@ -0,0 +1,60 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * A primitive {@link ShortIterable} implementation over a range of a {@code short[]} array.
+ * <p>
+ * Iterates over the array segment without copying it, widening elements to {@code int} only when requested.
+ */
+public final class ShortArrayIterable implements ShortIterable {
+    private final short[] array;
+    private final int start;
+    private final int end;
+
+    /**
+     * Constructs an iterable over the specified {@code short[]} from {@code start} (inclusive) to {@code end} (exclusive).
+     *
+     * @param array the source array
+     * @param start the starting index (inclusive)
+     * @param end   the ending index (exclusive)
+     */
+    public ShortArrayIterable(short[] array, int start, int end) {
+        this.array = array;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public ShortIterator iterator() {
+        return new ShortArrayIterator(array, end, start);
+    }
+
+    @Override
+    public void forEach(Consumer<? super Integer> action) {
+        for (var i = start; i < end; ++i) {
+            action.accept((int) array[i]);
+        }
+    }
+
+    @Override
+    public void forEach(IntConsumer action) {
+        for (var i = start; i < end; ++i) {
+            action.accept(array[i]);
+        }
+    }
+
+    @Override
+    public void forEachShort(ShortConsumer action) {
+        for (var i = start; i < end; ++i) {
+            action.accept(array[i]);
+        }
+    }
+
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new ShortArraySpliterator(array, end, start);
+    }
+}
@@ -0,0 +1,16 @@
+package com.github.romanqed.jiter.primitive;
+
+/**
+ * Represents an operation that accepts a single {@code short} argument and returns no result.
+ * This is the {@code short} specialization of {@link java.util.function.Consumer}.
+ */
+@FunctionalInterface
+public interface ShortConsumer {
+
+    /**
+     * Performs this operation on the given argument.
+     *
+     * @param value the input argument
+     */
+    void accept(short value);
+}
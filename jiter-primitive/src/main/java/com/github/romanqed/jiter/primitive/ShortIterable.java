@@ -0,0 +1,23 @@
+package com.github.romanqed.jiter.primitive;
+
+/**
+ * A primitive iterable over {@code short} values, exposed as {@code int} through {@link IntIterable}
+ * and in their native width through {@link ShortIterator} and {@link ShortConsumer}.
+ */
+public interface ShortIterable extends IntIterable {
+
+    /**
+     * Returns a {@link ShortIterator} over the {@code short} elements.
+     *
+     * @return a {@link ShortIterator}
+     */
+    @Override
+    ShortIterator iterator();
+
+    /**
+     * Performs the given {@link ShortConsumer} action for each {@code short} element.
+     *
+     * @param action the action to be performed for each element
+     */
+    void forEachShort(ShortConsumer action);
+}
@@ -0,0 +1,30 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.PrimitiveIterator;
+
+/**
+ * A {@link PrimitiveIterator.OfInt} over {@code short} values, widened to {@code int},
+ * that additionally exposes the values in their native width.
+ */
+public interface ShortIterator extends PrimitiveIterator.OfInt {
+
+    /**
+     * Returns the next {@code short} element in the iteration.
+     *
+     * @return the next element
+     * @throws java.util.NoSuchElementException if the iteration has no more elements
+     */
+    short nextShort();
+
+    /**
+     * Performs the given {@link ShortConsumer} action for each remaining element.
+     *
+     * @param action the action to be performed for each element
+     */
+    void forEachRemainingShort(ShortConsumer action);
+
+    @Override
+    default int nextInt() {
+        return nextShort();
+    }
+}
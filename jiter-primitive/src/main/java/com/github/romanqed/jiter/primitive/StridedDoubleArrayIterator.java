@@ -0,0 +1,83 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+/**
+ * A primitive {@link PrimitiveIterator.OfDouble} over every {@code step}-th element of a range of a {@code double[]} array.
+ * <p>
+ * Immutable and non-thread-safe.
+ */
+public final class StridedDoubleArrayIterator implements PrimitiveIterator.OfDouble {
+    private final double[] array;
+    private final int offset;
+    private final int step;
+    private final int end;
+    private int index;
+
+    /**
+     * Constructs a new iterator over the elements {@code index} (inclusive) to {@code end} (exclusive)
+     * of the sequence {@code offset, offset + step, offset + 2 * step, ...}.
+     *
+     * @param array  the source array
+     * @param offset the index of the first element of the sequence
+     * @param step   the distance between consecutive elements, negative to walk backwards
+     * @param end    the sequence position to stop at (exclusive)
+     * @param index  the sequence position to start from (inclusive)
+     */
+    public StridedDoubleArrayIterator(double[] array, int offset, int step, int end, int index) {
+        this.array = array;
+        this.offset = offset;
+        this.step = step;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < end;
+    }
+
+    @Override
+    public double nextDouble() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return array[offset + index++ * step];
+    }
+
+    @Override
+    public Double next() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return array[offset + index++ * step];
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Immutable iterator");
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+        var i = index;
+        index = end;
+        for (var position = offset + i * step; i < end; ++i) {
+            action.accept(array[position]);
+            position += step;
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Double> action) {
+        var i = index;
+        index = end;
+        for (var position = offset + i * step; i < end; ++i) {
+            action.accept(array[position]);
+            position += step;
+        }
+    }
+}
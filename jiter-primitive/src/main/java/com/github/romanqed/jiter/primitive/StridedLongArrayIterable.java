@@ -0,0 +1,66 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * A primitive {@link LongIterable} over every {@code step}-th element of a range of a {@code long[]} array.
+ * <p>
+ * A negative step walks the range backwards. Nothing is copied.
+ */
+public final class StridedLongArrayIterable implements LongIterable {
+    private final long[] array;
+    private final int offset;
+    private final int step;
+    private final int count;
+
+    /**
+     * Constructs an iterable over {@code count} elements, starting at {@code offset} and advancing by {@code step}.
+     *
+     * @param array  the source array
+     * @param offset the index of the first element
+     * @param step   the distance between consecutive elements, negative to walk backwards
+     * @param count  the number of elements
+     */
+    public StridedLongArrayIterable(long[] array, int offset, int step, int count) {
+        this.array = array;
+        this.offset = offset;
+        this.step = step;
+        this.count = count;
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new StridedLongArrayIterator(array, offset, step, count, 0);
+    }
+
+    @Override
+    public void forEach(Consumer<? super Long> action) {
+        var position = offset;
+        for (var i = 0; i < count; ++i) {
+            action.accept(array[position]);
+            position += step;
+        }
+    }
+
+    @Override
+    public void forEach(LongConsumer action) {
+        var position = offset;
+        for (var i = 0; i < count; ++i) {
+            action.accept(array[position]);
+            position += step;
+        }
+    }
+
+    @Override
+    public Spliterator.OfLong spliterator() {
+        return new StridedLongArraySpliterator(array, offset, step, count, 0);
+    }
+
+    @Override
+    public long count() {
+        return count;
+    }
+}
@@ -1,6 +1,15 @@
 package com.github.romanqed.jiter.primitive;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.Objects;
+
 final class Util {
+    static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
     private Util() {
     }
 
@@ -24,4 +33,341 @@ final class Util {
             throw new ArrayIndexOutOfBoundsException("start(" + start + ") > end(" + end + ")");
         }
     }
+
+    static void checkStep(int step) {
+        if (step == 0) {
+            throw new IllegalArgumentException("step == 0");
+        }
+    }
+
+    static int strideOffset(int start, int end, int step) {
+        return step > 0 ? start : end - 1;
+    }
+
+    static int strideCount(int start, int end, int step) {
+        return start == end ? 0 : (int) ((end - start - 1) / Math.abs((long) step) + 1);
+    }
+
+    static void checkCount(long count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count(" + count + ") < 0");
+        }
+    }
+
+    static Object[] checkColumns(Object[] columns) {
+        Objects.requireNonNull(columns);
+        if (columns.length < 2 || columns.length > 4) {
+            throw new IllegalArgumentException("columns(" + columns.length + ") not in [2, 4]");
+        }
+        var ret = columns.clone();
+        for (var column : ret) {
+            columnLength(column);
+        }
+        return ret;
+    }
+
+    static int columnLength(Object column) {
+        Objects.requireNonNull(column);
+        if (column instanceof int[]) {
+            return ((int[]) column).length;
+        }
+        if (column instanceof long[]) {
+            return ((long[]) column).length;
+        }
+        if (column instanceof double[]) {
+            return ((double[]) column).length;
+        }
+        if (column instanceof Object[]) {
+            return ((Object[]) column).length;
+        }
+        throw new IllegalArgumentException("Unsupported column type: " + column.getClass().getTypeName());
+    }
+
+    static int checkColumnLengths(Object[] columns) {
+        var ret = columnLength(columns[0]);
+        for (var i = 1; i < columns.length; ++i) {
+            var length = columnLength(columns[i]);
+            if (length != ret) {
+                throw new IllegalArgumentException("column " + i + " length(" + length + ") != " + ret);
+            }
+        }
+        return ret;
+    }
+
+    static void checkColumnBounds(Object[] columns, int start, int end) {
+        for (var column : columns) {
+            checkBounds(columnLength(column), start, end);
+        }
+    }
+
+    static void checkSegments(int segments, int[] starts, int[] ends) {
+        Objects.requireNonNull(starts);
+        Objects.requireNonNull(ends);
+        if (starts.length != segments || ends.length != segments) {
+            throw new IllegalArgumentException(
+                    "segments(" + segments + "), starts(" + starts.length + ") and ends(" + ends.length + ") differ"
+            );
+        }
+    }
+
+    static long[] prefixSums(int[] starts, int[] ends) {
+        var ret = new long[starts.length + 1];
+        for (var i = 0; i < starts.length; ++i) {
+            ret[i + 1] = ret[i] + ends[i] - starts[i];
+        }
+        return ret;
+    }
+
+    static int segmentOf(long[] prefix, long index) {
+        var low = 0;
+        var high = prefix.length - 2;
+        while (low < high) {
+            var mid = (low + high + 1) >>> 1;
+            if (prefix[mid] <= index) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    static int lowerBound(int[] array, int start, int end, int key) {
+        var low = start;
+        var high = end;
+        while (low < high) {
+            var mid = (low + high) >>> 1;
+            if (array[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    static int gallop(int[] array, int start, int end, int key) {
+        var low = start;
+        var high = start;
+        var step = 1;
+        while (high < end && array[high] < key) {
+            low = high + 1;
+            high = end - high > step ? high + step : end;
+            step = step < 1 << 30 ? step << 1 : step;
+        }
+        return lowerBound(array, low, high, key);
+    }
+
+    static int lowerBound(long[] array, int start, int end, long key) {
+        var low = start;
+        var high = end;
+        while (low < high) {
+            var mid = (low + high) >>> 1;
+            if (array[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    static int gallop(long[] array, int start, int end, long key) {
+        var low = start;
+        var high = start;
+        var step = 1;
+        while (high < end && array[high] < key) {
+            low = high + 1;
+            high = end - high > step ? high + step : end;
+            step = step < 1 << 30 ? step << 1 : step;
+        }
+        return lowerBound(array, low, high, key);
+    }
+
+    static int lowerBound(double[] array, int start, int end, double key) {
+        var low = start;
+        var high = end;
+        while (low < high) {
+            var mid = (low + high) >>> 1;
+            if (Double.compare(array[mid], key) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    static int gallop(double[] array, int start, int end, double key) {
+        var low = start;
+        var high = start;
+        var step = 1;
+        while (high < end && Double.compare(array[high], key) < 0) {
+            low = high + 1;
+            high = end - high > step ? high + step : end;
+            step = step < 1 << 30 ? step << 1 : step;
+        }
+        return lowerBound(array, low, high, key);
+    }
+
+    static void checkRange(long from, long to) {
+        if (from > to) {
+            throw new IllegalArgumentException("from(" + from + ") > to(" + to + ")");
+        }
+    }
+
+    static void checkRange(double from, double to) {
+        if (Double.compare(from, to) > 0) {
+            throw new IllegalArgumentException("from(" + from + ") > to(" + to + ")");
+        }
+    }
+
+    static int nextSetBit(long[] mask, int from, int end) {
+        if (from >= end) {
+            return end;
+        }
+        var w = from >>> 6;
+        if (w >= mask.length) {
+            return end;
+        }
+        var word = mask[w] & (-1L << from);
+        while (word == 0) {
+            if (++w >= mask.length || w << 6 >= end) {
+                return end;
+            }
+            word = mask[w];
+        }
+        var ret = (w << 6) + Long.numberOfTrailingZeros(word);
+        return ret < end ? ret : end;
+    }
+
+    static long selectedCount(long[] mask, int start, int end) {
+        if (start >= end) {
+            return 0;
+        }
+        var first = start >>> 6;
+        var last = (end - 1) >>> 6;
+        var limit = Math.min(mask.length - 1, last);
+        var ret = 0L;
+        for (var w = first; w <= limit; ++w) {
+            var word = mask[w];
+            if (w == first) {
+                word &= -1L << start;
+            }
+            if (w == last) {
+                word &= -1L >>> -end;
+            }
+            ret += Long.bitCount(word);
+        }
+        return ret;
+    }
+
+    static void checkCapacity(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity(" + capacity + ") < 1");
+        }
+    }
+
+    static int grow(int length, int capacity) {
+        if (capacity > MAX_ARRAY_LENGTH) {
+            throw new OutOfMemoryError("Required array length " + capacity + " is too large");
+        }
+        var ret = (long) length + (length >> 1) + 1;
+        return (int) Math.min(Math.max(ret, capacity), MAX_ARRAY_LENGTH);
+    }
+
+    static int checkedCapacity(long capacity) {
+        if (capacity > MAX_ARRAY_LENGTH) {
+            throw new OutOfMemoryError("Required array length " + capacity + " is too large");
+        }
+        return (int) capacity;
+    }
+
+    static void checkBlockSize(int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("blockSize(" + blockSize + ") < 1");
+        }
+    }
+
+    static int packedBits(long range) {
+        return 64 - Long.numberOfLeadingZeros(range);
+    }
+
+    static long packedMask(int bits) {
+        return bits == 0 ? 0 : -1L >>> -bits;
+    }
+
+    static long[] packedWords(int length, int bits) {
+        return new long[checkedCapacity((((long) length * bits + 63) >>> 6) + 1)];
+    }
+
+    static long packedGet(long[] words, int bits, int index) {
+        var bit = (long) index * bits;
+        var word = (int) (bit >>> 6);
+        var shift = (int) bit & 63;
+        var ret = words[word] >>> shift;
+        if (shift + bits > 64) {
+            ret |= words[word + 1] << -shift;
+        }
+        return ret & packedMask(bits);
+    }
+
+    static void packedSet(long[] words, int bits, int index, long value) {
+        var mask = packedMask(bits);
+        var bit = (long) index * bits;
+        var word = (int) (bit >>> 6);
+        var shift = (int) bit & 63;
+        words[word] = (words[word] & ~(mask << shift)) | (value << shift);
+        if (shift + bits > 64) {
+            words[word + 1] = (words[word + 1] & ~(mask >>> -shift)) | (value >>> -shift);
+        }
+    }
+
+    static void checkChunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunkSize(" + chunkSize + ") < 1");
+        }
+    }
+
+    static void checkBounds(long length, long position, long count) {
+        if (position < 0) {
+            throw new IndexOutOfBoundsException("position(" + position + ") < 0");
+        }
+        if (count < 0) {
+            throw new IndexOutOfBoundsException("count(" + count + ") < 0");
+        }
+        if (count > length - position) {
+            throw new IndexOutOfBoundsException("position(" + position + ") + count(" + count + ") > " + length);
+        }
+    }
+
+    static long splitPoint(long low, long end, int segmentShift, int pageShift, long pageOffset) {
+        var quarter = (end - low) >>> 2;
+        var mid = (low + end) >>> 1;
+        var segment = 1L << segmentShift;
+        var boundary = (mid + (segment >>> 1)) & -segment;
+        if (boundary >= low + quarter && boundary <= end - quarter && boundary > low && boundary < end) {
+            return boundary;
+        }
+        var page = ((mid + pageOffset) & -(1L << pageShift)) - pageOffset;
+        return page > low ? page : -1;
+    }
+
+    static IntBuffer asIntBuffer(ByteBuffer buffer, ByteOrder order) {
+        return view(buffer, order).asIntBuffer();
+    }
+
+    static LongBuffer asLongBuffer(ByteBuffer buffer, ByteOrder order) {
+        return view(buffer, order).asLongBuffer();
+    }
+
+    static DoubleBuffer asDoubleBuffer(ByteBuffer buffer, ByteOrder order) {
+        return view(buffer, order).asDoubleBuffer();
+    }
+
+    private static ByteBuffer view(ByteBuffer buffer, ByteOrder order) {
+        Objects.requireNonNull(buffer);
+        Objects.requireNonNull(order);
+        return buffer.duplicate().position(0).order(order);
+    }
 }
@@ -0,0 +1,113 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+
+/**
+ * A primitive {@link PrimitiveIterator.OfDouble} over a range of a {@code double[]} array that other threads may write concurrently.
+ * <p>
+ * Elements are read in the {@link MemoryOrder} given at construction. Immutable and non-thread-safe.
+ */
+public final class VarHandleDoubleArrayIterator implements PrimitiveIterator.OfDouble {
+    private final double[] array;
+    private final MemoryOrder order;
+    private final int end;
+    private int index;
+
+    /**
+     * Constructs a new iterator from {@code index} (inclusive) to {@code end} (exclusive).
+     *
+     * @param array the source array
+     * @param order the memory order of element reads
+     * @param end   the end index (exclusive)
+     * @param index the starting index (inclusive)
+     */
+    public VarHandleDoubleArrayIterator(double[] array, MemoryOrder order, int end, int index) {
+        this.array = array;
+        this.order = order;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < end;
+    }
+
+    @Override
+    public double nextDouble() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return MemoryAccess.getDouble(array, index++, order);
+    }
+
+    @Override
+    public Double next() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return MemoryAccess.getDouble(array, index++, order);
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Immutable iterator");
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+        var start = index;
+        index = end;
+        switch (order) {
+            case PLAIN:
+                for (var i = start; i < end; ++i) {
+                    action.accept(array[i]);
+                }
+                break;
+            case OPAQUE:
+                for (var i = start; i < end; ++i) {
+                    action.accept((double) MemoryAccess.DOUBLES.getOpaque(array, i));
+                }
+                break;
+            case ACQUIRE:
+                for (var i = start; i < end; ++i) {
+                    action.accept((double) MemoryAccess.DOUBLES.getAcquire(array, i));
+                }
+                break;
+            default:
+                for (var i = start; i < end; ++i) {
+                    action.accept((double) MemoryAccess.DOUBLES.getVolatile(array, i));
+                }
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Double> action) {
+        var start = index;
+        index = end;
+        switch (order) {
+            case PLAIN:
+                for (var i = start; i < end; ++i) {
+                    action.accept(array[i]);
+                }
+                break;
+            case OPAQUE:
+                for (var i = start; i < end; ++i) {
+                    action.accept((double) MemoryAccess.DOUBLES.getOpaque(array, i));
+                }
+                break;
+            case ACQUIRE:
+                for (var i = start; i < end; ++i) {
+                    action.accept((double) MemoryAccess.DOUBLES.getAcquire(array, i));
+                }
+                break;
+            default:
+                for (var i = start; i < end; ++i) {
+                    action.accept((double) MemoryAccess.DOUBLES.getVolatile(array, i));
+                }
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+
+/**
+ * A {@link Spliterator.OfDouble} over a range of a {@code double[]} array that other threads may write concurrently.
+ * <p>
+ * Splits in constant time by halving the remaining range. Elements are read in the {@link MemoryOrder}
+ * given at construction; the size is fixed while the values may change, so the spliterator is not
+ * {@link Spliterator#IMMUTABLE}.
+ */
+public final class VarHandleDoubleArraySpliterator implements Spliterator.OfDouble {
+    private final double[] array;
+    private final MemoryOrder order;
+    private final int end;
+    private int index;
+
+    /**
+     * Constructs a new spliterator from {@code index} (inclusive) to {@code end} (exclusive).
+     *
+     * @param array the source array
+     * @param order the memory order of element reads
+     * @param end   the end index (exclusive)
+     * @param index the starting index (inclusive)
+     */
+    public VarHandleDoubleArraySpliterator(double[] array, MemoryOrder order, int end, int index) {
+        this.array = array;
+        this.order = order;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean tryAdvance(DoubleConsumer action) {
+        if (index >= end) {
+            return false;
+        }
+        action.accept(MemoryAccess.getDouble(array, index++, order));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+        var start = index;
+        index = end;
+        switch (order) {
+            case PLAIN:
+                for (var i = start; i < end; ++i) {
+                    action.accept(array[i]);
+                }
+                break;
+            case OPAQUE:
+                for (var i = start; i < end; ++i) {
+                    action.accept((double) MemoryAccess.DOUBLES.getOpaque(array, i));
+                }
+                break;
+            case ACQUIRE:
+                for (var i = start; i < end; ++i) {
+                    action.accept((double) MemoryAccess.DOUBLES.getAcquire(array, i));
+                }
+                break;
+            default:
+                for (var i = start; i < end; ++i) {
+                    action.accept((double) MemoryAccess.DOUBLES.getVolatile(array, i));
+                }
+        }
+    }
+
+    @Override
+    public Spliterator.OfDouble trySplit() {
+        var low = index;
+        var mid = (low + end) >>> 1;
+        if (low >= mid) {
+            return null;
+        }
+        index = mid;
+        return new VarHandleDoubleArraySpliterator(array, order, mid, low);
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+}
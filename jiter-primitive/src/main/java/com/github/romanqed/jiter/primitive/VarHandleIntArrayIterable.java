@@ -0,0 +1,108 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * A primitive {@link IntIterable} over a range of an {@code int[]} array that other threads may write concurrently.
+ * <p>
+ * Every element is read through an array element {@link java.lang.invoke.VarHandle} in the chosen {@link MemoryOrder},
+ * so a reader observes exactly the ordering it asks for without locking.
+ */
+public final class VarHandleIntArrayIterable implements IntIterable {
+    private final int[] array;
+    private final MemoryOrder order;
+    private final int start;
+    private final int end;
+
+    /**
+     * Constructs an iterable over the specified range from {@code start} (inclusive) to {@code end} (exclusive).
+     *
+     * @param array the source array
+     * @param order the memory order of element reads
+     * @param start the starting index (inclusive)
+     * @param end   the ending index (exclusive)
+     */
+    public VarHandleIntArrayIterable(int[] array, MemoryOrder order, int start, int end) {
+        this.array = array;
+        this.order = order;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Returns the memory order of element reads.
+     *
+     * @return the memory order
+     */
+    public MemoryOrder order() {
+        return order;
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return new VarHandleIntArrayIterator(array, order, end, start);
+    }
+
+    @Override
+    public void forEach(Consumer<? super Integer> action) {
+        switch (order) {
+            case PLAIN:
+                for (var i = start; i < end; ++i) {
+                    action.accept(array[i]);
+                }
+                break;
+            case OPAQUE:
+                for (var i = start; i < end; ++i) {
+                    action.accept((int) MemoryAccess.INTS.getOpaque(array, i));
+                }
+                break;
+            case ACQUIRE:
+                for (var i = start; i < end; ++i) {
+                    action.accept((int) MemoryAccess.INTS.getAcquire(array, i));
+                }
+                break;
+            default:
+                for (var i = start; i < end; ++i) {
+                    action.accept((int) MemoryAccess.INTS.getVolatile(array, i));
+                }
+        }
+    }
+
+    @Override
+    public void forEach(IntConsumer action) {
+        switch (order) {
+            case PLAIN:
+                for (var i = start; i < end; ++i) {
+                    action.accept(array[i]);
+                }
+                break;
+            case OPAQUE:
+                for (var i = start; i < end; ++i) {
+                    action.accept((int) MemoryAccess.INTS.getOpaque(array, i));
+                }
+                break;
+            case ACQUIRE:
+                for (var i = start; i < end; ++i) {
+                    action.accept((int) MemoryAccess.INTS.getAcquire(array, i));
+                }
+                break;
+            default:
+                for (var i = start; i < end; ++i) {
+                    action.accept((int) MemoryAccess.INTS.getVolatile(array, i));
+                }
+        }
+    }
+
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return new VarHandleIntArraySpliterator(array, order, end, start);
+    }
+
+    @Override
+    public long count() {
+        return end - start;
+    }
+}
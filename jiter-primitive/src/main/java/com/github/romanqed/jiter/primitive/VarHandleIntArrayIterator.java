@@ -0,0 +1,113 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * A primitive {@link PrimitiveIterator.OfInt} over a range of an {@code int[]} array that other threads may write concurrently.
+ * <p>
+ * Elements are read in the {@link MemoryOrder} given at construction. Immutable and non-thread-safe.
+ */
+public final class VarHandleIntArrayIterator implements PrimitiveIterator.OfInt {
+    private final int[] array;
+    private final MemoryOrder order;
+    private final int end;
+    private int index;
+
+    /**
+     * Constructs a new iterator from {@code index} (inclusive) to {@code end} (exclusive).
+     *
+     * @param array the source array
+     * @param order the memory order of element reads
+     * @param end   the end index (exclusive)
+     * @param index the starting index (inclusive)
+     */
+    public VarHandleIntArrayIterator(int[] array, MemoryOrder order, int end, int index) {
+        this.array = array;
+        this.order = order;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < end;
+    }
+
+    @Override
+    public int nextInt() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return MemoryAccess.getInt(array, index++, order);
+    }
+
+    @Override
+    public Integer next() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        return MemoryAccess.getInt(array, index++, order);
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Immutable iterator");
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        var start = index;
+        index = end;
+        switch (order) {
+            case PLAIN:
+                for (var i = start; i < end; ++i) {
+                    action.accept(array[i]);
+                }
+                break;
+            case OPAQUE:
+                for (var i = start; i < end; ++i) {
+                    action.accept((int) MemoryAccess.INTS.getOpaque(array, i));
+                }
+                break;
+            case ACQUIRE:
+                for (var i = start; i < end; ++i) {
+                    action.accept((int) MemoryAccess.INTS.getAcquire(array, i));
+                }
+                break;
+            default:
+                for (var i = start; i < end; ++i) {
+                    action.accept((int) MemoryAccess.INTS.getVolatile(array, i));
+                }
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Integer> action) {
+        var start = index;
+        index = end;
+        switch (order) {
+            case PLAIN:
+                for (var i = start; i < end; ++i) {
+                    action.accept(array[i]);
+                }
+                break;
+            case OPAQUE:
+                for (var i = start; i < end; ++i) {
+                    action.accept((int) MemoryAccess.INTS.getOpaque(array, i));
+                }
+                break;
+            case ACQUIRE:
+                for (var i = start; i < end; ++i) {
+                    action.accept((int) MemoryAccess.INTS.getAcquire(array, i));
+                }
+                break;
+            default:
+                for (var i = start; i < end; ++i) {
+                    action.accept((int) MemoryAccess.INTS.getVolatile(array, i));
+                }
+        }
+    }
+}
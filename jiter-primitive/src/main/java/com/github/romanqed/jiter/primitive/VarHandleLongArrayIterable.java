@@ -0,0 +1,108 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * A primitive {@link LongIterable} over a range of a {@code long[]} array that other threads may write concurrently.
+ * <p>
+ * Every element is read through an array element {@link java.lang.invoke.VarHandle} in the chosen {@link MemoryOrder},
+ * so a reader observes exactly the ordering it asks for without locking.
+ */
+public final class VarHandleLongArrayIterable implements LongIterable {
+    private final long[] array;
+    private final MemoryOrder order;
+    private final int start;
+    private final int end;
+
+    /**
+     * Constructs an iterable over the specified range from {@code start} (inclusive) to {@code end} (exclusive).
+     *
+     * @param array the source array
+     * @param order the memory order of element reads
+     * @param start the starting index (inclusive)
+     * @param end   the ending index (exclusive)
+     */
+    public VarHandleLongArrayIterable(long[] array, MemoryOrder order, int start, int end) {
+        this.array = array;
+        this.order = order;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Returns the memory order of element reads.
+     *
+     * @return the memory order
+     */
+    public MemoryOrder order() {
+        return order;
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new VarHandleLongArrayIterator(array, order, end, start);
+    }
+
+    @Override
+    public void forEach(Consumer<? super Long> action) {
+        switch (order) {
+            case PLAIN:
+                for (var i = start; i < end; ++i) {
+                    action.accept(array[i]);
+                }
+                break;
+            case OPAQUE:
+                for (var i = start; i < end; ++i) {
+                    action.accept((long) MemoryAccess.LONGS.getOpaque(array, i));
+                }
+                break;
+            case ACQUIRE:
+                for (var i = start; i < end; ++i) {
+                    action.accept((long) MemoryAccess.LONGS.getAcquire(array, i));
+                }
+                break;
+            default:
+                for (var i = start; i < end; ++i) {
+                    action.accept((long) MemoryAccess.LONGS.getVolatile(array, i));
+                }
+        }
+    }
+
+    @Override
+    public void forEach(LongConsumer action) {
+        switch (order) {
+            case PLAIN:
+                for (var i = start; i < end; ++i) {
+                    action.accept(array[i]);
+                }
+                break;
+            case OPAQUE:
+                for (var i = start; i < end; ++i) {
+                    action.accept((long) MemoryAccess.LONGS.getOpaque(array, i));
+                }
+                break;
+            case ACQUIRE:
+                for (var i = start; i < end; ++i) {
+                    action.accept((long) MemoryAccess.LONGS.getAcquire(array, i));
+                }
+                break;
+            default:
+                for (var i = start; i < end; ++i) {
+                    action.accept((long) MemoryAccess.LONGS.getVolatile(array, i));
+                }
+        }
+    }
+
+    @Override
+    public Spliterator.OfLong spliterator() {
+        return new VarHandleLongArraySpliterator(array, order, end, start);
+    }
+
+    @Override
+    public long count() {
+        return end - start;
+    }
+}
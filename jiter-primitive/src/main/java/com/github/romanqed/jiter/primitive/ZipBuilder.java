@@ -0,0 +1,102 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A builder collecting 2 to 4 typed columns for a {@link ZipIterable}.
+ * <p>
+ * Columns are added in order, so the first added column has index {@code 0} in the {@link ZipCursor}.
+ * Not thread-safe.
+ */
+public final class ZipBuilder {
+    private static final int MAX_COLUMNS = 4;
+
+    private final Object[] columns;
+    private int width;
+
+    ZipBuilder() {
+        this.columns = new Object[MAX_COLUMNS];
+    }
+
+    private ZipBuilder append(Object column) {
+        Objects.requireNonNull(column);
+        if (width == MAX_COLUMNS) {
+            throw new IllegalArgumentException("columns(" + (width + 1) + ") not in [2, " + MAX_COLUMNS + "]");
+        }
+        columns[width++] = column;
+        return this;
+    }
+
+    /**
+     * Adds an {@code int} column.
+     *
+     * @param column the column, must not be null
+     * @return this builder
+     * @throws NullPointerException     if column is null
+     * @throws IllegalArgumentException if the builder already holds 4 columns
+     */
+    public ZipBuilder add(int[] column) {
+        return append(column);
+    }
+
+    /**
+     * Adds a {@code long} column.
+     *
+     * @param column the column, must not be null
+     * @return this builder
+     * @throws NullPointerException     if column is null
+     * @throws IllegalArgumentException if the builder already holds 4 columns
+     */
+    public ZipBuilder add(long[] column) {
+        return append(column);
+    }
+
+    /**
+     * Adds a {@code double} column.
+     *
+     * @param column the column, must not be null
+     * @return this builder
+     * @throws NullPointerException     if column is null
+     * @throws IllegalArgumentException if the builder already holds 4 columns
+     */
+    public ZipBuilder add(double[] column) {
+        return append(column);
+    }
+
+    /**
+     * Adds an object column.
+     *
+     * @param column the column, must not be null
+     * @param <T>    the element type of the column
+     * @return this builder
+     * @throws NullPointerException     if column is null
+     * @throws IllegalArgumentException if the builder already holds 4 columns
+     */
+    public <T> ZipBuilder add(T[] column) {
+        return append(column);
+    }
+
+    /**
+     * Creates a {@link ZipIterable} walking all rows of the added columns in lock-step.
+     *
+     * @return an iterable iterating over all rows of the columns
+     * @throws IllegalArgumentException if fewer than 2 columns were added or the columns differ in length
+     */
+    public ZipIterable build() {
+        return PrimitiveIterables.zip(Arrays.copyOf(columns, width));
+    }
+
+    /**
+     * Creates a {@link ZipIterable} walking the added columns in lock-step over rows [start:end].
+     *
+     * @param start the start index, inclusive (0-based)
+     * @param end   the end index, exclusive
+     * @return an iterable iterating over the rows [start:end] of the columns
+     * @throws IllegalArgumentException       if fewer than 2 columns were added
+     * @throws ArrayIndexOutOfBoundsException if start or end are out of bounds of any column or invalid
+     */
+    public ZipIterable build(int start, int end) {
+        return PrimitiveIterables.zip(Arrays.copyOf(columns, width), start, end);
+    }
+}
@@ -0,0 +1,142 @@
+package com.github.romanqed.jiter.primitive;
+
+/**
+ * A flyweight view of one row of a {@link ZipIterable}: the elements sharing the same index in every column.
+ * <p>
+ * <b>A single cursor is moved along the rows.</b> The cursor passed to an action, or returned by
+ * {@link ZipIterator#cursor()}, is the same instance for every row, so it must be read before the next step and
+ * must not be retained, collected or shared. Copy the needed values out of it instead.
+ * <p>
+ * The columns are sorted by type once, when the cursor is created, so the accessors read the backing array
+ * directly. Reading a column with the accessor of another element type throws {@link IllegalArgumentException}.
+ */
+public final class ZipCursor {
+    private final int[][] ints;
+    private final long[][] longs;
+    private final double[][] doubles;
+    private final Object[][] objects;
+    int index;
+
+    private ZipCursor(int[][] ints, long[][] longs, double[][] doubles, Object[][] objects, int index) {
+        this.ints = ints;
+        this.longs = longs;
+        this.doubles = doubles;
+        this.objects = objects;
+        this.index = index;
+    }
+
+    ZipCursor(Object[] columns, int index) {
+        this(new int[columns.length][],
+                new long[columns.length][],
+                new double[columns.length][],
+                new Object[columns.length][],
+                index);
+        for (var i = 0; i < columns.length; ++i) {
+            var column = columns[i];
+            if (column instanceof int[]) {
+                ints[i] = (int[]) column;
+            } else if (column instanceof long[]) {
+                longs[i] = (long[]) column;
+            } else if (column instanceof double[]) {
+                doubles[i] = (double[]) column;
+            } else {
+                objects[i] = (Object[]) column;
+            }
+        }
+    }
+
+    ZipCursor copy(int index) {
+        return new ZipCursor(ints, longs, doubles, objects, index);
+    }
+
+    private static IllegalArgumentException mismatch(int column, String type) {
+        return new IllegalArgumentException("column(" + column + ") is not " + type);
+    }
+
+    /**
+     * Returns the index of the current row in the backing arrays.
+     *
+     * @return the current index
+     */
+    public int index() {
+        return index;
+    }
+
+    /**
+     * Returns the number of zipped columns.
+     *
+     * @return the number of columns
+     */
+    public int width() {
+        return ints.length;
+    }
+
+    /**
+     * Returns the element of an {@code int[]} column at the current row.
+     *
+     * @param column the column number
+     * @return the element of the column
+     * @throws IllegalArgumentException       if the column is not an {@code int[]}
+     * @throws ArrayIndexOutOfBoundsException if the column number is out of bounds
+     */
+    public int getInt(int column) {
+        var array = ints[column];
+        if (array == null) {
+            throw mismatch(column, "an int[]");
+        }
+        return array[index];
+    }
+
+    /**
+     * Returns the element of a {@code long[]} column at the current row.
+     *
+     * @param column the column number
+     * @return the element of the column
+     * @throws IllegalArgumentException       if the column is not a {@code long[]}
+     * @throws ArrayIndexOutOfBoundsException if the column number is out of bounds
+     */
+    public long getLong(int column) {
+        var array = longs[column];
+        if (array == null) {
+            throw mismatch(column, "a long[]");
+        }
+        return array[index];
+    }
+
+    /**
+     * Returns the element of a {@code double[]} column at the current row.
+     *
+     * @param column the column number
+     * @return the element of the column
+     * @throws IllegalArgumentException       if the column is not a {@code double[]}
+     * @throws ArrayIndexOutOfBoundsException if the column number is out of bounds
+     */
+    public double getDouble(int column) {
+        var array = doubles[column];
+        if (array == null) {
+            throw mismatch(column, "a double[]");
+        }
+        return array[index];
+    }
+
+    /**
+     * Returns the element of an object array column at the current row.
+     * <p>
+     * The element type is not checked, so a wrong type argument fails with {@link ClassCastException}
+     * where the caller uses the element.
+     *
+     * @param column the column number
+     * @param <T>    the element type of the column
+     * @return the element of the column
+     * @throws IllegalArgumentException       if the column is not an object array
+     * @throws ArrayIndexOutOfBoundsException if the column number is out of bounds
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(int column) {
+        var array = objects[column];
+        if (array == null) {
+            throw mismatch(column, "an object array");
+        }
+        return (T) array[index];
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A view walking several parallel arrays in lock-step over the same index range.
+ * <p>
+ * Each column is an {@code int[]}, {@code long[]}, {@code double[]} or object array. Rows are exposed through
+ * a reused {@link ZipCursor}, so a columnar scan allocates nothing per element, and the {@link ZipSpliterator}
+ * splits the shared index range for parallel streams.
+ * <p>
+ * <b>The cursor is a flyweight.</b> Every row of a traversal is the same {@link ZipCursor} instance, moved in place,
+ * so rows must be read as they are visited and never retained or collected. For that reason this class is not
+ * an {@link Iterable}: rows are visited with {@link #forEach(Consumer)}, stepped through with the
+ * {@link ZipIterator} cursor API, or mapped to values in a stream over {@link #spliterator()}.
+ */
+public final class ZipIterable {
+    private final Object[] columns;
+    private final int start;
+    private final int end;
+
+    /**
+     * Constructs an iterable over rows {@code start} (inclusive) to {@code end} (exclusive) of the given columns.
+     *
+     * @param columns the zipped arrays
+     * @param start   the start index (inclusive)
+     * @param end     the end index (exclusive)
+     */
+    public ZipIterable(Object[] columns, int start, int end) {
+        this.columns = columns;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return the number of rows
+     */
+    public int size() {
+        return end - start;
+    }
+
+    /**
+     * Returns a cursor-style iterator over the rows.
+     *
+     * @return a new {@link ZipIterator} positioned before the first row
+     */
+    public ZipIterator iterator() {
+        return new ZipIterator(columns, end, start);
+    }
+
+    /**
+     * Passes the cursor to {@code action} once per row. The same cursor instance is passed on every call.
+     *
+     * @param action the action to perform on each row
+     */
+    public void forEach(Consumer<? super ZipCursor> action) {
+        var cursor = new ZipCursor(columns, start);
+        for (var i = start; i < end; ++i) {
+            cursor.index = i;
+            action.accept(cursor);
+        }
+    }
+
+    /**
+     * Returns a spliterator over the rows. Each spliterator, including those split off, moves its own cursor,
+     * which is passed for every row it covers.
+     *
+     * @return a new {@link ZipSpliterator} over all rows
+     */
+    public Spliterator<ZipCursor> spliterator() {
+        return new ZipSpliterator(columns, end, start);
+    }
+}
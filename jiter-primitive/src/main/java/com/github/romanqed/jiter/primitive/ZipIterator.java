@@ -0,0 +1,65 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.function.Consumer;
+
+/**
+ * A forward-only cursor over the rows of several parallel arrays.
+ * <p>
+ * Unlike an {@link java.util.Iterator}, it does not hand out elements: {@link #advance()} moves the single
+ * {@link ZipCursor} returned by {@link #cursor()} to the next row, and the values are read from it in place.
+ * The cursor is the same instance for every row, so it must not be retained across calls to {@link #advance()}.
+ * Not thread-safe.
+ */
+public final class ZipIterator {
+    private final ZipCursor cursor;
+    private final int end;
+    private int index;
+
+    /**
+     * Constructs a new iterator over the given columns from {@code index} (inclusive) to {@code end} (exclusive).
+     *
+     * @param columns the zipped arrays
+     * @param end     the exclusive end index
+     * @param index   the starting index (inclusive)
+     */
+    public ZipIterator(Object[] columns, int end, int index) {
+        this.cursor = new ZipCursor(columns, index);
+        this.end = end;
+        this.index = index;
+    }
+
+    /**
+     * Moves the cursor to the next row.
+     *
+     * @return {@code true} if the cursor now points at a row, {@code false} if the rows are exhausted
+     */
+    public boolean advance() {
+        if (index >= end) {
+            return false;
+        }
+        cursor.index = index++;
+        return true;
+    }
+
+    /**
+     * Returns the cursor moved by {@link #advance()}. Its content is unspecified until the first successful advance.
+     *
+     * @return the cursor of this iterator
+     */
+    public ZipCursor cursor() {
+        return cursor;
+    }
+
+    /**
+     * Moves the cursor over the remaining rows, passing it to {@code action} once per row.
+     * The same cursor instance is passed on every call.
+     *
+     * @param action the action to perform on each row
+     */
+    public void forEachRemaining(Consumer<? super ZipCursor> action) {
+        while (index < end) {
+            cursor.index = index++;
+            action.accept(cursor);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.github.romanqed.jiter.primitive;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} over the rows of several parallel arrays.
+ * <p>
+ * Splits in constant time by halving the shared index range. Each spliterator owns one {@link ZipCursor}
+ * that it moves along its rows, so parallel tasks never share a cursor.
+ * <p>
+ * <b>Every row is the same cursor instance.</b> A stream over this spliterator must turn the cursor into a value,
+ * for example with {@code mapToDouble}, before any operation that keeps elements: collecting, sorting or
+ * buffering the cursors themselves yields many references to one object holding the last row of its range.
+ */
+public final class ZipSpliterator implements Spliterator<ZipCursor> {
+    private final ZipCursor cursor;
+    private final int end;
+    private int index;
+
+    /**
+     * Constructs a new spliterator over the given columns from {@code index} (inclusive) to {@code end} (exclusive).
+     *
+     * @param columns the zipped arrays
+     * @param end     the exclusive end index
+     * @param index   the starting index (inclusive)
+     */
+    public ZipSpliterator(Object[] columns, int end, int index) {
+        this(new ZipCursor(columns, index), end, index);
+    }
+
+    private ZipSpliterator(ZipCursor cursor, int end, int index) {
+        this.cursor = cursor;
+        this.end = end;
+        this.index = index;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super ZipCursor> action) {
+        if (index >= end) {
+            return false;
+        }
+        cursor.index = index++;
+        action.accept(cursor);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super ZipCursor> action) {
+        var i = index;
+        index = end;
+        for (; i < end; ++i) {
+            cursor.index = i;
+            action.accept(cursor);
+        }
+    }
+
+    @Override
+    public Spliterator<ZipCursor> trySplit() {
+        var low = index;
+        var mid = (low + end) >>> 1;
+        if (low >= mid) {
+            return null;
+        }
+        index = mid;
+        return new ZipSpliterator(cursor.copy(low), mid, low);
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+    }
+}
@@ -1,9 +1,13 @@
 /**
  * Provides iteration utilities for primitive arrays with no boxing overhead.
  * <p>
- * This module extends the {@code jiter} concept to {@code int[]}, {@code long[]}, and {@code double[]}
+ * This module extends the {@code jiter} concept to {@code int[]}, {@code long[]}, and {@code double[]},
+ * as well as to {@code byte[]}, {@code short[]}, {@code char[]} and {@code float[]} widened to {@code int} or {@code double},
  * using {@code PrimitiveIterator} and {@code PrimitiveIterable} interfaces. It allows efficient
  * and immutable traversal of primitive arrays with support for slicing and functional-style composition.
+ * <p>
+ * On Java 17+ the bulk operations of the array iterables are vectorized when the {@code jdk.incubator.vector}
+ * module is resolved, and fall back to scalar loops otherwise.
  */
 module com.github.romanqed.jiter.primitive {
     exports com.github.romanqed.jiter.primitive;
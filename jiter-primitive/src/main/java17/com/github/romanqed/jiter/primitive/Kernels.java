@@ -0,0 +1,114 @@
+package com.github.romanqed.jiter.primitive;
+
+/**
+ * Entry point for the bulk kernels used by the primitive array iterables.
+ * <p>
+ * This is the Java 17+ variant. It dispatches to {@link VectorKernels} when the
+ * {@code jdk.incubator.vector} module is present in the boot layer (for example, when the
+ * application is started with {@code --add-modules jdk.incubator.vector}), and falls back
+ * to {@link ScalarKernels} otherwise.
+ */
+final class Kernels {
+    private static final boolean VECTORIZED = isVectorized();
+
+    private Kernels() {
+    }
+
+    private static boolean isVectorized() {
+        var module = ModuleLayer.boot().findModule("jdk.incubator.vector");
+        if (module.isEmpty()) {
+            return false;
+        }
+        // The module descriptor cannot require an incubator module, so the read edge is added here
+        Kernels.class.getModule().addReads(module.get());
+        try {
+            return VectorKernels.isSupported();
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+
+    static long sum(int[] array, int start, int end) {
+        return VECTORIZED ? VectorKernels.sum(array, start, end) : ScalarKernels.sum(array, start, end);
+    }
+
+    static int min(int[] array, int start, int end) {
+        return VECTORIZED ? VectorKernels.min(array, start, end) : ScalarKernels.min(array, start, end);
+    }
+
+    static int max(int[] array, int start, int end) {
+        return VECTORIZED ? VectorKernels.max(array, start, end) : ScalarKernels.max(array, start, end);
+    }
+
+    static long dot(int[] array, int start, int end, int[] other, int offset) {
+        return VECTORIZED ? VectorKernels.dot(array, start, end, other, offset) : ScalarKernels.dot(array, start, end, other, offset);
+    }
+
+    static long countInRange(int[] array, int start, int end, int from, int to) {
+        return VECTORIZED ? VectorKernels.countInRange(array, start, end, from, to) : ScalarKernels.countInRange(array, start, end, from, to);
+    }
+
+    static void multiplyAdd(int[] array, int start, int end, int[] destination, int offset, int factor, int addend) {
+        if (VECTORIZED) {
+            VectorKernels.multiplyAdd(array, start, end, destination, offset, factor, addend);
+        } else {
+            ScalarKernels.multiplyAdd(array, start, end, destination, offset, factor, addend);
+        }
+    }
+
+    static long sum(long[] array, int start, int end) {
+        return VECTORIZED ? VectorKernels.sum(array, start, end) : ScalarKernels.sum(array, start, end);
+    }
+
+    static long min(long[] array, int start, int end) {
+        return VECTORIZED ? VectorKernels.min(array, start, end) : ScalarKernels.min(array, start, end);
+    }
+
+    static long max(long[] array, int start, int end) {
+        return VECTORIZED ? VectorKernels.max(array, start, end) : ScalarKernels.max(array, start, end);
+    }
+
+    static long dot(long[] array, int start, int end, long[] other, int offset) {
+        return VECTORIZED ? VectorKernels.dot(array, start, end, other, offset) : ScalarKernels.dot(array, start, end, other, offset);
+    }
+
+    static long countInRange(long[] array, int start, int end, long from, long to) {
+        return VECTORIZED ? VectorKernels.countInRange(array, start, end, from, to) : ScalarKernels.countInRange(array, start, end, from, to);
+    }
+
+    static void multiplyAdd(long[] array, int start, int end, long[] destination, int offset, long factor, long addend) {
+        if (VECTORIZED) {
+            VectorKernels.multiplyAdd(array, start, end, destination, offset, factor, addend);
+        } else {
+            ScalarKernels.multiplyAdd(array, start, end, destination, offset, factor, addend);
+        }
+    }
+
+    static double sum(double[] array, int start, int end) {
+        return VECTORIZED ? VectorKernels.sum(array, start, end) : ScalarKernels.sum(array, start, end);
+    }
+
+    static double min(double[] array, int start, int end) {
+        return VECTORIZED ? VectorKernels.min(array, start, end) : ScalarKernels.min(array, start, end);
+    }
+
+    static double max(double[] array, int start, int end) {
+        return VECTORIZED ? VectorKernels.max(array, start, end) : ScalarKernels.max(array, start, end);
+    }
+
+    static double dot(double[] array, int start, int end, double[] other, int offset) {
+        return VECTORIZED ? VectorKernels.dot(array, start, end, other, offset) : ScalarKernels.dot(array, start, end, other, offset);
+    }
+
+    static long countInRange(double[] array, int start, int end, double from, double to) {
+        return VECTORIZED ? VectorKernels.countInRange(array, start, end, from, to) : ScalarKernels.countInRange(array, start, end, from, to);
+    }
+
+    static void multiplyAdd(double[] array, int start, int end, double[] destination, int offset, double factor, double addend) {
+        if (VECTORIZED) {
+            VectorKernels.multiplyAdd(array, start, end, destination, offset, factor, addend);
+        } else {
+            ScalarKernels.multiplyAdd(array, start, end, destination, offset, factor, addend);
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.github.romanqed.jiter.primitive;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * SIMD kernels built on {@code jdk.incubator.vector}.
+ * <p>
+ * Every kernel processes the largest prefix of the range that fills whole vectors and
+ * finishes the remaining tail with a scalar loop.
+ */
+final class VectorKernels {
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    // Ints that widen into exactly one preferred long vector
+    private static final VectorSpecies<Integer> HALF_INTS = IntVector.SPECIES_PREFERRED.withShape(
+            VectorShape.forBitSize(LONGS.vectorBitSize() / 2)
+    );
+
+    private VectorKernels() {
+    }
+
+    static boolean isSupported() {
+        return LONGS.length() > 1 && DOUBLES.length() > 1;
+    }
+
+    static long sum(int[] array, int start, int end) {
+        var acc = LongVector.zero(LONGS);
+        var i = start;
+        for (var bound = start + HALF_INTS.loopBound(end - start); i < bound; i += HALF_INTS.length()) {
+            var vector = IntVector.fromArray(HALF_INTS, array, i);
+            acc = acc.add(vector.convertShape(VectorOperators.I2L, LONGS, 0));
+        }
+        var ret = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < end; ++i) {
+            ret += array[i];
+        }
+        return ret;
+    }
+
+    static int min(int[] array, int start, int end) {
+        var acc = IntVector.broadcast(INTS, Integer.MAX_VALUE);
+        var i = start;
+        for (var bound = start + INTS.loopBound(end - start); i < bound; i += INTS.length()) {
+            acc = acc.min(IntVector.fromArray(INTS, array, i));
+        }
+        var ret = acc.reduceLanes(VectorOperators.MIN);
+        for (; i < end; ++i) {
+            ret = Math.min(ret, array[i]);
+        }
+        return ret;
+    }
+
+    static int max(int[] array, int start, int end) {
+        var acc = IntVector.broadcast(INTS, Integer.MIN_VALUE);
+        var i = start;
+        for (var bound = start + INTS.loopBound(end - start); i < bound; i += INTS.length()) {
+            acc = acc.max(IntVector.fromArray(INTS, array, i));
+        }
+        var ret = acc.reduceLanes(VectorOperators.MAX);
+        for (; i < end; ++i) {
+            ret = Math.max(ret, array[i]);
+        }
+        return ret;
+    }
+
+    static long dot(int[] array, int start, int end, int[] other, int offset) {
+        var acc = LongVector.zero(LONGS);
+        var i = start;
+        var j = offset;
+        for (var bound = start + HALF_INTS.loopBound(end - start); i < bound; i += HALF_INTS.length(), j += HALF_INTS.length()) {
+            var left = IntVector.fromArray(HALF_INTS, array, i).convertShape(VectorOperators.I2L, LONGS, 0);
+            var right = IntVector.fromArray(HALF_INTS, other, j).convertShape(VectorOperators.I2L, LONGS, 0);
+            acc = acc.add(left.mul(right));
+        }
+        var ret = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < end; ++i, ++j) {
+            ret += (long) array[i] * other[j];
+        }
+        return ret;
+    }
+
+    static long countInRange(int[] array, int start, int end, int from, int to) {
+        var ret = 0L;
+        var i = start;
+        for (var bound = start + INTS.loopBound(end - start); i < bound; i += INTS.length()) {
+            var vector = IntVector.fromArray(INTS, array, i);
+            ret += vector.compare(VectorOperators.GE, from).and(vector.compare(VectorOperators.LT, to)).trueCount();
+        }
+        for (; i < end; ++i) {
+            var value = array[i];
+            if (value >= from && value < to) {
+                ++ret;
+            }
+        }
+        return ret;
+    }
+
+    static void multiplyAdd(int[] array, int start, int end, int[] destination, int offset, int factor, int addend) {
+        var i = start;
+        var j = offset;
+        for (var bound = start + INTS.loopBound(end - start); i < bound; i += INTS.length(), j += INTS.length()) {
+            IntVector.fromArray(INTS, array, i).mul(factor).add(addend).intoArray(destination, j);
+        }
+        for (; i < end; ++i, ++j) {
+            destination[j] = array[i] * factor + addend;
+        }
+    }
+
+    static long sum(long[] array, int start, int end) {
+        var acc = LongVector.zero(LONGS);
+        var i = start;
+        for (var bound = start + LONGS.loopBound(end - start); i < bound; i += LONGS.length()) {
+            acc = acc.add(LongVector.fromArray(LONGS, array, i));
+        }
+        var ret = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < end; ++i) {
+            ret += array[i];
+        }
+        return ret;
+    }
+
+    static long min(long[] array, int start, int end) {
+        var acc = LongVector.broadcast(LONGS, Long.MAX_VALUE);
+        var i = start;
+        for (var bound = start + LONGS.loopBound(end - start); i < bound; i += LONGS.length()) {
+            acc = acc.min(LongVector.fromArray(LONGS, array, i));
+        }
+        var ret = acc.reduceLanes(VectorOperators.MIN);
+        for (; i < end; ++i) {
+            ret = Math.min(ret, array[i]);
+        }
+        return ret;
+    }
+
+    static long max(long[] array, int start, int end) {
+        var acc = LongVector.broadcast(LONGS, Long.MIN_VALUE);
+        var i = start;
+        for (var bound = start + LONGS.loopBound(end - start); i < bound; i += LONGS.length()) {
+            acc = acc.max(LongVector.fromArray(LONGS, array, i));
+        }
+        var ret = acc.reduceLanes(VectorOperators.MAX);
+        for (; i < end; ++i) {
+            ret = Math.max(ret, array[i]);
+        }
+        return ret;
+    }
+
+    static long dot(long[] array, int start, int end, long[] other, int offset) {
+        var acc = LongVector.zero(LONGS);
+        var i = start;
+        var j = offset;
+        for (var bound = start + LONGS.loopBound(end - start); i < bound; i += LONGS.length(), j += LONGS.length()) {
+            acc = acc.add(LongVector.fromArray(LONGS, array, i).mul(LongVector.fromArray(LONGS, other, j)));
+        }
+        var ret = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < end; ++i, ++j) {
+            ret += array[i] * other[j];
+        }
+        return ret;
+    }
+
+    static long countInRange(long[] array, int start, int end, long from, long to) {
+        var ret = 0L;
+        var i = start;
+        for (var bound = start + LONGS.loopBound(end - start); i < bound; i += LONGS.length()) {
+            var vector = LongVector.fromArray(LONGS, array, i);
+            ret += vector.compare(VectorOperators.GE, from).and(vector.compare(VectorOperators.LT, to)).trueCount();
+        }
+        for (; i < end; ++i) {
+            var value = array[i];
+            if (value >= from && value < to) {
+                ++ret;
+            }
+        }
+        return ret;
+    }
+
+    static void multiplyAdd(long[] array, int start, int end, long[] destination, int offset, long factor, long addend) {
+        var i = start;
+        var j = offset;
+        for (var bound = start + LONGS.loopBound(end - start); i < bound; i += LONGS.length(), j += LONGS.length()) {
+            LongVector.fromArray(LONGS, array, i).mul(factor).add(addend).intoArray(destination, j);
+        }
+        for (; i < end; ++i, ++j) {
+            destination[j] = array[i] * factor + addend;
+        }
+    }
+
+    static double sum(double[] array, int start, int end) {
+        var acc = DoubleVector.zero(DOUBLES);
+        var i = start;
+        for (var bound = start + DOUBLES.loopBound(end - start); i < bound; i += DOUBLES.length()) {
+            acc = acc.add(DoubleVector.fromArray(DOUBLES, array, i));
+        }
+        var ret = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < end; ++i) {
+            ret += array[i];
+        }
+        return ret;
+    }
+
+    static double min(double[] array, int start, int end) {
+        var acc = DoubleVector.broadcast(DOUBLES, Double.POSITIVE_INFINITY);
+        var i = start;
+        for (var bound = start + DOUBLES.loopBound(end - start); i < bound; i += DOUBLES.length()) {
+            acc = acc.min(DoubleVector.fromArray(DOUBLES, array, i));
+        }
+        var ret = acc.reduceLanes(VectorOperators.MIN);
+        for (; i < end; ++i) {
+            ret = Math.min(ret, array[i]);
+        }
+        return ret;
+    }
+
+    static double max(double[] array, int start, int end) {
+        var acc = DoubleVector.broadcast(DOUBLES, Double.NEGATIVE_INFINITY);
+        var i = start;
+        for (var bound = start + DOUBLES.loopBound(end - start); i < bound; i += DOUBLES.length()) {
+            acc = acc.max(DoubleVector.fromArray(DOUBLES, array, i));
+        }
+        var ret = acc.reduceLanes(VectorOperators.MAX);
+        for (; i < end; ++i) {
+            ret = Math.max(ret, array[i]);
+        }
+        return ret;
+    }
+
+    static double dot(double[] array, int start, int end, double[] other, int offset) {
+        var acc = DoubleVector.zero(DOUBLES);
+        var i = start;
+        var j = offset;
+        for (var bound = start + DOUBLES.loopBound(end - start); i < bound; i += DOUBLES.length(), j += DOUBLES.length()) {
+            acc = acc.add(DoubleVector.fromArray(DOUBLES, array, i).mul(DoubleVector.fromArray(DOUBLES, other, j)));
+        }
+        var ret = acc.reduceLanes(VectorOperators.ADD);
+        for (; i < end; ++i, ++j) {
+            ret += array[i] * other[j];
+        }
+        return ret;
+    }
+
+    static long countInRange(double[] array, int start, int end, double from, double to) {
+        var ret = 0L;
+        var i = start;
+        for (var bound = start + DOUBLES.loopBound(end - start); i < bound; i += DOUBLES.length()) {
+            var vector = DoubleVector.fromArray(DOUBLES, array, i);
+            ret += vector.compare(VectorOperators.GE, from).and(vector.compare(VectorOperators.LT, to)).trueCount();
+        }
+        for (; i < end; ++i) {
+            var value = array[i];
+            if (value >= from && value < to) {
+                ++ret;
+            }
+        }
+        return ret;
+    }
+
+    static void multiplyAdd(double[] array,
+                            int start,
+                            int end,
+                            double[] destination,
+                            int offset,
+                            double factor,
+                            double addend) {
+        var i = start;
+        var j = offset;
+        for (var bound = start + DOUBLES.loopBound(end - start); i < bound; i += DOUBLES.length(), j += DOUBLES.length()) {
+            DoubleVector.fromArray(DOUBLES, array, i).mul(factor).add(addend).intoArray(destination, j);
+        }
+        for (; i < end; ++i, ++j) {
+            destination[j] = array[i] * factor + addend;
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package com.github.romanqed.jiter.primitive;
+
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.IntBuffer;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Fails when a traversal that is meant to be allocation-free allocates on the calling thread.
+ * Every body is measured several times after its setup, the smallest result is compared
+ * against an empty body to cancel out the cost of the measurement itself.
+ */
+public final class AllocationTest {
+    private static final ThreadMXBean THREADS = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final int ATTEMPTS = 10;
+    private static final int ROUNDS = 100;
+    private static final int LENGTH = 1024;
+    private static final int[] INTS = new int[LENGTH];
+    private static final long[] LONGS = new long[LENGTH];
+    private static final double[] DOUBLES = new double[LENGTH];
+
+    static {
+        for (var i = 0; i < LENGTH; ++i) {
+            INTS[i] = i * 1000;
+            LONGS[i] = i * 1_000_000L;
+            DOUBLES[i] = i * 1000.5;
+        }
+    }
+
+    private static void assertNoAllocation(String name, Supplier<Runnable> setup) {
+        enableAllocationCounting();
+        var thread = Thread.currentThread().getId();
+        Runnable empty = () -> {
+        };
+        var baseline = Long.MAX_VALUE;
+        var allocated = Long.MAX_VALUE;
+        for (var i = 0; i < ATTEMPTS; ++i) {
+            var body = setup.get();
+            var before = THREADS.getThreadAllocatedBytes(thread);
+            empty.run();
+            var middle = THREADS.getThreadAllocatedBytes(thread);
+            body.run();
+            var after = THREADS.getThreadAllocatedBytes(thread);
+            baseline = Math.min(baseline, middle - before);
+            allocated = Math.min(allocated, after - middle);
+        }
+        assertEquals(0L, Math.max(0, allocated - baseline), name + " allocated bytes");
+    }
+
+    private static void enableAllocationCounting() {
+        assertTrue(THREADS.isThreadAllocatedMemorySupported(), "thread allocation counting is not supported");
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    public void testForEach() {
+        var sink = new Sink();
+        var ints = PrimitiveIterables.of(INTS, 1, LENGTH - 1);
+        var longs = PrimitiveIterables.of(LONGS);
+        var doubles = PrimitiveIterables.of(DOUBLES, 2);
+        var strided = PrimitiveIterables.of(INTS, 0, LENGTH, 3);
+        var buffer = PrimitiveIterables.of(IntBuffer.wrap(INTS));
+        assertNoAllocation("IntArrayIterable.forEach", () -> () -> {
+            for (var i = 0; i < ROUNDS; ++i) {
+                ints.forEach((IntConsumer) sink);
+            }
+        });
+        assertNoAllocation("LongArrayIterable.forEach", () -> () -> {
+            for (var i = 0; i < ROUNDS; ++i) {
+                longs.forEach((LongConsumer) sink);
+            }
+        });
+        assertNoAllocation("DoubleArrayIterable.forEach", () -> () -> {
+            for (var i = 0; i < ROUNDS; ++i) {
+                doubles.forEach((DoubleConsumer) sink);
+            }
+        });
+        assertNoAllocation("StridedIntArrayIterable.forEach", () -> () -> {
+            for (var i = 0; i < ROUNDS; ++i) {
+                strided.forEach((IntConsumer) sink);
+            }
+        });
+        assertNoAllocation("IntBufferIterable.forEach", () -> () -> {
+            for (var i = 0; i < ROUNDS; ++i) {
+                buffer.forEach((IntConsumer) sink);
+            }
+        });
+        var selected = PrimitiveIterables.select(LONGS, new long[]{0x5555_5555_5555_5555L, -1L, 0L, 1L}, 1, LENGTH);
+        assertNoAllocation("SelectedLongArrayIterable.forEach", () -> () -> {
+            for (var i = 0; i < ROUNDS; ++i) {
+                selected.forEach((LongConsumer) sink);
+            }
+        });
+        var order = new int[LENGTH];
+        for (var i = 0; i < LENGTH; ++i) {
+            order[i] = LENGTH - 1 - i;
+        }
+        var gathered = PrimitiveIterables.gather(DOUBLES, order);
+        assertNoAllocation("GatherDoubleArrayIterable.forEach", () -> () -> {
+            for (var i = 0; i < ROUNDS; ++i) {
+                gathered.forEach((DoubleConsumer) sink);
+            }
+        });
+        var compressed = PrimitiveIterables.compress(INTS, 64);
+        assertNoAllocation("CompressedIntSequence.forEach", () -> () -> {
+            for (var i = 0; i < ROUNDS; ++i) {
+                compressed.forEach((IntConsumer) sink);
+            }
+        });
+        var packed = PrimitiveIterables.pack(LONGS);
+        assertNoAllocation("PackedLongSequence.forEach", () -> () -> {
+            for (var i = 0; i < ROUNDS; ++i) {
+                packed.forEach((LongConsumer) sink);
+            }
+        });
+        assertNoAllocation("IntArrayIterable.forEachChunk", () -> () -> {
+            for (var i = 0; i < ROUNDS; ++i) {
+                ints.forEachChunk(100, sink);
+            }
+        });
+        assertTrue(sink.sum != 0);
+    }
+
+    @Test
+    public void testIterators() {
+        var sink = new Sink();
+        assertNoAllocation("IntArrayIterator.nextInt", () -> {
+            var iterators = new PrimitiveIterator.OfInt[ROUNDS];
+            for (var i = 0; i < ROUNDS; ++i) {
+                iterators[i] = PrimitiveIterators.of(INTS);
+            }
+            return () -> {
+                for (var iterator : iterators) {
+                    while (iterator.hasNext()) {
+                        sink.accept(iterator.nextInt());
+                    }
+                }
+            };
+        });
+        assertNoAllocation("LongArrayIterator.forEachRemaining", () -> {
+            var iterators = new PrimitiveIterator.OfLong[ROUNDS];
+            for (var i = 0; i < ROUNDS; ++i) {
+                iterators[i] = PrimitiveIterators.of(LONGS, 3);
+            }
+            return () -> {
+                for (var iterator : iterators) {
+                    iterator.forEachRemaining((LongConsumer) sink);
+                }
+            };
+        });
+        assertNoAllocation("DoubleArrayIterator.nextDouble", () -> {
+            var iterators = new PrimitiveIterator.OfDouble[ROUNDS];
+            for (var i = 0; i < ROUNDS; ++i) {
+                iterators[i] = PrimitiveIterators.reversed(DOUBLES);
+            }
+            return () -> {
+                for (var iterator : iterators) {
+                    while (iterator.hasNext()) {
+                        sink.accept(iterator.nextDouble());
+                    }
+                }
+            };
+        });
+        var reusable = new IntArrayIterator();
+        assertNoAllocation("IntArrayIterator.reset", () -> () -> {
+            for (var i = 0; i < ROUNDS; ++i) {
+                reusable.reset(INTS, i, LENGTH);
+                while (reusable.hasNext()) {
+                    sink.accept(reusable.nextInt());
+                }
+            }
+        });
+        assertNoAllocation("PrimitiveIterators.local", () -> () -> {
+            for (var i = 0; i < ROUNDS; ++i) {
+                var iterator = PrimitiveIterators.local(LONGS, i);
+                while (iterator.hasNext()) {
+                    sink.accept(iterator.nextLong());
+                }
+            }
+        });
+        assertNoAllocation("PrimitiveIterators.local after an early break", () -> () -> {
+            for (var i = 0; i < ROUNDS; ++i) {
+                var iterator = PrimitiveIterators.local(INTS, i);
+                while (iterator.hasNext()) {
+                    var value = iterator.nextInt();
+                    if (value > (i + 8) * 1000) {
+                        break;
+                    }
+                    sink.accept(value);
+                }
+            }
+        });
+        assertNoAllocation("PrimitiveIterators.local in a counted loop", () -> () -> {
+            for (var i = 0; i < ROUNDS; ++i) {
+                var iterator = PrimitiveIterators.local(DOUBLES, i);
+                for (var j = 0; j < 3 && iterator.hasNext(); ++j) {
+                    sink.accept(iterator.nextDouble());
+                }
+            }
+        });
+        var zip = PrimitiveIterables.zip(new Object[]{INTS, DOUBLES});
+        assertNoAllocation("ZipIterator.advance", () -> {
+            var iterators = new ZipIterator[ROUNDS];
+            for (var i = 0; i < ROUNDS; ++i) {
+                iterators[i] = zip.iterator();
+            }
+            return () -> {
+                for (var iterator : iterators) {
+                    var row = iterator.cursor();
+                    while (iterator.advance()) {
+                        sink.accept(row.getInt(0) * row.getDouble(1));
+                    }
+                }
+            };
+        });
+        assertTrue(sink.sum != 0);
+    }
+
+    @Test
+    public void testSpliterators() {
+        var sink = new Sink();
+        assertNoAllocation("IntArraySpliterator.forEachRemaining", () -> {
+            var spliterators = new Spliterator.OfInt[ROUNDS];
+            for (var i = 0; i < ROUNDS; ++i) {
+                spliterators[i] = PrimitiveIterables.of(INTS).spliterator();
+            }
+            return () -> {
+                for (var spliterator : spliterators) {
+                    spliterator.forEachRemaining((IntConsumer) sink);
+                }
+            };
+        });
+        assertNoAllocation("LongArraySpliterator.tryAdvance", () -> {
+            var spliterators = new Spliterator.OfLong[ROUNDS];
+            for (var i = 0; i < ROUNDS; ++i) {
+                spliterators[i] = PrimitiveIterables.of(LONGS).spliterator();
+            }
+            return () -> {
+                for (var spliterator : spliterators) {
+                    while (spliterator.tryAdvance((LongConsumer) sink)) {
+                        // drain one element at a time
+                    }
+                }
+            };
+        });
+        assertNoAllocation("DoubleArraySpliterator.forEachRemaining", () -> {
+            var spliterators = new Spliterator.OfDouble[ROUNDS];
+            for (var i = 0; i < ROUNDS; ++i) {
+                spliterators[i] = PrimitiveIterables.of(DOUBLES, 0, LENGTH, -2).spliterator();
+            }
+            return () -> {
+                for (var spliterator : spliterators) {
+                    spliterator.forEachRemaining((DoubleConsumer) sink);
+                }
+            };
+        });
+        var zip = PrimitiveIterables.zip(new Object[]{LONGS, INTS});
+        assertNoAllocation("ZipSpliterator.forEachRemaining", () -> {
+            var spliterators = new ZipSpliterator[ROUNDS];
+            for (var i = 0; i < ROUNDS; ++i) {
+                spliterators[i] = (ZipSpliterator) zip.spliterator();
+            }
+            return () -> {
+                for (var spliterator : spliterators) {
+                    spliterator.forEachRemaining(sink);
+                }
+            };
+        });
+        assertTrue(sink.sum != 0);
+    }
+
+    private static final class Sink implements IntConsumer, LongConsumer, DoubleConsumer, Consumer<ZipCursor>,
+            IntChunkConsumer {
+        private double sum;
+
+        @Override
+        public void accept(int value) {
+            sum += value;
+        }
+
+        @Override
+        public void accept(long value) {
+            sum += value;
+        }
+
+        @Override
+        public void accept(double value) {
+            sum += value;
+        }
+
+        @Override
+        public void accept(ZipCursor row) {
+            sum += row.getLong(0) + row.getInt(1);
+        }
+
+        @Override
+        public void accept(int[] array, int from, int to) {
+            sum += array[from] + to;
+        }
+    }
+}
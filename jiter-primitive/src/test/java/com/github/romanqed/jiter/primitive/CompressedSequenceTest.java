@@ -0,0 +1,135 @@
+package com.github.romanqed.jiter.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class CompressedSequenceTest {
+    private static final int[] INTS = new int[3000];
+    // from single-value blocks up to one block holding the whole sequence
+    private static final int[] BLOCK_SIZES = {1, 7, 64, 128, 5000};
+
+    static {
+        var random = new Random(24);
+        INTS[0] = Integer.MIN_VALUE;
+        for (var i = 1; i < INTS.length; ++i) {
+            INTS[i] = INTS[i - 1] + (i == 1500 ? Integer.MAX_VALUE : random.nextInt(200));
+        }
+    }
+
+    @Test
+    public void testRoundTrip() {
+        for (var blockSize : BLOCK_SIZES) {
+            var sequence = PrimitiveIterables.compress(INTS, blockSize);
+            assertEquals(INTS.length, sequence.size());
+            assertArrayEquals(INTS, sequence.toArray());
+            var forEach = new IntList();
+            sequence.forEach((IntConsumer) forEach::add);
+            assertArrayEquals(INTS, forEach.toArray());
+            assertEquals(Arrays.stream(INTS).asLongStream().sum(),
+                    StreamSupport.intStream(sequence.spliterator(), true).asLongStream().sum());
+        }
+    }
+
+    @Test
+    public void testSplitAfterPartialConsumption() {
+        for (var blockSize : BLOCK_SIZES) {
+            var spliterator = PrimitiveIterables.compress(INTS, blockSize).spliterator();
+            assertTrue(spliterator.hasCharacteristics(Spliterator.SORTED | Spliterator.SIZED));
+            assertNull(spliterator.getComparator());
+            var split = new IntList();
+            assertTrue(spliterator.tryAdvance((IntConsumer) split::add));
+            var prefix = spliterator.trySplit();
+            if (prefix != null) {
+                // splits land on block boundaries
+                assertEquals(0, (1 + prefix.estimateSize()) % blockSize);
+                prefix.forEachRemaining((IntConsumer) split::add);
+            }
+            spliterator.forEachRemaining((IntConsumer) split::add);
+            assertArrayEquals(INTS, split.toArray());
+        }
+    }
+
+    @Test
+    public void testAdvanceToFromStart() {
+        var random = new Random(24);
+        for (var blockSize : BLOCK_SIZES) {
+            var sequence = PrimitiveIterables.compress(INTS, blockSize);
+            for (var k = 0; k < 200; ++k) {
+                var target = (int) (INTS[0] + (long) random.nextInt(Integer.MAX_VALUE) * 2);
+                var expected = Arrays.binarySearch(INTS, target);
+                expected = expected < 0 ? -expected - 1 : expected;
+                while (expected > 0 && INTS[expected - 1] == target) {
+                    --expected;
+                }
+                var iterator = sequence.iterator();
+                assertEquals(expected < INTS.length, iterator.advanceTo(target));
+                if (expected < INTS.length) {
+                    assertEquals(INTS[expected], iterator.nextInt());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testAdvanceToNeverMovesBack() {
+        for (var blockSize : BLOCK_SIZES) {
+            var iterator = PrimitiveIterables.compress(INTS, blockSize).iterator();
+            assertTrue(iterator.advanceTo(INTS[10]));
+            assertEquals(INTS[10], iterator.nextInt());
+            assertTrue(iterator.advanceTo(INTS[5]));
+            assertEquals(INTS[11], iterator.nextInt());
+            assertFalse(iterator.advanceTo(Integer.MAX_VALUE));
+            assertFalse(iterator.hasNext());
+        }
+    }
+
+    @Test
+    public void testEarlyExit() {
+        var sequence = PrimitiveIterables.compress(INTS, 64);
+        assertTrue(sequence.anyMatch(v -> v == INTS[70]));
+        var iterator = sequence.iterator();
+        for (var i = 0; i < 70; ++i) {
+            iterator.nextInt();
+        }
+        var rest = new IntList();
+        iterator.forEachRemaining((IntConsumer) rest::add);
+        assertArrayEquals(Arrays.copyOfRange(INTS, 70, INTS.length), rest.toArray());
+    }
+
+    @Test
+    public void testLongRange() {
+        var dense = new long[10000];
+        for (var i = 0; i < dense.length; ++i) {
+            dense[i] = 1_000_000_000_000L + i * 3L;
+        }
+        var longs = PrimitiveIterables.compress(dense, 100, 9000, 64);
+        assertTrue(longs.dataLength() < 8900);
+        assertArrayEquals(Arrays.copyOfRange(dense, 100, 9000), longs.toArray());
+        var iterator = longs.iterator();
+        assertTrue(iterator.advanceTo(1_000_000_015_001L));
+        assertEquals(1_000_000_015_003L, iterator.nextLong());
+    }
+
+    @Test
+    public void testEmpty() {
+        var empty = PrimitiveIterables.compress(new long[0]);
+        assertEquals(0, empty.count());
+        assertFalse(empty.iterator().hasNext());
+        assertFalse(empty.iterator().advanceTo(0));
+        assertNull(PrimitiveIterables.compress(new int[0]).spliterator().trySplit());
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> PrimitiveIterables.compress(new int[]{1, 3, 2}));
+        assertThrows(IllegalArgumentException.class, () -> PrimitiveIterables.compress(INTS, 0));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> PrimitiveIterables.compress(INTS, 5, 3, 8));
+    }
+}
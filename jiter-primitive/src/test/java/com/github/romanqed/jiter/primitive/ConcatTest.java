@@ -0,0 +1,119 @@
+package com.github.romanqed.jiter.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class ConcatTest {
+    private static final int[] BIG = IntStream.range(0, 100_000).toArray();
+    private static final long BIG_SUM = 100_000L * 99_999 / 2;
+
+    private static IntIterable ints() {
+        return PrimitiveIterables.concat(new int[][]{{-1, -2}, {}, BIG, {7}});
+    }
+
+    @Test
+    public void testReductions() {
+        var ints = ints();
+        assertEquals(100_003, ints.count());
+        assertEquals(-3L + BIG_SUM + 7, ints.sum());
+        assertEquals(-3L + BIG_SUM + 7, ints.parallelSum(1_000));
+    }
+
+    @Test
+    public void testSplitByElementCount() {
+        var spliterator = ints().spliterator();
+        var prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        assertEquals(50_001, prefix.estimateSize());
+        assertEquals(50_002, spliterator.estimateSize());
+        var first = new AtomicInteger(Integer.MIN_VALUE);
+        spliterator.tryAdvance((IntConsumer) first::set);
+        assertEquals(49_999, first.get());
+    }
+
+    @Test
+    public void testSplitAfterPartialConsumption() {
+        var spliterator = PrimitiveIterables.concat(new int[][]{{1, 2}, {3}, {}, {4, 5, 6}}).spliterator();
+        var values = new ArrayList<Integer>();
+        assertTrue(spliterator.tryAdvance((IntConsumer) values::add));
+        assertTrue(spliterator.tryAdvance((IntConsumer) values::add));
+        var prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        assertEquals(4, prefix.estimateSize() + spliterator.estimateSize());
+        prefix.forEachRemaining((IntConsumer) values::add);
+        spliterator.forEachRemaining((IntConsumer) values::add);
+        assertEquals(List.of(1, 2, 3, 4, 5, 6), values);
+    }
+
+    @Test
+    public void testIteratorCrossesSlices() {
+        var it = ints().iterator();
+        assertEquals(-1, it.nextInt());
+        assertEquals(-2, it.nextInt());
+        assertEquals(0, it.nextInt());
+    }
+
+    @Test
+    public void testEarlyExit() {
+        var ints = ints();
+        assertTrue(ints.anyMatch(v -> v == 3));
+        var it = ints.iterator();
+        while (it.hasNext()) {
+            if (it.nextInt() == 99_998) {
+                break;
+            }
+        }
+        var rest = new ArrayList<Integer>();
+        it.forEachRemaining((IntConsumer) rest::add);
+        assertEquals(List.of(99_999, 7), rest);
+    }
+
+    @Test
+    public void testSubranges() {
+        var longs = PrimitiveIterables.concat(new long[][]{{1, 2, 3}, {4, 5}}, new int[]{1, 0}, new int[]{3, 1});
+        var values = new ArrayList<Long>();
+        longs.forEach((LongConsumer) values::add);
+        assertEquals(List.of(2L, 3L, 4L), values);
+        var iterator = longs.iterator();
+        iterator.nextLong();
+        var sum = new AtomicLong();
+        iterator.forEachRemaining((LongConsumer) sum::addAndGet);
+        assertEquals(7, sum.get());
+    }
+
+    @Test
+    public void testParallelStream() {
+        var doubles = PrimitiveIterables.concat(new double[]{0.5}, new double[]{1.5, 2.5});
+        assertEquals(4.5, doubles.sum());
+        assertEquals(4.5, StreamSupport.doubleStream(doubles.spliterator(), true).sum());
+    }
+
+    @Test
+    public void testEmpty() {
+        assertEquals(0, PrimitiveIterables.concat(new int[0][]).count());
+        var empties = PrimitiveIterables.concat(new int[][]{{}, {}, {}});
+        assertEquals(0, empties.count());
+        assertFalse(empties.iterator().hasNext());
+        assertFalse(empties.spliterator().tryAdvance((IntConsumer) v -> fail()));
+        assertNull(empties.spliterator().trySplit());
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class,
+                () -> PrimitiveIterables.concat(new int[][]{{1}}, new int[]{0}, new int[0]));
+        assertThrows(ArrayIndexOutOfBoundsException.class,
+                () -> PrimitiveIterables.concat(new int[][]{{1}}, new int[]{1}, new int[]{0}));
+        assertThrows(NullPointerException.class, () -> PrimitiveIterables.concat(new int[]{1}, null));
+    }
+}
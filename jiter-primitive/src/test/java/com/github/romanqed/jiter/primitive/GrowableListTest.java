@@ -0,0 +1,131 @@
+package com.github.romanqed.jiter.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.function.IntConsumer;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class GrowableListTest {
+
+    private static IntList hundred() {
+        var list = new IntList(0);
+        for (var i = 0; i < 100; ++i) {
+            list.add(i);
+        }
+        return list;
+    }
+
+    @Test
+    public void testEmpty() {
+        var list = new IntList(0);
+        assertTrue(list.isEmpty());
+        assertFalse(list.iterator().hasNext());
+        assertEquals(0, list.sum());
+        assertEquals(OptionalInt.empty(), list.max());
+        assertEquals(0, list.slice(0, 0).count());
+    }
+
+    @Test
+    public void testGrowth() {
+        var list = hundred();
+        assertEquals(100, list.size());
+        assertEquals(4950, list.sum());
+        assertEquals(OptionalInt.of(99), list.max());
+        var doubles = new DoubleList(1);
+        for (var i = 0; i < 1000; ++i) {
+            doubles.add(i * 0.5);
+        }
+        assertEquals(249750.0, doubles.sum());
+        assertEquals(OptionalDouble.of(0), doubles.min());
+        assertEquals(3, doubles.slice(997, 1000).count());
+    }
+
+    @Test
+    public void testSliceSeesWrites() {
+        var list = hundred();
+        var slice = list.slice(10, 13);
+        assertArrayEquals(new int[]{10, 11, 12}, slice.toArray());
+        list.setInt(11, -11);
+        assertArrayEquals(new int[]{10, -11, 12}, slice.toArray());
+        var values = new ArrayList<Integer>();
+        list.slice(0, 3).forEach((IntConsumer) values::add);
+        assertEquals(List.of(0, 1, 2), values);
+    }
+
+    @Test
+    public void testAddAll() {
+        var list = hundred();
+        list.addAll(new int[]{1, 2, 3}, 1, 3);
+        list.addAll(PrimitiveIterables.of(new int[]{7, 8, 9}).filter(value -> value != 8));
+        list.addAll(list.slice(0, 2));
+        assertArrayEquals(new int[]{98, 99, 2, 3, 7, 9, 0, 1}, list.skip(98).toArray());
+        var longs = new LongList();
+        longs.addAll(new long[]{5, 6});
+        longs.addAll(PrimitiveIterables.of(new long[]{1, 2, 3, 4}, 1, 3));
+        assertArrayEquals(new long[]{5, 6, 2, 3}, longs.toArray());
+        assertEquals(3L, longs.slice(3, 4).iterator().nextLong());
+        longs.addAll(new long[0]);
+        longs.addAll(PrimitiveIterables.of(new long[0]));
+        assertEquals(4, longs.size());
+    }
+
+    @Test
+    public void testAddAllToItself() {
+        var list = hundred();
+        list.addAll(list);
+        assertEquals(200, list.size());
+        assertEquals(list.getInt(5), list.getInt(105));
+        assertEquals(200L, StreamSupport.intStream(list.spliterator(), true).count());
+    }
+
+    @Test
+    public void testEarlyExit() {
+        var list = hundred();
+        assertTrue(list.anyMatch(v -> v == 3));
+        var iterator = list.slice(95, 100).iterator();
+        assertEquals(95, iterator.nextInt());
+        var rest = new ArrayList<Integer>();
+        iterator.forEachRemaining((IntConsumer) rest::add);
+        assertEquals(List.of(96, 97, 98, 99), rest);
+    }
+
+    @Test
+    public void testSplitAfterPartialConsumption() {
+        var spliterator = hundred().spliterator();
+        var values = new ArrayList<Integer>();
+        for (var i = 0; i < 10; ++i) {
+            assertTrue(spliterator.tryAdvance((IntConsumer) values::add));
+        }
+        var prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        assertEquals(90, prefix.estimateSize() + spliterator.estimateSize());
+        prefix.forEachRemaining((IntConsumer) values::add);
+        spliterator.forEachRemaining((IntConsumer) values::add);
+        assertEquals(100, values.size());
+        for (var i = 0; i < 100; ++i) {
+            assertEquals(i, values.get(i));
+        }
+    }
+
+    @Test
+    public void testClear() {
+        var list = hundred();
+        list.clear();
+        assertEquals(0, list.count());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getInt(0));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> list.slice(0, 1));
+        list.add(7);
+        assertArrayEquals(new int[]{7}, list.toArray());
+    }
+
+    @Test
+    public void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new LongList(-1));
+    }
+}
@@ -0,0 +1,135 @@
+package com.github.romanqed.jiter.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Random;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class KernelsTest {
+    // covers empty slices, the scalar tails and several whole vector lanes
+    private static final int MAX_SIZE = 70;
+
+    @Test
+    public void testSumMinMax() {
+        var random = new Random(42);
+        for (var size = 0; size < MAX_SIZE; ++size) {
+            var start = random.nextInt(5);
+            var end = start + size;
+            var ints = random.ints(end + 3, -1000, 1000).toArray();
+            var longs = random.longs(end + 3).toArray();
+            var doubles = random.ints(end + 3, -64, 64).asDoubleStream().toArray();
+            var intSlice = (IntArrayIterable) PrimitiveIterables.of(ints, start, end);
+            var longSlice = (LongArrayIterable) PrimitiveIterables.of(longs, start, end);
+            var doubleSlice = (DoubleArrayIterable) PrimitiveIterables.of(doubles, start, end);
+            assertEquals(IntStream.of(ints).skip(start).limit(size).asLongStream().sum(), intSlice.sum());
+            assertEquals(IntStream.of(ints).skip(start).limit(size).min(), intSlice.min());
+            assertEquals(IntStream.of(ints).skip(start).limit(size).max(), intSlice.max());
+            assertEquals(LongStream.of(longs).skip(start).limit(size).sum(), longSlice.sum());
+            assertEquals(LongStream.of(longs).skip(start).limit(size).max(), longSlice.max());
+            assertEquals(DoubleStream.of(doubles).skip(start).limit(size).sum(), doubleSlice.sum());
+            assertEquals(DoubleStream.of(doubles).skip(start).limit(size).min(), doubleSlice.min());
+        }
+    }
+
+    @Test
+    public void testDot() {
+        var random = new Random(43);
+        for (var size = 0; size < MAX_SIZE; ++size) {
+            var start = random.nextInt(5);
+            var end = start + size;
+            var ints = random.ints(end, -1000, 1000).toArray();
+            var otherInts = random.ints(size + 2).toArray();
+            var longs = random.longs(end).toArray();
+            var doubles = random.ints(end + 1, -64, 64).asDoubleStream().toArray();
+            long intDot = 0, longDot = 0;
+            double doubleDot = 0;
+            for (var i = start; i < end; ++i) {
+                intDot += (long) ints[i] * otherInts[i - start + 2];
+                longDot += longs[i] * longs[i - start];
+                doubleDot += doubles[i] * doubles[i - start + 1];
+            }
+            assertEquals(intDot, ((IntArrayIterable) PrimitiveIterables.of(ints, start, end)).dot(otherInts, 2));
+            assertEquals(longDot, ((LongArrayIterable) PrimitiveIterables.of(longs, start, end)).dot(longs, 0));
+            assertEquals(doubleDot, ((DoubleArrayIterable) PrimitiveIterables.of(doubles, start, end)).dot(doubles, 1));
+        }
+    }
+
+    @Test
+    public void testCountInRange() {
+        var random = new Random(44);
+        for (var size = 0; size < MAX_SIZE; ++size) {
+            var start = random.nextInt(5);
+            var end = start + size;
+            var ints = random.ints(end, -1000, 1000).toArray();
+            var longs = random.longs(end).toArray();
+            var doubles = random.ints(end, -64, 64).asDoubleStream().toArray();
+            var intCount = IntStream.range(start, end).filter(i -> ints[i] >= -10 && ints[i] < 500).count();
+            var longCount = IntStream.range(start, end).filter(i -> longs[i] >= 0 && longs[i] < Long.MAX_VALUE).count();
+            var doubleCount = IntStream.range(start, end).filter(i -> doubles[i] >= -0.5 && doubles[i] < 32).count();
+            assertEquals(intCount, ((IntArrayIterable) PrimitiveIterables.of(ints, start, end)).countInRange(-10, 500));
+            assertEquals(longCount, ((LongArrayIterable) PrimitiveIterables.of(longs, start, end))
+                    .countInRange(0, Long.MAX_VALUE));
+            assertEquals(doubleCount, ((DoubleArrayIterable) PrimitiveIterables.of(doubles, start, end))
+                    .countInRange(-0.5, 32));
+        }
+        var nan = (DoubleArrayIterable) PrimitiveIterables.of(new double[]{Double.NaN});
+        assertEquals(0, nan.countInRange(-1, 1));
+        assertEquals(0, ((IntArrayIterable) PrimitiveIterables.of(new int[]{1, 2})).countInRange(5, 5));
+    }
+
+    @Test
+    public void testMultiplyAddInto() {
+        var random = new Random(45);
+        for (var size = 0; size < MAX_SIZE; ++size) {
+            var start = random.nextInt(5);
+            var end = start + size;
+            var ints = random.ints(end, -1000, 1000).toArray();
+            var longs = random.longs(end).toArray();
+            var doubles = random.ints(end, -64, 64).asDoubleStream().toArray();
+            var intTarget = new int[size + 1];
+            ((IntArrayIterable) PrimitiveIterables.of(ints, start, end)).multiplyAddInto(intTarget, 1, 3, -7);
+            var longTarget = new long[size];
+            ((LongArrayIterable) PrimitiveIterables.of(longs, start, end)).multiplyAddInto(longTarget, 0, -5, 11);
+            var doubleTarget = new double[size + 4];
+            ((DoubleArrayIterable) PrimitiveIterables.of(doubles, start, end)).multiplyAddInto(doubleTarget, 4, 0.5, 2);
+            for (var i = 0; i < size; ++i) {
+                assertEquals(ints[start + i] * 3 - 7, intTarget[i + 1]);
+                assertEquals(longs[start + i] * -5 + 11, longTarget[i]);
+                assertEquals(doubles[start + i] * 0.5 + 2, doubleTarget[i + 4]);
+            }
+        }
+    }
+
+    @Test
+    public void testEmpty() {
+        var ints = (IntArrayIterable) PrimitiveIterables.of(new int[4], 2, 2);
+        assertEquals(0, ints.sum());
+        assertEquals(OptionalInt.empty(), ints.min());
+        assertEquals(0, ints.dot(new int[0], 0));
+        assertEquals(0, ints.countInRange(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        ints.multiplyAddInto(new int[0], 0, 1, 1);
+        var longs = (LongArrayIterable) PrimitiveIterables.of(new long[0]);
+        assertEquals(OptionalLong.empty(), longs.max());
+        assertEquals(0, longs.dot(new long[0], 0));
+        var doubles = (DoubleArrayIterable) PrimitiveIterables.of(new double[0]);
+        assertEquals(0, doubles.sum());
+        assertEquals(OptionalDouble.empty(), doubles.min());
+        assertEquals(0, doubles.dot(new double[0], 0));
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        var slice = (IntArrayIterable) PrimitiveIterables.of(new int[]{1, 2, 3}, 1);
+        assertThrows(NullPointerException.class, () -> slice.dot(null, 0));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> slice.dot(new int[2], 1));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> slice.multiplyAddInto(new int[3], -1, 1, 0));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> slice.multiplyAddInto(new int[1], 0, 1, 0));
+    }
+}
@@ -0,0 +1,123 @@
+package com.github.romanqed.jiter.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class MappedIterableTest {
+
+    private static Path write(ByteBuffer buffer) throws IOException {
+        var path = Files.createTempFile("jiter", ".bin");
+        path.toFile().deleteOnExit();
+        Files.write(path, buffer.array());
+        return path;
+    }
+
+    @Test
+    public void testLongs() throws IOException {
+        var buffer = ByteBuffer.allocate(100 * Long.BYTES + 3).order(ByteOrder.LITTLE_ENDIAN);
+        for (var i = 0; i < 100; ++i) {
+            buffer.putLong(i * Long.BYTES, i);
+        }
+        var path = write(buffer);
+        var iterable = MappedIterables.ofLongs(path, ByteOrder.LITTLE_ENDIAN);
+        var it = iterable.iterator();
+        for (var i = 0L; i < 100; ++i) {
+            assertEquals(i, it.nextLong());
+        }
+        assertFalse(it.hasNext());
+        assertEquals(4950L, StreamSupport.longStream(iterable.spliterator(), true).sum());
+    }
+
+    @Test
+    public void testSegmentCrossing() throws IOException {
+        var buffer = ByteBuffer.allocate(8 + 50 * Integer.BYTES).order(ByteOrder.BIG_ENDIAN);
+        for (var i = 0; i < 50; ++i) {
+            buffer.putInt(8 + i * Integer.BYTES, i);
+        }
+        var path = write(buffer);
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // 16-byte segments hold 4 ints each
+            var iterable = MappedIterables.ofInts(channel, ByteOrder.BIG_ENDIAN, 8, 50, 4);
+            var values = new ArrayList<Integer>();
+            iterable.forEach((IntConsumer) values::add);
+            assertEquals(50, values.size());
+            for (var i = 0; i < 50; ++i) {
+                assertEquals(i, values.get(i));
+            }
+            var it = iterable.iterator();
+            for (var i = 0; i < 6; ++i) {
+                assertEquals(i, it.nextInt());
+            }
+            var rest = new int[1];
+            it.forEachRemaining((int v) -> rest[0] += v);
+            assertEquals(1225 - 15, rest[0]);
+
+            var spliterator = iterable.spliterator();
+            assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+            var prefix = spliterator.trySplit();
+            assertNotNull(prefix);
+            assertEquals(0, prefix.estimateSize() % 4);
+            assertEquals(50, prefix.estimateSize() + spliterator.estimateSize());
+            assertEquals(1225, StreamSupport.intStream(iterable.spliterator(), true).sum());
+        }
+    }
+
+    @Test
+    public void testPageAlignedSplit() throws IOException {
+        var buffer = ByteBuffer.allocate(8 + 3000 * Integer.BYTES);
+        for (var i = 0; i < 3000; ++i) {
+            buffer.putInt(8 + i * Integer.BYTES, i);
+        }
+        var path = write(buffer);
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var iterable = MappedIterables.ofInts(channel, ByteOrder.BIG_ENDIAN, 8, 3000);
+            var spliterator = iterable.spliterator();
+            var prefix = spliterator.trySplit();
+            assertNotNull(prefix);
+            // the split falls on a page boundary of the file, not of the mapped range
+            assertEquals(0, (8 + prefix.estimateSize() * Integer.BYTES) % 4096);
+            assertEquals(3000, prefix.estimateSize() + spliterator.estimateSize());
+            var sum = new long[1];
+            iterable.forEach((Consumer<Integer>) value -> sum[0] += value);
+            assertEquals(2999L * 3000 / 2, sum[0]);
+        }
+    }
+
+    @Test
+    public void testDoublesWithOffset() throws IOException {
+        var buffer = ByteBuffer.allocate(4 + 3 * Double.BYTES).order(ByteOrder.BIG_ENDIAN);
+        buffer.putDouble(4, 0.5).putDouble(12, 1.5).putDouble(20, 2.5);
+        var path = write(buffer);
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            var iterable = MappedIterables.ofDoubles(channel, ByteOrder.BIG_ENDIAN, 4, 3);
+            var sum = new double[1];
+            iterable.forEach((DoubleConsumer) d -> sum[0] += d);
+            assertEquals(4.5, sum[0]);
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> MappedIterables.ofDoubles(channel, ByteOrder.BIG_ENDIAN, 4, 4));
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> MappedIterables.ofLongs(channel, ByteOrder.BIG_ENDIAN, -1, 1));
+            assertThrows(NullPointerException.class, () -> MappedIterables.ofLongs(channel, null));
+        }
+        var empty = write(ByteBuffer.allocate(0));
+        var longs = MappedIterables.ofLongs(empty, ByteOrder.BIG_ENDIAN);
+        longs.forEach((LongConsumer) v -> fail("unexpected element"));
+        assertFalse(longs.iterator().hasNext());
+    }
+}
@@ -0,0 +1,118 @@
+package com.github.romanqed.jiter.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class PackedSequenceTest {
+    // value ranges needing 0, 1, 3, 10, 20 and 31 bits
+    private static final int[] RANGES = {1, 2, 8, 1000, 1 << 20, Integer.MAX_VALUE};
+
+    private static int[] values(Random random, int range) {
+        var ret = new int[1000];
+        for (var i = 0; i < ret.length; ++i) {
+            ret[i] = -500 + random.nextInt(range);
+        }
+        return ret;
+    }
+
+    @Test
+    public void testBitWidth() {
+        var random = new Random(25);
+        for (var range : RANGES) {
+            var packed = PrimitiveIterables.pack(values(random, range));
+            assertEquals(range == 1 ? 0 : 32 - Integer.numberOfLeadingZeros(range - 1), packed.bits(), "range " + range);
+        }
+    }
+
+    @Test
+    public void testRoundTrip() {
+        var random = new Random(25);
+        for (var range : RANGES) {
+            var ints = values(random, range);
+            var packed = PrimitiveIterables.pack(ints);
+            assertEquals(ints.length, packed.size());
+            assertArrayEquals(ints, packed.toArray());
+            var iterated = new IntList();
+            for (var iterator = packed.iterator(); iterator.hasNext(); ) {
+                iterated.add(iterator.nextInt());
+            }
+            assertArrayEquals(ints, iterated.toArray());
+            assertEquals(ints[777], packed.getInt(777));
+            assertEquals(Arrays.stream(ints).asLongStream().sum(), packed.parallelSum(64));
+        }
+    }
+
+    @Test
+    public void testSplitAfterPartialConsumption() {
+        var random = new Random(25);
+        for (var range : RANGES) {
+            var ints = values(random, range);
+            var spliterator = PrimitiveIterables.pack(ints).spliterator();
+            assertTrue(spliterator.tryAdvance((IntConsumer) value -> assertEquals(ints[0], value)));
+            var prefix = spliterator.trySplit();
+            assertNotNull(prefix);
+            var split = new IntList();
+            split.add(ints[0]);
+            prefix.forEachRemaining((IntConsumer) split::add);
+            spliterator.forEachRemaining((IntConsumer) split::add);
+            assertArrayEquals(ints, split.toArray());
+        }
+    }
+
+    @Test
+    public void testSubrangeEarlyExit() {
+        var random = new Random(25);
+        for (var range : RANGES) {
+            var ints = values(random, range);
+            var iterator = PrimitiveIterables.pack(ints, 333, 999).iterator();
+            iterator.nextInt();
+            var rest = new IntList();
+            iterator.forEachRemaining((IntConsumer) rest::add);
+            assertArrayEquals(Arrays.copyOfRange(ints, 334, 999), rest.toArray());
+        }
+        var packed = PrimitiveIterables.pack(new int[]{5, 6, 7, 8});
+        assertTrue(packed.anyMatch(v -> v == 6));
+        assertFalse(packed.allMatch(v -> v < 7));
+    }
+
+    @Test
+    public void testFullWidthLongs() {
+        var longs = new long[]{Long.MIN_VALUE, Long.MAX_VALUE, 0, -1, 42};
+        var packed = PrimitiveIterables.pack(longs);
+        assertEquals(64, packed.bits());
+        assertArrayEquals(longs, packed.toArray());
+    }
+
+    @Test
+    public void testNarrowLongs() {
+        var random = new Random(25);
+        var timestamps = new long[4096];
+        for (var i = 0; i < timestamps.length; ++i) {
+            timestamps[i] = 1_700_000_000_000L + random.nextInt(1 << 13);
+        }
+        var compact = PrimitiveIterables.pack(timestamps, 1, 4096);
+        assertEquals(13, compact.bits());
+        assertEquals(Arrays.stream(timestamps, 1, 4096).sum(), compact.sum());
+        assertThrows(IndexOutOfBoundsException.class, () -> compact.getLong(4095));
+    }
+
+    @Test
+    public void testEmpty() {
+        var empty = PrimitiveIterables.pack(new int[0]);
+        assertEquals(0, empty.count());
+        assertFalse(empty.iterator().hasNext());
+        assertFalse(empty.spliterator().tryAdvance((IntConsumer) value -> fail()));
+        assertEquals(0, PrimitiveIterables.pack(new long[]{1, 2}, 1, 1).count());
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> PrimitiveIterables.pack(new long[4096], 0, 4097));
+        assertThrows(NullPointerException.class, () -> PrimitiveIterables.pack((int[]) null));
+    }
+}
@@ -0,0 +1,204 @@
+package com.github.romanqed.jiter.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class PipelinesTest {
+    private static final int[] ARRAY = IntStream.range(0, 1000).toArray();
+
+    private static IntIterable chain(AtomicInteger calls) {
+        return PrimitiveIterables.of(ARRAY, 10, 290)
+                .map(v -> {
+                    calls.incrementAndGet();
+                    return v * 3;
+                })
+                .filter(v -> v % 2 == 0)
+                .skip(5)
+                .limit(100);
+    }
+
+    private static int[] expected() {
+        return IntStream.range(10, 290).map(v -> v * 3).filter(v -> v % 2 == 0).skip(5).limit(100).toArray();
+    }
+
+    @Test
+    public void testLazy() {
+        var calls = new AtomicInteger();
+        chain(calls);
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    public void testTerminalOperations() {
+        var pipeline = chain(new AtomicInteger());
+        var expected = expected();
+        assertArrayEquals(expected, pipeline.toArray());
+        assertEquals(IntStream.of(expected).asLongStream().sum(), pipeline.sum());
+        assertEquals(100, pipeline.count());
+        assertEquals(OptionalInt.of(expected[0]), pipeline.findFirst());
+        assertEquals(OptionalInt.of(expected[99]), pipeline.max());
+        assertEquals(IntStream.of(expected).sum(), pipeline.reduce(0, Integer::sum));
+        var values = new ArrayList<Integer>();
+        pipeline.forEach((Consumer<Integer>) values::add);
+        assertEquals(100, values.size());
+        assertEquals(expected[1], values.get(1));
+    }
+
+    @Test
+    public void testIterator() {
+        var iterator = chain(new AtomicInteger()).iterator();
+        for (var value : expected()) {
+            assertTrue(iterator.hasNext());
+            assertEquals(value, iterator.nextInt());
+        }
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::nextInt);
+    }
+
+    @Test
+    public void testSpliterator() {
+        var pipeline = chain(new AtomicInteger());
+        assertEquals(IntStream.of(expected()).sum(), StreamSupport.intStream(pipeline.spliterator(), false).sum());
+    }
+
+    @Test
+    public void testSplitAfterPartialConsumption() {
+        var expected = expected();
+        var spliterator = chain(new AtomicInteger()).spliterator();
+        var seen = new ArrayList<Integer>();
+        assertTrue(spliterator.tryAdvance((IntConsumer) seen::add));
+        assertTrue(spliterator.tryAdvance((IntConsumer) seen::add));
+        var prefix = spliterator.trySplit();
+        if (prefix != null) {
+            prefix.forEachRemaining((IntConsumer) seen::add);
+        }
+        spliterator.forEachRemaining((IntConsumer) seen::add);
+        assertEquals(IntStream.of(expected).boxed().collect(Collectors.toList()), seen);
+    }
+
+    @Test
+    public void testMixedTypes() {
+        var mapped = PrimitiveIterables.of(ARRAY, 0, 10).mapToLong(v -> v * 10_000_000_000L);
+        assertEquals(10, mapped.count());
+        assertEquals(10, mapped.spliterator().getExactSizeIfKnown());
+        assertEquals(450_000_000_000L, mapped.sum());
+        assertEquals(OptionalLong.of(90_000_000_000L), mapped.max());
+        assertArrayEquals(new double[]{1.5, 2.0}, mapped.filter(v -> v % 4 == 0).mapToDouble(v -> v / 1e10 / 2)
+                .skip(2).map(v -> v + 0.5).limit(2).toArray());
+        assertEquals(11, PrimitiveIterables.of(new double[]{1.5, 2.5, 8.9}).mapToInt(v -> (int) v).sum());
+        assertEquals(1, PrimitiveIterables.of(new long[]{-1, 2, -3}).mapToInt(v -> (int) -v)
+                .filter(v -> v > 0).findFirst().getAsInt());
+    }
+
+    @Test
+    public void testMatches() {
+        assertTrue(PrimitiveIterables.of(new byte[]{1, 2, 3}).map(v -> v * v).anyMatch(v -> v == 9));
+        assertTrue(PrimitiveIterables.of(ARRAY).allMatch(v -> v >= 0));
+        assertTrue(PrimitiveIterables.of(ARRAY).filter(v -> v > 1000).noneMatch(v -> true));
+    }
+
+    @Test
+    public void testEmpty() {
+        assertEquals(OptionalDouble.empty(), PrimitiveIterables.of(new double[]{1}).skip(1).findFirst());
+        var empty = PrimitiveIterables.of(new int[0]).map(v -> v + 1).filter(v -> true);
+        assertEquals(0, empty.count());
+        assertArrayEquals(new int[0], empty.limit(3).toArray());
+        assertFalse(empty.iterator().hasNext());
+        assertFalse(empty.anyMatch(v -> true));
+        assertFalse(empty.skip(2).limit(5).spliterator().tryAdvance((IntConsumer) v -> fail()));
+        assertArrayEquals(new int[0], PrimitiveIterables.of(ARRAY).map(v -> v).limit(0).toArray());
+    }
+
+    @Test
+    public void testArraySlicesShrinkInPlace() {
+        var slice = PrimitiveIterables.of(ARRAY, 10, 20);
+        assertEquals(Spliterator.SIZED, slice.skip(3).limit(4).spliterator().characteristics() & Spliterator.SIZED);
+        assertArrayEquals(new int[]{13, 14, 15, 16}, slice.skip(3).limit(4).toArray());
+        assertArrayEquals(new int[0], slice.skip(Long.MAX_VALUE).toArray());
+        assertSame(slice, slice.limit(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testLimitAndSkipOverBuffers() {
+        var buffer = PrimitiveIterables.of(IntBuffer.wrap(ARRAY, 0, 300).slice());
+        assertEquals(3, buffer.skip(297).count());
+        assertEquals(7, buffer.limit(7).spliterator().getExactSizeIfKnown());
+        assertEquals(297, buffer.skip(3).spliterator().getExactSizeIfKnown());
+        assertEquals(IntStream.range(3, 10).sum(), StreamSupport.intStream(buffer.skip(3).limit(7).spliterator(), false).sum());
+        var pulled = new AtomicInteger();
+        var taken = new AtomicInteger();
+        buffer.map(v -> {
+            pulled.incrementAndGet();
+            return v;
+        }).skip(2).limit(5).forEach((IntConsumer) taken::addAndGet);
+        assertEquals(7, pulled.get());
+        assertEquals(2 + 3 + 4 + 5 + 6, taken.get());
+    }
+
+    @Test
+    public void testLimitStopsTheSourceLoop() {
+        var calls = new AtomicInteger();
+        var mapped = PrimitiveIterables.of(ARRAY, 100, 900).map(v -> {
+            calls.incrementAndGet();
+            return v * 2;
+        });
+        assertArrayEquals(new int[]{200, 202, 204}, mapped.limit(3).toArray());
+        assertEquals(3, calls.get());
+        calls.set(0);
+        var sum = new AtomicInteger();
+        mapped.filter(v -> v % 3 == 0).limit(4).forEach((IntConsumer) sum::addAndGet);
+        assertEquals(204 + 210 + 216 + 222, sum.get());
+        assertEquals(12, calls.get());
+        calls.set(0);
+        assertTrue(mapped.anyMatch(v -> v == 210));
+        assertEquals(6, calls.get());
+    }
+
+    @Test
+    public void testForEachWhile() {
+        var mapped = PrimitiveIterables.of(ARRAY, 100, 900).map(v -> v * 2);
+        var seen = new ArrayList<Integer>();
+        assertFalse(mapped.skip(2).limit(10).forEachWhile(v -> {
+            seen.add(v);
+            return seen.size() < 3;
+        }));
+        assertEquals(List.of(204, 206, 208), seen);
+        assertTrue(mapped.limit(5).forEachWhile(v -> true));
+        assertTrue(mapped.limit(0).forEachWhile(v -> false));
+        assertTrue(PrimitiveIterables.of(new long[0]).map(v -> v).forEachWhile(v -> false));
+        assertFalse(PrimitiveIterables.of(new double[]{1, 2}).filter(v -> v > 1).forEachWhile(v -> false));
+        assertFalse(PrimitiveIterables.of(IntBuffer.wrap(ARRAY)).forEachWhile(v -> v < 5));
+    }
+
+    @Test
+    public void testUnknownSizeEstimate() {
+        var buffer = PrimitiveIterables.of(IntBuffer.wrap(ARRAY));
+        assertEquals(7, buffer.filter(v -> true).limit(7).spliterator().estimateSize());
+        assertEquals(7, buffer.filter(v -> v > 500).limit(7).spliterator().estimateSize());
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        var slice = PrimitiveIterables.of(ARRAY, 10, 20);
+        assertThrows(NullPointerException.class, () -> slice.map(null));
+        assertThrows(NullPointerException.class, () -> slice.filter(null));
+        assertThrows(IllegalArgumentException.class, () -> slice.limit(-1));
+        assertThrows(IllegalArgumentException.class, () -> slice.map(v -> v).skip(-1));
+    }
+}
@@ -2,13 +2,29 @@ package com.github.romanqed.jiter.primitive;
 
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.OptionalLong;
+import java.util.Random;
+import java.util.Spliterator;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.DoubleConsumer;
 import java.util.function.IntConsumer;
 import java.util.function.LongConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -105,4 +121,283 @@ public final class PrimitiveIterableTest {
         iterable.forEach((DoubleConsumer) d -> sum.set(sum.get() + d));
         assertEquals(7.5, sum.get());
     }
+
+    @Test
+    public void testNarrowIterables() {
+        byte[] bytes = {-1, 2, 3, 4};
+        var byteIterable = PrimitiveIterables.of(bytes, 1, 3);
+        var byteIt = byteIterable.iterator();
+        assertEquals((byte) 2, byteIt.nextByte());
+        assertEquals(3, byteIt.nextInt());
+        assertFalse(byteIt.hasNext());
+        assertEquals(-1, PrimitiveIterables.of(bytes).iterator().nextInt());
+
+        var shorts = new StringBuilder();
+        PrimitiveIterables.of(new short[]{7, 8, 9}, 1).forEachShort(shorts::append);
+        assertEquals("89", shorts.toString());
+
+        var chars = new StringBuilder();
+        PrimitiveIterables.of("hello".toCharArray(), 1, 4).forEachChar(chars::append);
+        assertEquals("ell", chars.toString());
+        assertEquals('e' + 'l' + 'l', StreamSupport.intStream(PrimitiveIterables.of("hello".toCharArray(), 1, 4).spliterator(), false).sum());
+
+        float[] floats = {0.5f, 1.5f, 2.5f, 3.5f};
+        var floatIterable = PrimitiveIterables.of(floats);
+        var sum = new double[1];
+        floatIterable.forEach((DoubleConsumer) d -> sum[0] += d);
+        assertEquals(8.0, sum[0]);
+        assertEquals(8.0, StreamSupport.doubleStream(floatIterable.spliterator(), true).sum());
+
+        assertThrows(NullPointerException.class, () -> PrimitiveIterables.of((byte[]) null));
+        assertThrows(NullPointerException.class, () -> PrimitiveIterables.of((char[]) null, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> PrimitiveIterables.of(floats, 3, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> PrimitiveIterables.of(new short[1], -1));
+    }
+
+    @Test
+    public void testNarrowSpliteratorSplit() {
+        var bytes = new byte[100];
+        for (var i = 0; i < bytes.length; ++i) {
+            bytes[i] = (byte) i;
+        }
+        var spliterator = PrimitiveIterables.of(bytes).spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        var prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        assertEquals(50, prefix.estimateSize());
+        assertEquals(50, spliterator.estimateSize());
+        assertEquals(4950, StreamSupport.intStream(PrimitiveIterables.of(bytes).spliterator(), true).sum());
+    }
+
+    @Test
+    public void testBufferIterables() {
+        var ints = IntBuffer.wrap(new int[]{1, 2, 3, 4, 5});
+        ints.position(3);
+        var sum = new AtomicInteger();
+        PrimitiveIterables.of(ints, 1, 4).forEach((IntConsumer) sum::addAndGet);
+        assertEquals(2 + 3 + 4, sum.get());
+        assertEquals(3, ints.position());
+        assertEquals(15, StreamSupport.intStream(PrimitiveIterables.of(ints).spliterator(), true).sum());
+
+        var direct = ByteBuffer.allocateDirect(8 * 4 + 3).order(ByteOrder.BIG_ENDIAN);
+        for (var i = 0; i < 4; ++i) {
+            direct.putLong(i * 8, i + 1);
+        }
+        var longs = PrimitiveIterables.ofLongs(direct, ByteOrder.BIG_ENDIAN);
+        var it = longs.iterator();
+        for (var i = 1L; i <= 4; ++i) {
+            assertEquals(i, it.nextLong());
+        }
+        assertFalse(it.hasNext());
+        assertEquals(ByteOrder.BIG_ENDIAN, direct.order());
+
+        var little = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+        little.putDouble(0, 2.5);
+        assertEquals(2.5, PrimitiveIterables.ofDoubles(little, ByteOrder.LITTLE_ENDIAN).iterator().nextDouble());
+        assertEquals(0, little.position());
+        var swapped = PrimitiveIterables.ofInts(little, ByteOrder.BIG_ENDIAN, 0, 1).iterator();
+        assertEquals(Integer.reverseBytes(little.getInt(0)), swapped.nextInt());
+
+        assertThrows(NullPointerException.class, () -> PrimitiveIterables.of((LongBuffer) null));
+        assertThrows(NullPointerException.class, () -> PrimitiveIterables.ofInts(little, null));
+        assertThrows(IndexOutOfBoundsException.class, () -> PrimitiveIterables.ofLongs(little, ByteOrder.BIG_ENDIAN, 0, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> PrimitiveIterables.of(DoubleBuffer.allocate(2), 3));
+    }
+
+    @Test
+    public void testForEachChunk() {
+        int[] array = {0, 1, 2, 3, 4, 5, 6, 7};
+        var ranges = new StringBuilder();
+        PrimitiveIterables.of(array, 1, 8).forEachChunk(3, (ints, from, to) -> {
+            assertSame(array, ints);
+            ranges.append(from).append("..").append(to).append(' ');
+        });
+        assertEquals("1..4 4..7 7..8 ", ranges.toString());
+
+        var longs = new AtomicLong();
+        PrimitiveIterables.of(new long[]{1, 2, 3, 4, 5}).forEachChunk(2, (values, from, to) -> {
+            assertTrue(to - from <= 2);
+            for (var i = from; i < to; ++i) {
+                longs.addAndGet(values[i]);
+            }
+        });
+        assertEquals(15, longs.get());
+
+        // buffers have no backing array to hand out, so the default copies into a reusable chunk
+        var doubles = new StringBuilder();
+        PrimitiveIterables.of(DoubleBuffer.wrap(new double[]{0.5, 1.5, 2.5, 3.5, 4.5}), 1).forEachChunk(3, (values, from, to) -> {
+            assertEquals(0, from);
+            for (var i = from; i < to; ++i) {
+                doubles.append(values[i]).append(' ');
+            }
+            doubles.append('|');
+        });
+        assertEquals("1.5 2.5 3.5 |4.5 |", doubles.toString());
+
+        PrimitiveIterables.of(IntBuffer.allocate(0)).forEachChunk(4, (values, from, to) -> fail());
+        PrimitiveIterables.of(array, 3, 3).forEachChunk(1, (values, from, to) -> fail());
+        assertThrows(IllegalArgumentException.class, () -> PrimitiveIterables.of(array).forEachChunk(0, (values, from, to) -> fail()));
+        assertThrows(NullPointerException.class, () -> PrimitiveIterables.of(IntBuffer.allocate(1)).forEachChunk(1, null));
+    }
+
+    @Test
+    public void testStridedAndReversed() {
+        // interleaved stereo channels: left at even, right at odd positions
+        double[] samples = {0.1, -0.1, 0.2, -0.2, 0.3, -0.3, 0.4, -0.4};
+        assertArrayEquals(new double[]{-0.1, -0.2, -0.3, -0.4}, PrimitiveIterables.of(samples, 1, 8, 2).toArray());
+        assertArrayEquals(new double[]{-0.4, -0.3, -0.2, -0.1}, PrimitiveIterables.of(samples, 0, 8, -2).toArray());
+
+        var ints = IntStream.range(0, 100).toArray();
+        var strided = PrimitiveIterables.of(ints, 5, 95, 7);
+        var expected = IntStream.iterate(5, v -> v < 95, v -> v + 7).toArray();
+        assertEquals(expected.length, strided.count());
+        assertArrayEquals(expected, StreamSupport.intStream(strided.spliterator(), true).toArray());
+        var spliterator = strided.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED | Spliterator.IMMUTABLE));
+        var prefix = spliterator.trySplit();
+        assertEquals(expected.length / 2, prefix.estimateSize());
+        assertEquals(expected.length - expected.length / 2, spliterator.estimateSize());
+        var values = new ArrayList<Integer>();
+        strided.forEach((IntConsumer) values::add);
+        assertEquals(expected.length, values.size());
+
+        var newestFirst = PrimitiveIterables.reversed(new long[]{100, 200, 300, 400}, 1);
+        assertArrayEquals(new long[]{400, 300, 200}, newestFirst.toArray());
+        assertEquals(OptionalLong.of(400), newestFirst.findFirst());
+        assertArrayEquals(new int[]{3, 2}, PrimitiveIterables.reversed(ints, 2, 4).toArray());
+        assertEquals(4950, PrimitiveIterables.reversed(ints).sum());
+        assertEquals(0, PrimitiveIterables.reversed(new double[0]).count());
+        assertEquals(4, PrimitiveIterables.of(ints, 0, 100, 33).count());
+        assertEquals(1, PrimitiveIterables.of(ints, 0, 100, Integer.MIN_VALUE).count());
+
+        assertThrows(IllegalArgumentException.class, () -> PrimitiveIterables.of(ints, 0, 1, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> PrimitiveIterables.of(ints, 50, 40, 1));
+        assertThrows(NullPointerException.class, () -> PrimitiveIterables.reversed((long[]) null));
+    }
+
+    @Test
+    public void testMemoryOrderedIterables() throws InterruptedException {
+        var atomic = new AtomicIntegerArray(100);
+        var shared = new long[100];
+        var writer = new Thread(() -> {
+            for (var i = 0; i < 100; ++i) {
+                atomic.setRelease(i, i);
+                shared[i] = i * 2L;
+            }
+        });
+        writer.start();
+        writer.join();
+        for (var order : MemoryOrder.values()) {
+            var ints = PrimitiveIterables.of(atomic, order, 10, 20);
+            assertEquals(145, ints.sum());
+            var it = ints.iterator();
+            assertEquals(10, it.nextInt());
+            assertEquals(11, it.next());
+            var rest = new AtomicLong();
+            it.forEachRemaining((IntConsumer) rest::addAndGet);
+            assertEquals(124, rest.get());
+            var longs = PrimitiveIterables.of(shared, order);
+            assertEquals(9900, longs.sum());
+            assertEquals(9900, longs.parallelSum(8));
+            assertEquals(9900, StreamSupport.longStream(longs.spliterator(), true).sum());
+            var doubles = PrimitiveIterables.of(new double[]{0.5, 1.5, 2.5}, order, 1);
+            assertEquals(4.0, doubles.sum());
+            var values = new ArrayList<Long>();
+            PrimitiveIterables.of(new AtomicLongArray(new long[]{3, 4}), order).forEach((Consumer<Long>) values::add);
+            assertEquals(List.of(3L, 4L), values);
+        }
+        var spliterator = PrimitiveIterables.of(atomic, MemoryOrder.ACQUIRE).spliterator();
+        assertFalse(spliterator.hasCharacteristics(Spliterator.IMMUTABLE));
+        assertEquals(50, spliterator.trySplit().estimateSize());
+        assertThrows(NullPointerException.class, () -> PrimitiveIterables.of(atomic, null));
+        assertThrows(IndexOutOfBoundsException.class, () -> PrimitiveIterables.of(atomic, MemoryOrder.PLAIN, 0, 101));
+        assertThrows(IndexOutOfBoundsException.class, () -> PrimitiveIterables.of(new int[1], MemoryOrder.OPAQUE, 2));
+    }
+
+    @Test
+    public void testSortedRanges() {
+        var random = new Random(19);
+        var longs = new long[5000];
+        for (var i = 0; i < longs.length; ++i) {
+            longs[i] = random.nextInt(1000);
+        }
+        Arrays.sort(longs);
+        for (var q = 0; q < 500; ++q) {
+            var from = random.nextInt(1100) - 50L;
+            var to = from + random.nextInt(200);
+            var expected = 0L;
+            var sum = 0L;
+            for (var value : longs) {
+                if (value >= from && value < to) {
+                    ++expected;
+                    sum += value;
+                }
+            }
+            var range = PrimitiveIterables.range(longs, from, to);
+            assertEquals(expected, range.count());
+            assertEquals(sum, range.sum());
+        }
+        var ints = new int[]{1, 3, 3, 3, 5, 8};
+        var values = new ArrayList<Integer>();
+        PrimitiveIterables.range(ints, 3, 6).forEach((IntConsumer) values::add);
+        assertEquals(List.of(3, 3, 3, 5), values);
+        assertEquals(0, PrimitiveIterables.range(ints, 4, 4).count());
+        assertEquals(6, PrimitiveIterables.range(ints, Integer.MIN_VALUE, Integer.MAX_VALUE).count());
+        assertEquals(0, PrimitiveIterables.range(new int[0], 0, 1).count());
+        var doubles = new double[]{-1.0, -0.0, 0.0, 0.5, Double.NaN};
+        assertEquals(1, PrimitiveIterables.range(doubles, 0.0, 0.5).count());
+        assertEquals(2, PrimitiveIterables.range(doubles, -0.0, 0.5).count());
+        assertEquals(1, PrimitiveIterables.range(doubles, 0.5, Double.NaN).count());
+        assertEquals(0.5, PrimitiveIterables.range(doubles, 0.25, Double.POSITIVE_INFINITY).sum());
+        assertThrows(IllegalArgumentException.class, () -> PrimitiveIterables.range(ints, 2, 1));
+        assertThrows(NullPointerException.class, () -> PrimitiveIterables.range((long[]) null, 0, 1));
+    }
+
+    @Test
+    public void testGather() {
+        var values = new int[]{10, 20, 30, 40, 50};
+        var order = new int[]{4, 0, 3, 3, 1};
+        var gathered = PrimitiveIterables.gather(values, order);
+        var forEach = new ArrayList<Integer>();
+        gathered.forEach((IntConsumer) forEach::add);
+        assertEquals(List.of(50, 10, 40, 40, 20), forEach);
+        var iterated = new ArrayList<Integer>();
+        for (var value : gathered) {
+            iterated.add(value);
+        }
+        assertEquals(forEach, iterated);
+        assertEquals(5, gathered.count());
+        assertEquals(160, gathered.sum());
+        assertArrayEquals(new int[]{50, 10, 40, 40, 20}, gathered.toArray());
+        var destination = new int[7];
+        PrimitiveIterables.gather(values, order, 1, 4).gatherInto(destination, 2);
+        assertArrayEquals(new int[]{0, 0, 10, 40, 40, 0, 0}, destination);
+        var random = new Random(21);
+        var doubles = new double[1000];
+        var permutation = new int[doubles.length];
+        for (var i = 0; i < doubles.length; ++i) {
+            doubles[i] = random.nextDouble();
+            permutation[i] = doubles.length - 1 - i;
+        }
+        var reversed = PrimitiveIterables.gather(doubles, permutation);
+        var spliterator = reversed.spliterator();
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+        assertEquals(1000, spliterator.estimateSize());
+        var prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        assertEquals(500, prefix.estimateSize());
+        assertTrue(prefix.tryAdvance((DoubleConsumer) value -> assertEquals(doubles[999], value)));
+        assertEquals(Arrays.stream(doubles).sum(), StreamSupport.doubleStream(reversed.spliterator(), true).sum(), 1e-9);
+        var longs = PrimitiveIterables.gather(new long[]{7, 8}, new int[]{1, 1, 0});
+        var iterator = longs.iterator();
+        assertEquals(8L, iterator.nextLong());
+        assertEquals(8L, iterator.next());
+        assertEquals(7L, iterator.nextLong());
+        assertThrows(NoSuchElementException.class, iterator::nextLong);
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> gathered.gatherInto(new int[4]));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> PrimitiveIterables.gather(values, new int[]{5}).sum());
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> PrimitiveIterables.gather(values, order, 2, 6));
+        assertThrows(NullPointerException.class, () -> PrimitiveIterables.gather(values, null));
+    }
+
 }
@@ -2,6 +2,10 @@ package com.github.romanqed.jiter.primitive;
 
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
 import java.util.NoSuchElementException;
 import java.util.PrimitiveIterator;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -123,4 +127,133 @@ public final class PrimitiveIteratorTest {
         var itDouble = PrimitiveIterators.of(doubleArray);
         assertEquals(Double.valueOf(3.14), itDouble.next());
     }
+
+    @Test
+    public void testNarrowIterators() {
+        var byteIt = PrimitiveIterators.of(new byte[]{1, -2, 3}, 1);
+        assertEquals(-2, byteIt.nextInt());
+        assertEquals(Integer.valueOf(3), byteIt.next());
+        assertFalse(byteIt.hasNext());
+        assertThrows(NoSuchElementException.class, byteIt::nextByte);
+
+        var shortIt = PrimitiveIterators.of(new short[]{10, 20, 30}, 0, 2);
+        var sum = new AtomicInteger();
+        shortIt.forEachRemainingShort(sum::addAndGet);
+        assertEquals(30, sum.get());
+
+        var charIt = PrimitiveIterators.of(new char[]{'a', 'b'});
+        assertEquals('a', charIt.nextChar());
+        assertEquals('b', charIt.nextInt());
+
+        var floatIt = PrimitiveIterators.of(new float[]{1.25f, 2.5f});
+        assertEquals(1.25f, floatIt.nextFloat());
+        assertEquals(2.5, floatIt.nextDouble());
+        assertThrows(UnsupportedOperationException.class, floatIt::remove);
+
+        assertThrows(NullPointerException.class, () -> PrimitiveIterators.of((float[]) null, 0, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> PrimitiveIterators.of(new char[2], 1, 0));
+    }
+
+    @Test
+    public void testBufferIterators() {
+        var buffer = LongBuffer.wrap(new long[]{1L, 2L, 3L});
+        var it = PrimitiveIterators.of(buffer, 1);
+        assertEquals(2L, it.nextLong());
+        assertEquals(Long.valueOf(3L), it.next());
+        assertFalse(it.hasNext());
+        assertThrows(NoSuchElementException.class, it::nextLong);
+        assertEquals(0, buffer.position());
+
+        var bytes = ByteBuffer.allocate(12);
+        bytes.putInt(0, 7).putInt(4, 8).putInt(8, 9);
+        bytes.position(8);
+        var ints = PrimitiveIterators.ofInts(bytes, ByteOrder.BIG_ENDIAN, 1, 3);
+        var sum = new AtomicInteger();
+        ints.forEachRemaining((IntConsumer) sum::addAndGet);
+        assertEquals(17, sum.get());
+        assertEquals(8, bytes.position());
+
+        assertThrows(IndexOutOfBoundsException.class, () -> PrimitiveIterators.of(IntBuffer.allocate(1), 0, 2));
+        assertThrows(NullPointerException.class, () -> PrimitiveIterators.ofDoubles(null, ByteOrder.BIG_ENDIAN));
+    }
+
+    @Test
+    public void testNextBatch() {
+        var it = new IntArrayIterator(new int[]{1, 2, 3, 4, 5, 6}, 5, 1);
+        var ints = new int[3];
+        assertEquals(3, it.nextBatch(ints, 0, 3));
+        assertArrayEquals(new int[]{2, 3, 4}, ints);
+        assertEquals(1, it.nextBatch(ints, 1, 2));
+        assertArrayEquals(new int[]{2, 5, 4}, ints);
+        assertEquals(0, it.nextBatch(ints, 0, 3));
+        assertFalse(it.hasNext());
+
+        var longs = new long[4];
+        var longIt = new LongArrayIterator(new long[]{7, 8, 9}, 3, 0);
+        assertEquals(7, longIt.nextLong());
+        assertEquals(2, longIt.nextBatch(longs, 2, 2));
+        assertArrayEquals(new long[]{0, 0, 8, 9}, longs);
+
+        var doubles = new double[2];
+        var doubleIt = new DoubleArrayIterator(new double[]{0.5, 1.5, 2.5}, 3, 0);
+        assertEquals(2, doubleIt.nextBatch(doubles, 0, 2));
+        assertArrayEquals(new double[]{0.5, 1.5}, doubles);
+        assertEquals(2.5, doubleIt.nextDouble());
+
+        assertThrows(NullPointerException.class, () -> doubleIt.nextBatch(null, 0, 0));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> longIt.nextBatch(longs, 3, 2));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> it.nextBatch(ints, -1, 1));
+    }
+
+    @Test
+    public void testStridedAndReversedIterators() {
+        var it = PrimitiveIterators.of(new int[]{1, 2, 3, 4, 5, 6}, 0, 6, 4);
+        assertEquals(1, it.nextInt());
+        assertEquals(5, it.next());
+        assertFalse(it.hasNext());
+        assertThrows(NoSuchElementException.class, it::nextInt);
+
+        var reversed = PrimitiveIterators.reversed(new long[]{1, 2, 3}, 0, 3);
+        assertEquals(3, reversed.nextLong());
+        var sum = new AtomicLong();
+        reversed.forEachRemaining((LongConsumer) sum::addAndGet);
+        assertEquals(3, sum.get());
+        assertThrows(UnsupportedOperationException.class, reversed::remove);
+
+        var doubles = PrimitiveIterators.reversed(new double[]{0.5, 1.5}, 1);
+        assertEquals(1.5, doubles.nextDouble());
+        assertFalse(doubles.hasNext());
+        assertEquals(2.5, PrimitiveIterators.of(new double[]{0.5, 1.5, 2.5}, 0, 3, -3).nextDouble());
+        assertThrows(IllegalArgumentException.class, () -> PrimitiveIterators.of(new int[1], 0, 1, 0));
+    }
+
+    @Test
+    public void testResetAndLocalIterators() {
+        var ints = new IntArrayIterator();
+        assertFalse(ints.hasNext());
+        assertSame(ints, ints.reset(new int[]{1, 2, 3}, 1, 3));
+        assertEquals(2, ints.nextInt());
+        ints.reset(new int[]{7}, 0, 1);
+        assertEquals(7, ints.nextInt());
+        assertFalse(ints.hasNext());
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> ints.reset(new int[1], 0, 2));
+        var local = PrimitiveIterators.local(new int[]{4, 5});
+        assertSame(local, PrimitiveIterators.local(new int[]{6}, 0));
+        assertEquals(6, local.nextInt());
+        var longs = PrimitiveIterators.local(new long[]{1, 2, 3}, 1, 3);
+        var sum = new AtomicLong();
+        longs.forEachRemaining((LongConsumer) sum::addAndGet);
+        assertEquals(5, sum.get());
+        assertSame(longs, PrimitiveIterators.local(new long[0]));
+        var partial = PrimitiveIterators.local(new long[]{1, 2, 3});
+        assertEquals(1, partial.nextLong());
+        assertSame(longs, PrimitiveIterators.local(new long[]{9}));
+        assertEquals(9, longs.nextLong());
+        assertFalse(longs.hasNext());
+        assertThrows(UnsupportedOperationException.class, longs::remove);
+        var doubles = PrimitiveIterators.local(new double[]{0.5, 1.5}, 1);
+        assertEquals(1.5, doubles.nextDouble());
+        assertEquals(0, new DoubleArrayIterator().nextBatch(new double[1], 0, 1));
+        assertThrows(NullPointerException.class, () -> PrimitiveIterators.local((double[]) null));
+    }
 }
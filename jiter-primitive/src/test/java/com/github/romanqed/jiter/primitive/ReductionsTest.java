@@ -0,0 +1,127 @@
+package com.github.romanqed.jiter.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.IntBuffer;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class ReductionsTest {
+    private static final int[] INTS = IntStream.range(-500, 1500).toArray();
+    private static final int[] THRESHOLDS = {1, 7, 100, 5000};
+
+    @Test
+    public void testIntReductions() {
+        var slice = PrimitiveIterables.of(INTS, 3, 1998);
+        var expected = IntStream.range(-497, 1498).summaryStatistics();
+        assertEquals(expected.getCount(), slice.count());
+        assertEquals(expected.getSum(), slice.sum());
+        assertEquals(OptionalInt.of(-497), slice.min());
+        assertEquals(OptionalInt.of(1497), slice.max());
+        assertEquals(OptionalDouble.of(expected.getAverage()), slice.average());
+        assertEquals(expected.toString(), slice.summaryStatistics().toString());
+        assertEquals(expected.getSum(), slice.reduce(0, Integer::sum));
+    }
+
+    @Test
+    public void testIntParallelReductions() {
+        var slice = PrimitiveIterables.of(INTS, 3, 1998);
+        var expected = IntStream.range(-497, 1498).summaryStatistics();
+        for (var threshold : THRESHOLDS) {
+            assertEquals(expected.getSum(), slice.parallelSum(threshold));
+            assertEquals(OptionalInt.of(-497), slice.parallelMin(threshold));
+            assertEquals(OptionalInt.of(1497), slice.parallelMax(threshold));
+            assertEquals(OptionalDouble.of(expected.getAverage()), slice.parallelAverage(threshold));
+            assertEquals(expected.toString(), slice.parallelSummaryStatistics(threshold).toString());
+        }
+    }
+
+    @Test
+    public void testParallelReduceKeepsEncounterOrder() {
+        var slice = PrimitiveIterables.of(INTS, 3, 1998);
+        for (var threshold : THRESHOLDS) {
+            // non-commutative but associative: keeps the first non-zero element
+            assertEquals(-497, slice.parallelReduce(0, (a, b) -> a != 0 ? a : b, threshold));
+        }
+    }
+
+    @Test
+    public void testNarrowReductions() {
+        var narrow = PrimitiveIterables.of(new byte[]{5, -3, 9, 1}, 1);
+        assertEquals(7, narrow.sum());
+        assertEquals(OptionalInt.of(-3), narrow.min());
+        assertEquals(OptionalInt.of(9), narrow.parallelMax(1));
+        assertEquals(7, narrow.parallelSum(2));
+    }
+
+    @Test
+    public void testNonArrayParallelReductions() {
+        var buffer = PrimitiveIterables.of(IntBuffer.wrap(INTS));
+        assertEquals(IntStream.of(INTS).asLongStream().sum(), buffer.parallelSum(64));
+        var filtered = buffer.filter(v -> v % 3 == 0);
+        assertEquals(IntStream.of(INTS).filter(v -> v % 3 == 0).asLongStream().sum(), filtered.parallelSum(16));
+        assertEquals(OptionalInt.of(1497), filtered.parallelMax(16));
+    }
+
+    @Test
+    public void testLongReductions() {
+        var longs = LongStream.rangeClosed(1, 1000).map(v -> v * v).toArray();
+        var slice = PrimitiveIterables.of(longs, 10, 990);
+        var expected = LongStream.rangeClosed(11, 990).map(v -> v * v).summaryStatistics();
+        assertEquals(expected.getSum(), slice.sum());
+        assertEquals(expected.getSum(), slice.parallelSum(16));
+        assertEquals(OptionalLong.of(121), slice.parallelMin(16));
+        assertEquals(OptionalLong.of(990 * 990), slice.max());
+        assertEquals(expected.toString(), slice.parallelSummaryStatistics(3).toString());
+        assertEquals(expected.getMax(), slice.parallelReduce(Long.MIN_VALUE, Math::max, 5));
+    }
+
+    @Test
+    public void testDoubleReductions() {
+        double[] doubles = {0.5, -1.5, 2.25, Double.NaN, 4};
+        var slice = PrimitiveIterables.of(doubles, 0, 3);
+        assertEquals(1.25, slice.sum());
+        assertEquals(1.25, slice.parallelSum(1));
+        assertEquals(OptionalDouble.of(-1.5), slice.min());
+        assertEquals(OptionalDouble.of(2.25), slice.parallelMax(1));
+        assertEquals(3, slice.summaryStatistics().getCount());
+        assertTrue(Double.isNaN(PrimitiveIterables.of(doubles).max().orElseThrow()));
+        assertEquals(-1.6875, slice.parallelReduce(1, (a, b) -> a * b, 1));
+    }
+
+    @Test
+    public void testSingleElement() {
+        var single = PrimitiveIterables.of(new long[]{-7});
+        assertEquals(-7, single.sum());
+        assertEquals(OptionalLong.of(-7), single.parallelMin(1));
+        assertEquals(OptionalDouble.of(-7), single.parallelAverage(1));
+        assertEquals(-7, single.parallelReduce(0, Long::sum, 1));
+    }
+
+    @Test
+    public void testEmpty() {
+        var empty = PrimitiveIterables.of(new int[3], 2, 2);
+        assertEquals(0, empty.count());
+        assertEquals(0, empty.sum());
+        assertEquals(OptionalInt.empty(), empty.min());
+        assertEquals(OptionalInt.empty(), empty.parallelMax(1));
+        assertEquals(OptionalDouble.empty(), empty.parallelAverage(4));
+        assertEquals(0, empty.parallelSummaryStatistics(1).getCount());
+        assertEquals(42, empty.parallelReduce(42, Integer::sum, 1));
+        assertEquals(OptionalDouble.empty(), PrimitiveIterables.of(new float[0]).average());
+        assertEquals(OptionalDouble.empty(), PrimitiveIterables.of(new double[0]).parallelMin(1));
+    }
+
+    @Test
+    public void testInvalidThreshold() {
+        var slice = PrimitiveIterables.of(INTS);
+        var narrow = PrimitiveIterables.of(new byte[]{1});
+        assertThrows(IllegalArgumentException.class, () -> slice.parallelSum(0));
+        assertThrows(IllegalArgumentException.class, () -> narrow.parallelReduce(0, Integer::sum, -1));
+    }
+}
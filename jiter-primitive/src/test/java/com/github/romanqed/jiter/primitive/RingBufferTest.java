@@ -0,0 +1,133 @@
+package com.github.romanqed.jiter.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.LongConsumer;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class RingBufferTest {
+
+    private static LongRingBuffer wrapped() {
+        var ring = new LongRingBuffer(5);
+        for (var i = 1; i <= 8; ++i) {
+            ring.add(i);
+        }
+        return ring;
+    }
+
+    @Test
+    public void testEmpty() {
+        var ring = new LongRingBuffer(5);
+        assertEquals(5, ring.capacity());
+        assertEquals(0, ring.size());
+        assertEquals(0, ring.values().count());
+        assertFalse(ring.values().iterator().hasNext());
+        assertEquals(0, ring.window(0, 0).count());
+    }
+
+    @Test
+    public void testBeforeWrap() {
+        var ring = new LongRingBuffer(5);
+        for (var i = 1; i <= 3; ++i) {
+            ring.add(i);
+        }
+        assertArrayEquals(new long[]{1, 2, 3}, ring.values().toArray());
+        assertTrue(ring.values() instanceof LongArrayIterable);
+    }
+
+    @Test
+    public void testAfterWrap() {
+        var ring = wrapped();
+        assertEquals(5, ring.size());
+        assertEquals(4, ring.getLong(0));
+        assertEquals(8, ring.getLong(4));
+        assertArrayEquals(new long[]{4, 5, 6, 7, 8}, ring.values().toArray());
+        assertArrayEquals(new long[]{6, 7}, ring.window(2, 4).toArray());
+        assertArrayEquals(new long[]{7, 8}, ring.latest(2).toArray());
+    }
+
+    @Test
+    public void testWrappedWindow() {
+        var wrapped = wrapped().window(1, 5);
+        var iterated = new ArrayList<Long>();
+        for (var value : wrapped) {
+            iterated.add(value);
+        }
+        assertEquals(List.of(5L, 6L, 7L, 8L), iterated);
+        assertEquals(26, StreamSupport.longStream(wrapped.spliterator(), true).sum());
+    }
+
+    @Test
+    public void testWrappedWindowSplit() {
+        var spliterator = wrapped().window(1, 5).spliterator();
+        assertEquals(4, spliterator.estimateSize());
+        var prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        var split = new ArrayList<Long>();
+        prefix.forEachRemaining((LongConsumer) split::add);
+        spliterator.forEachRemaining((LongConsumer) split::add);
+        assertEquals(List.of(5L, 6L, 7L, 8L), split);
+    }
+
+    @Test
+    public void testSplitAfterPartialConsumption() {
+        var spliterator = wrapped().values().spliterator();
+        var values = new ArrayList<Long>();
+        assertTrue(spliterator.tryAdvance((LongConsumer) values::add));
+        var prefix = spliterator.trySplit();
+        if (prefix != null) {
+            prefix.forEachRemaining((LongConsumer) values::add);
+        }
+        spliterator.forEachRemaining((LongConsumer) values::add);
+        assertEquals(List.of(4L, 5L, 6L, 7L, 8L), values);
+    }
+
+    @Test
+    public void testEarlyExit() {
+        var window = wrapped().window(0, 5);
+        assertTrue(window.anyMatch(v -> v == 5));
+        var iterator = window.iterator();
+        assertEquals(4, iterator.nextLong());
+        assertEquals(5, iterator.nextLong());
+        var rest = new ArrayList<Long>();
+        iterator.forEachRemaining((LongConsumer) rest::add);
+        assertEquals(List.of(6L, 7L, 8L), rest);
+    }
+
+    @Test
+    public void testClear() {
+        var ring = wrapped();
+        ring.clear();
+        assertEquals(0, ring.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> ring.getLong(0));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> ring.window(0, 1));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> ring.latest(1));
+        ring.add(42);
+        assertArrayEquals(new long[]{42}, ring.values().toArray());
+    }
+
+    @Test
+    public void testDoubleWindows() {
+        var random = new Random(22);
+        var doubles = new DoubleRingBuffer(100);
+        var all = new double[350];
+        for (var i = 0; i < all.length; ++i) {
+            all[i] = random.nextDouble();
+            doubles.add(all[i]);
+        }
+        assertArrayEquals(Arrays.copyOfRange(all, 250, 350), doubles.values().toArray());
+        assertArrayEquals(Arrays.copyOfRange(all, 290, 320), doubles.window(40, 70).toArray());
+        assertEquals(Arrays.stream(all, 260, 350).sum(), doubles.latest(90).sum(), 1e-9);
+    }
+
+    @Test
+    public void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new DoubleRingBuffer(0));
+    }
+}
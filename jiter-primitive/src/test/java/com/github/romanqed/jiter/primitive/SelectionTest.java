@@ -0,0 +1,152 @@
+package com.github.romanqed.jiter.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class SelectionTest {
+    private static final int[] INTS = new int[1000];
+    private static final BitSet BITS = new BitSet();
+    // whole words, partial words, single bits and empty ranges
+    private static final int[][] BOUNDS = {{0, 1000}, {1, 999}, {64, 128}, {63, 65}, {130, 130}, {700, 1000}};
+
+    static {
+        var random = new Random(20);
+        for (var i = 0; i < INTS.length; ++i) {
+            INTS[i] = random.nextInt(100);
+            if (INTS[i] % 3 == 0 || (i >= 128 && i < 192)) {
+                BITS.set(i);
+            }
+        }
+    }
+
+    private static List<Integer> expected(int start, int end) {
+        var ret = new ArrayList<Integer>();
+        for (var i = start; i < end; ++i) {
+            if (BITS.get(i)) {
+                ret.add(INTS[i]);
+            }
+        }
+        return ret;
+    }
+
+    private static long sum(List<Integer> values) {
+        return values.stream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Test
+    public void testForEach() {
+        for (var bounds : BOUNDS) {
+            var values = new ArrayList<Integer>();
+            PrimitiveIterables.select(INTS, BITS, bounds[0], bounds[1]).forEach((IntConsumer) values::add);
+            assertEquals(expected(bounds[0], bounds[1]), values);
+        }
+    }
+
+    @Test
+    public void testIterator() {
+        for (var bounds : BOUNDS) {
+            var values = new ArrayList<Integer>();
+            for (var value : PrimitiveIterables.select(INTS, BITS, bounds[0], bounds[1])) {
+                values.add(value);
+            }
+            assertEquals(expected(bounds[0], bounds[1]), values);
+        }
+    }
+
+    @Test
+    public void testForEachRemainingAfterNext() {
+        for (var bounds : BOUNDS) {
+            var iterator = PrimitiveIterables.select(INTS, BITS, bounds[0], bounds[1]).iterator();
+            var values = new ArrayList<Integer>();
+            if (iterator.hasNext()) {
+                values.add(iterator.nextInt());
+            }
+            iterator.forEachRemaining((IntConsumer) values::add);
+            assertEquals(expected(bounds[0], bounds[1]), values);
+        }
+    }
+
+    @Test
+    public void testReductions() {
+        for (var bounds : BOUNDS) {
+            var expected = expected(bounds[0], bounds[1]);
+            var selected = PrimitiveIterables.select(INTS, BITS, bounds[0], bounds[1]);
+            assertEquals(expected.size(), selected.count());
+            assertEquals(sum(expected), selected.sum());
+            assertEquals(sum(expected), StreamSupport.intStream(selected.spliterator(), true).asLongStream().sum());
+        }
+    }
+
+    @Test
+    public void testEarlyExit() {
+        var selected = PrimitiveIterables.select(INTS, BITS, 0, 1000);
+        var expected = expected(0, 1000);
+        assertTrue(selected.anyMatch(v -> v == expected.get(3)));
+        var iterator = selected.iterator();
+        for (var i = 0; i < 3; ++i) {
+            iterator.nextInt();
+        }
+        var rest = new ArrayList<Integer>();
+        iterator.forEachRemaining((IntConsumer) rest::add);
+        assertEquals(expected.subList(3, expected.size()), rest);
+    }
+
+    @Test
+    public void testSplitByWords() {
+        var spliterator = PrimitiveIterables.select(INTS, BITS.toLongArray()).spliterator();
+        assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+        var prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        assertEquals(448, prefix.estimateSize());
+        assertEquals(552, spliterator.estimateSize());
+        assertNull(PrimitiveIterables.select(new long[63], new long[]{-1L}).spliterator().trySplit());
+    }
+
+    @Test
+    public void testSplitAfterPartialConsumption() {
+        var spliterator = PrimitiveIterables.select(INTS, BITS, 0, 1000).spliterator();
+        var values = new ArrayList<Integer>();
+        for (var i = 0; i < 5; ++i) {
+            assertTrue(spliterator.tryAdvance((IntConsumer) values::add));
+        }
+        var prefix = spliterator.trySplit();
+        if (prefix != null) {
+            prefix.forEachRemaining((IntConsumer) values::add);
+        }
+        spliterator.forEachRemaining((IntConsumer) values::add);
+        assertEquals(expected(0, 1000), values);
+    }
+
+    @Test
+    public void testSparseMask() {
+        var sparse = new ArrayList<Double>();
+        PrimitiveIterables.select(new double[]{1, 2, 3, 4, 5}, new long[]{0b10110}).forEach((DoubleConsumer) sparse::add);
+        assertEquals(List.of(2.0, 3.0, 5.0), sparse);
+    }
+
+    @Test
+    public void testEmpty() {
+        var longs = PrimitiveIterables.select(new long[200], new long[0]);
+        assertEquals(0, longs.count());
+        assertFalse(longs.iterator().hasNext());
+        assertThrows(NoSuchElementException.class, () -> longs.iterator().nextLong());
+        assertEquals(0, PrimitiveIterables.select(new int[0], new BitSet(), 0, 0).count());
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> PrimitiveIterables.select(INTS, BITS, 0, 1001));
+        assertThrows(NullPointerException.class, () -> PrimitiveIterables.select(INTS, (long[]) null));
+    }
+}
@@ -0,0 +1,165 @@
+package com.github.romanqed.jiter.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public final class ZipTest {
+    private static final int LENGTH = 1000;
+    private static final long[] TS = new long[LENGTH];
+    private static final double[] PRICE = new double[LENGTH];
+    private static final int[] QTY = new int[LENGTH];
+    private static final String[] NAMES = new String[LENGTH];
+
+    static {
+        for (var i = 0; i < LENGTH; ++i) {
+            TS[i] = 1_000L + i;
+            PRICE[i] = i * 0.5;
+            QTY[i] = i % 7;
+            NAMES[i] = "n" + i;
+        }
+    }
+
+    private static ZipIterable rows(int start, int end) {
+        return PrimitiveIterables.zip(new Object[]{TS, PRICE, QTY, NAMES}, start, end);
+    }
+
+    @Test
+    public void testForEach() {
+        var zip = rows(10, 20);
+        assertEquals(10, zip.size());
+        var rows = new AtomicInteger();
+        zip.forEach(row -> {
+            var i = row.index();
+            assertEquals(10 + rows.getAndIncrement(), i);
+            assertEquals(4, row.width());
+            assertEquals(TS[i], row.getLong(0));
+            assertEquals(PRICE[i], row.getDouble(1));
+            assertEquals(QTY[i], row.getInt(2));
+            assertEquals(NAMES[i], row.<String>get(3));
+        });
+        assertEquals(10, rows.get());
+    }
+
+    @Test
+    public void testIteratorMovesOneCursor() {
+        var it = rows(10, 20).iterator();
+        var cursor = it.cursor();
+        assertTrue(it.advance());
+        assertEquals(10, cursor.index());
+        assertTrue(it.advance());
+        assertSame(cursor, it.cursor());
+        assertEquals(11, cursor.index());
+        assertEquals(TS[11], cursor.getLong(0));
+    }
+
+    @Test
+    public void testIteratorEarlyExit() {
+        var it = rows(0, LENGTH).iterator();
+        while (it.advance()) {
+            if (it.cursor().getInt(2) == 6) {
+                break;
+            }
+        }
+        assertEquals(6, it.cursor().index());
+        var remaining = new AtomicInteger();
+        it.forEachRemaining(row -> remaining.incrementAndGet());
+        assertEquals(LENGTH - 7, remaining.get());
+        assertFalse(it.advance());
+    }
+
+    @Test
+    public void testMismatchedAccessor() {
+        var it = rows(10, 20).iterator();
+        assertTrue(it.advance());
+        var cursor = it.cursor();
+        assertThrows(IllegalArgumentException.class, () -> cursor.getInt(0));
+        assertThrows(IllegalArgumentException.class, () -> cursor.getLong(1));
+        assertThrows(IllegalArgumentException.class, () -> cursor.getDouble(3));
+        assertThrows(IllegalArgumentException.class, () -> cursor.get(2));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> cursor.getInt(4));
+    }
+
+    @Test
+    public void testParallelStream() {
+        var full = PrimitiveIterables.zip(new Object[]{PRICE, QTY});
+        var expected = 0.0;
+        for (var i = 0; i < LENGTH; ++i) {
+            expected += PRICE[i] * QTY[i];
+        }
+        var notional = StreamSupport.stream(full.spliterator(), true)
+                .mapToDouble(row -> row.getDouble(0) * row.getInt(1))
+                .sum();
+        assertEquals(expected, notional, 1e-6);
+    }
+
+    @Test
+    public void testSplit() {
+        var spliterator = PrimitiveIterables.zip(new Object[]{PRICE, QTY}).spliterator();
+        var prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        assertEquals(500, prefix.estimateSize());
+        assertEquals(500, spliterator.estimateSize());
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.NONNULL));
+        assertTrue(prefix.tryAdvance(row -> assertEquals(QTY[0], row.getInt(1))));
+        assertTrue(spliterator.tryAdvance(row -> assertEquals(PRICE[500], row.getDouble(0))));
+    }
+
+    @Test
+    public void testSplitAfterPartialConsumption() {
+        var spliterator = rows(0, 10).spliterator();
+        var indexes = new StringBuilder();
+        assertTrue(spliterator.tryAdvance(row -> indexes.append(row.index())));
+        assertTrue(spliterator.tryAdvance(row -> indexes.append(row.index())));
+        var prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        assertEquals(4, prefix.estimateSize());
+        prefix.forEachRemaining(row -> indexes.append(row.index()));
+        spliterator.forEachRemaining(row -> indexes.append(row.index()));
+        assertEquals("0123456789", indexes.toString());
+        assertNull(rows(3, 4).spliterator().trySplit());
+    }
+
+    @Test
+    public void testEmpty() {
+        var empty = rows(5, 5);
+        assertEquals(0, empty.size());
+        empty.forEach(row -> fail());
+        assertFalse(empty.iterator().advance());
+        assertFalse(empty.spliterator().tryAdvance(row -> fail()));
+        assertNull(empty.spliterator().trySplit());
+    }
+
+    @Test
+    public void testColumnChecks() {
+        assertThrows(IllegalArgumentException.class, () -> PrimitiveIterables.zip(new Object[]{TS}));
+        assertThrows(IllegalArgumentException.class, () -> PrimitiveIterables.zip(new Object[]{TS, new char[LENGTH]}));
+        assertThrows(IllegalArgumentException.class, () -> PrimitiveIterables.zip(new Object[]{TS, new int[10]}));
+        assertThrows(IllegalArgumentException.class, () -> PrimitiveIterables.zip(new Object[]{new int[10], TS}));
+        assertThrows(IllegalArgumentException.class, () -> PrimitiveIterables.zip(new Object[]{new int[10], TS}, 5));
+        assertEquals(5, PrimitiveIterables.zip(new Object[]{new int[10], new long[10]}, 5).size());
+        assertEquals(10, PrimitiveIterables.zip(new Object[]{new int[10], TS}, 0, 10).size());
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> PrimitiveIterables.zip(new Object[]{TS, QTY}, 0, 1001));
+        assertThrows(NullPointerException.class, () -> PrimitiveIterables.zip(new Object[]{TS, null}));
+    }
+
+    @Test
+    public void testBuilder() {
+        var built = PrimitiveIterables.zipBuilder().add(TS).add(PRICE).add(QTY).add(NAMES).build(10, 20);
+        assertEquals(10, built.size());
+        built.forEach(row -> {
+            assertEquals(TS[row.index()], row.getLong(0));
+            assertEquals(NAMES[row.index()], row.<String>get(3));
+        });
+        assertEquals(LENGTH, PrimitiveIterables.zipBuilder().add(PRICE).add(QTY).build().size());
+        assertThrows(IllegalArgumentException.class, () -> PrimitiveIterables.zipBuilder().add(NAMES).build());
+        assertThrows(IllegalArgumentException.class, () -> PrimitiveIterables.zipBuilder().add(QTY).add(new int[1]).build());
+        assertThrows(IllegalArgumentException.class, () -> PrimitiveIterables.zipBuilder()
+                .add(TS).add(TS).add(TS).add(TS).add(TS));
+        assertThrows(NullPointerException.class, () -> PrimitiveIterables.zipBuilder().add((int[]) null));
+    }
+}